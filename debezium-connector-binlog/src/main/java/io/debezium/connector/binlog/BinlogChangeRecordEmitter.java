@@ -24,24 +24,17 @@
 public class BinlogChangeRecordEmitter<P extends BinlogPartition> extends RelationalChangeRecordEmitter<P> {
 
     private final Operation operation;
-    private final OffsetContext offset;
     private final Object[] before;
     private final Object[] after;
 
     public BinlogChangeRecordEmitter(P partition, OffsetContext offset, Clock clock, Operation operation,
                                      Serializable[] before, Serializable[] after, BinlogConnectorConfig connectorConfig) {
         super(partition, offset, clock, connectorConfig);
-        this.offset = offset;
         this.operation = operation;
         this.before = before;
         this.after = after;
     }
 
-    @Override
-    public OffsetContext getOffset() {
-        return offset;
-    }
-
     @Override
     public Operation getOperation() {
         return operation;
@@ -5,9 +5,12 @@
  */
 package io.debezium.connector.binlog.jdbc;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,7 +29,12 @@
 import io.debezium.connector.binlog.BinlogConnectorConfig;
 import io.debezium.connector.binlog.BinlogOffsetContext;
 import io.debezium.connector.binlog.gtid.GtidSet;
+import io.debezium.document.Array;
+import io.debezium.document.Document;
+import io.debezium.document.DocumentReader;
+import io.debezium.document.Value;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.source.snapshot.chunked.HistogramBucket;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.Partition;
 import io.debezium.relational.Column;
@@ -243,6 +251,55 @@ public OptionalLong getEstimatedTableSize(TableId tableId) {
         return OptionalLong.empty();
     }
 
+    /**
+     * Reads the histogram created with {@code ANALYZE TABLE ... UPDATE HISTOGRAM} for an integer or string column.
+     * The buckets of an equi-height histogram hold roughly the same number of rows, but need not, as their
+     * cumulative frequencies are kept as well.
+     */
+    @Override
+    public List<HistogramBucket> readColumnHistogram(TableId tableId, Column column) {
+        try {
+            final String histogram = prepareQueryAndMap(
+                    "SELECT HISTOGRAM FROM information_schema.COLUMN_STATISTICS WHERE SCHEMA_NAME = ? AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                    statement -> {
+                        statement.setString(1, tableId.catalog());
+                        statement.setString(2, tableId.table());
+                        statement.setString(3, column.name());
+                    },
+                    rs -> rs.next() ? rs.getString(1) : null);
+            if (histogram == null) {
+                return List.of();
+            }
+
+            final Document document = DocumentReader.defaultReader().read(histogram);
+            final String dataType = document.getString("data-type");
+            if (!"int".equals(dataType) && !"string".equals(dataType)) {
+                return List.of();
+            }
+            // singleton buckets are [value, cumulative frequency], equi-height buckets [lower, upper, cumulative frequency, distinct values]
+            final boolean singleton = "singleton".equals(document.getString("histogram-type"));
+            final List<HistogramBucket> buckets = new ArrayList<>();
+            for (Value value : document.getArray("buckets").values()) {
+                final Array bucket = value.asArray();
+                final Value upperBound = bucket.get(singleton ? 0 : 1);
+                final Object bound = upperBound.isString() ? decodeHistogramString(upperBound.asString()) : upperBound.asNumber().longValue();
+                buckets.add(new HistogramBucket(bound, bucket.get(singleton ? 1 : 2).asDouble()));
+            }
+            return buckets;
+        }
+        catch (SQLException | IOException | RuntimeException e) {
+            // column statistics are not available on MariaDB, and only on MySQL 8.0 or later
+            LOGGER.debug("Error while reading histogram of column {} of table {}: {}", column.name(), tableId, e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    private static String decodeHistogramString(String value) {
+        // string values are stored as "base64:type<N>:<value>"
+        final int separator = value.indexOf(':', "base64:".length());
+        return new String(Base64.getDecoder().decode(value.substring(separator + 1)), StandardCharsets.UTF_8);
+    }
+
     /**
      * Read the charset-related system variables.
      *
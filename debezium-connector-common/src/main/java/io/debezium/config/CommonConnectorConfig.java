@@ -763,7 +763,8 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
             .withWidth(Width.MEDIUM)
             .withImportance(Importance.LOW)
             .withDescription("The name of the queue provider implementation to use for buffering change events. "
-                    + "Defaults to '" + DEFAULT_QUEUE_PROVIDER_TYPE + "' which uses an in-memory ArrayDeque.")
+                    + "Defaults to '" + DEFAULT_QUEUE_PROVIDER_TYPE + "' which uses an in-memory ArrayDeque. "
+                    + "'ring_buffer' uses a lock-free in-memory ring buffer that lets multiple producers enqueue without contending on a lock.")
             .withDefault(DEFAULT_QUEUE_PROVIDER_TYPE);
 
     public static final Field SNAPSHOT_DELAY_MS = Field.create("snapshot.delay.ms")
@@ -794,6 +795,17 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
             .withDefault(1024)
             .withValidation(Field::isNonNegativeInteger);
 
+    public static final Field INCREMENTAL_SNAPSHOT_MAX_THREADS = Field.create("incremental.snapshot.max.threads")
+            .withDisplayName("Incremental snapshot maximum threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of chunks that are read concurrently within a single incremental snapshot window. " +
+                    "Each additional chunk is read on a separate database connection. " +
+                    "Defaults to 1, which reads a single chunk per window.")
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger);
+
     public static final Field INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES = Field.create("incremental.snapshot.allow.schema.changes")
             .withDisplayName("Allow schema changes during incremental snapshot if supported.")
             .withType(Type.BOOLEAN)
@@ -957,6 +969,18 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     "This may not be ideal for larger tables, and using the multiplier, the formula is adjusted to increase the " +
                     "number of chunks by using 'row_count/(snapshot.max.threads * snapshot.max.threads.multiplier).");
 
+    public static final Field SNAPSHOT_CHUNK_BOUNDARY_ESTIMATION_ENABLED = Field.create("snapshot.chunk.boundary.estimation.enabled")
+            .withDisplayName("Estimate snapshot chunk boundaries")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, the boundaries of the chunks of a table with a single-column key are estimated from the " +
+                    "database's column statistics, or from the key's minimum and maximum values for integer keys, instead of " +
+                    "being located by walking the key index once per chunk. Estimated chunks may hold different numbers of rows. " +
+                    "When no estimate is available, the exact boundaries are calculated.");
+
     public static final Field LEGACY_SNAPSHOT_MAX_THREADS = Field.create("legacy.snapshot.max.threads")
             .withDisplayName("Enforces using a single thread per table regardless of table size")
             .withType(Type.BOOLEAN)
@@ -1124,6 +1148,20 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
             .withDefault(0L)
             .withValidation(Field::isNonNegativeLong);
 
+    public static final Field STREAMING_CONVERSION_THREADS = Field.create("streaming.conversion.threads")
+            .withDisplayName("Streaming conversion threads")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of threads used to convert streamed change events into change records. "
+                    + "When set to a value greater than 1, the values of the change events are converted concurrently "
+                    + "and the resulting records are emitted in their original source order. Only applies when "
+                    + "'event.processing.failure.handling.mode' is 'fail'. Defaults to 1, "
+                    + "which converts the change events on the streaming thread.");
+
     public static final Field SNAPSHOT_LOCKING_MODE_CUSTOM_NAME = Field.create("snapshot.locking.mode.custom.name")
             .withDisplayName("Snapshot Locking Mode Custom Name")
             .withType(Type.STRING)
@@ -1550,12 +1588,14 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
             .group(Field.Group.CONNECTOR, TOPIC_PREFIX, TOMBSTONES_ON_DELETE, BINARY_HANDLING_MODE, SCHEMA_NAME_ADJUSTMENT_MODE, FIELD_NAME_ADJUSTMENT_MODE,
                     EVENT_CONVERTING_FAILURE_HANDLING_MODE)
             .group(Field.Group.CONNECTOR_ADVANCED, PROVIDE_TRANSACTION_METADATA, CUSTOM_CONVERTERS, CUSTOM_POST_PROCESSORS,
-                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE, INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES,
+                    INCREMENTAL_SNAPSHOT_CHUNK_SIZE, INCREMENTAL_SNAPSHOT_MAX_THREADS, INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES,
                     SIGNAL_DATA_COLLECTION, SIGNAL_ENABLED_CHANNELS, NOTIFICATION_ENABLED_CHANNELS, TRANSACTION_METADATA_FACTORY)
             .group(Field.Group.CONNECTOR_SNAPSHOT, SNAPSHOT_DELAY_MS, SNAPSHOT_FETCH_SIZE, SNAPSHOT_MODE_TABLES,
                     SNAPSHOT_MODE_CUSTOM_NAME, SNAPSHOT_MODE_CONFIGURATION_BASED_SNAPSHOT_DATA, SNAPSHOT_MODE_CONFIGURATION_BASED_SNAPSHOT_SCHEMA,
                     SNAPSHOT_MODE_CONFIGURATION_BASED_START_STREAM, SNAPSHOT_MODE_CONFIGURATION_BASED_SNAPSHOT_ON_SCHEMA_ERROR,
-                    SNAPSHOT_MODE_CONFIGURATION_BASED_SNAPSHOT_ON_DATA_ERROR, SNAPSHOT_MAX_THREADS, SNAPSHOT_MAX_THREADS_MULTIPLIER, LEGACY_SNAPSHOT_MAX_THREADS,
+                    SNAPSHOT_MODE_CONFIGURATION_BASED_SNAPSHOT_ON_DATA_ERROR, SNAPSHOT_MAX_THREADS, SNAPSHOT_MAX_THREADS_MULTIPLIER,
+                    SNAPSHOT_CHUNK_BOUNDARY_ESTIMATION_ENABLED,
+                    LEGACY_SNAPSHOT_MAX_THREADS,
                     STREAMING_DELAY_MS, QUERY_FETCH_SIZE, INCREMENTAL_SNAPSHOT_WATERMARKING_STRATEGY)
             .group(Field.Group.ADVANCED, RETRIABLE_RESTART_WAIT, MAX_QUEUE_SIZE, MAX_BATCH_SIZE, POLL_INTERVAL_MS, MAX_QUEUE_SIZE_IN_BYTES,
                     EVENT_PROCESSING_FAILURE_HANDLING_MODE, SKIPPED_OPERATIONS, MAX_RETRIES_ON_ERROR, LOG_POSITION_CHECK_ENABLED, ADVANCED_METRICS_ENABLE,
@@ -1563,7 +1603,7 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     OPEN_LINEAGE_INTEGRATION_JOB_NAMESPACE, OPEN_LINEAGE_INTEGRATION_JOB_DESCRIPTION, OPEN_LINEAGE_INTEGRATION_JOB_TAGS,
                     OPEN_LINEAGE_INTEGRATION_JOB_OWNERS, OPEN_LINEAGE_INTEGRATION_DATASET_KAFKA_BOOTSTRAP_SERVER, EXTENDED_HEADERS_ENABLED, GUARDRAIL_COLLECTIONS_MAX,
                     GUARDRAIL_COLLECTIONS_LIMIT_ACTION, CUSTOM_SANITIZE_PATTERN, SIGNAL_EMIT_FAILURE_MAX_RETRIES, SIGNAL_EMIT_FAILURE_BACKOFF_INTERVAL_MS,
-                    STATISTICS_METRICS_ENABLED, OFFSET_ACTIVITY_MONITOR_INTERVAL_MS)
+                    STATISTICS_METRICS_ENABLED, OFFSET_ACTIVITY_MONITOR_INTERVAL_MS, STREAMING_CONVERSION_THREADS)
             .group(Field.Group.ADVANCED_HEARTBEAT, Heartbeat.HEARTBEAT_INTERVAL, Heartbeat.HEARTBEAT_TOPICS_PREFIX, SIGNAL_POLL_INTERVAL_MS)
             .group(Field.Group.CONNECTOR, TOPIC_NAMING_STRATEGY, SinkNotificationChannel.NOTIFICATION_TOPIC, CUSTOM_METRIC_TAGS)
             .create();
@@ -1581,13 +1621,16 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
     private Duration heartbeatInterval;
     private final Duration snapshotDelay;
     private final Duration streamingDelay;
+    private final int streamingConversionThreads;
     private final Duration retriableRestartWait;
     private final int snapshotFetchSize;
     private final int incrementalSnapshotChunkSize;
+    private final int incrementalSnapshotMaxThreads;
     private final boolean incrementalSnapshotAllowSchemaChanges;
     private final int snapshotMaxThreads;
     private final int snapshotMaxThreadsMultiplier;
     private final boolean legacySnapshotMaxThreads;
+    private final boolean snapshotChunkBoundaryEstimationEnabled;
 
     private final String snapshotModeCustomName;
     private final Integer queryFetchSize;
@@ -1636,14 +1679,17 @@ protected CommonConnectorConfig(Configuration config, int defaultSnapshotFetchSi
         this.heartbeatInterval = config.getDuration(Heartbeat.HEARTBEAT_INTERVAL, ChronoUnit.MILLIS);
         this.snapshotDelay = Duration.ofMillis(config.getLong(SNAPSHOT_DELAY_MS));
         this.streamingDelay = Duration.ofMillis(config.getLong(STREAMING_DELAY_MS));
+        this.streamingConversionThreads = config.getInteger(STREAMING_CONVERSION_THREADS);
         this.retriableRestartWait = Duration.ofMillis(config.getLong(RETRIABLE_RESTART_WAIT));
         this.snapshotFetchSize = config.getInteger(SNAPSHOT_FETCH_SIZE, defaultSnapshotFetchSize);
         this.snapshotMaxThreads = config.getInteger(SNAPSHOT_MAX_THREADS);
         this.snapshotMaxThreadsMultiplier = config.getInteger(SNAPSHOT_MAX_THREADS_MULTIPLIER);
         this.legacySnapshotMaxThreads = config.getBoolean(LEGACY_SNAPSHOT_MAX_THREADS);
+        this.snapshotChunkBoundaryEstimationEnabled = config.getBoolean(SNAPSHOT_CHUNK_BOUNDARY_ESTIMATION_ENABLED);
         this.snapshotModeCustomName = config.getString(SNAPSHOT_MODE_CUSTOM_NAME);
         this.queryFetchSize = config.getInteger(QUERY_FETCH_SIZE);
         this.incrementalSnapshotChunkSize = config.getInteger(INCREMENTAL_SNAPSHOT_CHUNK_SIZE);
+        this.incrementalSnapshotMaxThreads = config.getInteger(INCREMENTAL_SNAPSHOT_MAX_THREADS);
         this.incrementalSnapshotAllowSchemaChanges = config.getBoolean(INCREMENTAL_SNAPSHOT_ALLOW_SCHEMA_CHANGES);
         this.schemaNameAdjustmentMode = SchemaNameAdjustmentMode.parse(config.getString(SCHEMA_NAME_ADJUSTMENT_MODE));
         this.fieldNameAdjustmentMode = FieldNameAdjustmentMode.parse(config.getString(FIELD_NAME_ADJUSTMENT_MODE));
@@ -1807,6 +1853,10 @@ public Duration getStreamingDelay() {
         return streamingDelay;
     }
 
+    public int getStreamingConversionThreads() {
+        return streamingConversionThreads;
+    }
+
     public int getSnapshotFetchSize() {
         return snapshotFetchSize;
     }
@@ -1839,6 +1889,10 @@ public boolean isLegacySnapshotMaxThreads() {
         return legacySnapshotMaxThreads;
     }
 
+    public boolean isSnapshotChunkBoundaryEstimationEnabled() {
+        return snapshotChunkBoundaryEstimationEnabled;
+    }
+
     public String getSnapshotModeCustomName() {
         return snapshotModeCustomName;
     }
@@ -1851,6 +1905,10 @@ public int getIncrementalSnapshotChunkSize() {
         return incrementalSnapshotChunkSize;
     }
 
+    public int getIncrementalSnapshotMaxThreads() {
+        return incrementalSnapshotMaxThreads;
+    }
+
     public String getNotificationTopic() {
         return notificationTopicName;
     }
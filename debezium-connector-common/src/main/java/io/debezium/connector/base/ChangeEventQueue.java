@@ -52,6 +52,11 @@
  * operation. Upon the next call to {@link #poll()}, that exception will be
  * raised, causing Kafka Connect to stop the connector and mark it as
  * {@code FAILED}.
+ * <p>
+ * If the configured {@link QueueProvider} is a {@link ConcurrentQueueProvider},
+ * producers hand events over without acquiring the queue's lock; the lock is then
+ * only used to park producers while the queue is full and consumers while they
+ * wait for a batch to accumulate.
  *
  * @author Gunnar Morling
  *
@@ -83,10 +88,15 @@
     private final Condition isNotFull;
 
     private final QueueProvider<T> queue;
+    private final ConcurrentQueueProvider<T> concurrentQueue;
     private final Supplier<PreviousContext> loggingContextSupplier;
     private final Queue<Long> sizeInBytesQueue;
     private long currentQueueSizeInBytes = 0;
 
+    // Set by a consumer before waiting for a batch to accumulate, so that lock-free producers
+    // only acquire the lock to signal the consumer when somebody is actually waiting
+    private volatile boolean consumerWaiting;
+
     // Sometimes it is necessary to update the record before it is delivered depending on the content
     // of the following record. In that cases the easiest solution is to provide a single cell buffer
     // that will allow the modification of it during the explicit flush.
@@ -122,6 +132,7 @@ private ChangeEventQueue(Duration pollInterval, Duration pollDispatchInterval, i
         this.maxQueueSizeInBytes = maxQueueSizeInBytes;
         this.buffering = buffering;
         this.queue = queueProvider;
+        this.concurrentQueue = queueProvider instanceof ConcurrentQueueProvider ? (ConcurrentQueueProvider<T>) queueProvider : null;
     }
 
     public static class Builder<T extends Sizeable> {
@@ -264,7 +275,11 @@ private ElapsedTimeStrategy getPollDispatchTimer() {
     }
 
     private boolean isQueueFull() {
-        return queue.size() >= maxQueueSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes);
+        return queue.size() >= maxQueueSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes() >= maxQueueSizeInBytes);
+    }
+
+    private boolean isBatchReady() {
+        return queue.size() >= maxBatchSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes() >= maxQueueSizeInBytes);
     }
 
     protected void doEnqueue(T record) throws InterruptedException {
@@ -272,6 +287,11 @@ protected void doEnqueue(T record) throws InterruptedException {
             LOGGER.trace("Enqueuing source record '{}'", maybeRedactSensitiveData(record));
         }
 
+        if (concurrentQueue != null) {
+            doEnqueueLockFree(record);
+            return;
+        }
+
         try {
             this.lock.lock();
 
@@ -301,6 +321,55 @@ protected void doEnqueue(T record) throws InterruptedException {
         }
     }
 
+    private void doEnqueueLockFree(T record) throws InterruptedException {
+        final long messageSize = maxQueueSizeInBytes > 0 ? record.objectSize() : 0L;
+
+        while (isQueueFull() || !concurrentQueue.offer(record, messageSize)) {
+            try {
+                this.lock.lock();
+                // re-check under the lock, consumers drain and signal while holding it
+                if (isQueueFull()) {
+                    // signal poll() to drain queue
+                    this.isFull.signalAll();
+                    // queue size or queue sizeInBytes threshold reached, so wait a bit
+                    this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+            finally {
+                this.lock.unlock();
+            }
+        }
+
+        // batch size or queue sizeInBytes threshold reached
+        if (consumerWaiting && isBatchReady()) {
+            try {
+                this.lock.lock();
+                // signal poll() to start draining queue and do not wait
+                this.isFull.signalAll();
+            }
+            finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private void awaitRecords(long timeoutMillis) throws InterruptedException {
+        if (concurrentQueue == null) {
+            this.isFull.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+        consumerWaiting = true;
+        try {
+            // producers don't hold the lock, so re-check after announcing that we are about to wait
+            if (!isBatchReady()) {
+                this.isFull.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        finally {
+            consumerWaiting = false;
+        }
+    }
+
     /**
      * Returns the next batch of elements from this queue. May be empty in case no
      * elements have arrived in the maximum waiting time.
@@ -323,7 +392,7 @@ public List<T> poll() throws InterruptedException {
                 if (!pollDispatchTimerElapsed && !isQueueFull()) {
                     // should leave records to accumulate in the queue for now
                     // wait for poll.interval.ms or until the queue is full and needs to be drained.
-                    this.isFull.await(timeout.remaining().toMillis(), TimeUnit.MILLISECONDS);
+                    awaitRecords(timeout.remaining().toMillis());
                 }
                 else {
                     if (!pollDispatchTimerElapsed) {
@@ -340,7 +409,7 @@ public List<T> poll() throws InterruptedException {
                             // signal doEnqueue() to add more records
                             this.isNotFull.signalAll();
                             // no records available or batch size not reached yet, so wait a bit
-                            this.isFull.await(remainingTimeoutMills, TimeUnit.MILLISECONDS);
+                            awaitRecords(remainingTimeoutMills);
                         }
                         LOGGER.debug("checking for more records...");
 
@@ -360,6 +429,12 @@ public List<T> poll() throws InterruptedException {
     }
 
     private long drainRecords(List<T> records, int maxElements) throws InterruptedException {
+        if (concurrentQueue != null) {
+            if (maxElements > 0) {
+                concurrentQueue.drainTo(records, maxElements);
+            }
+            return records.size();
+        }
         int queueSize = queue.size();
         if (queueSize == 0) {
             return records.size();
@@ -407,7 +482,7 @@ public long maxQueueSizeInBytes() {
 
     @Override
     public long currentQueueSizeInBytes() {
-        return currentQueueSizeInBytes;
+        return concurrentQueue != null ? concurrentQueue.sizeInBytes() : currentQueueSizeInBytes;
     }
 
     public boolean isBuffered() {
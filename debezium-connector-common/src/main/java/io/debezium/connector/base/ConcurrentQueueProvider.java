@@ -0,0 +1,51 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.util.List;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A {@link QueueProvider} that is safe for concurrent use by multiple producer and consumer threads
+ * without external synchronization.
+ * <p>
+ * When a {@link ChangeEventQueue} is built with such a provider, producers enqueue events without
+ * acquiring the queue's lock; the lock is only used to park threads when the queue is full or when
+ * a consumer waits for a batch to accumulate. The provider is also responsible for keeping track of
+ * the number of bytes currently held, so that no per-event bookkeeping is needed by the caller.
+ *
+ * @param <T> the type of event stored in the queue
+ */
+@ThreadSafe
+public interface ConcurrentQueueProvider<T> extends QueueProvider<T> {
+
+    /**
+     * Attempts to add an event to the queue without blocking.
+     *
+     * @param event the event to enqueue, must not be {@code null}
+     * @param sizeInBytes the size of the event in bytes, or {@code 0} if not tracked
+     * @return {@code true} if the event was added, {@code false} if the queue is at capacity
+     */
+    boolean offer(T event, long sizeInBytes);
+
+    /**
+     * Removes up to {@code maxElements} events from the queue and appends them to the given list,
+     * preserving queue order.
+     *
+     * @param target the list to add the drained events to, must not be {@code null}
+     * @param maxElements the maximum number of events to drain
+     * @return the number of events that were drained
+     */
+    int drainTo(List<? super T> target, int maxElements);
+
+    /**
+     * Returns the total size in bytes of the events currently in the queue, as passed to {@link #offer(Object, long)}.
+     *
+     * @return the queue size in bytes
+     */
+    long sizeInBytes();
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.base;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.pipeline.Sizeable;
+
+/**
+ * A {@link ConcurrentQueueProvider} backed by a bounded, lock-free, multi-producer multi-consumer ring buffer.
+ * <p>
+ * Each slot carries a sequence number that tells producers and consumers whether the slot is free to be
+ * written or ready to be read, so that enqueue and poll only need a single compare-and-set on the shared
+ * tail or head position. The byte size of each event is stored in a parallel primitive array, which avoids
+ * boxing when {@code max.queue.size.in.bytes} is enabled.
+ * <p>
+ * The capacity of the ring is {@code max.queue.size} rounded up to the next power of two; the
+ * {@link ChangeEventQueue} still enforces the configured maximum queue size.
+ *
+ * @param <T> the type of elements in the queue, must implement {@link Sizeable}
+ */
+@ThreadSafe
+public class RingBufferQueueProvider<T extends Sizeable> implements ConcurrentQueueProvider<T> {
+
+    private Object[] buffer;
+    private long[] sizes;
+    private AtomicLongArray sequences;
+    private int mask;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong sizeInBytes = new AtomicLong();
+
+    @Override
+    public String name() {
+        return "ring_buffer";
+    }
+
+    @Override
+    public void configure(Map<String, ?> properties) {
+        final Configuration config = Configuration.from(properties);
+        final int capacity = capacityFor(config.getInteger(CommonConnectorConfig.MAX_QUEUE_SIZE));
+
+        this.buffer = new Object[capacity];
+        this.sizes = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public void enqueue(T event) throws InterruptedException {
+        while (!offer(event, 0L)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public boolean offer(T event, long eventSizeInBytes) {
+        long position = tail.get();
+        int index;
+        for (;;) {
+            index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            }
+            else if (difference < 0) {
+                // the slot still holds an event from the previous lap, the ring is full
+                return false;
+            }
+            else {
+                position = tail.get();
+            }
+        }
+
+        buffer[index] = event;
+        sizes[index] = eventSizeInBytes;
+        if (eventSizeInBytes != 0) {
+            sizeInBytes.addAndGet(eventSizeInBytes);
+        }
+        // publishes the slot to consumers
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long position = head.get();
+        int index;
+        for (;;) {
+            index = (int) (position & mask);
+            final long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            }
+            else if (difference < 0) {
+                // the slot has not been published yet, the ring is empty
+                return null;
+            }
+            else {
+                position = head.get();
+            }
+        }
+
+        final T event = (T) buffer[index];
+        final long eventSizeInBytes = sizes[index];
+        buffer[index] = null;
+        // releases the slot to producers of the next lap
+        sequences.set(index, position + mask + 1);
+        if (eventSizeInBytes != 0) {
+            sizeInBytes.addAndGet(-eventSizeInBytes);
+        }
+        return event;
+    }
+
+    @Override
+    public int drainTo(List<? super T> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            final T event = poll();
+            if (event == null) {
+                break;
+            }
+            target.add(event);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        // read head first so that a concurrent poll can never make the result negative
+        final long currentHead = head.get();
+        final long currentTail = tail.get();
+        return (int) Math.max(0L, Math.min(currentTail - currentHead, buffer.length));
+    }
+
+    @Override
+    public long sizeInBytes() {
+        return sizeInBytes.get();
+    }
+
+    private static int capacityFor(int maxQueueSize) {
+        if (maxQueueSize <= 1) {
+            return 2;
+        }
+        final int capacity = Integer.highestOneBit(maxQueueSize - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue size " + maxQueueSize + " is too large for a ring buffer");
+        }
+        return capacity;
+    }
+}
@@ -72,6 +72,11 @@ public void emitWithDelay(Map<String, ?> partition, OffsetContext offset) throws
         }
     }
 
+    @Override
+    public boolean expired() {
+        return scheduledHeartbeat.expired();
+    }
+
     @Override
     public void emit(Map<String, ?> partition, OffsetContext offset) throws InterruptedException {
         scheduledHeartbeat.emit(partition, offset);
@@ -55,6 +55,7 @@
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Field;
+import io.debezium.pipeline.source.snapshot.chunked.HistogramBucket;
 import io.debezium.pipeline.source.snapshot.incremental.ChunkQueryBuilder;
 import io.debezium.pipeline.source.snapshot.incremental.DefaultChunkQueryBuilder;
 import io.debezium.relational.Attribute;
@@ -1748,6 +1749,29 @@ public String buildSelectPrimaryKeyBoundaries(TableId tableId, long size, String
                 .toString();
     }
 
+    /**
+     * Builds a query selecting the minimum and the maximum value of a column.
+     *
+     * @param tableId the table to query
+     * @param column the quoted column name
+     * @return the query
+     */
+    public String buildSelectKeyRange(TableId tableId, String column) {
+        return "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + quotedTableIdString(tableId);
+    }
+
+    /**
+     * Reads the histogram that the optimizer statistics of the database maintain for a column, used to estimate
+     * chunk boundaries without walking the key index.
+     *
+     * @param tableId the table of the column
+     * @param column the column
+     * @return the histogram buckets in ascending order, or an empty list if no histogram is available
+     */
+    public List<HistogramBucket> readColumnHistogram(TableId tableId, Column column) throws SQLException {
+        return List.of();
+    }
+
     /**
      * Indicates how NULL values are sorted by default in an ORDER BY clause.  The ANSI standard doesn't really specify.
      *
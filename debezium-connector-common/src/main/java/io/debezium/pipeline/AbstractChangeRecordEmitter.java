@@ -27,6 +27,8 @@
 
     private final CommonConnectorConfig connectorConfig;
 
+    private OffsetContext detachedOffsetContext;
+
     public AbstractChangeRecordEmitter(P partition, OffsetContext offsetContext, Clock clock, CommonConnectorConfig connectorConfig) {
         this.partition = partition;
         this.offsetContext = offsetContext;
@@ -63,7 +65,15 @@ public P getPartition() {
 
     @Override
     public OffsetContext getOffset() {
-        return offsetContext;
+        return detachedOffsetContext != null ? detachedOffsetContext : offsetContext;
+    }
+
+    /**
+     * Pins the current source position of the offset, so that the change record(s) can be emitted after the
+     * dispatching thread has moved the offset on to subsequent changes.
+     */
+    protected void detachOffset() {
+        detachedOffsetContext = new DetachedOffsetContext(offsetContext);
     }
 
     /**
@@ -0,0 +1,220 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.ChangeRecordEmitter.Receiver;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.spi.Partition;
+import io.debezium.schema.DataCollectionSchema;
+import io.debezium.util.Threads;
+
+/**
+ * Converts streamed change events on a pool of worker threads, and completes the converted events strictly in the
+ * order in which they were submitted.
+ * <p>
+ * The workers invoke the {@link ChangeRecordEmitter}s, which build the keys and values of the change records, and
+ * record the emitted change records. The converted events are only ever completed on the dispatching thread, by
+ * replaying their change records whenever it submits an event, so the change records reach the change event queue in
+ * source order and the completions never run concurrently with anything else the dispatching thread does. The
+ * dispatching thread uses {@link #flush()} to complete all pending events before it dispatches anything that must be
+ * ordered after them. Other than {@link #close()}, the methods must only be called by the dispatching thread.
+ */
+class ChangeEventConversionPipeline<P extends Partition> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeEventConversionPipeline.class);
+
+    private final ExecutorService executor;
+    private final int maxPendingEvents;
+    private final Queue<Conversion<P>> pending = new ConcurrentLinkedQueue<>();
+    private int pendingEvents;
+    private boolean completing;
+
+    /**
+     * Completes a converted change event, once all previously submitted change events have been completed.
+     */
+    @FunctionalInterface
+    interface Completion<P extends Partition> {
+        void complete(ConvertedChangeEvent<P> event) throws InterruptedException;
+    }
+
+    /**
+     * The change records emitted for a single change event.
+     */
+    interface ConvertedChangeEvent<P extends Partition> {
+
+        /**
+         * Replays the emitted change records to the given receiver, or rethrows the failure raised while emitting them.
+         */
+        void emitTo(Receiver<P> receiver) throws InterruptedException;
+    }
+
+    ChangeEventConversionPipeline(CommonConnectorConfig connectorConfig) {
+        this.executor = Threads.newFixedThreadPool(EventDispatcher.class, connectorConfig.getLogicalName(), "conversion",
+                connectorConfig.getStreamingConversionThreads());
+        this.maxPendingEvents = connectorConfig.getMaxBatchSize();
+    }
+
+    /**
+     * Submits a detached change event for conversion. Completes the pending change events that have been converted
+     * already, and waits for the oldest ones to be converted and completes them while the maximum number of events is
+     * pending.
+     */
+    void submit(ChangeRecordEmitter<P> emitter, DataCollectionSchema schema, Completion<P> completion) throws InterruptedException {
+        completeConverted();
+        while (pendingEvents >= maxPendingEvents) {
+            completeOldest();
+        }
+
+        final Conversion<P> conversion = new Conversion<>(emitter, schema, completion);
+        pending.add(conversion);
+        pendingEvents++;
+        executor.execute(conversion::run);
+    }
+
+    /**
+     * Completes the pending change events that have been converted already, without waiting for further conversions.
+     * Does nothing when called while completing a change event.
+     */
+    void completeConverted() throws InterruptedException {
+        if (completing) {
+            return;
+        }
+        Conversion<P> conversion;
+        while ((conversion = pending.peek()) != null && conversion.isConverted()) {
+            completeOldest();
+        }
+    }
+
+    /**
+     * Waits for and completes all pending change events. Does nothing when called while completing a change event,
+     * as the caller is then already ordered after all previously submitted events.
+     */
+    void flush() throws InterruptedException {
+        if (completing) {
+            return;
+        }
+        while (!pending.isEmpty()) {
+            completeOldest();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        if (!pending.isEmpty()) {
+            LOGGER.debug("Discarding {} change events that were not completed", pending.size());
+            pending.clear();
+        }
+    }
+
+    private void completeOldest() throws InterruptedException {
+        final Conversion<P> conversion = pending.peek();
+        conversion.awaitConversion();
+        pending.remove();
+        pendingEvents--;
+        completing = true;
+        try {
+            conversion.complete();
+        }
+        finally {
+            completing = false;
+        }
+    }
+
+    /**
+     * A single change event that is converted by a worker and records the change records emitted for it.
+     */
+    private static final class Conversion<P extends Partition> implements Receiver<P>, ConvertedChangeEvent<P> {
+
+        private final ChangeRecordEmitter<P> emitter;
+        private final DataCollectionSchema schema;
+        private final Completion<P> completion;
+        private final List<EmittedRecord<P>> records = new ArrayList<>(1);
+        private final CountDownLatch converted = new CountDownLatch(1);
+        private Throwable failure;
+
+        Conversion(ChangeRecordEmitter<P> emitter, DataCollectionSchema schema, Completion<P> completion) {
+            this.emitter = emitter;
+            this.schema = schema;
+            this.completion = completion;
+        }
+
+        void run() {
+            try {
+                emitter.emitChangeRecords(schema, this);
+            }
+            catch (Throwable t) {
+                failure = t;
+            }
+            finally {
+                converted.countDown();
+            }
+        }
+
+        boolean isConverted() {
+            return converted.getCount() == 0;
+        }
+
+        void awaitConversion() throws InterruptedException {
+            converted.await();
+        }
+
+        void complete() throws InterruptedException {
+            completion.complete(this);
+        }
+
+        @Override
+        public void changeRecord(P partition, DataCollectionSchema schema, Operation operation, Object key, Struct value,
+                                 OffsetContext offset, ConnectHeaders headers) {
+            records.add(receiver -> receiver.changeRecord(partition, schema, operation, key, value, offset, headers));
+        }
+
+        @Override
+        public void unchangedEventSkipped(P partition) {
+            records.add(receiver -> receiver.unchangedEventSkipped(partition));
+        }
+
+        @Override
+        public void emitTo(Receiver<P> receiver) throws InterruptedException {
+            if (failure instanceof InterruptedException e) {
+                throw e;
+            }
+            if (failure instanceof RuntimeException e) {
+                throw e;
+            }
+            if (failure instanceof Error e) {
+                throw e;
+            }
+            if (failure != null) {
+                throw new DebeziumException("Failed to convert change event", failure);
+            }
+            for (EmittedRecord<P> record : records) {
+                record.emitTo(receiver);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface EmittedRecord<P extends Partition> {
+        void emitTo(Receiver<P> receiver) throws InterruptedException;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+import io.debezium.connector.SnapshotRecord;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.spi.schema.DataCollectionId;
+
+/**
+ * An {@link OffsetContext} that pins the source position of a single change, while the wrapped offset context is
+ * moved on to subsequent changes by the dispatching thread.
+ * <p>
+ * The transaction state is still taken from the wrapped offset context, because it is only updated when the change
+ * record is emitted and must therefore reflect the change records emitted up to that point.
+ */
+class DetachedOffsetContext implements OffsetContext {
+
+    private final OffsetContext offsetContext;
+    private final Map<String, Object> offset;
+    private final Struct sourceInfo;
+
+    DetachedOffsetContext(OffsetContext offsetContext) {
+        this.offsetContext = offsetContext;
+        this.offset = TransactionContext.remove(new HashMap<>(offsetContext.getOffset()));
+        this.sourceInfo = offsetContext.getSourceInfo();
+    }
+
+    @Override
+    public Map<String, ?> getOffset() {
+        final Map<String, Object> result = new HashMap<>(offset);
+        final TransactionContext transactionContext = offsetContext.getTransactionContext();
+        return transactionContext != null ? transactionContext.store(result) : result;
+    }
+
+    @Override
+    public Schema getSourceInfoSchema() {
+        return offsetContext.getSourceInfoSchema();
+    }
+
+    @Override
+    public Struct getSourceInfo() {
+        return sourceInfo;
+    }
+
+    @Override
+    public boolean isInitialSnapshotRunning() {
+        return offsetContext.isInitialSnapshotRunning();
+    }
+
+    @Override
+    public void markSnapshotRecord(SnapshotRecord record) {
+        offsetContext.markSnapshotRecord(record);
+    }
+
+    @Override
+    public void preSnapshotStart(boolean onDemand) {
+        offsetContext.preSnapshotStart(onDemand);
+    }
+
+    @Override
+    public void preSnapshotCompletion() {
+        offsetContext.preSnapshotCompletion();
+    }
+
+    @Override
+    public void postSnapshotCompletion() {
+        offsetContext.postSnapshotCompletion();
+    }
+
+    @Override
+    public void event(DataCollectionId collectionId, Instant timestamp) {
+        offsetContext.event(collectionId, timestamp);
+    }
+
+    @Override
+    public TransactionContext getTransactionContext() {
+        return offsetContext.getTransactionContext();
+    }
+
+    @Override
+    public void incrementalSnapshotEvents() {
+        offsetContext.incrementalSnapshotEvents();
+    }
+
+    @Override
+    public IncrementalSnapshotContext<?> getIncrementalSnapshotContext() {
+        return offsetContext.getIncrementalSnapshotContext();
+    }
+
+    @Override
+    public String toString() {
+        return "DetachedOffsetContext [offset=" + offset + "]";
+    }
+}
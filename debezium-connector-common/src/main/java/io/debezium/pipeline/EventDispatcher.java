@@ -27,6 +27,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.common.DebeziumHeaderProducer;
@@ -37,6 +38,7 @@
 import io.debezium.pipeline.signal.SignalProcessor;
 import io.debezium.pipeline.signal.channels.SourceSignalChannel;
 import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotChangeEventSource;
+import io.debezium.pipeline.source.snapshot.incremental.IncrementalSnapshotContext;
 import io.debezium.pipeline.source.spi.DataChangeEventListener;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
 import io.debezium.pipeline.spi.ChangeEventCreator;
@@ -106,6 +108,11 @@
 
     private final PostProcessorRegistry postProcessorRegistry;
 
+    /**
+     * Converts streamed change events concurrently, {@code null} if they are converted on the streaming thread.
+     */
+    private final ChangeEventConversionPipeline<P> conversionPipeline;
+
     public EventDispatcher(CommonConnectorConfig connectorConfig, TopicNamingStrategy<T> topicNamingStrategy,
                            DatabaseSchema<T> schema, ChangeEventQueue<DataChangeEvent> queue, DataCollectionFilter<T> filter,
                            ChangeEventCreator changeEventCreator, EventMetadataProvider metadataProvider, SchemaNameAdjuster schemaNameAdjuster,
@@ -184,6 +191,7 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicNamingStrateg
         schemaChangeValueSchema = SchemaFactory.get().schemaHistoryConnectorValueSchema(schemaNameAdjuster, connectorConfig, tableChangesSerializer);
 
         postProcessorRegistry = connectorConfig.getServiceRegistry().tryGetService(PostProcessorRegistry.class);
+        conversionPipeline = createConversionPipeline(connectorConfig);
     }
 
     public EventDispatcher(CommonConnectorConfig connectorConfig, TopicNamingStrategy<T> topicNamingStrategy,
@@ -218,12 +226,14 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicNamingStrateg
         schemaChangeKeySchema = SchemaFactory.get().schemaHistoryConnectorKeySchema(schemaNameAdjuster, connectorConfig);
         schemaChangeValueSchema = SchemaFactory.get().schemaHistoryConnectorValueSchema(schemaNameAdjuster, connectorConfig, tableChangesSerializer);
         postProcessorRegistry = connectorConfig.getServiceRegistry().tryGetService(PostProcessorRegistry.class);
+        conversionPipeline = createConversionPipeline(connectorConfig);
     }
 
     public void dispatchSnapshotEvent(P partition, T dataCollectionId, ChangeRecordEmitter<P> changeRecordEmitter,
                                       SnapshotReceiver<P> receiver)
             throws InterruptedException {
 
+        flushConversions();
         try {
             // TODO Handle Heartbeat
             DataCollectionSchema dataCollectionSchema = schema.schemaFor(dataCollectionId);
@@ -273,9 +283,21 @@ public SnapshotReceiver<P> getIncrementalSnapshotChangeEventReceiver(DataChangeE
      * receiving coordinator creates {@link SourceRecord}s for all emitted events and passes them to this dispatcher's
      * {@link ChangeEventCreator} for converting them into data change events.
      *
+     * <p>
+     * When streamed change events are converted concurrently, an event that is submitted for conversion is dispatched
+     * once it and all previously submitted events are converted, or fails the connector when it cannot be converted.
+     *
      * @return {@code true} if an event was dispatched (i.e. sent to the message broker), {@code false} otherwise.
      */
     public boolean dispatchDataChangeEvent(P partition, T dataCollectionId, ChangeRecordEmitter<P> changeRecordEmitter) throws InterruptedException {
+        if (conversionPipeline != null) {
+            final DataCollectionSchema dataCollectionSchema = getConcurrentlyConvertibleSchema(dataCollectionId, changeRecordEmitter);
+            if (dataCollectionSchema != null) {
+                dispatchDataChangeEventConcurrently(dataCollectionId, dataCollectionSchema, changeRecordEmitter);
+                return true;
+            }
+            conversionPipeline.flush();
+        }
         try {
             boolean handled = false;
             if (changeRecordEmitter.ignoreRecord() || !filter.isIncluded(dataCollectionId)) {
@@ -296,53 +318,7 @@ public boolean dispatchDataChangeEvent(P partition, T dataCollectionId, ChangeRe
                     dataCollectionSchema = replacementSchema.get();
                 }
 
-                changeRecordEmitter.emitChangeRecords(dataCollectionSchema, new Receiver<P>() {
-
-                    @Override
-                    public void changeRecord(P partition,
-                                             DataCollectionSchema schema,
-                                             Operation operation,
-                                             Object key, Struct value,
-                                             OffsetContext offset,
-                                             ConnectHeaders headers)
-                            throws InterruptedException {
-
-                        LOGGER.trace("Received change record {} for {} operation on key {} with "
-                                + "context {}", maybeRedactSensitiveData(value), operation, maybeRedactSensitiveData(key), offset);
-
-                        if (isASignalEventToProcess(dataCollectionId, operation) && sourceSignalChannel != null) {
-                            sourceSignalChannel.process(value);
-
-                            if (signalProcessor != null) {
-                                // This is a synchronization point to immediately execute an eventual stop signal, just before emitting the CDC event
-                                // in this way the offset context updated by signaling will be correctly saved
-                                signalProcessor.processSourceSignal(partition);
-                            }
-                        }
-
-                        if (neverSkip || !skippedOperations.contains(operation)) {
-                            transactionMonitor.dataEvent(partition, dataCollectionId, offset, key, value);
-                            eventListener.onEvent(partition, dataCollectionId, offset, key, value, operation);
-                            if (incrementalSnapshotChangeEventSource != null) {
-                                incrementalSnapshotChangeEventSource.processMessage(partition, dataCollectionId, key, offset);
-                            }
-                            streamingReceiver.changeRecord(partition, schema, operation, key, value, offset, headers);
-                        }
-                    }
-
-                    @Override
-                    public void unchangedEventSkipped(P partition) {
-                        if (connectorConfig.skipMessagesWithoutChange()) {
-                            eventListener.onUnchangedEventSkipped(partition);
-                        }
-                    }
-
-                    private boolean isASignalEventToProcess(T dataCollectionId, Operation operation) {
-                        return (operation == Operation.CREATE ||
-                                (operation == Operation.DELETE && connectorConfig.getIncrementalSnapshotWatermarkingStrategy() == INSERT_DELETE)) &&
-                                connectorConfig.isSignalDataCollection(dataCollectionId);
-                    }
-                });
+                changeRecordEmitter.emitChangeRecords(dataCollectionSchema, new DataChangeRecordReceiver(dataCollectionId));
                 handled = true;
             }
 
@@ -356,6 +332,58 @@ private boolean isASignalEventToProcess(T dataCollectionId, Operation operation)
         }
     }
 
+    /**
+     * Returns the schema of the data collection if the given change event can be converted concurrently, {@code null} if
+     * the change event must be dispatched on the streaming thread. Detaches the emitter when returning the schema.
+     */
+    private DataCollectionSchema getConcurrentlyConvertibleSchema(T dataCollectionId, ChangeRecordEmitter<P> changeRecordEmitter) {
+        // an event that is skipped when it cannot be converted would have been reported as dispatched already
+        if (connectorConfig.getEventProcessingFailureHandlingMode() != EventProcessingFailureHandlingMode.FAIL) {
+            return null;
+        }
+        if (changeRecordEmitter.ignoreRecord() || !filter.isIncluded(dataCollectionId) || connectorConfig.isSignalDataCollection(dataCollectionId)) {
+            return null;
+        }
+        final DataCollectionSchema dataCollectionSchema = schema.schemaFor(dataCollectionId);
+        if (dataCollectionSchema == null) {
+            return null;
+        }
+        // deduplication against a running incremental snapshot window depends on the current offset
+        final IncrementalSnapshotContext<?> incrementalSnapshotContext = changeRecordEmitter.getOffset().getIncrementalSnapshotContext();
+        if (incrementalSnapshotContext != null && incrementalSnapshotContext.snapshotRunning()) {
+            return null;
+        }
+        return changeRecordEmitter.detach() ? dataCollectionSchema : null;
+    }
+
+    private void dispatchDataChangeEventConcurrently(T dataCollectionId, DataCollectionSchema dataCollectionSchema,
+                                                     ChangeRecordEmitter<P> changeRecordEmitter)
+            throws InterruptedException {
+        conversionPipeline.submit(changeRecordEmitter, dataCollectionSchema, event -> {
+            try {
+                event.emitTo(new DataChangeRecordReceiver(dataCollectionId));
+                heartbeat.emitWithDelay(changeRecordEmitter.getPartition().getSourcePartition(), changeRecordEmitter.getOffset());
+            }
+            catch (Exception e) {
+                handleEventProcessingFailure(e, changeRecordEmitter.getOffset());
+            }
+        });
+    }
+
+    private void flushConversions() throws InterruptedException {
+        if (conversionPipeline != null) {
+            conversionPipeline.flush();
+        }
+    }
+
+    private ChangeEventConversionPipeline<P> createConversionPipeline(CommonConnectorConfig connectorConfig) {
+        if (connectorConfig.getStreamingConversionThreads() > 1) {
+            LOGGER.info("Converting streamed change events using {} threads", connectorConfig.getStreamingConversionThreads());
+            return new ChangeEventConversionPipeline<>(connectorConfig);
+        }
+        return null;
+    }
+
     private void handleEventProcessingFailure(Exception e, OffsetContext offsetContext) {
         switch (connectorConfig.getEventProcessingFailureHandlingMode()) {
             case FAIL:
@@ -377,12 +405,14 @@ private void handleEventProcessingFailure(Exception e, OffsetContext offsetConte
     }
 
     public void dispatchFilteredEvent(P partition, OffsetContext offset) throws InterruptedException {
+        flushConversions();
         if (incrementalSnapshotChangeEventSource != null) {
             incrementalSnapshotChangeEventSource.processFilteredEvent(partition, offset);
         }
     }
 
     public void dispatchTransactionCommittedEvent(P partition, OffsetContext offset, Instant timestamp) throws InterruptedException {
+        flushConversions();
         transactionMonitor.transactionCommittedEvent(partition, offset, timestamp);
         if (incrementalSnapshotChangeEventSource != null) {
             incrementalSnapshotChangeEventSource.processTransactionCommittedEvent(partition, offset);
@@ -394,6 +424,7 @@ public void dispatchTransactionStartedEvent(P partition, String transactionId, O
     }
 
     public void dispatchTransactionStartedEvent(P partition, TransactionInfo transactionInfo, OffsetContext offset, Instant timestamp) throws InterruptedException {
+        flushConversions();
         transactionMonitor.transactionStartedEvent(partition, transactionInfo, offset, timestamp);
         if (incrementalSnapshotChangeEventSource != null) {
             incrementalSnapshotChangeEventSource.processTransactionStartedEvent(partition, offset);
@@ -415,6 +446,7 @@ public Optional<DataCollectionSchema> ignoreMissingSchema(T dataCollectionId, Ch
 
     public void dispatchSchemaChangeEvent(P partition, OffsetContext offsetContext, T dataCollectionId, SchemaChangeEventEmitter schemaChangeEventEmitter)
             throws InterruptedException {
+        flushConversions();
         if (dataCollectionId != null && !filter.isIncluded(dataCollectionId)) {
             if (historizedSchema == null || historizedSchema.storeOnlyCapturedTables()) {
                 LOGGER.trace("Filtering schema change event for {}", dataCollectionId);
@@ -429,6 +461,7 @@ public void dispatchSchemaChangeEvent(P partition, OffsetContext offsetContext,
     }
 
     public void dispatchSchemaChangeEvent(Collection<T> dataCollectionIds, SchemaChangeEventEmitter schemaChangeEventEmitter) throws InterruptedException {
+        flushConversions();
         boolean anyNonfilteredEvent = false;
         if (dataCollectionIds == null || dataCollectionIds.isEmpty()) {
             anyNonfilteredEvent = true;
@@ -452,11 +485,20 @@ public void dispatchSchemaChangeEvent(Collection<T> dataCollectionIds, SchemaCha
     }
 
     public void alwaysDispatchHeartbeatEvent(P partition, OffsetContext offset) throws InterruptedException {
+        flushConversions();
         heartbeat.emit(partition.getSourcePartition(), offset);
     }
 
     @Deprecated
     public void dispatchHeartbeatEvent(P partition, OffsetContext offset) throws InterruptedException {
+        if (heartbeat.expired()) {
+            // the heartbeat must not carry an offset that is ahead of still pending change events
+            flushConversions();
+        }
+        else if (conversionPipeline != null) {
+            // the converted change events are only completed on this thread, also while the source is idle
+            conversionPipeline.completeConverted();
+        }
         heartbeat.emitWithDelay(partition.getSourcePartition(), offset);
     }
 
@@ -484,13 +526,14 @@ private void enqueueSchemaChangeMessage(SourceRecord record) throws InterruptedE
     }
 
     public void dispatchServerHeartbeatEvent(P partition, OffsetContext offset) throws InterruptedException {
+        flushConversions();
         if (incrementalSnapshotChangeEventSource != null) {
             incrementalSnapshotChangeEventSource.processHeartbeat(partition, offset);
         }
     }
 
     public void enqueueNotification(SourceRecord record) throws InterruptedException {
-
+        flushConversions();
         queue.enqueue(new DataChangeEvent(record));
 
         if (queue.isBuffered()) {
@@ -507,6 +550,64 @@ public void enqueueNotification(SourceRecord record) throws InterruptedException
         void completeSnapshot() throws InterruptedException;
     }
 
+    /**
+     * Change record receiver for events dispatched from a streaming change event source, applying the transaction,
+     * signal, and incremental snapshot handling before passing the change record on to the {@link StreamingChangeRecordReceiver}.
+     */
+    private final class DataChangeRecordReceiver implements Receiver<P> {
+
+        private final T dataCollectionId;
+
+        DataChangeRecordReceiver(T dataCollectionId) {
+            this.dataCollectionId = dataCollectionId;
+        }
+
+        @Override
+        public void changeRecord(P partition,
+                                 DataCollectionSchema schema,
+                                 Operation operation,
+                                 Object key, Struct value,
+                                 OffsetContext offset,
+                                 ConnectHeaders headers)
+                throws InterruptedException {
+
+            LOGGER.trace("Received change record {} for {} operation on key {} with "
+                    + "context {}", maybeRedactSensitiveData(value), operation, maybeRedactSensitiveData(key), offset);
+
+            if (isASignalEventToProcess(dataCollectionId, operation) && sourceSignalChannel != null) {
+                sourceSignalChannel.process(value);
+
+                if (signalProcessor != null) {
+                    // This is a synchronization point to immediately execute an eventual stop signal, just before emitting the CDC event
+                    // in this way the offset context updated by signaling will be correctly saved
+                    signalProcessor.processSourceSignal(partition);
+                }
+            }
+
+            if (neverSkip || !skippedOperations.contains(operation)) {
+                transactionMonitor.dataEvent(partition, dataCollectionId, offset, key, value);
+                eventListener.onEvent(partition, dataCollectionId, offset, key, value, operation);
+                if (incrementalSnapshotChangeEventSource != null) {
+                    incrementalSnapshotChangeEventSource.processMessage(partition, dataCollectionId, key, offset);
+                }
+                streamingReceiver.changeRecord(partition, schema, operation, key, value, offset, headers);
+            }
+        }
+
+        @Override
+        public void unchangedEventSkipped(P partition) {
+            if (connectorConfig.skipMessagesWithoutChange()) {
+                eventListener.onUnchangedEventSkipped(partition);
+            }
+        }
+
+        private boolean isASignalEventToProcess(T dataCollectionId, Operation operation) {
+            return (operation == Operation.CREATE ||
+                    (operation == Operation.DELETE && connectorConfig.getIncrementalSnapshotWatermarkingStrategy() == INSERT_DELETE)) &&
+                    connectorConfig.isSignalDataCollection(dataCollectionId);
+        }
+    }
+
     private final class StreamingChangeRecordReceiver implements ChangeRecordEmitter.Receiver<P> {
 
         @Override
@@ -777,6 +878,9 @@ public IncrementalSnapshotChangeEventSource<P, T> getIncrementalSnapshotChangeEv
 
     @Override
     public void close() {
+        if (conversionPipeline != null) {
+            conversionPipeline.close();
+        }
         if (heartbeatsEnabled()) {
             heartbeat.close();
         }
@@ -36,15 +36,26 @@ public class ChunkBoundaryCalculator {
 
     private final JdbcConnection jdbcConnection;
     private final ChunkQueryBuilder<DataCollectionId> connectionChunkQueryBuilder;
+    private final List<ChunkBoundaryEstimator> boundaryEstimators;
 
     public ChunkBoundaryCalculator(JdbcConnection jdbcConnection, RelationalDatabaseConnectorConfig config) {
+        this(jdbcConnection, config, config.isSnapshotChunkBoundaryEstimationEnabled()
+                ? List.of(new HistogramChunkBoundaryEstimator(jdbcConnection), new KeyRangeChunkBoundaryEstimator(jdbcConnection))
+                : List.of());
+    }
+
+    /**
+     * @param boundaryEstimators the estimators to consult in order before calculating the exact boundaries
+     */
+    public ChunkBoundaryCalculator(JdbcConnection jdbcConnection, RelationalDatabaseConnectorConfig config, List<ChunkBoundaryEstimator> boundaryEstimators) {
         this.jdbcConnection = jdbcConnection;
         this.connectionChunkQueryBuilder = jdbcConnection.chunkQueryBuilder(config);
-
+        this.boundaryEstimators = boundaryEstimators;
     }
 
     /**
-     * Calculate chunk boundaries for a table.
+     * Calculate chunk boundaries for a table. The boundaries of the first estimator able to estimate them are used,
+     * otherwise each boundary is located by querying the key at the next chunk's offset.
      *
      * @param table The table to chunk
      * @param keyColumns The columns to use for chunking (PK or message.key.columns)
@@ -75,6 +86,15 @@ public List<Object[]> calculateBoundaries(Table table, List<Column> keyColumns,
             return boundaries;
         }
 
+        for (ChunkBoundaryEstimator boundaryEstimator : boundaryEstimators) {
+            final Optional<List<Object[]>> estimatedBoundaries = boundaryEstimator.estimateBoundaries(table, keyColumns, count, numChunks);
+            if (estimatedBoundaries.isPresent()) {
+                LOGGER.debug("Estimated {} boundaries for table {} using {}", estimatedBoundaries.get().size(), tableId,
+                        boundaryEstimator.getClass().getSimpleName());
+                return estimatedBoundaries.get();
+            }
+        }
+
         Object[] previousBoundaryValue = null;
         for (int i = 1; i < numChunks; i++) {
             LOGGER.debug("Querying Boundary at position {} for chunk #{}", i * chunkSize, i);
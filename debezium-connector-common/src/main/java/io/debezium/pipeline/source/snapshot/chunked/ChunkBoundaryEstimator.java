@@ -0,0 +1,36 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.chunked;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+
+/**
+ * Estimates the chunk boundaries of a table without locating each boundary by walking the key index.
+ * <p>
+ * Estimated boundaries must be strictly ascending, but need not match existing key values, as each chunk
+ * selects the key range between two boundaries.
+ *
+ * @see ChunkBoundaryCalculator
+ */
+@FunctionalInterface
+public interface ChunkBoundaryEstimator {
+
+    /**
+     * Estimate the chunk boundaries of a table.
+     *
+     * @param table the table to chunk
+     * @param keyColumns the columns to use for chunking
+     * @param rowCount the estimated row count
+     * @param numChunks the desired number of chunks
+     * @return the boundary value arrays, or empty if this estimator cannot estimate the boundaries of the table
+     */
+    Optional<List<Object[]>> estimateBoundaries(Table table, List<Column> keyColumns, long rowCount, int numChunks) throws SQLException;
+}
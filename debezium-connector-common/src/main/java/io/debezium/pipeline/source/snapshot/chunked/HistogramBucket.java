@@ -0,0 +1,15 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.chunked;
+
+/**
+ * A single bucket of a column histogram, as maintained by the database's optimizer statistics.
+ *
+ * @param upperBound the inclusive upper bound value of the bucket, using the column's JDBC type
+ * @param cumulativeRows the number of rows, or the relative frequency, of this bucket and all buckets before it
+ */
+public record HistogramBucket(Object upperBound, double cumulativeRows) {
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.chunked;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+
+/**
+ * Estimates chunk boundaries of tables with a single-column key from the histogram that the database's optimizer
+ * statistics maintain for the key column. As histogram buckets follow the distribution of the key values, the
+ * estimated chunks hold roughly the same number of rows even when the key values are skewed.
+ *
+ * @see JdbcConnection#readColumnHistogram(io.debezium.relational.TableId, Column)
+ */
+public class HistogramChunkBoundaryEstimator implements ChunkBoundaryEstimator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistogramChunkBoundaryEstimator.class);
+
+    private final JdbcConnection jdbcConnection;
+
+    public HistogramChunkBoundaryEstimator(JdbcConnection jdbcConnection) {
+        this.jdbcConnection = jdbcConnection;
+    }
+
+    @Override
+    public Optional<List<Object[]>> estimateBoundaries(Table table, List<Column> keyColumns, long rowCount, int numChunks) throws SQLException {
+        if (keyColumns.size() != 1) {
+            return Optional.empty();
+        }
+
+        final List<HistogramBucket> buckets = jdbcConnection.readColumnHistogram(table.id(), keyColumns.get(0));
+        // two buckets only hold the minimum and maximum value, which is no histogram
+        if (buckets.size() < 3) {
+            LOGGER.debug("No histogram available for key column '{}' of table {}", keyColumns.get(0).name(), table.id());
+            return Optional.empty();
+        }
+
+        final double totalRows = buckets.get(buckets.size() - 1).cumulativeRows();
+        if (totalRows <= 0) {
+            return Optional.empty();
+        }
+
+        final List<Object[]> boundaries = new ArrayList<>(numChunks - 1);
+        Object previousBoundary = null;
+        int bucket = 0;
+        for (int i = 1; i < numChunks; i++) {
+            final double targetRows = totalRows * i / numChunks;
+            while (bucket < buckets.size() - 1 && buckets.get(bucket).cumulativeRows() < targetRows) {
+                bucket++;
+            }
+            final Object boundary = buckets.get(bucket).upperBound();
+            // several chunks may fall into a single bucket of a frequent value
+            if (boundary != null && !Objects.equals(boundary, previousBoundary)) {
+                boundaries.add(new Object[]{ boundary });
+                previousBoundary = boundary;
+            }
+        }
+
+        LOGGER.debug("Estimated {} boundaries for table {} from a histogram with {} buckets", boundaries.size(), table.id(), buckets.size());
+        return Optional.of(boundaries);
+    }
+}
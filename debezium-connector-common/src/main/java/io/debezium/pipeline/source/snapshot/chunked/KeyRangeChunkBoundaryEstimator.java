@@ -0,0 +1,109 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.chunked;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+
+/**
+ * Estimates chunk boundaries of tables with a single integer key column by splitting the range between the
+ * minimum and maximum key value into equally sized key ranges. The estimated chunks hold roughly the same
+ * number of rows only when the key values are evenly distributed, such as for sequence-generated keys.
+ */
+public class KeyRangeChunkBoundaryEstimator implements ChunkBoundaryEstimator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyRangeChunkBoundaryEstimator.class);
+
+    private final JdbcConnection jdbcConnection;
+
+    public KeyRangeChunkBoundaryEstimator(JdbcConnection jdbcConnection) {
+        this.jdbcConnection = jdbcConnection;
+    }
+
+    @Override
+    public Optional<List<Object[]>> estimateBoundaries(Table table, List<Column> keyColumns, long rowCount, int numChunks) throws SQLException {
+        if (keyColumns.size() != 1 || !isIntegerColumn(keyColumns.get(0))) {
+            return Optional.empty();
+        }
+
+        final String sql = jdbcConnection.buildSelectKeyRange(table.id(), jdbcConnection.quoteIdentifier(keyColumns.get(0).name()));
+        LOGGER.debug("Key range query for table {}: {}", table.id(), sql);
+        final Object[] range = jdbcConnection.queryAndMap(sql, rs -> rs.next() ? new Object[]{ rs.getObject(1), rs.getObject(2) } : null);
+        if (range == null || !(range[0] instanceof Number minimum) || !(range[1] instanceof Number maximum)) {
+            return Optional.empty();
+        }
+
+        final BigInteger lower = toBigInteger(minimum);
+        final BigInteger span = toBigInteger(maximum).subtract(lower);
+        final BigInteger chunks = BigInteger.valueOf(numChunks);
+
+        final List<Object[]> boundaries = new ArrayList<>(numChunks - 1);
+        BigInteger previousBoundary = lower;
+        for (int i = 1; i < numChunks; i++) {
+            final BigInteger boundary = lower.add(span.multiply(BigInteger.valueOf(i)).divide(chunks));
+            // narrow key ranges cannot be split into as many chunks as requested
+            if (boundary.compareTo(previousBoundary) > 0) {
+                boundaries.add(new Object[]{ toKeyValue(boundary, minimum) });
+                previousBoundary = boundary;
+            }
+        }
+
+        LOGGER.debug("Estimated {} boundaries for table {} from key range [{}, {}]", boundaries.size(), table.id(), minimum, maximum);
+        return Optional.of(boundaries);
+    }
+
+    private static boolean isIntegerColumn(Column column) {
+        return switch (column.jdbcType()) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> true;
+            case Types.NUMERIC, Types.DECIMAL -> column.scale().orElse(-1) == 0;
+            default -> false;
+        };
+    }
+
+    private static BigInteger toBigInteger(Number value) {
+        if (value instanceof BigInteger bigInteger) {
+            return bigInteger;
+        }
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal.toBigInteger();
+        }
+        return BigInteger.valueOf(value.longValue());
+    }
+
+    /**
+     * Converts a boundary to the Java type the driver returned for the key column, so it is bound like key values.
+     */
+    private static Object toKeyValue(BigInteger value, Number template) {
+        if (template instanceof Byte) {
+            return value.byteValue();
+        }
+        if (template instanceof Short) {
+            return value.shortValue();
+        }
+        if (template instanceof Integer) {
+            return value.intValue();
+        }
+        if (template instanceof BigInteger) {
+            return value;
+        }
+        if (template instanceof BigDecimal) {
+            return new BigDecimal(value);
+        }
+        return value.longValue();
+    }
+}
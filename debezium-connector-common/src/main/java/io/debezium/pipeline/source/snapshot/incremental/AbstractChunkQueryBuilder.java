@@ -52,6 +52,39 @@ public String buildChunkQuery(IncrementalSnapshotContext<T> context, Table table
 
     @Override
     public String buildChunkQuery(IncrementalSnapshotContext<T> context, Table table, int limit, Optional<String> additionalCondition) {
+        return buildChunkQuery(context, table, limit, buildProjection(table), additionalCondition);
+    }
+
+    @Override
+    public Optional<String> buildChunkKeyQuery(IncrementalSnapshotContext<T> context, Table table, int limit, Optional<String> additionalCondition) {
+        final String projection = getQueryColumns(context, table).stream()
+                .map(c -> jdbcConnection.quoteIdentifier(c.name()))
+                .collect(Collectors.joining(", "));
+        return Optional.of(buildChunkQuery(context, table, limit, projection, additionalCondition));
+    }
+
+    @Override
+    public String buildChunkRangeQuery(IncrementalSnapshotContext<T> context, Table table, Object[] lowerBound, Object[] upperBound,
+                                       Optional<String> additionalCondition) {
+        final List<Column> queryColumns = getQueryColumns(context, table);
+        final StringBuilder sql = new StringBuilder();
+        addLowerBound(queryColumns, lowerBound, sql, false);
+        sql.append(" AND ");
+        addUpperBound(queryColumns, upperBound, sql, true);
+        final String orderBy = getOrderByColumns(context, table).stream()
+                .map(c -> jdbcConnection.quoteIdentifier(c.name()))
+                .collect(Collectors.joining(", "));
+        // the range is bounded by its keys, the limit only satisfies the row-limiting syntax
+        return jdbcConnection.buildSelectWithRowLimits(table.id(),
+                Integer.MAX_VALUE,
+                buildProjection(table),
+                Optional.of(sql.toString()),
+                additionalCondition,
+                orderBy,
+                getTableAlias(table));
+    }
+
+    private String buildChunkQuery(IncrementalSnapshotContext<T> context, Table table, int limit, String projection, Optional<String> additionalCondition) {
         final Optional<Object[]> upperBound = getChunkUpperBound(context);
         final List<Column> queryColumns = getQueryColumns(context, table);
         String condition = null;
@@ -85,7 +118,7 @@ else if (upperBound.isPresent()) {
                 .collect(Collectors.joining(", "));
         return jdbcConnection.buildSelectWithRowLimits(table.id(),
                 limit,
-                buildProjection(table),
+                projection,
                 Optional.ofNullable(condition),
                 additionalCondition,
                 orderBy,
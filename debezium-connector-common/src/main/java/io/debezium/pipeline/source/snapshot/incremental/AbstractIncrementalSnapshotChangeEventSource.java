@@ -24,6 +24,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,6 +40,7 @@
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.data.SpecialValueDecimal;
 import io.debezium.data.ValueWrapper;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.IncrementalSnapshotNotificationService.TableScanCompletionStatus;
@@ -90,6 +95,10 @@
     protected final Map<Struct, Object[]> window = new LinkedHashMap<>();
     protected final NotificationService<P, ? extends OffsetContext> notificationService;
 
+    private final ConnectionFactory<? extends JdbcConnection> chunkReaderConnectionFactory;
+    private final List<JdbcConnection> chunkReaderConnections = new ArrayList<>();
+    private ExecutorService chunkReaderExecutor;
+
     public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
                                                         JdbcConnection jdbcConnection,
                                                         EventDispatcher<P, T> dispatcher,
@@ -98,6 +107,22 @@ public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorC
                                                         SnapshotProgressListener<P> progressListener,
                                                         DataChangeEventListener<P> dataChangeEventListener,
                                                         NotificationService<P, ? extends OffsetContext> notificationService) {
+        this(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService, null);
+    }
+
+    /**
+     * @param chunkReaderConnectionFactory provides the additional connections for reading chunks concurrently within a window,
+     *                                     may be {@code null} to always read a single chunk per window
+     */
+    public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                        JdbcConnection jdbcConnection,
+                                                        EventDispatcher<P, T> dispatcher,
+                                                        DatabaseSchema<?> databaseSchema,
+                                                        Clock clock,
+                                                        SnapshotProgressListener<P> progressListener,
+                                                        DataChangeEventListener<P> dataChangeEventListener,
+                                                        NotificationService<P, ? extends OffsetContext> notificationService,
+                                                        ConnectionFactory<? extends JdbcConnection> chunkReaderConnectionFactory) {
         this.connectorConfig = config;
         this.jdbcConnection = jdbcConnection;
         this.chunkQueryBuilder = jdbcConnection.chunkQueryBuilder(config);
@@ -107,6 +132,7 @@ public AbstractIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorC
         this.progressListener = progressListener;
         this.dataListener = dataChangeEventListener;
         this.notificationService = notificationService;
+        this.chunkReaderConnectionFactory = chunkReaderConnectionFactory;
     }
 
     @Override
@@ -373,6 +399,7 @@ protected void readChunk(P partition, OffsetContext offsetContext) throws Interr
         finally {
             postReadChunk(context);
             if (!context.snapshotRunning()) {
+                closeChunkReaders();
                 postIncrementalSnapshotCompleted();
             }
         }
@@ -416,6 +443,23 @@ private void closeJdbcConnection() {
         catch (SQLException ex) {
             LOGGER.error("Failed to close JDBC connection", ex);
         }
+        closeChunkReaders();
+    }
+
+    private void closeChunkReaders() {
+        if (chunkReaderExecutor != null) {
+            chunkReaderExecutor.shutdownNow();
+            chunkReaderExecutor = null;
+        }
+        for (JdbcConnection connection : chunkReaderConnections) {
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.warn("Failed to close incremental snapshot chunk reader connection", e);
+            }
+        }
+        chunkReaderConnections.clear();
     }
 
     private void warnAndSkip(P partition, OffsetContext offsetContext, TableScanCompletionStatus status, String formattedReason, Throwable t) {
@@ -671,6 +715,189 @@ private List<String> expandAndDedupeDataCollectionIds(List<String> dataCollectio
      * Dispatches the data change events for the records of a single table.
      */
     private boolean createDataEventsForTable(P partition) throws SQLException {
+        if (isChunkRangeReadEnabled()) {
+            final int limit = (int) Math.min((long) connectorConfig.getIncrementalSnapshotChunkSize() * connectorConfig.getIncrementalSnapshotMaxThreads(),
+                    Integer.MAX_VALUE);
+            final Optional<String> keyStatement = chunkQueryBuilder.buildChunkKeyQuery(context, currentTable, limit,
+                    context.currentDataCollectionId().getAdditionalCondition());
+            if (keyStatement.isPresent()) {
+                return createDataEventsForChunkRanges(partition, keyStatement.get());
+            }
+        }
+        return createDataEventsForChunk(partition);
+    }
+
+    /**
+     * Chunks are read concurrently only after the first chunk of a table, as the key ranges are bounded by the key the previous chunk ended at.
+     * Schema changes are verified on the rows of a single chunk, so they rule out concurrent reads.
+     */
+    private boolean isChunkRangeReadEnabled() {
+        return chunkReaderConnectionFactory != null
+                && connectorConfig.getIncrementalSnapshotMaxThreads() > 1
+                && connectorConfig.getIncrementalSnapshotChunkSize() > 0
+                && !connectorConfig.isIncrementalSnapshotSchemaChangesEnabled()
+                && context.isNonInitialChunk();
+    }
+
+    /**
+     * Dispatches the data change events for the records of the next chunks of a single table. The keys of the next chunks are read
+     * up front to split them into key ranges, which are read concurrently. The rows of all ranges are held in the same window, so that
+     * streamed changes are deduplicated against all chunks read while the window is open.
+     */
+    private boolean createDataEventsForChunkRanges(P partition, String keyStatement) throws SQLException {
+        long exportStart = clock.currentTimeInMillis();
+        final List<Object[]> upperBounds = readChunkRangeUpperBounds(keyStatement);
+        if (upperBounds.isEmpty()) {
+            return createDataEventsForChunk(partition);
+        }
+        LOGGER.debug("Exporting {} data chunks concurrently from table '{}' (total {} tables)", upperBounds.size(), currentTable.id(),
+                context.dataCollectionsToBeSnapshottedCount());
+
+        final Table table = currentTable;
+        final Optional<String> additionalCondition = context.currentDataCollectionId().getAdditionalCondition();
+        final List<Column> queryColumns = chunkQueryBuilder.getQueryColumns(context, table);
+        final List<Future<List<Object[]>>> futures = new ArrayList<>(upperBounds.size() - 1);
+        String firstSelectStatement = null;
+        Object[] lowerBound = context.chunkEndPosititon();
+        for (int i = 0; i < upperBounds.size(); i++) {
+            final Object[] rangeLowerBound = lowerBound;
+            final Object[] rangeUpperBound = upperBounds.get(i);
+            final String selectStatement = chunkQueryBuilder.buildChunkRangeQuery(context, table, rangeLowerBound, rangeUpperBound, additionalCondition);
+            LOGGER.debug("\t For table '{}' using select statement: '{}', key range: ({}, {}]", table.id(), selectStatement,
+                    maybeRedactSensitiveData(rangeLowerBound), maybeRedactSensitiveData(rangeUpperBound));
+            if (i == 0) {
+                firstSelectStatement = selectStatement;
+            }
+            else {
+                final JdbcConnection connection = chunkReaderConnection(i - 1);
+                futures.add(chunkReaderExecutor.submit(() -> readChunkRange(connection, table, queryColumns, selectStatement, rangeLowerBound, rangeUpperBound)));
+            }
+            lowerBound = rangeUpperBound;
+        }
+
+        final List<List<Object[]>> rangeRows = new ArrayList<>(upperBounds.size());
+        SQLException failure = null;
+        try {
+            // the first range is read on the connection that emits the watermarks
+            rangeRows.add(readChunkRange(jdbcConnection, table, queryColumns, firstSelectStatement, context.chunkEndPosititon(), upperBounds.get(0)));
+        }
+        catch (SQLException e) {
+            failure = e;
+        }
+        for (Future<List<Object[]>> future : futures) {
+            try {
+                rangeRows.add(future.get());
+            }
+            catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof SQLException sqlException ? sqlException : new SQLException(e.getCause());
+                }
+            }
+            catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new DebeziumException("Interrupted while reading incremental snapshot chunks", e);
+            }
+        }
+        if (failure != null) {
+            LOGGER.error("Snapshotting of table {} failed. Skipping it", table.id(), failure);
+            throw failure;
+        }
+
+        final TableSchema tableSchema = databaseSchema.schemaFor(table.id());
+        long rows = 0;
+        Object[] firstRow = null;
+        Object[] lastRow = null;
+        for (List<Object[]> range : rangeRows) {
+            for (Object[] row : range) {
+                rows++;
+                if (firstRow == null) {
+                    firstRow = row;
+                }
+                window.put(tableSchema.keyFromColumnData(row), row);
+                lastRow = row;
+            }
+        }
+        final Object[] chunkEndPosition = chunkQueryBuilder.resolveChunkEndPosition(context, table, upperBounds.get(upperBounds.size() - 1));
+        if (firstRow == null) {
+            // the rows were removed since their keys were read, while rows past the last range may exist
+            context.nextChunkPosition(chunkEndPosition);
+            return createDataEventsForChunk(partition);
+        }
+        progressListener.currentChunk(partition, context.currentChunkId(), keyFromRow(firstRow), keyFromRow(lastRow));
+        context.nextChunkPosition(chunkEndPosition);
+        LOGGER.debug("\t Next window will resume from {}", (Object) context.chunkEndPosititon());
+
+        LOGGER.debug("\t Finished exporting {} records in {} chunks for window of table '{}'; total duration '{}'", rows, upperBounds.size(),
+                table.id(), Strings.duration(clock.currentTimeInMillis() - exportStart));
+        incrementTableRowsScanned(partition, rows);
+        return true;
+    }
+
+    /**
+     * Reads the keys of the next chunks, returning the last key of each chunk.
+     */
+    private List<Object[]> readChunkRangeUpperBounds(String keyStatement) throws SQLException {
+        final int chunkSize = connectorConfig.getIncrementalSnapshotChunkSize();
+        final List<Object[]> upperBounds = new ArrayList<>();
+        try (PreparedStatement statement = chunkQueryBuilder.readTableChunkStatement(context, currentTable, keyStatement);
+                ResultSet rs = statement.executeQuery()) {
+            final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, currentTable);
+            long rows = 0;
+            Object[] key = null;
+            while (rs.next()) {
+                rows++;
+                key = keyFromRow(jdbcConnection.rowToArray(currentTable, rs, columnArray));
+                if (rows % chunkSize == 0) {
+                    upperBounds.add(key);
+                }
+            }
+            if (rows % chunkSize != 0) {
+                upperBounds.add(key);
+            }
+        }
+        return upperBounds;
+    }
+
+    private List<Object[]> readChunkRange(JdbcConnection connection, Table table, List<Column> queryColumns, String selectStatement,
+                                          Object[] lowerBound, Object[] upperBound)
+            throws SQLException {
+        final List<Object[]> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.readTablePreparedStatement(connectorConfig, selectStatement, OptionalLong.empty())) {
+            final int pos = chunkQueryBuilder.bindBoundaryParams(statement, queryColumns, lowerBound, 1, connection);
+            chunkQueryBuilder.bindBoundaryParams(statement, queryColumns, upperBound, pos, connection);
+            try (ResultSet rs = statement.executeQuery()) {
+                final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
+                while (rs.next()) {
+                    rows.add(connection.rowToArray(table, rs, columnArray));
+                }
+            }
+        }
+        if (connection != jdbcConnection) {
+            connection.commit();
+        }
+        return rows;
+    }
+
+    private JdbcConnection chunkReaderConnection(int index) throws SQLException {
+        if (chunkReaderExecutor == null) {
+            chunkReaderExecutor = Threads.newFixedThreadPool(AbstractIncrementalSnapshotChangeEventSource.class, connectorConfig.getLogicalName(),
+                    "incremental-snapshot-chunk-reader", connectorConfig.getIncrementalSnapshotMaxThreads() - 1);
+        }
+        while (chunkReaderConnections.size() <= index) {
+            chunkReaderConnections.add(chunkReaderConnectionFactory.newConnection());
+        }
+        final JdbcConnection connection = chunkReaderConnections.get(index);
+        if (!connection.isValid()) {
+            connection.connect();
+        }
+        return connection;
+    }
+
+    /**
+     * Dispatches the data change events for the records of the next chunk of a single table.
+     */
+    private boolean createDataEventsForChunk(P partition) throws SQLException {
         long exportStart = clock.currentTimeInMillis();
         LOGGER.debug("Exporting data chunk from table '{}' (total {} tables)", currentTable.id(), context.dataCollectionsToBeSnapshottedCount());
 
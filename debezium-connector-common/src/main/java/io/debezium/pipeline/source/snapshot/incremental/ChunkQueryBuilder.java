@@ -30,6 +30,22 @@
      */
     String buildChunkQuery(IncrementalSnapshotContext<T> context, Table table, int limit, Optional<String> additionalCondition);
 
+    /**
+     * Builds a query for reading only the key columns of the next incremental snapshot chunks from a table using the specified limit.
+     * The query is bound like a chunk query by {@link #readTableChunkStatement(IncrementalSnapshotContext, Table, String)}.
+     * <p>
+     * Default implementation returns empty, meaning that the chunks of the table cannot be split into key ranges read concurrently.
+     */
+    default Optional<String> buildChunkKeyQuery(IncrementalSnapshotContext<T> context, Table table, int limit, Optional<String> additionalCondition) {
+        return Optional.empty();
+    }
+
+    /**
+     * Builds a query for reading all rows of a table with a key greater than {@code lowerBound} and less than or equal to {@code upperBound}.
+     * The boundary parameters of the lower bound precede those of the upper bound.
+     */
+    String buildChunkRangeQuery(IncrementalSnapshotContext<T> context, Table table, Object[] lowerBound, Object[] upperBound, Optional<String> additionalCondition);
+
     /**
      * Appends an optimized inclusive/exclusive lower bound condition for the given columns. It uses boundaryValues to check for NULLs if needed.
      */
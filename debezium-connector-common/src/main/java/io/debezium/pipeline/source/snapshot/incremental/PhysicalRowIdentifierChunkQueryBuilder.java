@@ -164,6 +164,17 @@ public String buildChunkQuery(IncrementalSnapshotContext<T> context, Table table
         return super.buildChunkQuery(context, table, limit, additionalCondition);
     }
 
+    /**
+     * Chunks bounded by a prefetched physical-identifier boundary cannot be split into key ranges.
+     */
+    @Override
+    public Optional<String> buildChunkKeyQuery(IncrementalSnapshotContext<T> context, Table table, int limit, Optional<String> additionalCondition) {
+        if (usesPhysicalIdentifier(context)) {
+            return Optional.empty();
+        }
+        return super.buildChunkKeyQuery(context, table, limit, additionalCondition);
+    }
+
     /**
      * Returns the prefetched physical-identifier boundary, falling back to the table maximum on the last chunk.
      */
@@ -18,6 +18,7 @@
 
 import io.debezium.annotation.NotThreadSafe;
 import io.debezium.config.CommonConnectorConfig;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
@@ -51,6 +52,18 @@ public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnect
         super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService);
     }
 
+    public SignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig config,
+                                                           JdbcConnection jdbcConnection,
+                                                           EventDispatcher<P, T> dispatcher, DatabaseSchema<?> databaseSchema,
+                                                           Clock clock,
+                                                           SnapshotProgressListener<P> progressListener,
+                                                           DataChangeEventListener<P> dataChangeEventListener,
+                                                           NotificationService<P, ? extends OffsetContext> notificationService,
+                                                           ConnectionFactory<? extends JdbcConnection> chunkReaderConnectionFactory) {
+        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService,
+                chunkReaderConnectionFactory);
+    }
+
     /**
      * Get the appropriate signal table name for the given partition.
      * For multi-database connectors with multiple signal tables, this method matches the signal table
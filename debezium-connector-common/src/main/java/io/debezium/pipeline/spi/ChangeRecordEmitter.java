@@ -47,6 +47,17 @@ default boolean ignoreRecord() {
         return false;
     }
 
+    /**
+     * Detaches this emitter from the offset state that the dispatching thread keeps updating for subsequent changes,
+     * so that the change record(s) can be emitted later on a different thread.
+     *
+     * @return {@code true} if the emitter was detached, {@code false} if it must emit its change record(s) on the
+     *         dispatching thread
+     */
+    default boolean detach() {
+        return false;
+    }
+
     /**
      * Callback passed to {@link ChangeRecordEmitter}s, allowing them to produce one
      * or more change records.
@@ -58,6 +58,15 @@ public Map<String, Object> store(Map<String, Object> offset) {
         return offset;
     }
 
+    /**
+     * Removes the transaction state written by {@link #store(Map)} from the given offset.
+     */
+    public static Map<String, Object> remove(Map<String, Object> offset) {
+        offset.remove(OFFSET_TRANSACTION_ID);
+        offset.keySet().removeIf(key -> key.startsWith(OFFSET_TABLE_COUNT_PREFIX));
+        return offset;
+    }
+
     /**
      * Instance method to allow for overriding by custom transaction contexts.
      * @param offsets Offsets to load
@@ -37,6 +37,13 @@ public RelationalChangeRecordEmitter(P partition, OffsetContext offsetContext, C
         super(partition, offsetContext, clock, connectorConfig);
     }
 
+    @Override
+    public boolean detach() {
+        // the change records are built from the captured column values and the source info only
+        detachOffset();
+        return true;
+    }
+
     @Override
     public void emitChangeRecords(DataCollectionSchema schema, Receiver<P> receiver) throws InterruptedException {
         TableSchema tableSchema = (TableSchema) schema;
@@ -611,7 +611,15 @@ private void createChunkedDataEvents(ChangeEventSourceContext sourceContext, Rel
 
             final List<SnapshotChunk> tableChunks;
             final List<Column> keyColumns = getKeyColumnsForChunking(table);
-            if (keyColumns.isEmpty()) {
+            final int multiplier = connectorConfig.getSnapshotMaxThreadsTableMultiplierAsInteger(tableId);
+            final int numChunks = calculateChunkCount(rowCount, snapshotMaxThreads, multiplier);
+            final List<SnapshotChunk> physicalChunks = snapshotSelect.selectOverride() ? List.of()
+                    : createPhysicalChunks(table, snapshotSelect.statement(), rowCount, numChunks, tableOrder, tableCount);
+            if (!physicalChunks.isEmpty()) {
+                tableChunks = physicalChunks;
+                LOGGER.info("Table '{}' will be processed in {} chunks of its physical storage.", tableId, tableChunks.size());
+            }
+            else if (keyColumns.isEmpty()) {
                 // Keyless table - single chunk
                 LOGGER.info("Table '{}' has no key columns, using single chunk.", tableId);
                 tableChunks = List.of(new SnapshotChunk(tableId, table, null, null, 0, 1, tableOrder, tableCount, snapshotSelect.statement(), rowCount));
@@ -623,9 +631,7 @@ else if (snapshotSelect.selectOverride()) {
                 tableChunks = List.of(new SnapshotChunk(tableId, table, null, null, 0, 1, tableOrder, tableCount, snapshotSelect.statement(), rowCount));
             }
             else {
-                // Calculate chunk count and boundaries
-                final int multiplier = connectorConfig.getSnapshotMaxThreadsTableMultiplierAsInteger(tableId);
-                final int numChunks = calculateChunkCount(rowCount, snapshotMaxThreads, multiplier);
+                // Calculate chunk boundaries
                 LOGGER.info("Table '{}' calculating chunk boundaries using multiplier {} with {} chunks.", tableId, multiplier, numChunks);
                 final List<Object[]> boundaries = boundaryCalculator.calculateBoundaries(table, keyColumns, rowCount, numChunks);
                 final Object[] maximumKey = boundaryCalculator.calculateMaxKey(table, keyColumns);
@@ -774,6 +780,25 @@ protected List<Column> getKeyColumnsForChunking(Table table) {
         return table.primaryKeyColumns();
     }
 
+    /**
+     * Splits a table into chunks of its physical storage rather than into ranges of its key columns, which also
+     * allows tables without key to be read in parallel. The chunks have no key boundaries, so the select statement
+     * of each chunk is executed as is.
+     *
+     * @param table the table to split
+     * @param selectStatement the select statement of the table, without select override
+     * @param rowCount the number of rows of the table
+     * @param numChunks the desired number of chunks
+     * @param tableOrder the order of the table in the snapshot
+     * @param tableCount the number of tables in the snapshot
+     * @return the chunks of the table, or an empty list to split the table by its key columns
+     */
+    protected List<SnapshotChunk> createPhysicalChunks(Table table, String selectStatement, OptionalLong rowCount, int numChunks,
+                                                       int tableOrder, int tableCount)
+            throws SQLException {
+        return List.of();
+    }
+
     protected int calculateChunkCount(OptionalLong rowCount, int maxThreads, int multiplier) {
         if (rowCount.isEmpty() || rowCount.getAsLong() == 0) {
             return 1;
@@ -127,6 +127,14 @@ protected void recoverRecords(Consumer<HistoryRecord> records) {
         lock.write(() -> getRecords().forEach(records));
     }
 
+    @Override
+    protected HistoryRecord readLastRecord() {
+        return lock.write(() -> {
+            final List<HistoryRecord> records = getRecords();
+            return records.isEmpty() ? null : records.get(records.size() - 1);
+        });
+    }
+
     @Override
     public boolean exists() {
         return !getRecords().isEmpty();
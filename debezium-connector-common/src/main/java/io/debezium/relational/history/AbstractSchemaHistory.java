@@ -8,6 +8,7 @@
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -48,6 +49,8 @@ public abstract class AbstractSchemaHistory implements SchemaHistory {
     private boolean useCatalogBeforeSchema;
     private boolean preferDdl = false;
     private final TableChangesSerializer<Array> tableChangesSerializer = new JsonTableChangeSerializer();
+    private volatile HistoryRecord lastRecord;
+    private volatile boolean lastRecordKnown;
 
     protected AbstractSchemaHistory() {
     }
@@ -83,6 +86,7 @@ public final void record(Map<String, ?> source, Map<String, ?> position, String
             throws SchemaHistoryException {
         final HistoryRecord record = new HistoryRecord(source, position, databaseName, schemaName, ddl, changes, timestamp);
         storeRecord(record);
+        setLastRecord(record);
         listener.onChangeApplied(record);
     }
 
@@ -98,7 +102,9 @@ public void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema,
             stopPoints.put(srcDocument, new HistoryRecord(source, position, null, null, null, null, null));
         });
 
+        final AtomicReference<HistoryRecord> last = new AtomicReference<>();
         recoverRecords(recovered -> {
+            last.set(recovered);
             listener.onChangeFromHistory(recovered);
             Document srcDocument = recovered.document().getDocument(HistoryRecord.Fields.SOURCE);
             if (stopPoints.containsKey(srcDocument) && comparator.isAtOrBefore(recovered, stopPoints.get(srcDocument))) {
@@ -155,9 +161,39 @@ else if (ddl != null && ddlParser != null) {
                 logger.debug("Skipping: {}", recovered.ddl());
             }
         });
+        setLastRecord(last.get());
         listener.recoveryStopped();
     }
 
+    /**
+     * Returns the most recent record that was stored or recovered. The history is only read if neither has happened
+     * yet, so that the record is read at most once.
+     */
+    @Override
+    public HistoryRecord lastRecord() throws InterruptedException {
+        if (!lastRecordKnown) {
+            setLastRecord(readLastRecord());
+        }
+        return lastRecord;
+    }
+
+    /**
+     * Reads the most recent record from the storage. Implementations that can access the end of the storage
+     * directly should override this method, as by default all records are read.
+     *
+     * @return the most recent record, or {@code null} if the storage has no records
+     */
+    protected HistoryRecord readLastRecord() throws InterruptedException {
+        final AtomicReference<HistoryRecord> last = new AtomicReference<>();
+        recoverRecords(last::set);
+        return last.get();
+    }
+
+    private void setLastRecord(HistoryRecord record) {
+        lastRecord = record;
+        lastRecordKnown = true;
+    }
+
     protected abstract void storeRecord(HistoryRecord record) throws SchemaHistoryException;
 
     protected abstract void recoverRecords(Consumer<HistoryRecord> records) throws InterruptedException;
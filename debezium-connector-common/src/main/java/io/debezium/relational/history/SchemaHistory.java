@@ -223,6 +223,16 @@ default void recover(Offsets<?, ?> offsets, Tables schema, DdlParser ddlParser)
     @Deprecated
     void recover(Map<Map<String, ?>, Map<String, ?>> offsets, Tables schema, DdlParser ddlParser) throws InterruptedException;
 
+    /**
+     * Reads the most recent record of the history, for validating state that was derived from the history
+     * against it without recovering the database schema.
+     *
+     * @return the most recent record, or {@code null} if the history has no records or cannot provide them
+     */
+    default HistoryRecord lastRecord() throws InterruptedException {
+        return null;
+    }
+
     /**
      * Stop recording history and release any resources acquired since {@link #configure(Configuration, HistoryRecordComparator, SchemaHistoryListener, boolean)}.
      */
@@ -108,6 +108,60 @@ void shouldQueueAndPollMessages(int noOfWriters, int noOfReaders, int noOfEvents
         }
     }
 
+    @ParameterizedTest(name = "{index}: testQueue({0} writers, {1} readers, {2} events)")
+    @MethodSource("data")
+    void shouldQueueAndPollMessagesWithRingBufferQueueProvider(int noOfWriters, int noOfReaders, int noOfEventsPerWriter) throws InterruptedException {
+        long totalNoOfEvents = (long) noOfWriters * noOfEventsPerWriter;
+        Thread[] writers = new Thread[noOfWriters];
+        Thread[] readers = new Thread[noOfReaders];
+        AtomicLong recordsRead = new AtomicLong();
+
+        ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .maxBatchSize(8192)
+                .maxQueueSize(8192 * 2)
+                .queueProvider(createRingBufferQueueProvider(8192 * 2))
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .pollInterval(Duration.ofMillis(500))
+                .pollDispatchInterval(Duration.ofMillis(0))
+                .maxQueueSizeInBytes(EVENT.objectSize() * 8192)
+                .build();
+
+        for (int i = 0; i < noOfWriters; i++) {
+            writers[i] = getWriter(queue, noOfEventsPerWriter);
+        }
+        for (int i = 0; i < noOfReaders; i++) {
+            readers[i] = getReader(queue, totalNoOfEvents, recordsRead);
+        }
+
+        try {
+            for (Thread thread : writers) {
+                thread.start();
+            }
+            for (Thread thread : readers) {
+                thread.start();
+            }
+
+            long maxWaitTimeout = TimeUnit.SECONDS.toMillis(10);
+
+            for (Thread writer : writers) {
+                writer.join(maxWaitTimeout);
+            }
+            for (Thread reader : readers) {
+                reader.join(maxWaitTimeout);
+            }
+            assertEquals(totalNoOfEvents, recordsRead.get(), ASSERTION_MESSAGE.formatted(totalNoOfEvents, recordsRead.get()));
+            assertEquals(0, queue.currentQueueSizeInBytes());
+        }
+        finally {
+            for (Thread thread : writers) {
+                thread.interrupt();
+            }
+            for (Thread thread : readers) {
+                thread.interrupt();
+            }
+        }
+    }
+
     @ParameterizedTest(name = "{index}: testQueue({0} writers, {1} readers, {2} events)")
     @MethodSource("pollWithDispatchData")
     void shouldPollMessagesAfterDispatchTimeout(int noOfWriters, int noOfReaders, int noOfEventsPerWriter) throws InterruptedException {
@@ -328,6 +382,12 @@ private static DefaultQueueProvider<DataChangeEvent> createDefaultQueueProvider(
         return provider;
     }
 
+    private static RingBufferQueueProvider<DataChangeEvent> createRingBufferQueueProvider(int maxQueueSize) {
+        RingBufferQueueProvider<DataChangeEvent> provider = new RingBufferQueueProvider<>();
+        provider.configure(java.util.Map.of("max.queue.size", String.valueOf(maxQueueSize)));
+        return provider;
+    }
+
     private static DataChangeEvent getDataChangeEvent() {
         Schema valueSchema = SchemaBuilder.struct().field("cdc", Schema.STRING_SCHEMA).build();
         return new DataChangeEvent(new SourceRecord(java.util.Collections.emptyMap(), java.util.Collections.emptyMap(), "dummy",
@@ -0,0 +1,191 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.spi.Partition;
+import io.debezium.schema.DataCollectionSchema;
+
+/**
+ * Unit tests for the {@link ChangeEventConversionPipeline}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ChangeEventConversionPipelineTest {
+
+    @Mock
+    private CommonConnectorConfig config;
+
+    private ChangeEventConversionPipeline<Partition> pipeline;
+
+    @BeforeEach
+    public void beforeEach() {
+        when(config.getLogicalName()).thenReturn("test");
+        when(config.getStreamingConversionThreads()).thenReturn(4);
+        when(config.getMaxBatchSize()).thenReturn(16);
+        pipeline = new ChangeEventConversionPipeline<>(config);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        pipeline.close();
+    }
+
+    @Test
+    public void shouldCompleteConvertedEventsInSubmissionOrder() throws InterruptedException {
+        final List<Object> completed = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            pipeline.submit(new TestEmitter(i, true), null, event -> event.emitTo(new RecordingReceiver(completed)));
+        }
+        pipeline.flush();
+
+        assertThat(completed).hasSize(500);
+        for (int i = 0; i < 500; i++) {
+            assertThat(completed.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void shouldCompleteEventsOnDispatchingThreadWhenExceedingCapacity() throws InterruptedException {
+        final List<Object> completed = new CopyOnWriteArrayList<>();
+        final Set<Thread> completingThreads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 500; i++) {
+            pipeline.submit(new TestEmitter(i, true), null, event -> {
+                completingThreads.add(Thread.currentThread());
+                event.emitTo(new RecordingReceiver(completed));
+            });
+        }
+        pipeline.flush();
+
+        assertThat(completed).hasSize(500);
+        assertThat(completingThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    public void shouldCompleteConvertedEventsWithoutFlush() throws InterruptedException {
+        final List<Object> completed = new CopyOnWriteArrayList<>();
+        final Set<Thread> completingThreads = ConcurrentHashMap.newKeySet();
+        pipeline.submit(new TestEmitter(1, false), null, event -> {
+            completingThreads.add(Thread.currentThread());
+            event.emitTo(new RecordingReceiver(completed));
+        });
+
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (completed.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            pipeline.completeConverted();
+        }
+        assertThat(completed).containsExactly(1);
+        assertThat(completingThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    public void shouldPassConversionFailureToCompletion() throws InterruptedException {
+        final List<Object> failures = new CopyOnWriteArrayList<>();
+        pipeline.submit(new TestEmitter(null, false), null, event -> {
+            try {
+                event.emitTo(new RecordingReceiver(new CopyOnWriteArrayList<>()));
+            }
+            catch (IllegalStateException e) {
+                failures.add(e.getMessage());
+            }
+        });
+        pipeline.flush();
+
+        assertThat(failures).containsExactly("Failed to convert");
+    }
+
+    @Test
+    public void shouldRethrowCompletionFailureOnDispatchingThread() throws InterruptedException {
+        pipeline.submit(new TestEmitter(1, false), null, event -> {
+            throw new IllegalArgumentException("Failed to complete");
+        });
+
+        assertThatThrownBy(() -> pipeline.flush())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Failed to complete");
+
+        // the failed event is not completed again, the events submitted afterwards still are
+        final List<Object> completed = new CopyOnWriteArrayList<>();
+        pipeline.submit(new TestEmitter(2, false), null, event -> event.emitTo(new RecordingReceiver(completed)));
+        pipeline.flush();
+        assertThat(completed).containsExactly(2);
+    }
+
+    private static class TestEmitter implements ChangeRecordEmitter<Partition> {
+
+        private final Integer key;
+        private final boolean delay;
+
+        TestEmitter(Integer key, boolean delay) {
+            this.key = key;
+            this.delay = delay;
+        }
+
+        @Override
+        public void emitChangeRecords(DataCollectionSchema schema, Receiver<Partition> receiver) throws InterruptedException {
+            if (key == null) {
+                throw new IllegalStateException("Failed to convert");
+            }
+            if (delay) {
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(100_000));
+            }
+            receiver.changeRecord(null, schema, Operation.CREATE, key, null, null, null);
+        }
+
+        @Override
+        public Partition getPartition() {
+            return null;
+        }
+
+        @Override
+        public OffsetContext getOffset() {
+            return null;
+        }
+
+        @Override
+        public Operation getOperation() {
+            return Operation.CREATE;
+        }
+    }
+
+    private static class RecordingReceiver implements ChangeRecordEmitter.Receiver<Partition> {
+
+        private final List<Object> keys;
+
+        RecordingReceiver(List<Object> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public void changeRecord(Partition partition, DataCollectionSchema schema, Operation operation, Object key, Struct value,
+                                 OffsetContext offset, ConnectHeaders headers) {
+            keys.add(key);
+        }
+    }
+}
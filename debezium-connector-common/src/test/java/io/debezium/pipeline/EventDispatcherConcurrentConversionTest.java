@@ -0,0 +1,229 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.config.CommonConnectorConfig.EventProcessingFailureHandlingMode;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.data.Envelope;
+import io.debezium.data.Envelope.Operation;
+import io.debezium.heartbeat.Heartbeat.ScheduledHeartbeat;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.spi.Partition;
+import io.debezium.pipeline.txmetadata.TransactionMonitor;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.schema.DataCollectionFilters.DataCollectionFilter;
+import io.debezium.schema.DataCollectionSchema;
+import io.debezium.schema.DatabaseSchema;
+import io.debezium.schema.SchemaNameAdjuster;
+import io.debezium.service.spi.ServiceRegistry;
+import io.debezium.spi.schema.DataCollectionId;
+import io.debezium.spi.topic.TopicNamingStrategy;
+
+/**
+ * Verifies that the {@link EventDispatcher} emits the change records of concurrently converted change events, and the
+ * heartbeats, on the dispatching thread and in source order.
+ */
+public class EventDispatcherConcurrentConversionTest {
+
+    private static final int EVENTS = 500;
+
+    private final List<Long> enqueuedRecords = new ArrayList<>();
+    private final Set<Thread> emittingThreads = ConcurrentHashMap.newKeySet();
+    private final RecordingHeartbeat heartbeat = new RecordingHeartbeat();
+    private final Partition partition = mock(Partition.class);
+    private final DataCollectionId dataCollectionId = mock(DataCollectionId.class);
+    private final Struct value = mock(Struct.class);
+
+    private RelationalDatabaseConnectorConfig config;
+    private EventDispatcher<Partition, DataCollectionId> dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void beforeEach() throws Exception {
+        config = mock(RelationalDatabaseConnectorConfig.class);
+        when(config.getLogicalName()).thenReturn("test");
+        when(config.getStreamingConversionThreads()).thenReturn(4);
+        when(config.getMaxBatchSize()).thenReturn(16);
+        when(config.getEventProcessingFailureHandlingMode()).thenReturn(EventProcessingFailureHandlingMode.FAIL);
+        when(config.getSkippedOperations()).thenReturn(EnumSet.noneOf(Operation.class));
+        when(config.getServiceRegistry()).thenReturn(mock(ServiceRegistry.class));
+        final SourceInfoStructMaker<?> sourceInfoStructMaker = mock(SourceInfoStructMaker.class);
+        when(sourceInfoStructMaker.schema()).thenReturn(SchemaBuilder.struct().build());
+        doAnswer(invocation -> sourceInfoStructMaker).when(config).getSourceInfoStructMaker();
+
+        final DataCollectionSchema dataCollectionSchema = mock(DataCollectionSchema.class);
+        when(dataCollectionSchema.getEnvelopeSchema()).thenReturn(mock(Envelope.class));
+        final DatabaseSchema<DataCollectionId> schema = mock(DatabaseSchema.class);
+        when(schema.schemaFor(any())).thenReturn(dataCollectionSchema);
+        final DataCollectionFilter<DataCollectionId> filter = mock(DataCollectionFilter.class);
+        when(filter.isIncluded(any())).thenReturn(true);
+
+        final ChangeEventQueue<DataChangeEvent> queue = mock(ChangeEventQueue.class);
+        doAnswer(invocation -> {
+            emittingThreads.add(Thread.currentThread());
+            enqueuedRecords.add((Long) invocation.<DataChangeEvent> getArgument(0).getRecord().sourceOffset().get("seq"));
+            return null;
+        }).when(queue).enqueue(any());
+
+        dispatcher = new EventDispatcher<>(config, mock(TopicNamingStrategy.class), schema, queue, filter, DataChangeEvent::new, null, heartbeat,
+                SchemaNameAdjuster.NO_OP, mock(TransactionMonitor.class), null, null);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        dispatcher.close();
+    }
+
+    @Test
+    public void shouldEmitRecordsAndHeartbeatsOnDispatchingThreadInSourceOrder() throws InterruptedException {
+        for (int i = 0; i < EVENTS; i++) {
+            assertThat(dispatcher.dispatchDataChangeEvent(partition, dataCollectionId, new TestEmitter(i, false))).isTrue();
+            if (i % 10 == 0) {
+                // the streaming thread dispatches heartbeats between change events, while events are still being converted
+                heartbeat.expired = i % 50 == 0;
+                dispatcher.dispatchHeartbeatEvent(partition, offset(i));
+            }
+        }
+        heartbeat.expired = true;
+        dispatcher.dispatchHeartbeatEvent(partition, offset(EVENTS - 1));
+
+        assertThat(enqueuedRecords).hasSize(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            assertThat(enqueuedRecords.get(i)).isEqualTo(i);
+        }
+        assertThat(emittingThreads).containsExactly(Thread.currentThread());
+
+        // a heartbeat never carries an offset that is ahead of a change record that was not yet enqueued
+        assertThat(heartbeat.emitted).hasSizeGreaterThan(EVENTS / 50);
+        for (long[] emitted : heartbeat.emitted) {
+            assertThat(emitted[1]).isGreaterThan(emitted[0]);
+        }
+    }
+
+    @Test
+    public void shouldFailOnDispatchingThreadWhenConcurrentConversionFails() throws InterruptedException {
+        dispatcher.dispatchDataChangeEvent(partition, dataCollectionId, new TestEmitter(0, true));
+
+        assertThatThrownBy(() -> {
+            for (int i = 1; i < EVENTS; i++) {
+                dispatcher.dispatchDataChangeEvent(partition, dataCollectionId, new TestEmitter(i, false));
+            }
+            dispatcher.alwaysDispatchHeartbeatEvent(partition, offset(EVENTS - 1));
+        }).isInstanceOf(ConnectException.class);
+        assertThat(enqueuedRecords).isEmpty();
+    }
+
+    @Test
+    public void shouldReportEventNotDispatchedWhenSkippedOnFailure() throws InterruptedException {
+        when(config.getEventProcessingFailureHandlingMode()).thenReturn(EventProcessingFailureHandlingMode.WARN);
+
+        assertThat(dispatcher.dispatchDataChangeEvent(partition, dataCollectionId, new TestEmitter(0, false))).isTrue();
+        assertThat(dispatcher.dispatchDataChangeEvent(partition, dataCollectionId, new TestEmitter(1, true))).isFalse();
+        assertThat(dispatcher.dispatchDataChangeEvent(partition, dataCollectionId, new TestEmitter(2, false))).isTrue();
+
+        assertThat(enqueuedRecords).containsExactly(0L, 2L);
+    }
+
+    private static OffsetContext offset(long seq) {
+        final OffsetContext offset = mock(OffsetContext.class);
+        when(offset.getOffset()).thenAnswer(invocation -> Map.of("seq", seq));
+        return offset;
+    }
+
+    /**
+     * Records the offsets of the emitted heartbeats, with the number of change records enqueued before each of them.
+     */
+    private class RecordingHeartbeat implements ScheduledHeartbeat {
+
+        private final List<long[]> emitted = new ArrayList<>();
+        private volatile boolean expired;
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean expired() {
+            return expired;
+        }
+
+        @Override
+        public void emitWithDelay(Map<String, ?> partition, OffsetContext offset) {
+            emittingThreads.add(Thread.currentThread());
+            if (expired) {
+                emitted.add(new long[]{ (Long) offset.getOffset().get("seq"), enqueuedRecords.size() });
+            }
+        }
+    }
+
+    private class TestEmitter implements ChangeRecordEmitter<Partition> {
+
+        private final long seq;
+        private final boolean fail;
+        private final OffsetContext offset;
+
+        TestEmitter(long seq, boolean fail) {
+            this.seq = seq;
+            this.fail = fail;
+            this.offset = offset(seq);
+        }
+
+        @Override
+        public boolean detach() {
+            return true;
+        }
+
+        @Override
+        public void emitChangeRecords(DataCollectionSchema schema, Receiver<Partition> receiver) throws InterruptedException {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(200_000));
+            if (fail) {
+                throw new IllegalStateException("Failed to convert");
+            }
+            receiver.changeRecord(partition, schema, Operation.CREATE, seq, value, offset, null);
+        }
+
+        @Override
+        public Partition getPartition() {
+            return partition;
+        }
+
+        @Override
+        public OffsetContext getOffset() {
+            return offset;
+        }
+
+        @Override
+        public Operation getOperation() {
+            return Operation.CREATE;
+        }
+    }
+}
@@ -6,9 +6,15 @@
 package io.debezium.pipeline.source.snapshot.chunked;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,7 +35,7 @@
 import io.debezium.spi.schema.DataCollectionId;
 
 /**
- * Unit tests for {@link ChunkBoundaryCalculator#buildNextBoundaryQuery}.
+ * Unit tests for {@link ChunkBoundaryCalculator#buildNextBoundaryQuery} and the {@link ChunkBoundaryEstimator} implementations.
  * <p>
  * The first chunk boundary query has no lower-bound condition; every subsequent boundary query includes a
  * lower-bound condition whose shape depends on the {@link ChunkQueryBuilder} provided by the underlying
@@ -189,4 +195,77 @@ public void subsequentChunkThreePkRowValueConstructorBuilder() {
                         "ROW(\"pk1\", \"pk2\", \"pk3\") >= ROW(?, ?, ?) " +
                         "ORDER BY \"pk1\", \"pk2\", \"pk3\" OFFSET 1000 ROWS FETCH NEXT 1 ROWS ONLY");
     }
+
+    @Test
+    public void estimatedBoundariesFollowHistogram() throws Exception {
+        final Table table = singlePkTable();
+        final JdbcConnection connection = new JdbcConnection(config().getJdbcConfig(), c -> null, "\"", "\"") {
+            @Override
+            public List<HistogramBucket> readColumnHistogram(TableId tableId, Column column) {
+                // skewed distribution, half of the rows have keys up to 10
+                return List.of(new HistogramBucket(1L, 0), new HistogramBucket(10L, 50), new HistogramBucket(20L, 75),
+                        new HistogramBucket(1000L, 100));
+            }
+        };
+        final ChunkBoundaryCalculator calculator = new ChunkBoundaryCalculator(connection, config(),
+                List.of(new HistogramChunkBoundaryEstimator(connection)));
+
+        final List<Object[]> boundaries = calculator.calculateBoundaries(table, table.primaryKeyColumns(), OptionalLong.of(100), 4);
+        // the second chunk falls into the same bucket as the first one
+        assertThat(boundaries).containsExactly(new Object[]{ 10L }, new Object[]{ 20L });
+    }
+
+    @Test
+    public void estimatedBoundariesSkipRepeatedHistogramBounds() throws Exception {
+        final Table table = singlePkTable();
+        final JdbcConnection connection = new JdbcConnection(config().getJdbcConfig(), c -> null, "\"", "\"") {
+            @Override
+            public List<HistogramBucket> readColumnHistogram(TableId tableId, Column column) {
+                // a single frequent value holds most of the rows
+                return List.of(new HistogramBucket(1L, 5), new HistogramBucket(2L, 90), new HistogramBucket(3L, 100));
+            }
+        };
+
+        final Optional<List<Object[]>> boundaries = new HistogramChunkBoundaryEstimator(connection)
+                .estimateBoundaries(table, table.primaryKeyColumns(), 100, 4);
+        assertThat(boundaries).isPresent();
+        assertThat(boundaries.get()).containsExactly(new Object[]{ 2L });
+    }
+
+    @Test
+    public void estimatedBoundariesRequireHistogram() throws Exception {
+        final Table table = singlePkTable();
+        assertThat(new HistogramChunkBoundaryEstimator(defaultConnection())
+                .estimateBoundaries(table, table.primaryKeyColumns(), 100, 4)).isEmpty();
+        assertThat(new HistogramChunkBoundaryEstimator(defaultConnection())
+                .estimateBoundaries(threePkTable(), threePkTable().primaryKeyColumns(), 100, 4)).isEmpty();
+    }
+
+    @Test
+    public void estimatedBoundariesSplitIntegerKeyRange() throws Exception {
+        final Column pk = Column.editor().name("pk1").jdbcType(Types.INTEGER).optional(false).create();
+        final Table table = Table.editor().tableId(new TableId(null, "s1", "table1")).addColumn(pk).setPrimaryKeyNames("pk1").create();
+        final JdbcConnection connection = new JdbcConnection(config().getJdbcConfig(), c -> null, "\"", "\"") {
+            @Override
+            public <T> T queryAndMap(String query, ResultSetMapper<T> mapper) throws SQLException {
+                assertThat(query).isEqualTo("SELECT MIN(\"pk1\"), MAX(\"pk1\") FROM \"s1\".\"table1\"");
+                final ResultSet rs = mock(ResultSet.class);
+                when(rs.next()).thenReturn(true);
+                when(rs.getObject(1)).thenReturn(100);
+                when(rs.getObject(2)).thenReturn(500);
+                return mapper.apply(rs);
+            }
+        };
+
+        final Optional<List<Object[]>> boundaries = new KeyRangeChunkBoundaryEstimator(connection)
+                .estimateBoundaries(table, table.primaryKeyColumns(), 1000, 4);
+        assertThat(boundaries).isPresent();
+        assertThat(boundaries.get()).containsExactly(new Object[]{ 200 }, new Object[]{ 300 }, new Object[]{ 400 });
+
+        // keys that are not integers have no evenly divisible range
+        final Column textPk = Column.editor().name("pk1").jdbcType(Types.VARCHAR).optional(false).create();
+        final Table textTable = Table.editor().tableId(new TableId(null, "s1", "table1")).addColumn(textPk).setPrimaryKeyNames("pk1").create();
+        assertThat(new KeyRangeChunkBoundaryEstimator(connection)
+                .estimateBoundaries(textTable, textTable.primaryKeyColumns(), 1000, 4)).isEmpty();
+    }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.source.snapshot.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.config.EnumeratedValue;
+import io.debezium.connector.SourceInfoStructMaker;
+import io.debezium.jdbc.ConnectionFactory;
+import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.notification.IncrementalSnapshotNotificationService.TableScanCompletionStatus;
+import io.debezium.pipeline.notification.NotificationService;
+import io.debezium.pipeline.source.spi.SnapshotProgressListener;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.spi.Partition;
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnFilterMode;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalDatabaseSchema;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.util.Clock;
+
+/**
+ * Verifies that {@link AbstractIncrementalSnapshotChangeEventSource} reads the chunks of a window concurrently when
+ * {@code incremental.snapshot.max.threads} is greater than one, and deduplicates streamed events against all of them.
+ * <p>
+ * The table holds rows with the keys 1 to 8, the first chunk up to key 2 was already read, and the chunk size is 2,
+ * so the next window reads the key ranges (2, 4], (4, 6] and (6, 8], one on the watermarking connection and the other
+ * two on chunk reader connections.
+ */
+public class ConcurrentChunkReadTest {
+
+    interface TestPartition extends Partition {
+    }
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+
+    private final Map<ResultSet, Object[]> currentRows = new ConcurrentHashMap<>();
+    private final Set<String> rangeReaderThreads = ConcurrentHashMap.newKeySet();
+    private final List<Object[]> sentRows = new ArrayList<>();
+
+    private JdbcConnection jdbcConnection;
+    private List<JdbcConnection> chunkReaderConnections;
+    private ChunkQueryBuilder<TableId> chunkQueryBuilder;
+    private OffsetContext offsetContext;
+    private SignalBasedIncrementalSnapshotContext<TableId> context;
+    private NotificationService<TestPartition, OffsetContext> notificationService;
+    private CyclicBarrier rangeReads;
+    private int failingChunkReader = -1;
+    private SignalBasedIncrementalSnapshotChangeEventSource<TestPartition, TableId> source;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        final Column idColumn = Column.editor().name("id").position(1).jdbcType(Types.INTEGER).type("INT").optional(false).create();
+        final Table table = Table.editor()
+                .tableId(new TableId(null, "public", "a"))
+                .addColumn(idColumn)
+                .addColumn(Column.editor().name("name").position(2).jdbcType(Types.VARCHAR).type("VARCHAR").create())
+                .setPrimaryKeyNames("id")
+                .create();
+
+        // all three key ranges must be read at the same time to pass the barrier
+        rangeReads = new CyclicBarrier(3);
+
+        chunkQueryBuilder = mock(ChunkQueryBuilder.class);
+        when(chunkQueryBuilder.prepareTable(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(chunkQueryBuilder.getQueryColumns(any(), any())).thenReturn(List.of(idColumn));
+        when(chunkQueryBuilder.buildChunkKeyQuery(any(), any(), anyInt(), any())).thenReturn(Optional.of("SELECT KEYS"));
+        when(chunkQueryBuilder.buildChunkRangeQuery(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> "SELECT RANGE " + ((Object[]) invocation.getArgument(2))[0] + " " + ((Object[]) invocation.getArgument(3))[0]);
+        when(chunkQueryBuilder.bindBoundaryParams(any(), any(), any(), anyInt(), any())).thenReturn(2);
+        when(chunkQueryBuilder.resolveChunkEndPosition(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+
+        jdbcConnection = connection();
+        doReturn(chunkQueryBuilder).when(jdbcConnection).chunkQueryBuilder(any());
+        when(chunkQueryBuilder.readTableChunkStatement(any(), any(), eq("SELECT KEYS"))).thenAnswer(invocation -> statement(IntStream.rangeClosed(3, 8), false));
+
+        chunkReaderConnections = new ArrayList<>();
+        final ConnectionFactory<JdbcConnection> chunkReaderConnectionFactory = this::chunkReaderConnection;
+
+        final TableSchema tableSchema = mock(TableSchema.class);
+        when(tableSchema.keyFromColumnData(any())).thenAnswer(invocation -> key((Integer) ((Object[]) invocation.getArgument(0))[0]));
+        final RelationalDatabaseSchema databaseSchema = mock(RelationalDatabaseSchema.class);
+        when(databaseSchema.tableFor(any())).thenReturn(table);
+        when(databaseSchema.schemaFor(any())).thenReturn(tableSchema);
+
+        notificationService = mock(NotificationService.class, RETURNS_DEEP_STUBS);
+        source = new SignalBasedIncrementalSnapshotChangeEventSource<TestPartition, TableId>(config(), jdbcConnection, mock(EventDispatcher.class), databaseSchema,
+                Clock.system(), mock(SnapshotProgressListener.class), null, notificationService, chunkReaderConnectionFactory) {
+            @Override
+            protected void sendEvent(TestPartition partition, EventDispatcher<TestPartition, TableId> dispatcher, OffsetContext offsetContext, Object[] row) {
+                sentRows.add(row);
+            }
+        };
+
+        context = new SignalBasedIncrementalSnapshotContext<>();
+        context.addDataCollectionNamesToSnapshot("signal-1", List.of("public.a"), List.of(), "");
+        context.maximumKey(new Object[]{ 8 });
+        context.nextChunkPosition(new Object[]{ 2 });
+
+        offsetContext = mock(OffsetContext.class);
+        doReturn(context).when(offsetContext).getIncrementalSnapshotContext();
+    }
+
+    @Test
+    public void shouldReadKeyRangesOfWindowConcurrently() throws Exception {
+        source.readChunk(null, offsetContext);
+
+        assertThat(windowKeys()).containsExactly(3, 4, 5, 6, 7, 8);
+        assertThat(context.chunkEndPosititon()).containsExactly(8);
+
+        // the first range is read on the watermarking connection, the others on a reader connection each, on separate threads
+        assertThat(chunkReaderConnections).hasSize(2);
+        verify(jdbcConnection).readTablePreparedStatement(any(), eq("SELECT RANGE 2 4"), any());
+        verify(chunkReaderConnections.get(0)).readTablePreparedStatement(any(), eq("SELECT RANGE 4 6"), any());
+        verify(chunkReaderConnections.get(1)).readTablePreparedStatement(any(), eq("SELECT RANGE 6 8"), any());
+        assertThat(rangeReaderThreads).hasSize(3).contains(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void shouldDeduplicateStreamedEventsAgainstAllChunksOfWindow() throws Exception {
+        source.readChunk(null, offsetContext);
+        context.openWindow(context.currentChunkId());
+
+        // changes streamed while the window is open to rows of the ranges read on the chunk reader connections
+        final TableId tableId = context.currentDataCollectionId().getId();
+        source.processMessage(null, tableId, key(5), offsetContext);
+        source.processMessage(null, tableId, key(8), offsetContext);
+
+        source.sendWindowEvents(null, offsetContext);
+
+        assertThat(sentRows.stream().map(row -> (Integer) row[0])).containsExactly(3, 4, 6, 7);
+    }
+
+    @Test
+    public void shouldFailTableWhenChunkReaderFails() throws Exception {
+        // the last range cannot be read, the other two are still read concurrently
+        failingChunkReader = 1;
+        rangeReads = new CyclicBarrier(2);
+
+        source.readChunk(null, offsetContext);
+
+        verify(notificationService.incrementalSnapshotNotificationService()).notifyTableScanCompleted(any(), any(), any(), anyLong(),
+                eq(TableScanCompletionStatus.SQL_EXCEPTION));
+        assertThat(source.window).isEmpty();
+        assertThat(context.snapshotRunning()).isFalse();
+    }
+
+    private JdbcConnection chunkReaderConnection() {
+        try {
+            final JdbcConnection connection = connection();
+            if (failingChunkReader == chunkReaderConnections.size()) {
+                when(connection.readTablePreparedStatement(any(), anyString(), any())).thenThrow(new SQLException("chunk read failed"));
+            }
+            chunkReaderConnections.add(connection);
+            return connection;
+        }
+        catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JdbcConnection connection() throws SQLException {
+        final JdbcConnection connection = mock(JdbcConnection.class);
+        when(connection.rowToArray(any(), any(), any())).thenAnswer(invocation -> currentRows.get(invocation.<ResultSet> getArgument(1)));
+        doAnswer(invocation -> {
+            final String[] range = invocation.<String> getArgument(1).substring("SELECT RANGE ".length()).split(" ");
+            return statement(IntStream.rangeClosed(Integer.parseInt(range[0]) + 1, Integer.parseInt(range[1])), true);
+        }).when(connection).readTablePreparedStatement(any(CommonConnectorConfig.class), anyString(), any());
+        return connection;
+    }
+
+    private PreparedStatement statement(IntStream ids, boolean rangeRead) throws SQLException {
+        final Iterator<Object[]> rows = ids.mapToObj(id -> new Object[]{ id, "name" + id }).toList().iterator();
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+        when(rs.next()).thenAnswer(invocation -> {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            currentRows.put(rs, rows.next());
+            return true;
+        });
+
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            if (rangeRead) {
+                rangeReaderThreads.add(Thread.currentThread().getName());
+                rangeReads.await(10, TimeUnit.SECONDS);
+            }
+            return rs;
+        });
+        return statement;
+    }
+
+    private List<Integer> windowKeys() {
+        return source.window.keySet().stream().map(key -> key.getInt32("id")).collect(Collectors.toList());
+    }
+
+    private static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private RelationalDatabaseConnectorConfig config() {
+        final Configuration configuration = Configuration.create()
+                .with(RelationalDatabaseConnectorConfig.SIGNAL_DATA_COLLECTION, "debezium.signal")
+                .with(RelationalDatabaseConnectorConfig.TOPIC_PREFIX, "core")
+                .with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_CHUNK_SIZE, 2)
+                .with(CommonConnectorConfig.INCREMENTAL_SNAPSHOT_MAX_THREADS, 3)
+                .build();
+        return new RelationalDatabaseConnectorConfig(configuration, null, null, 0, ColumnFilterMode.CATALOG, true) {
+            @Override
+            protected SourceInfoStructMaker<?> getSourceInfoStructMaker(Version version) {
+                return null;
+            }
+
+            @Override
+            public String getContextName() {
+                return null;
+            }
+
+            @Override
+            public String getConnectorName() {
+                return null;
+            }
+
+            @Override
+            public EnumeratedValue getSnapshotMode() {
+                return null;
+            }
+
+            @Override
+            public Optional<EnumeratedValue> getSnapshotLockingMode() {
+                return Optional.empty();
+            }
+        };
+    }
+}
@@ -264,6 +264,29 @@ public void testBuildQueryTwoPkColumnsWithSurrogateKey() {
                 .isEqualTo("SELECT * FROM \"s1\".\"table1\" ORDER BY \"pk2\" LIMIT 1024");
     }
 
+    @Test
+    public void testBuildChunkKeyAndRangeQueries() {
+        final ChunkQueryBuilder<TableId> chunkQueryBuilder = new DefaultChunkQueryBuilder<>(
+                config(), new JdbcConnection(config().getJdbcConfig(), config -> null, "\"", "\""));
+        final IncrementalSnapshotContext<TableId> context = new SignalBasedIncrementalSnapshotContext<>();
+        final Column pk1 = Column.editor().name("pk1").optional(false).create();
+        final Column pk2 = Column.editor().name("pk2").optional(false).create();
+        final Column val1 = Column.editor().name("val1").create();
+        final Table table = Table.editor().tableId(new TableId(null, "s1", "table1"))
+                .addColumn(pk1)
+                .addColumn(pk2)
+                .addColumn(val1)
+                .setPrimaryKeyNames("pk1", "pk2").create();
+        context.nextChunkPosition(new Object[]{ 1, 5 });
+        context.maximumKey(new Object[]{ 10, 50 });
+        assertThat(chunkQueryBuilder.buildChunkKeyQuery(context, table, 4096, Optional.empty())).contains(
+                "SELECT \"pk1\", \"pk2\" FROM \"s1\".\"table1\" WHERE ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) " +
+                        "AND NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) ORDER BY \"pk1\", \"pk2\" LIMIT 4096");
+        assertThat(chunkQueryBuilder.buildChunkRangeQuery(context, table, new Object[]{ 1, 5 }, new Object[]{ 3, 7 }, Optional.of("\"val1\"=foo")))
+                .isEqualTo("SELECT * FROM \"s1\".\"table1\" WHERE ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) " +
+                        "AND NOT ((\"pk1\" > ?) OR (\"pk1\" = ? AND \"pk2\" > ?)) AND \"val1\"=foo ORDER BY \"pk1\", \"pk2\" LIMIT 2147483647");
+    }
+
     @Test
     public void testMaxQuery() {
         final ChunkQueryBuilder<TableId> chunkQueryBuilder = new DefaultChunkQueryBuilder<>(
@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.jdbc;
 
+import java.util.Collection;
 import java.util.List;
 
 import io.debezium.connector.jdbc.relational.TableDescriptor;
@@ -36,6 +37,21 @@ public interface Buffer {
      */
     boolean isEmpty();
 
+    /**
+     * to check whether the buffer must be flushed at the end of a batch, or may hold its records back
+     * to reduce them with the records of subsequent batches.
+     * @return true if the buffer must be flushed
+     */
+    default boolean isFlushDue() {
+        return true;
+    }
+
+    /**
+     * to get the records currently held in the buffer, without flushing them
+     * @return the buffered records
+     */
+    Collection<JdbcSinkRecord> getRecords();
+
     /**
      * to get the table descriptor
      * @return the table descriptor
@@ -10,6 +10,7 @@
 import static io.debezium.openlineage.dataset.DatasetMetadata.DatasetKind.OUTPUT;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -58,6 +59,7 @@ public class JdbcChangeEventSink extends AbstractChangeEventSink implements Chan
     private final RecordWriter recordWriter;
     private final ConnectorContext connectorContext;
     private final SinkProgressListener progressListener;
+    private final TableFlushPool tableFlushPool;
 
     final Map<CollectionId, Buffer> upsertBufferByTable = new LinkedHashMap<>();
     final Map<CollectionId, Buffer> deleteBufferByTable = new LinkedHashMap<>();
@@ -69,6 +71,12 @@ public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession sess
 
     public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession session, DatabaseDialect dialect, RecordWriter recordWriter,
                                ConnectorContext connectorContext, SinkProgressListener progressListener, ErrorReporter errorReporter) {
+        this(config, session, dialect, recordWriter, connectorContext, progressListener, errorReporter, null);
+    }
+
+    JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession session, DatabaseDialect dialect, RecordWriter recordWriter,
+                        ConnectorContext connectorContext, SinkProgressListener progressListener, ErrorReporter errorReporter,
+                        TableFlushPool tableFlushPool) {
         super(config, errorReporter);
         this.config = config;
         this.dialect = dialect;
@@ -76,6 +84,7 @@ public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession sess
         this.recordWriter = recordWriter;
         this.connectorContext = connectorContext;
         this.progressListener = progressListener;
+        this.tableFlushPool = tableFlushPool;
 
         final DatabaseVersion version = this.dialect.getVersion();
         LOGGER.info("Database version {}.{}.{}", version.getMajor(), version.getMinor(), version.getMicro());
@@ -120,8 +129,8 @@ public void execute(Collection<SinkRecord> records) {
                 }
 
                 // Here we want to flush the buffers to let truncate having effect on the buffered events.
-                flushBuffers(upsertBufferByTable);
-                flushBuffers(deleteBufferByTable);
+                flushBuffers(upsertBufferByTable, true);
+                flushBuffers(deleteBufferByTable, true);
 
                 try {
                     final TableDescriptor table = recordWriter.checkAndApplyTableChangesIfNeeded(collectionId, record);
@@ -182,8 +191,7 @@ public void execute(Collection<SinkRecord> records) {
             }
         }
 
-        flushBuffers(upsertBufferByTable);
-        flushBuffers(deleteBufferByTable);
+        flushAllBuffers(false);
     }
 
     private BufferFlushRecords getRecordsToFlush(Map<CollectionId, Buffer> bufferMap, CollectionId collectionId, JdbcSinkRecord record) {
@@ -241,8 +249,56 @@ private boolean isSchemaChanged(JdbcSinkRecord record, TableDescriptor tableDesc
         return !missingFields.isEmpty();
     }
 
-    private void flushBuffers(Map<CollectionId, Buffer> bufferByTable) {
-        bufferByTable.forEach(this::flushBufferWithRetries);
+    /**
+     * Flushes the upsert buffers followed by the delete buffers of all tables. When a table flush pool is configured,
+     * the buffers of different tables are flushed concurrently, while the upserts of each table are still flushed
+     * before its deletes; the call only returns once the flushes of all tables have committed.
+     *
+     * @param force whether to flush buffers whose reduction window has not yet expired
+     */
+    private void flushAllBuffers(boolean force) {
+        if (tableFlushPool == null) {
+            flushBuffers(upsertBufferByTable, force);
+            flushBuffers(deleteBufferByTable, force);
+            return;
+        }
+
+        final Map<CollectionId, List<BufferFlushRecords>> recordsByTable = new LinkedHashMap<>();
+        collectRecordsToFlush(upsertBufferByTable, recordsByTable, force);
+        collectRecordsToFlush(deleteBufferByTable, recordsByTable, force);
+        if (recordsByTable.size() < 2) {
+            recordsByTable.forEach((collectionId, flushes) -> flushes.forEach(flush -> flushBufferRecordsWithRetries(collectionId, flush)));
+            return;
+        }
+
+        final List<TableFlushPool.TableFlush> tableFlushes = new ArrayList<>(recordsByTable.size());
+        recordsByTable.forEach((collectionId, flushes) -> tableFlushes.add(writer -> {
+            for (BufferFlushRecords flush : flushes) {
+                flushBufferWithRetries(writer, collectionId, flush.records(), flush.buffer().getTableDescriptor());
+            }
+        }));
+        tableFlushPool.flush(tableFlushes);
+    }
+
+    private void flushBuffers(Map<CollectionId, Buffer> bufferByTable, boolean force) {
+        bufferByTable.forEach((collectionId, buffer) -> {
+            if (force || buffer.isFlushDue()) {
+                flushBufferWithRetries(collectionId, buffer);
+            }
+        });
+    }
+
+    private void collectRecordsToFlush(Map<CollectionId, Buffer> bufferByTable, Map<CollectionId, List<BufferFlushRecords>> recordsByTable,
+                                       boolean force) {
+        bufferByTable.forEach((collectionId, buffer) -> {
+            if (!force && !buffer.isFlushDue()) {
+                return;
+            }
+            final List<JdbcSinkRecord> toFlush = buffer.flush();
+            if (!toFlush.isEmpty()) {
+                recordsByTable.computeIfAbsent(collectionId, id -> new ArrayList<>()).add(new BufferFlushRecords(buffer, toFlush));
+            }
+        });
     }
 
     private void flushBufferRecordsWithRetries(CollectionId collectionId, BufferFlushRecords bufferFlushRecords) {
@@ -254,14 +310,18 @@ private void flushBufferWithRetries(CollectionId collectionId, Buffer buffer) {
     }
 
     private void flushBufferWithRetries(CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor tableDescriptor) {
+        flushBufferWithRetries(recordWriter, collectionId, toFlush, tableDescriptor);
+    }
+
+    private void flushBufferWithRetries(RecordWriter recordWriter, CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor tableDescriptor) {
         LOGGER.debug("Flushing records in JDBC Writer for table: {}", collectionId.name());
         recordWriter.executeWithRetries("flush records for table '" + collectionId.name() + "'", () -> {
-            flushBuffer(collectionId, toFlush, tableDescriptor);
+            flushBuffer(recordWriter, collectionId, toFlush, tableDescriptor);
             return null;
         });
     }
 
-    private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor table) throws SQLException {
+    private void flushBuffer(RecordWriter recordWriter, CollectionId collectionId, List<JdbcSinkRecord> toFlush, TableDescriptor table) throws SQLException {
         Stopwatch flushBufferStopwatch = Stopwatch.reusable();
         Stopwatch tableChangesStopwatch = Stopwatch.reusable();
         if (!toFlush.isEmpty()) {
@@ -328,13 +388,43 @@ public void forceFlush() {
             super.forceFlush();
         }
         else {
-            flushBuffers(upsertBufferByTable);
-            flushBuffers(deleteBufferByTable);
+            flushAllBuffers(true);
+        }
+    }
+
+    /**
+     * Flushes only the buffers whose reduction window has expired, keeping the records of all other buffers
+     * to be reduced with the records of subsequent batches.
+     */
+    public void flushDueBuffers() {
+        if (!config.isSharedChangeEventSinkEnabled()) {
+            flushAllBuffers(false);
         }
     }
 
+    /**
+     * Returns the original Kafka records of all change events which are held in the buffers and not yet written,
+     * so that their offsets are not committed before they are flushed.
+     */
+    public List<SinkRecord> getBufferedRecords() {
+        final List<SinkRecord> bufferedRecords = new ArrayList<>();
+        for (Map<CollectionId, Buffer> bufferByTable : List.of(upsertBufferByTable, deleteBufferByTable)) {
+            for (Buffer buffer : bufferByTable.values()) {
+                for (JdbcSinkRecord record : buffer.getRecords()) {
+                    if (record instanceof JdbcKafkaSinkRecord kafkaSinkRecord) {
+                        bufferedRecords.add(kafkaSinkRecord.getOriginalKafkaRecord());
+                    }
+                }
+            }
+        }
+        return bufferedRecords;
+    }
+
     @Override
     public void close() {
+        if (tableFlushPool != null) {
+            tableFlushPool.close();
+        }
         if (session != null && session.isOpen()) {
             LOGGER.info("Closing session.");
             session.close();
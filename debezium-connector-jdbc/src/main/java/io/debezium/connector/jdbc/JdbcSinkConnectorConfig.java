@@ -65,14 +65,18 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
 
     public static final String POSTGRES_POSTGIS_SCHEMA = "dialect.postgres.postgis.schema";
     public static final String POSTGRES_UNNEST_INSERT = "dialect.postgres.unnest.insert.enabled";
+    public static final String MULTI_ROW_INSERT = "dialect.multi.row.insert.enabled";
+    public static final String MULTI_ROW_INSERT_MAX_ROWS = "dialect.multi.row.insert.max.rows";
     public static final String SQLSERVER_IDENTITY_INSERT = "dialect.sqlserver.identity.insert";
     public static final String STARROCKS_CATALOG_NAME = "dialect.starrocks.catalog.name";
     // StarRocks identifiers may contain only letters, digits, and underscores, and must not start with a digit.
     // The catalog name is concatenated into a 'SET CATALOG' statement, so it is validated to avoid SQL injection.
     private static final Pattern STARROCKS_CATALOG_NAME_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
     public static final String USE_REDUCTION_BUFFER = "use.reduction.buffer";
+    public static final String REDUCTION_BUFFER_WINDOW_MS = "reduction.buffer.window.ms";
     public static final String FLUSH_MAX_RETRIES = "flush.max.retries";
     public static final String FLUSH_RETRY_DELAY_MS = "flush.retry.delay.ms";
+    public static final String FLUSH_PARALLELISM = "flush.parallelism";
     public static final String CONNECTION_RESTART_ON_ERRORS = "connection.restart.on.errors";
 
     // todo add support for the ValueConverter contract
@@ -217,6 +221,34 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
                             +
                             "This can provide 5-10x performance improvement for high-throughput scenarios. Default is false.");
 
+    public static final Field MULTI_ROW_INSERT_FIELD = Field.create(MULTI_ROW_INSERT)
+            .withDisplayName("Enable multi-row batch inserts for MySQL, MariaDB, SQL Server and Oracle")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.MEDIUM)
+            .withDefault(false)
+            .withDescription(
+                    "When enabled, binds the rows of a batch into multi-row statements instead of executing a single-row statement per record. "
+                            +
+                            "MySQL and MariaDB use multi-row VALUES with ON DUPLICATE KEY UPDATE, SQL Server a MERGE from a VALUES table constructor, "
+                            +
+                            "and Oracle a MERGE from UNION ALL row sources. This optimization is compatible with INSERT and UPSERT modes. "
+                            +
+                            "Statements are built for a fixed number of rows so that the database caches only a few statement plans per table. Default is false.");
+
+    public static final Field MULTI_ROW_INSERT_MAX_ROWS_FIELD = Field.create(MULTI_ROW_INSERT_MAX_ROWS)
+            .withDisplayName("Maximum number of rows per multi-row statement")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(128)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of rows bound into a single multi-row statement when " + MULTI_ROW_INSERT + " is enabled. "
+                    + "The remaining rows of a batch are written with statements for the largest power of two rows that fits. "
+                    + "The number of rows is also limited by the maximum number of bind parameters the database supports. Default is 128.");
+
     public static final Field SQLSERVER_IDENTITY_INSERT_FIELD = Field.create(SQLSERVER_IDENTITY_INSERT)
             .withDisplayName("Allowing to insert explicit value for identity column in table for SQLSERVER.")
             .withType(Type.BOOLEAN)
@@ -256,6 +288,18 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
             .withDefault(1000L)
             .withDescription("Delay to retry when fail to flush");
 
+    public static final Field FLUSH_PARALLELISM_FIELD = Field.create(FLUSH_PARALLELISM)
+            .withDisplayName("Number of tables flushed concurrently")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of table buffers that are flushed concurrently at the end of each batch of records, "
+                    + "each using its own database session. The records of a batch are only acknowledged once all tables have been flushed. "
+                    + "Default is 1, which flushes the table buffers one after another.");
+
     public static final Field USE_REDUCTION_BUFFER_FIELD = Field.create(USE_REDUCTION_BUFFER)
             .withDisplayName("Specifies whether to use the reduction buffer.")
             .withType(Type.BOOLEAN)
@@ -266,6 +310,20 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
             .withDescription(
                     "A reduction buffer consolidates the execution of SQL statements by primary key to reduce the SQL load on the target database. When set to false (the default), each incoming event is applied as a logical SQL change. When set to true, incoming events that refer to the same row will be reduced to a single logical change based on the most recent row state.");
 
+    public static final Field REDUCTION_BUFFER_WINDOW_MS_FIELD = Field.create(REDUCTION_BUFFER_WINDOW_MS)
+            .withDisplayName("Reduction buffer window (ms)")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("When the reduction buffer is used, the number of milliseconds for which the buffer of a table holds the most recent "
+                    + "row state of each primary key across batches, so that rows that change frequently are written once per window. "
+                    + "A table buffer is still flushed as soon as it holds " + SinkConnectorConfig.BATCH_SIZE + " distinct keys. "
+                    + "Offsets are only committed up to the records that have been written. "
+                    + "Default is 0, which flushes the buffers at the end of every batch.");
+
     public static final Field CONNECTION_RESTART_ON_ERRORS_FIELD = Field.create(CONNECTION_RESTART_ON_ERRORS)
             .withDisplayName("Restart connection on errors")
             .withType(Type.BOOLEAN)
@@ -310,14 +368,18 @@ public class JdbcSinkConnectorConfig implements SinkConnectorConfig {
                     USE_TIME_ZONE_FIELD,
                     POSTGRES_POSTGIS_SCHEMA_FIELD,
                     POSTGRES_UNNEST_INSERT_FIELD,
+                    MULTI_ROW_INSERT_FIELD,
+                    MULTI_ROW_INSERT_MAX_ROWS_FIELD,
                     SQLSERVER_IDENTITY_INSERT_FIELD,
                     STARROCKS_CATALOG_NAME_FIELD,
                     BATCH_SIZE_FIELD,
+                    REDUCTION_BUFFER_WINDOW_MS_FIELD,
                     KEYED_MESSAGE_BATCH_MODE_FIELD,
                     FIELD_INCLUDE_LIST_FIELD,
                     FIELD_EXCLUDE_LIST_FIELD,
                     FLUSH_MAX_RETRIES_FIELD,
                     FLUSH_RETRY_DELAY_MS_FIELD,
+                    FLUSH_PARALLELISM_FIELD,
                     CONNECTION_RESTART_ON_ERRORS_FIELD,
                     CLOUDEVENTS_SCHEMA_NAME_PATTERN_FIELD)
             .create();
@@ -442,12 +504,16 @@ public boolean isSchemaEvolutionEnabled() {
     private final String databaseTimezone;
     private final String postgresPostgisSchema;
     private final boolean postgresUnnestInsert;
+    private final boolean multiRowInsert;
+    private final int multiRowInsertMaxRows;
     private final boolean sqlServerIdentityInsert;
     private final String starRocksCatalogName;
     private final int flushMaxRetries;
     private final long flushRetryDelayMs;
+    private final int flushParallelism;
     private final int batchSize;
     private final boolean useReductionBuffer;
+    private final long reductionBufferWindowMs;
     private final KeyedMessageBatchMode keyedMessageBatchMode;
     private final boolean connectionRestartOnErrors;
     private final String cloudEventsSchemaNamePattern;
@@ -467,13 +533,17 @@ public JdbcSinkConnectorConfig(Map<String, String> props) {
         this.databaseTimezone = config.getString(USE_TIME_ZONE_FIELD);
         this.postgresPostgisSchema = config.getString(POSTGRES_POSTGIS_SCHEMA_FIELD);
         this.postgresUnnestInsert = config.getBoolean(POSTGRES_UNNEST_INSERT_FIELD);
+        this.multiRowInsert = config.getBoolean(MULTI_ROW_INSERT_FIELD);
+        this.multiRowInsertMaxRows = config.getInteger(MULTI_ROW_INSERT_MAX_ROWS_FIELD);
         this.sqlServerIdentityInsert = config.getBoolean(SQLSERVER_IDENTITY_INSERT_FIELD);
         this.starRocksCatalogName = config.getString(STARROCKS_CATALOG_NAME_FIELD);
         this.batchSize = config.getInteger(BATCH_SIZE_FIELD);
         this.useReductionBuffer = config.getBoolean(USE_REDUCTION_BUFFER_FIELD);
+        this.reductionBufferWindowMs = config.getLong(REDUCTION_BUFFER_WINDOW_MS_FIELD);
         this.keyedMessageBatchMode = KeyedMessageBatchMode.parse(config.getString(KEYED_MESSAGE_BATCH_MODE_FIELD));
         this.flushMaxRetries = config.getInteger(FLUSH_MAX_RETRIES_FIELD);
         this.flushRetryDelayMs = config.getLong(FLUSH_RETRY_DELAY_MS_FIELD);
+        this.flushParallelism = config.getInteger(FLUSH_PARALLELISM_FIELD);
         this.connectionRestartOnErrors = config.getBoolean(CONNECTION_RESTART_ON_ERRORS_FIELD);
         this.cloudEventsSchemaNamePattern = config.getString(CLOUDEVENTS_SCHEMA_NAME_PATTERN_FIELD);
         this.collectionNamingStrategy = resolveCollectionNamingStrategy(config, props);
@@ -564,6 +634,17 @@ public boolean isUseReductionBuffer() {
         return useReductionBuffer;
     }
 
+    public long getReductionBufferWindowMs() {
+        return reductionBufferWindowMs;
+    }
+
+    /**
+     * Returns whether reduction buffers hold records back across batches.
+     */
+    public boolean isReductionBufferWindowEnabled() {
+        return useReductionBuffer && reductionBufferWindowMs > 0;
+    }
+
     @Override
     public KeyedMessageBatchMode getKeyedMessageBatchMode() {
         return keyedMessageBatchMode;
@@ -596,6 +677,14 @@ public boolean isPostgresUnnestInsertEnabled() {
         return postgresUnnestInsert;
     }
 
+    public boolean isMultiRowInsertEnabled() {
+        return multiRowInsert;
+    }
+
+    public int getMultiRowInsertMaxRows() {
+        return multiRowInsertMaxRows;
+    }
+
     public String getStarRocksCatalogName() {
         return starRocksCatalogName;
     }
@@ -608,6 +697,10 @@ public long getFlushRetryDelayMs() {
         return flushRetryDelayMs;
     }
 
+    public int getFlushParallelism() {
+        return flushParallelism;
+    }
+
     public boolean isConnectionRestartOnErrors() {
         return connectionRestartOnErrors;
     }
@@ -88,6 +88,7 @@ public JdbcChangeEventSink getChangeEventSink() {
 
     private final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
     private Throwable previousPutException;
+    private boolean reductionBufferWindowEnabled;
 
     /**
      * There is a change in {@link InternalSinkRecord} API between Connect 3.7 and 3.8.
@@ -159,7 +160,14 @@ public void start(Map<String, String> props) {
 
             final ErrorReporter errorReporter = ErrorReporters.fromContext(context);
             ErrorReporters.validateConfiguration(errorReporter, props);
-            changeEventSink = new JdbcChangeEventSink(config, session, dialect, recordWriter, connectorContext, metrics, errorReporter);
+            TableFlushPool tableFlushPool = null;
+            if (config.getFlushParallelism() > 1) {
+                LOGGER.info("Flushing up to {} tables concurrently", config.getFlushParallelism());
+                tableFlushPool = new TableFlushPool(config, sessionFactory::openStatelessSession,
+                        poolSession -> createRecordWriter(poolSession, queryBinderResolver, config, dialect, metrics));
+            }
+            changeEventSink = new JdbcChangeEventSink(config, session, dialect, recordWriter, connectorContext, metrics, errorReporter, tableFlushPool);
+            reductionBufferWindowEnabled = config.isReductionBufferWindowEnabled();
             DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RUNNING);
         }
         finally {
@@ -213,6 +221,7 @@ public void put(Collection<SinkRecord> records) {
     /**
      * Creates the appropriate RecordWriter based on dialect and configuration.
      * If PostgreSQL UNNEST optimization is enabled, returns UnnestRecordWriter;
+     * if multi-row statements are enabled, returns MultiRowRecordWriter;
      * otherwise returns StandardRecordWriter.
      */
     private RecordWriter createRecordWriter(StatelessSession session, QueryBinderResolver queryBinderResolver,
@@ -224,6 +233,11 @@ private RecordWriter createRecordWriter(StatelessSession session, QueryBinderRes
             return new UnnestRecordWriter(session, queryBinderResolver, config, databaseDialect, progressListener);
         }
 
+        if (config.isMultiRowInsertEnabled()) {
+            LOGGER.info("Using MultiRowRecordWriter for multi-row statements with up to {} rows", config.getMultiRowInsertMaxRows());
+            return new MultiRowRecordWriter(session, queryBinderResolver, config, databaseDialect, progressListener);
+        }
+
         LOGGER.info("Using DefaultRecordWriter for standard JDBC batching");
         return new DefaultRecordWriter(session, queryBinderResolver, config, databaseDialect, progressListener);
     }
@@ -252,6 +266,10 @@ public void close(Collection<TopicPartition> partitions) {
             assignedPartitions.remove(partition);
             offsets.remove(partition);
         }
+        if (changeEventSink != null && reductionBufferWindowEnabled) {
+            // Records held back for reduction must be written before the partitions are handed over
+            changeEventSink.forceFlush();
+        }
     }
 
     @Override
@@ -265,11 +283,41 @@ public Map<TopicPartition, OffsetAndMetadata> preCommit(Map<TopicPartition, Offs
 
         flush(flushedOffsets);
 
+        if (changeEventSink != null && reductionBufferWindowEnabled) {
+            if (previousPutException != null) {
+                // Records held back for reduction may have been lost with the failed flush, re-consume them after restart
+                LOGGER.debug("Not committing offsets after failure while reduction window is enabled");
+                return Map.of();
+            }
+            retainBufferedOffsets(flushedOffsets);
+        }
+
         // Flush offsets
         LOGGER.debug("Flushing offsets: {}", flushedOffsets);
         return flushedOffsets;
     }
 
+    /**
+     * Lowers the offsets to be committed to the offsets of the records which are still held in the reduction
+     * buffers, so that these records are consumed again should the task stop before they are written.
+     *
+     * @param flushedOffsets the offsets to be committed, should not be {@code null}
+     */
+    private void retainBufferedOffsets(Map<TopicPartition, OffsetAndMetadata> flushedOffsets) {
+        for (SinkRecord record : changeEventSink.getBufferedRecords()) {
+            final String topicName = getOriginalTopicName(record);
+            if (Strings.isNullOrBlank(topicName)) {
+                continue;
+            }
+            final TopicPartition topicPartition = new TopicPartition(topicName, getOriginalKafkaPartition(record));
+            final long kafkaOffset = getOriginalKafkaOffset(record);
+            final OffsetAndMetadata committed = flushedOffsets.get(topicPartition);
+            if (committed != null && committed.offset() > kafkaOffset) {
+                flushedOffsets.put(topicPartition, new OffsetAndMetadata(kafkaOffset));
+            }
+        }
+    }
+
     @Override
     public void stop() {
         stateLock.lock();
@@ -416,7 +464,12 @@ private long getOriginalKafkaOffset(SinkRecord record) {
     @Override
     public void flush(Map<TopicPartition, OffsetAndMetadata> currentOffsets) {
         if (changeEventSink != null) {
-            changeEventSink.forceFlush();
+            if (reductionBufferWindowEnabled) {
+                changeEventSink.flushDueBuffers();
+            }
+            else {
+                changeEventSink.forceFlush();
+            }
         }
     }
 }
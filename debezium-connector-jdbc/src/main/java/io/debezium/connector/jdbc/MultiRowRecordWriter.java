@@ -0,0 +1,193 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.kafka.connect.data.Struct;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.jdbc.JdbcSinkConnectorConfig.InsertMode;
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.sink.spi.SinkProgressListener;
+import io.debezium.util.Stopwatch;
+
+/**
+ * Multi-row implementation for dialects without array binding, such as MySQL, MariaDB, SQL Server and Oracle,
+ * that binds the rows of a batch into statements which each write many rows at once.
+ *
+ * Statements are only built for a fixed number of rows, the configured maximum and powers of two below it,
+ * so that the database caches at most a handful of statement plans per table, as with the PostgreSQL UNNEST path.
+ * Full statements are executed as a JDBC batch, the remaining rows with the largest statement that fits.
+ *
+ * Deletes, updates and batches the dialect cannot write with multi-row statements are delegated to the
+ * parent's standard row-wise binding.
+ */
+public class MultiRowRecordWriter extends DefaultRecordWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiRowRecordWriter.class);
+
+    private static final QueryBinder NO_OP_BINDER = valueBindDescriptor -> {
+    };
+
+    private final int maxRows;
+
+    public MultiRowRecordWriter(SharedSessionContract session, QueryBinderResolver queryBinderResolver,
+                                JdbcSinkConnectorConfig config, DatabaseDialect dialect, SinkProgressListener progressListener) {
+        super(session, queryBinderResolver, config, dialect, progressListener);
+        this.maxRows = config.getMultiRowInsertMaxRows();
+    }
+
+    @Override
+    public void write(TableDescriptor tableDescriptor, List<JdbcSinkRecord> records) {
+        if (!isMultiRowWrite(records)) {
+            super.write(tableDescriptor, records);
+            return;
+        }
+
+        Stopwatch writeStopwatch = Stopwatch.reusable();
+        writeStopwatch.start();
+        final Transaction transaction = getSession().beginTransaction();
+        try {
+            getSession().doWork(conn -> performMultiRowWrite(conn, tableDescriptor, records));
+            transaction.commit();
+            progressListener().written(records.size());
+        }
+        catch (Exception e) {
+            transaction.rollback();
+            throw e;
+        }
+        writeStopwatch.stop();
+        LOGGER.trace("[PERF] Total multi-row write execution time {}", writeStopwatch.durations());
+    }
+
+    @Override
+    protected void performTableWrite(Connection conn, TableDescriptor table, List<JdbcSinkRecord> records) throws SQLException {
+        if (isMultiRowWrite(records)) {
+            performMultiRowWrite(conn, table, records);
+        }
+        else {
+            super.performTableWrite(conn, table, records);
+        }
+    }
+
+    void performMultiRowWrite(Connection conn, TableDescriptor table, List<JdbcSinkRecord> records) throws SQLException {
+        final JdbcSinkRecord firstRecord = records.get(0);
+        final int rowsPerStatement = getRowsPerStatement(firstRecord);
+        if (rowsPerStatement < 2) {
+            super.performTableWrite(conn, table, records);
+            return;
+        }
+
+        int offset = 0;
+        int rows = rowsPerStatement;
+        while (records.size() - offset > 1) {
+            while (rows > records.size() - offset) {
+                rows = Integer.highestOneBit(records.size() - offset);
+            }
+            final Optional<String> statement = getMultiRowStatement(table, firstRecord, rows);
+            if (statement.isEmpty()) {
+                break;
+            }
+            // execute all statements of the same size as a single JDBC batch
+            final int statements = (records.size() - offset) / rows;
+            performMultiRowBatch(conn, statement.get(), records.subList(offset, offset + statements * rows), rows);
+            offset += statements * rows;
+        }
+
+        if (offset < records.size()) {
+            super.performTableWrite(conn, table, records.subList(offset, records.size()));
+        }
+    }
+
+    private void performMultiRowBatch(Connection conn, String sqlStatement, List<JdbcSinkRecord> records, int rows) throws SQLException {
+        try (PreparedStatement prepareStatement = conn.prepareStatement(sqlStatement)) {
+            final QueryBinder queryBinder = getQueryBinderResolver().resolve(prepareStatement);
+
+            Stopwatch allbindStopwatch = Stopwatch.reusable();
+            allbindStopwatch.start();
+            for (int i = 0; i < records.size(); i += rows) {
+                int index = 1;
+                for (JdbcSinkRecord record : records.subList(i, i + rows)) {
+                    index = bindRow(record, queryBinder, index);
+                }
+                prepareStatement.addBatch();
+            }
+            allbindStopwatch.stop();
+            LOGGER.trace("[PERF] All records bind execution time for {} rows per statement {}", rows, allbindStopwatch.durations());
+
+            Stopwatch executeStopwatch = Stopwatch.reusable();
+            executeStopwatch.start();
+            int[] batchResult = prepareStatement.executeBatch();
+            executeStopwatch.stop();
+            for (int updateCount : batchResult) {
+                if (updateCount == Statement.EXECUTE_FAILED) {
+                    throw new BatchUpdateException("Execution failed for part of the multi-row batch", batchResult);
+                }
+            }
+            LOGGER.trace("[PERF] Execute multi-row batch execution time {}", executeStopwatch.durations());
+        }
+    }
+
+    /**
+     * Bind the values of a single row, key fields first, then non-key fields, as for single-row inserts and upserts.
+     */
+    private int bindRow(JdbcSinkRecord record, QueryBinder queryBinder, int index) {
+        index = bindKeyValuesToQuery(record, queryBinder, index);
+        return bindNonKeyValuesToQuery(record, queryBinder, index);
+    }
+
+    private int getRowsPerStatement(JdbcSinkRecord record) {
+        // types may expand to several bind parameters, so count the parameters by binding the first row
+        final int parametersPerRow = bindRow(record, NO_OP_BINDER, 1) - 1;
+        if (parametersPerRow == 0) {
+            return 0;
+        }
+        return Math.min(maxRows, getDialect().getMaxMultiRowStatementRows(parametersPerRow));
+    }
+
+    private Optional<String> getMultiRowStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        if (getConfig().getInsertMode() == InsertMode.UPSERT) {
+            return getDialect().getMultiRowUpsertStatement(table, record, rows);
+        }
+        return getDialect().getMultiRowInsertStatement(table, record, rows);
+    }
+
+    private boolean isMultiRowWrite(List<JdbcSinkRecord> records) {
+        if (records.size() < 2 || records.get(0).isDelete()) {
+            return false;
+        }
+        return switch (getConfig().getInsertMode()) {
+            case INSERT -> true;
+            case UPSERT -> !records.get(0).keyFieldNames().isEmpty()
+                    && (getDialect().isMultiRowUpsertWithDuplicateKeysSupported() || hasUniqueKeys(records));
+            case UPDATE -> false;
+        };
+    }
+
+    private static boolean hasUniqueKeys(List<JdbcSinkRecord> records) {
+        final Set<Struct> keys = new HashSet<>(records.size());
+        for (JdbcSinkRecord record : records) {
+            final Struct key = record.filteredKey();
+            if (key == null || !keys.add(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -6,6 +6,8 @@
 package io.debezium.connector.jdbc;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -84,6 +86,11 @@ public boolean isEmpty() {
         return records.isEmpty();
     }
 
+    @Override
+    public Collection<JdbcSinkRecord> getRecords() {
+        return Collections.unmodifiableList(records);
+    }
+
     @Override
     public TableDescriptor getTableDescriptor() {
         return tableDescriptor;
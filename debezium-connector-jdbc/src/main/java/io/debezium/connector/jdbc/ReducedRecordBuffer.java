@@ -6,6 +6,8 @@
 package io.debezium.connector.jdbc;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +19,7 @@
 
 import io.debezium.annotation.VisibleForTesting;
 import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.util.Clock;
 
 /**
  * A reduced implementation buffer of {@link JdbcSinkRecord}.
@@ -32,16 +35,23 @@ public class ReducedRecordBuffer implements Buffer {
 
     private final Map<Object, JdbcSinkRecord> records = new HashMap<>();
     private final TableDescriptor tableDescriptor;
+    private final Clock clock;
+    private long windowStartMs;
 
     @VisibleForTesting
     public ReducedRecordBuffer(JdbcSinkConnectorConfig connectorConfig) {
-        this.connectorConfig = connectorConfig;
-        this.tableDescriptor = null;
+        this(connectorConfig, null);
     }
 
     public ReducedRecordBuffer(JdbcSinkConnectorConfig connectorConfig, TableDescriptor tableDescriptor) {
+        this(connectorConfig, tableDescriptor, Clock.SYSTEM);
+    }
+
+    @VisibleForTesting
+    ReducedRecordBuffer(JdbcSinkConnectorConfig connectorConfig, TableDescriptor tableDescriptor, Clock clock) {
         this.connectorConfig = connectorConfig;
         this.tableDescriptor = tableDescriptor;
+        this.clock = clock;
     }
 
     @Override
@@ -63,6 +73,11 @@ public List<JdbcSinkRecord> add(JdbcSinkRecord record) {
 
         Struct keyStruct = record.filteredKey();
         if (keyStruct != null) {
+            if (records.isEmpty()) {
+                // the reduction window starts with the first record added to an empty buffer,
+                // re-adding the only buffered key must not restart it
+                windowStartMs = clock.currentTimeInMillis();
+            }
             records.put(keyStruct, record);
         }
         else {
@@ -94,6 +109,21 @@ public boolean isEmpty() {
         return records.isEmpty();
     }
 
+    /**
+     * Returns whether the reduction window of the buffer has expired, when a reduction window is configured.
+     * Otherwise, the buffer is always flushed at the end of a batch.
+     */
+    @Override
+    public boolean isFlushDue() {
+        final long windowMs = connectorConfig.getReductionBufferWindowMs();
+        return windowMs == 0 || clock.currentTimeInMillis() - windowStartMs >= windowMs;
+    }
+
+    @Override
+    public Collection<JdbcSinkRecord> getRecords() {
+        return Collections.unmodifiableCollection(records.values());
+    }
+
     @Override
     public TableDescriptor getTableDescriptor() {
         return tableDescriptor;
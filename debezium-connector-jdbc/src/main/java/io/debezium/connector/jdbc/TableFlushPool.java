@@ -0,0 +1,123 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.hibernate.StatelessSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.util.Threads;
+
+/**
+ * Flushes the buffers of independent tables concurrently, each flush using a {@link RecordWriter} with its own
+ * {@link StatelessSession} taken from a bounded pool.
+ *
+ * @see JdbcSinkConnectorConfig#FLUSH_PARALLELISM_FIELD
+ */
+class TableFlushPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableFlushPool.class);
+
+    /**
+     * Flushes the records of a single table with the given record writer.
+     */
+    @FunctionalInterface
+    interface TableFlush {
+        void flush(RecordWriter recordWriter);
+    }
+
+    private final ExecutorService executor;
+    private final List<StatelessSession> sessions = new ArrayList<>();
+    private final BlockingQueue<RecordWriter> recordWriters;
+
+    TableFlushPool(JdbcSinkConnectorConfig config, Supplier<StatelessSession> sessionFactory,
+                   Function<StatelessSession, RecordWriter> recordWriterFactory) {
+        final int parallelism = config.getFlushParallelism();
+        this.executor = Threads.newFixedThreadPool(JdbcSinkConnector.class, config.getConnectorName(), "table-flush", parallelism);
+        this.recordWriters = new ArrayBlockingQueue<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            final StatelessSession session = sessionFactory.get();
+            sessions.add(session);
+            recordWriters.add(recordWriterFactory.apply(session));
+        }
+    }
+
+    /**
+     * Executes the given flushes concurrently and waits until all of them have completed.
+     *
+     * @param flushes the flushes of independent tables
+     * @throws ConnectException if any of the flushes failed, after all other flushes have completed
+     */
+    void flush(Collection<TableFlush> flushes) {
+        final List<Future<?>> futures = new ArrayList<>(flushes.size());
+        for (TableFlush flush : flushes) {
+            futures.add(executor.submit(() -> {
+                final RecordWriter recordWriter = recordWriters.take();
+                try {
+                    flush.flush(recordWriter);
+                }
+                finally {
+                    recordWriters.add(recordWriter);
+                }
+                return null;
+            }));
+        }
+
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new ConnectException("Interrupted while flushing tables", e);
+            }
+            catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException re ? re : new ConnectException("Failed to flush table", e.getCause());
+                }
+                else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Table flush threads did not stop in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (StatelessSession session : sessions) {
+            if (session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+}
@@ -174,6 +174,55 @@ default Optional<String> getBatchUpsertStatement(TableDescriptor table, List<Jdb
         return Optional.empty();
     }
 
+    /**
+     * Construct a multi-row {@code INSERT INTO} statement specific for this dialect that writes the given number of rows.
+     * The values of each row are bound in the same order as for {@link #getInsertStatement(TableDescriptor, JdbcSinkRecord)},
+     * one row after another.
+     *
+     * @param table the current relational table model, should not be {@code null}
+     * @param record a sink record representative of all rows being written, should not be {@code null}
+     * @param rows the number of rows the statement writes
+     * @return an optional containing the multi-row insert SQL statement if supported, or empty if not supported
+     */
+    default Optional<String> getMultiRowInsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        return Optional.empty();
+    }
+
+    /**
+     * Construct a multi-row {@code UPSERT} statement specific for this dialect that writes the given number of rows.
+     * The values of each row are bound in the same order as for {@link #getUpsertStatement(TableDescriptor, JdbcSinkRecord)},
+     * one row after another.
+     *
+     * @param table the current relational table model, should not be {@code null}
+     * @param record a sink record representative of all rows being written, should not be {@code null}
+     * @param rows the number of rows the statement writes
+     * @return an optional containing the multi-row upsert SQL statement if supported, or empty if not supported
+     */
+    default Optional<String> getMultiRowUpsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the maximum number of rows a multi-row statement may write, as limited by the number of bind
+     * parameters and rows the database accepts in a single statement.
+     *
+     * @param parametersPerRow the number of bind parameters of each row
+     * @return the maximum number of rows per multi-row statement
+     */
+    default int getMaxMultiRowStatementRows(int parametersPerRow) {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns whether a multi-row upsert statement may write several rows with the same primary key.
+     * This is not the case for {@code MERGE}-based upserts, which fail when more than one source row matches a target row.
+     *
+     * @return true if the rows of a multi-row upsert statement may share the same primary key
+     */
+    default boolean isMultiRowUpsertWithDuplicateKeysSupported() {
+        return false;
+    }
+
     /**
      * Construct a {@code UPDATE} statement specific for this dialect.
      *
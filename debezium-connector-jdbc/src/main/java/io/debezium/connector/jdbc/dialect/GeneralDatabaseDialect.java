@@ -18,6 +18,7 @@
 import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -372,6 +373,35 @@ public String getInsertStatement(TableDescriptor table, JdbcSinkRecord record) {
         return builder.build();
     }
 
+    /**
+     * Constructs a multi-row {@code INSERT INTO ... VALUES} statement, using a row value constructor per row.
+     */
+    protected String getMultiRowValuesInsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("INSERT INTO ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" (");
+        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(")");
+        builder.append(getOverrideClause(table));
+        builder.append(" VALUES ");
+        builder.append(getMultiRowValues(table, record, rows));
+        return builder.build();
+    }
+
+    /**
+     * Returns the given number of comma-separated row value constructors, each binding the key fields followed by
+     * the non-key fields of a row.
+     */
+    protected String getMultiRowValues(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("(");
+        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record));
+        builder.append(")");
+        final String row = builder.build();
+        return String.join(", ", Collections.nCopies(rows, row));
+    }
+
     /**
      * Returns the SQL standard override clause to place after an INSERT column list, carrying its own
      * leading space, or an empty string when the dialect needs none.
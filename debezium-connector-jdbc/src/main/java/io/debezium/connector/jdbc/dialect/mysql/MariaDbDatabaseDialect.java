@@ -67,15 +67,15 @@ protected void registerTypes() {
      * but not followed by MariaDB yet.
      */
     @Override
-    public String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+    protected String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
         builder.append("INSERT INTO ");
         builder.append(getQualifiedTableName(table.getId()));
         builder.append(" (");
         builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(), name -> columnNameFromField(name, record));
-        builder.append(") VALUES (");
-        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(), name -> columnQueryBindingFromField(name, table, record));
-        builder.append(") ");
+        builder.append(") VALUES ");
+        builder.append(getMultiRowValues(table, record, rows));
+        builder.append(" ");
 
         final Set<String> updateColumnNames = record.nonKeyFieldNames().isEmpty()
                 ? record.keyFieldNames()
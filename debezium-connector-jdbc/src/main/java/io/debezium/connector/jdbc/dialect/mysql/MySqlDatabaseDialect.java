@@ -50,6 +50,9 @@ public class MySqlDatabaseDialect extends GeneralDatabaseDialect {
     private static final List<String> NO_DEFAULT_VALUE_TYPES = Arrays.asList(
             "tinytext", "mediumtext", "longtext", "text", "tinyblob", "mediumblob", "longblob");
 
+    // The client/server protocol limits a prepared statement to 65535 bind parameters
+    private static final int MAX_BIND_PARAMETERS = 65535;
+
     private static final DateTimeFormatter ISO_LOCAL_DATE_TIME_WITH_SPACE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(DateTimeFormatter.ISO_LOCAL_DATE)
@@ -197,14 +200,39 @@ public String getAlterTablePrefix() {
 
     @Override
     public String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getUpsertStatement(table, record, 1);
+    }
+
+    @Override
+    public Optional<String> getMultiRowInsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        return Optional.of(getMultiRowValuesInsertStatement(table, record, rows));
+    }
+
+    @Override
+    public Optional<String> getMultiRowUpsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        return Optional.of(getUpsertStatement(table, record, rows));
+    }
+
+    @Override
+    public int getMaxMultiRowStatementRows(int parametersPerRow) {
+        return MAX_BIND_PARAMETERS / parametersPerRow;
+    }
+
+    @Override
+    public boolean isMultiRowUpsertWithDuplicateKeysSupported() {
+        // ON DUPLICATE KEY UPDATE applies the rows of a statement one after another
+        return true;
+    }
+
+    protected String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
         builder.append("INSERT INTO ");
         builder.append(getQualifiedTableName(table.getId()));
         builder.append(" (");
         builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
-        builder.append(") VALUES (");
-        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnQueryBindingFromField(name, table, record));
-        builder.append(") ");
+        builder.append(") VALUES ");
+        builder.append(getMultiRowValues(table, record, rows));
+        builder.append(" ");
 
         final Set<String> updateColumnNames = record.nonKeyFieldNames().isEmpty()
                 ? record.keyFieldNames()
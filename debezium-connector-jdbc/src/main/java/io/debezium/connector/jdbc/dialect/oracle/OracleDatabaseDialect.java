@@ -11,6 +11,7 @@
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.hibernate.SessionFactory;
@@ -32,6 +33,9 @@
  */
 public class OracleDatabaseDialect extends GeneralDatabaseDialect {
 
+    // A statement is limited to 65535 bind variables
+    private static final int MAX_BIND_PARAMETERS = 65535;
+
     private static final String TO_DATE = "TO_DATE(%s, 'YYYY-MM-DD')";
     private static final String TO_TIMESTAMP_FF9 = "TO_TIMESTAMP('%s', 'YYYY-MM-DD\"T\"HH24:MI:SS.FF9 TZH:TZM')";
     private static final String TO_TIMESTAMP_FF6 = "TO_TIMESTAMP('%s', 'YYYY-MM-DD\"T\"HH24:MI:SS.FF6 TZH:TZM')";
@@ -111,13 +115,39 @@ public boolean isNegativeScaleAllowed() {
 
     @Override
     public String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record) {
+        return getUpsertStatement(table, record, 1);
+    }
+
+    @Override
+    public Optional<String> getMultiRowInsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        // Row value constructors in VALUES are only supported as of Oracle 23ai, so select the rows from dual instead
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("INSERT INTO ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" (");
+        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(") ");
+        builder.append(getMultiRowSelect(table, record, rows));
+        return Optional.of(builder.build());
+    }
+
+    @Override
+    public Optional<String> getMultiRowUpsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        return Optional.of(getUpsertStatement(table, record, rows));
+    }
+
+    @Override
+    public int getMaxMultiRowStatementRows(int parametersPerRow) {
+        return MAX_BIND_PARAMETERS / parametersPerRow;
+    }
+
+    private String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
         builder.append("MERGE INTO ");
         builder.append(getQualifiedTableName(table.getId()));
-        builder.append(" USING (SELECT ");
-        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(),
-                (name) -> columnQueryBindingFromField(name, table, record) + " " + columnNameFromField(name, record));
-        builder.append(" FROM dual) ").append("INCOMING ON (");
+        builder.append(" USING (");
+        builder.append(getMultiRowSelect(table, record, rows));
+        builder.append(") ").append("INCOMING ON (");
         builder.appendList(" AND ", record.keyFieldNames(), (name) -> getUpsertIncomingClause(name, table, record));
         builder.append(")");
         if (!record.nonKeyFieldNames().isEmpty()) {
@@ -192,6 +222,16 @@ protected String resolveColumnNameFromField(String fieldName) {
         return columnName;
     }
 
+    private String getMultiRowSelect(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("SELECT ");
+        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(),
+                (name) -> columnQueryBindingFromField(name, table, record) + " " + columnNameFromField(name, record));
+        builder.append(" FROM dual");
+        final String row = builder.build();
+        return String.join(" UNION ALL ", Collections.nCopies(rows, row));
+    }
+
     private String getUpsertIncomingClause(String fieldName, TableDescriptor table, JdbcSinkRecord record) {
         final String columnName = columnNameFromField(fieldName, record);
         return toIdentifier(table.getId()) + "." + columnName + "=INCOMING." + columnName;
@@ -27,6 +27,11 @@
  */
 public class SqlServerDatabaseDialect extends GeneralDatabaseDialect {
 
+    // A remote procedure call is limited to 2100 parameters, some of which the driver may use itself
+    private static final int MAX_BIND_PARAMETERS = 2000;
+    // A table value constructor of an INSERT statement is limited to 1000 rows
+    private static final int MAX_TABLE_VALUE_CONSTRUCTOR_ROWS = 1000;
+
     public static class SqlServerDatabaseDialectProvider implements DatabaseDialectProvider {
         @Override
         public boolean supports(Dialect dialect) {
@@ -133,12 +138,41 @@ public String getTimestampNegativeInfinityValue() {
     @Override
     public String getUpsertStatement(TableDescriptor table, JdbcSinkRecord record) {
         final SqlStatementBuilder builder = new SqlStatementBuilder();
-        builder.append("MERGE INTO ");
-        builder.append(getQualifiedTableName(table.getId()));
-        builder.append(" WITH (HOLDLOCK) AS TARGET USING (SELECT ");
+        builder.append("(SELECT ");
         builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(),
                 (name) -> columnNameFromField(name, columnQueryBindingFromField(name, table, record) + " AS ", record));
-        builder.append(") AS INCOMING ON (");
+        builder.append(") AS INCOMING");
+        return getMergeStatement(table, record, builder.build());
+    }
+
+    @Override
+    public Optional<String> getMultiRowInsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        return Optional.of(wrapWithIdentityInsert(table, getMultiRowValuesInsertStatement(table, record, rows)));
+    }
+
+    @Override
+    public Optional<String> getMultiRowUpsertStatement(TableDescriptor table, JdbcSinkRecord record, int rows) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("(VALUES ");
+        builder.append(getMultiRowValues(table, record, rows));
+        builder.append(") AS INCOMING (");
+        builder.appendLists(", ", record.keyFieldNames(), record.nonKeyFieldNames(), (name) -> columnNameFromField(name, record));
+        builder.append(")");
+        return Optional.of(getMergeStatement(table, record, builder.build()));
+    }
+
+    @Override
+    public int getMaxMultiRowStatementRows(int parametersPerRow) {
+        return Math.min(MAX_TABLE_VALUE_CONSTRUCTOR_ROWS, MAX_BIND_PARAMETERS / parametersPerRow);
+    }
+
+    private String getMergeStatement(TableDescriptor table, JdbcSinkRecord record, String incoming) {
+        final SqlStatementBuilder builder = new SqlStatementBuilder();
+        builder.append("MERGE INTO ");
+        builder.append(getQualifiedTableName(table.getId()));
+        builder.append(" WITH (HOLDLOCK) AS TARGET USING ");
+        builder.append(incoming);
+        builder.append(" ON (");
         builder.appendList(" AND ", record.keyFieldNames(), (name) -> {
             final String columnName = columnNameFromField(name, record);
             return "TARGET." + columnName + "=INCOMING." + columnName;
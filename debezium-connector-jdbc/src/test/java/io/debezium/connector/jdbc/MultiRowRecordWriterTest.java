@@ -0,0 +1,172 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.hibernate.SharedSessionContract;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.jdbc.dialect.DatabaseDialect;
+import io.debezium.connector.jdbc.field.JdbcFieldDescriptor;
+import io.debezium.connector.jdbc.relational.TableDescriptor;
+import io.debezium.sink.spi.SinkProgressListener;
+import io.debezium.sink.valuebinding.ValueBindDescriptor;
+
+@Tag("UnitTests")
+class MultiRowRecordWriterTest extends AbstractBaseJdbcSinkTest {
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct().field("id", Schema.INT32_SCHEMA).build();
+
+    @Test
+    void performTableWriteShouldWriteRowsWithFixedSizeStatements() throws SQLException {
+        DatabaseDialect dialect = mockDialect();
+        MultiRowRecordWriter writer = createWriter(dialect, "insert");
+
+        Connection conn = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(conn.prepareStatement(any())).thenReturn(ps);
+        when(ps.executeBatch()).thenReturn(new int[]{ 1 });
+
+        TableDescriptor table = TableDescriptor.builder().tableName("test_table").build();
+        when(dialect.getMultiRowInsertStatement(any(), any(), anyInt()))
+                .thenAnswer(invocation -> Optional.of("INSERT ROWS " + invocation.getArgument(2)));
+        when(dialect.getInsertStatement(any(), any())).thenReturn("INSERT ROW");
+
+        // 4 + 4 rows with the full statement, 2 rows with the next power of two, the last row row-wise
+        writer.performTableWrite(conn, table, createRecords(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+
+        verify(conn).prepareStatement("INSERT ROWS 4");
+        verify(conn).prepareStatement("INSERT ROWS 2");
+        verify(conn).prepareStatement("INSERT ROW");
+        verify(ps, times(4)).addBatch();
+        verify(ps, times(3)).executeBatch();
+
+        // rows are bound one after another with consecutive parameter indexes
+        verify(ps).setObject(1, 0);
+        verify(ps).setObject(4, 3);
+        verify(ps).setObject(1, 4);
+        verify(ps).setObject(4, 7);
+        verify(ps).setObject(2, 9);
+    }
+
+    @Test
+    void performTableWriteShouldLimitRowsToDialectMaximum() throws SQLException {
+        DatabaseDialect dialect = mockDialect();
+        when(dialect.getMaxMultiRowStatementRows(1)).thenReturn(2);
+        MultiRowRecordWriter writer = createWriter(dialect, "insert");
+
+        Connection conn = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(conn.prepareStatement(any())).thenReturn(ps);
+        when(ps.executeBatch()).thenReturn(new int[]{ 1 });
+
+        TableDescriptor table = TableDescriptor.builder().tableName("test_table").build();
+        when(dialect.getMultiRowInsertStatement(any(), any(), anyInt()))
+                .thenAnswer(invocation -> Optional.of("INSERT ROWS " + invocation.getArgument(2)));
+
+        writer.performTableWrite(conn, table, createRecords(0, 1, 2, 3));
+
+        verify(dialect, never()).getMultiRowInsertStatement(any(), any(), eq(4));
+        verify(conn).prepareStatement("INSERT ROWS 2");
+        verify(ps, times(2)).addBatch();
+    }
+
+    @Test
+    void performTableWriteShouldWriteRowWiseWhenUpsertHasDuplicateKeys() throws SQLException {
+        DatabaseDialect dialect = mockDialect();
+        MultiRowRecordWriter writer = createWriter(dialect, "upsert");
+
+        Connection conn = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(conn.prepareStatement(any())).thenReturn(ps);
+        when(ps.executeBatch()).thenReturn(new int[]{ 1, 1, 1 });
+
+        TableDescriptor table = TableDescriptor.builder().tableName("test_table").build();
+        when(dialect.getUpsertStatement(any(), any())).thenReturn("UPSERT ROW");
+
+        writer.performTableWrite(conn, table, createRecords(1, 2, 1));
+
+        verify(dialect, never()).getMultiRowUpsertStatement(any(), any(), anyInt());
+        verify(conn).prepareStatement("UPSERT ROW");
+        verify(ps, times(3)).addBatch();
+    }
+
+    @Test
+    void performTableWriteShouldWriteMultiRowUpsertWhenDuplicateKeysAreSupported() throws SQLException {
+        DatabaseDialect dialect = mockDialect();
+        when(dialect.isMultiRowUpsertWithDuplicateKeysSupported()).thenReturn(true);
+        MultiRowRecordWriter writer = createWriter(dialect, "upsert");
+
+        Connection conn = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(conn.prepareStatement(any())).thenReturn(ps);
+        when(ps.executeBatch()).thenReturn(new int[]{ 2 });
+
+        TableDescriptor table = TableDescriptor.builder().tableName("test_table").build();
+        when(dialect.getMultiRowUpsertStatement(any(), any(), anyInt()))
+                .thenAnswer(invocation -> Optional.of("UPSERT ROWS " + invocation.getArgument(2)));
+
+        writer.performTableWrite(conn, table, createRecords(1, 1));
+
+        verify(conn).prepareStatement("UPSERT ROWS 2");
+        verify(ps).addBatch();
+    }
+
+    private MultiRowRecordWriter createWriter(DatabaseDialect dialect, String insertMode) {
+        JdbcSinkConnectorConfig config = getConfig(Map.of(
+                JdbcSinkConnectorConfig.INSERT_MODE, insertMode,
+                JdbcSinkConnectorConfig.MULTI_ROW_INSERT, "true",
+                JdbcSinkConnectorConfig.MULTI_ROW_INSERT_MAX_ROWS, "4"));
+        return new MultiRowRecordWriter(mock(SharedSessionContract.class), new QueryBinderResolver(), config, dialect,
+                SinkProgressListener.NO_OP());
+    }
+
+    private static DatabaseDialect mockDialect() {
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        when(dialect.getMaxMultiRowStatementRows(anyInt())).thenReturn(Integer.MAX_VALUE);
+        when(dialect.bindValue(any(JdbcFieldDescriptor.class), anyInt(), any()))
+                .thenAnswer(invocation -> List.of(new ValueBindDescriptor(invocation.getArgument(1), invocation.getArgument(2))));
+        return dialect;
+    }
+
+    private static List<JdbcSinkRecord> createRecords(int... ids) {
+        final JdbcFieldDescriptor idField = new JdbcFieldDescriptor(
+                new io.debezium.sink.field.FieldDescriptor(Schema.INT32_SCHEMA, "id", true), true);
+
+        final List<JdbcSinkRecord> records = new ArrayList<>();
+        for (int id : ids) {
+            JdbcSinkRecord record = mock(JdbcSinkRecord.class);
+            when(record.isDelete()).thenReturn(false);
+            when(record.keyFieldNames()).thenReturn(Set.of("id"));
+            when(record.nonKeyFieldNames()).thenReturn(Set.of());
+            when(record.filteredKey()).thenReturn(new Struct(KEY_SCHEMA).put("id", id));
+            when(record.jdbcFields()).thenReturn(Map.of("id", idField));
+            records.add(record);
+        }
+        return records;
+    }
+}
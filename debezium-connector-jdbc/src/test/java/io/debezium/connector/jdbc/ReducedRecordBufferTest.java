@@ -18,6 +18,7 @@
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -97,6 +98,68 @@ void correctlyBuffer(SinkRecordFactory factory) {
         assertThat(batches.size()).isEqualTo(2);
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When a reduction window is configured then the buffer holds its records until the window expires")
+    void correctlyHoldRecordsWithinWindow(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getConfig(
+                Map.of(
+                        SinkConnectorConfig.BATCH_SIZE, "5",
+                        SinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue(),
+                        JdbcSinkConnectorConfig.PRIMARY_KEY_FIELDS, "id",
+                        JdbcSinkConnectorConfig.USE_REDUCTION_BUFFER, "true",
+                        JdbcSinkConnectorConfig.REDUCTION_BUFFER_WINDOW_MS, "1000"));
+
+        AtomicLong now = new AtomicLong(10_000L);
+        ReducedRecordBuffer reducedRecordBuffer = new ReducedRecordBuffer(config, null, now::get);
+        assertThat(reducedRecordBuffer.isFlushDue()).isTrue();
+
+        reducedRecordBuffer.add(createRecordPkFieldId(factory, (byte) 1, config));
+        now.addAndGet(600L);
+        reducedRecordBuffer.add(createRecordPkFieldId(factory, (byte) 2, config));
+        reducedRecordBuffer.add(createRecordPkFieldId(factory, (byte) 1, config));
+        assertThat(reducedRecordBuffer.isFlushDue()).isFalse();
+        assertThat(reducedRecordBuffer.getRecords()).hasSize(2);
+
+        // the window started with the first record, not with the latest one
+        now.addAndGet(400L);
+        assertThat(reducedRecordBuffer.isFlushDue()).isTrue();
+        assertThat(reducedRecordBuffer.flush()).hasSize(2);
+
+        // a new window starts with the next record
+        reducedRecordBuffer.add(createRecordPkFieldId(factory, (byte) 3, config));
+        assertThat(reducedRecordBuffer.isFlushDue()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @DisplayName("When the only buffered key is updated repeatedly then the buffer is still flushed when the window expires")
+    void correctlyExpireWindowOfRepeatedlyUpdatedRecord(SinkRecordFactory factory) {
+        JdbcSinkConnectorConfig config = getConfig(
+                Map.of(
+                        SinkConnectorConfig.BATCH_SIZE, "5",
+                        SinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue(),
+                        JdbcSinkConnectorConfig.PRIMARY_KEY_FIELDS, "id",
+                        JdbcSinkConnectorConfig.USE_REDUCTION_BUFFER, "true",
+                        JdbcSinkConnectorConfig.REDUCTION_BUFFER_WINDOW_MS, "1000"));
+
+        AtomicLong now = new AtomicLong(10_000L);
+        ReducedRecordBuffer reducedRecordBuffer = new ReducedRecordBuffer(config, null, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(reducedRecordBuffer.add(createRecordPkFieldId(factory, (byte) 1, config))).isEmpty();
+            assertThat(reducedRecordBuffer.isFlushDue()).isFalse();
+            now.addAndGet(199L);
+        }
+
+        // 995 ms passed since the first update, the window expires with the next 5 ms
+        reducedRecordBuffer.add(createRecordPkFieldId(factory, (byte) 1, config));
+        now.addAndGet(5L);
+        assertThat(reducedRecordBuffer.getRecords()).hasSize(1);
+        assertThat(reducedRecordBuffer.isFlushDue()).isTrue();
+        assertThat(reducedRecordBuffer.flush()).hasSize(1);
+    }
+
     @ParameterizedTest
     @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
     @DisplayName("When 4 sink records {0,1,2,3} arrives then 2 of them {0,2}" +
@@ -0,0 +1,91 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.connect.errors.ConnectException;
+import org.hibernate.StatelessSession;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTests")
+class TableFlushPoolTest {
+
+    private static final JdbcSinkConnectorConfig CONFIG = new JdbcSinkConnectorConfig(Map.of(
+            JdbcSinkConnectorConfig.FLUSH_PARALLELISM, "2"));
+
+    @Test
+    void shouldFlushTablesConcurrentlyWithSeparateRecordWriters() {
+        final Set<RecordWriter> usedWriters = ConcurrentHashMap.newKeySet();
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (TableFlushPool pool = new TableFlushPool(CONFIG, () -> mock(StatelessSession.class), session -> mock(RecordWriter.class))) {
+            final TableFlushPool.TableFlush flush = writer -> {
+                usedWriters.add(writer);
+                bothStarted.countDown();
+                try {
+                    // only completes when the other table is flushed at the same time
+                    assertThat(bothStarted.await(10, TimeUnit.SECONDS)).isTrue();
+                }
+                catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+            pool.flush(List.of(flush, flush));
+        }
+
+        assertThat(usedWriters).hasSize(2);
+    }
+
+    @Test
+    void shouldRethrowFailureAfterAllFlushesCompleted() {
+        final AtomicBoolean otherCompleted = new AtomicBoolean();
+
+        try (TableFlushPool pool = new TableFlushPool(CONFIG, () -> mock(StatelessSession.class), session -> mock(RecordWriter.class))) {
+            assertThatThrownBy(() -> pool.flush(List.of(
+                    writer -> {
+                        throw new ConnectException("Failed to flush records");
+                    },
+                    writer -> {
+                        try {
+                            Thread.sleep(100);
+                        }
+                        catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        otherCompleted.set(true);
+                    })))
+                    .isInstanceOf(ConnectException.class)
+                    .hasMessage("Failed to flush records");
+        }
+
+        assertThat(otherCompleted).isTrue();
+    }
+
+    @Test
+    void shouldCloseSessionsOnClose() {
+        final StatelessSession session = mock(StatelessSession.class);
+        when(session.isOpen()).thenReturn(true);
+
+        new TableFlushPool(CONFIG, () -> session, s -> mock(RecordWriter.class)).close();
+
+        verify(session, times(2)).close();
+    }
+}
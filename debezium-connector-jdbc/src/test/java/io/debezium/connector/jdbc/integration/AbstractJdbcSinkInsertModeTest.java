@@ -5,12 +5,16 @@
  */
 package io.debezium.connector.jdbc.integration;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.assertj.db.api.TableAssert;
 import org.assertj.db.type.ValueType;
@@ -27,6 +31,7 @@
 import io.debezium.connector.jdbc.junit.jupiter.SinkType;
 import io.debezium.connector.jdbc.junit.jupiter.e2e.SkipWhenSink;
 import io.debezium.connector.jdbc.util.SinkRecordFactory;
+import io.debezium.data.SchemaAndValueField;
 import io.debezium.doc.FixFor;
 import io.debezium.sink.SinkConnectorConfig.PrimaryKeyMode;
 
@@ -402,4 +407,149 @@ public void testRecordDefaultValueUsedOnlyWithRequiredFieldWithNullValue(SinkRec
         getSink().assertColumnType(tableAssert, "id", ValueType.NUMBER, (byte) 1);
         getSink().assertColumnHasNullValue(tableAssert, "optional_with_default_null_value");
     }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @SkipWhenSink(value = { SinkType.POSTGRES, SinkType.COCKROACHDB, SinkType.SINGLESTORE, SinkType.STARROCKS, SinkType.DB2,
+            SinkType.DB2I }, reason = "Only the MySQL, SQL Server and Oracle dialects write with multi-row statements")
+    public void testInsertModeInsertWithMultiRowInsert(SinkRecordFactory factory) throws Exception {
+        final Map<String, String> properties = getDefaultSinkConfig();
+        properties.put(JdbcSinkConnectorConfig.SCHEMA_EVOLUTION, SchemaEvolutionMode.BASIC.getValue());
+        properties.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue());
+        properties.put(JdbcSinkConnectorConfig.INSERT_MODE, InsertMode.INSERT.getValue());
+        properties.put(JdbcSinkConnectorConfig.MULTI_ROW_INSERT, "true");
+        properties.put(JdbcSinkConnectorConfig.MULTI_ROW_INSERT_MAX_ROWS, "4");
+        startSinkConnector(properties);
+        assertSinkConnectorIsRunning();
+
+        final String tableName = randomTableName();
+        final String topicName = topicName("server1", "schema", tableName);
+
+        JdbcSinkConnectorConfig config = getConfig(properties);
+        // written with a statement of 4 rows, one of 2 rows and a single-row statement
+        final List<JdbcKafkaSinkRecord> records = createMultiRowRecords(factory, topicName, 1, 7, "name-", 0, config);
+        consume(records);
+
+        final TableAssert tableAssert = TestHelper.assertTable(assertDbConnection(), destinationTableName(records.get(0)));
+        tableAssert.exists().hasNumberOfRows(7).hasNumberOfColumns(3);
+
+        final Map<Integer, String> expected = new HashMap<>();
+        for (int id = 1; id <= 7; id++) {
+            expected.put(id, "name-" + id);
+        }
+        assertThat(getNamesById(destinationTableName(records.get(0)))).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @SkipWhenSink(value = { SinkType.POSTGRES, SinkType.COCKROACHDB, SinkType.SINGLESTORE, SinkType.STARROCKS, SinkType.DB2,
+            SinkType.DB2I }, reason = "Only the MySQL, SQL Server and Oracle dialects write with multi-row statements")
+    public void testInsertModeUpsertWithMultiRowInsert(SinkRecordFactory factory) throws Exception {
+        final Map<String, String> properties = getDefaultSinkConfig();
+        properties.put(JdbcSinkConnectorConfig.SCHEMA_EVOLUTION, SchemaEvolutionMode.BASIC.getValue());
+        properties.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue());
+        properties.put(JdbcSinkConnectorConfig.INSERT_MODE, InsertMode.UPSERT.getValue());
+        properties.put(JdbcSinkConnectorConfig.MULTI_ROW_INSERT, "true");
+        properties.put(JdbcSinkConnectorConfig.MULTI_ROW_INSERT_MAX_ROWS, "4");
+        startSinkConnector(properties);
+        assertSinkConnectorIsRunning();
+
+        final String tableName = randomTableName();
+        final String topicName = topicName("server1", "schema", tableName);
+
+        JdbcSinkConnectorConfig config = getConfig(properties);
+        final List<JdbcKafkaSinkRecord> inserts = createMultiRowRecords(factory, topicName, 1, 5, "name-", 0, config);
+        consume(inserts);
+
+        // updates rows 3 to 5 and inserts rows 6 to 8 in the same statements
+        consume(createMultiRowRecords(factory, topicName, 3, 8, "updated-", 5, config));
+
+        // a batch that changes the same row twice, which only MySQL writes with a multi-row statement
+        final List<JdbcKafkaSinkRecord> repeatedKey = new ArrayList<>();
+        repeatedKey.add(createMultiRowRecord(factory, topicName, 9, "first", 11, config));
+        repeatedKey.add(createMultiRowRecord(factory, topicName, 9, "last", 12, config));
+        repeatedKey.add(createMultiRowRecord(factory, topicName, 1, "updated-1", 13, config));
+        consume(repeatedKey);
+
+        final String destinationTable = destinationTableName(inserts.get(0));
+        final TableAssert tableAssert = TestHelper.assertTable(assertDbConnection(), destinationTable);
+        tableAssert.exists().hasNumberOfRows(9).hasNumberOfColumns(3);
+
+        final Map<Integer, String> expected = new HashMap<>();
+        expected.put(1, "updated-1");
+        expected.put(2, "name-2");
+        for (int id = 3; id <= 8; id++) {
+            expected.put(id, "updated-" + id);
+        }
+        expected.put(9, "last");
+        assertThat(getNamesById(destinationTable)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(SinkRecordFactoryArgumentsProvider.class)
+    @SkipWhenSink(value = { SinkType.POSTGRES, SinkType.COCKROACHDB, SinkType.SINGLESTORE, SinkType.STARROCKS, SinkType.DB2,
+            SinkType.DB2I }, reason = "Only the MySQL, SQL Server and Oracle dialects write with multi-row statements")
+    public void testInsertModeUpsertWithMultiRowInsertLimitedByBindParameters(SinkRecordFactory factory) throws Exception {
+        final Map<String, String> properties = getDefaultSinkConfig();
+        properties.put(JdbcSinkConnectorConfig.SCHEMA_EVOLUTION, SchemaEvolutionMode.BASIC.getValue());
+        properties.put(JdbcSinkConnectorConfig.PRIMARY_KEY_MODE, PrimaryKeyMode.RECORD_KEY.getValue());
+        properties.put(JdbcSinkConnectorConfig.INSERT_MODE, InsertMode.UPSERT.getValue());
+        properties.put(JdbcSinkConnectorConfig.BATCH_SIZE, "1000");
+        properties.put(JdbcSinkConnectorConfig.MULTI_ROW_INSERT, "true");
+        properties.put(JdbcSinkConnectorConfig.MULTI_ROW_INSERT_MAX_ROWS, "1024");
+        startSinkConnector(properties);
+        assertSinkConnectorIsRunning();
+
+        final String tableName = randomTableName();
+        final String topicName = topicName("server1", "schema", tableName);
+
+        // SQL Server limits the statements to 666 rows of 3 bind parameters, the other databases write 512 rows at most
+        JdbcSinkConnectorConfig config = getConfig(properties);
+        final List<JdbcKafkaSinkRecord> inserts = createMultiRowRecords(factory, topicName, 1, 700, "name-", 0, config);
+        consume(inserts);
+        consume(createMultiRowRecords(factory, topicName, 1, 700, "updated-", 700, config));
+
+        final String destinationTable = destinationTableName(inserts.get(0));
+        final TableAssert tableAssert = TestHelper.assertTable(assertDbConnection(), destinationTable);
+        tableAssert.exists().hasNumberOfRows(700).hasNumberOfColumns(3);
+
+        final Map<Integer, String> expected = new HashMap<>();
+        for (int id = 1; id <= 700; id++) {
+            expected.put(id, "updated-" + id);
+        }
+        assertThat(getNamesById(destinationTable)).isEqualTo(expected);
+    }
+
+    private static List<JdbcKafkaSinkRecord> createMultiRowRecords(SinkRecordFactory factory, String topicName, int firstId, int lastId,
+                                                                   String namePrefix, int firstOffset, JdbcSinkConnectorConfig config) {
+        final List<JdbcKafkaSinkRecord> records = new ArrayList<>();
+        for (int id = firstId; id <= lastId; id++) {
+            records.add(createMultiRowRecord(factory, topicName, id, namePrefix + id, firstOffset + id - firstId, config));
+        }
+        return records;
+    }
+
+    private static JdbcKafkaSinkRecord createMultiRowRecord(SinkRecordFactory factory, String topicName, int id, String name, int offset,
+                                                            JdbcSinkConnectorConfig config) {
+        return factory.createInsertSchemaAndValue(
+                topicName,
+                List.of(new SchemaAndValueField("id", Schema.INT32_SCHEMA, id)),
+                List.of(new SchemaAndValueField("name", Schema.STRING_SCHEMA, name),
+                        new SchemaAndValueField("nick_name", Schema.OPTIONAL_STRING_SCHEMA, name + "$")),
+                offset,
+                config);
+    }
+
+    private Map<Integer, String> getNamesById(String tableName) throws Exception {
+        final Map<Integer, String> names = new HashMap<>();
+        getSink().assertRows(tableName, rs -> {
+            do {
+                final String name = rs.getString(getSink().formatColumnName("name"));
+                assertThat(rs.getString(getSink().formatColumnName("nick_name"))).isEqualTo(name + "$");
+                names.put(rs.getInt(getSink().formatColumnName("id")), name);
+            } while (rs.next());
+            return null;
+        });
+        return names;
+    }
 }
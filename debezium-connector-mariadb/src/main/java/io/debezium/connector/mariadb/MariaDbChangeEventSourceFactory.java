@@ -146,7 +146,8 @@ public StreamingChangeEventSource<MariaDbPartition, MariaDbOffsetContext> getStr
                 clock,
                 snapshotProgressListener,
                 dataChangeEventListener,
-                notificationService));
+                notificationService,
+                connectionFactory));
     }
 
     private void preSnapshot() {
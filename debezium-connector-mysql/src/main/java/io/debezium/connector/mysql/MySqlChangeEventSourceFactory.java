@@ -144,6 +144,7 @@ public StreamingChangeEventSource<MySqlPartition, MySqlOffsetContext> getStreami
                 schema,
                 clock,
                 snapshotProgressListener,
-                dataChangeEventListener, notificationService));
+                dataChangeEventListener, notificationService,
+                connectionFactory));
     }
 }
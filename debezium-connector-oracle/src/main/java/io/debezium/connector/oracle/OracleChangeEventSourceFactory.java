@@ -119,6 +119,14 @@ public StreamingChangeEventSource<OraclePartition, OracleOffsetContext> getStrea
                 clock,
                 snapshotProgressListener,
                 dataChangeEventListener,
-                notificationService));
+                notificationService,
+                () -> {
+                    // chunk readers are dedicated to reading the snapshotted tables, so they stay within the PDB
+                    final OracleConnection chunkReaderConnection = connectionFactory.snapshotConnectionFactory().newConnection();
+                    if (configuration.getPdbName() != null) {
+                        chunkReaderConnection.setSessionToPdb(configuration.getPdbName());
+                    }
+                    return chunkReaderConnection;
+                }));
     }
 }
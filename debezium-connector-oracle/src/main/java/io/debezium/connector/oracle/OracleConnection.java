@@ -12,6 +12,7 @@
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -42,6 +43,7 @@
 import io.debezium.connector.oracle.util.OracleUtils;
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.source.snapshot.chunked.HistogramBucket;
 import io.debezium.pipeline.source.snapshot.incremental.ChunkQueryBuilder;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.Partition;
@@ -526,6 +528,46 @@ public String buildSelectPrimaryKeyBoundaries(TableId tableId, long size, String
                 .toString();
     }
 
+    @Override
+    public String buildSelectKeyRange(TableId tableId, String column) {
+        final TableId truncatedTableId = new TableId(null, tableId.schema(), tableId.table());
+        return "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + quotedTableIdString(truncatedTableId);
+    }
+
+    /**
+     * Reads the histogram of a numeric column, whose endpoint numbers are cumulative for frequency, top-frequency
+     * and hybrid histograms, and bucket numbers of equally populated buckets for height-balanced histograms.
+     */
+    @Override
+    public List<HistogramBucket> readColumnHistogram(TableId tableId, Column column) {
+        switch (column.jdbcType()) {
+            case Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL:
+                break;
+            default:
+                return List.of();
+        }
+        try {
+            return prepareQueryAndMap(
+                    "SELECT ENDPOINT_NUMBER, ENDPOINT_VALUE FROM DBA_TAB_HISTOGRAMS WHERE OWNER=? AND TABLE_NAME=? AND COLUMN_NAME=? ORDER BY ENDPOINT_NUMBER",
+                    ps -> {
+                        ps.setString(1, tableId.schema());
+                        ps.setString(2, tableId.table());
+                        ps.setString(3, column.name());
+                    },
+                    rs -> {
+                        final List<HistogramBucket> buckets = new ArrayList<>();
+                        while (rs.next()) {
+                            buckets.add(new HistogramBucket(rs.getBigDecimal(2), rs.getLong(1)));
+                        }
+                        return buckets;
+                    });
+        }
+        catch (SQLException e) {
+            LOGGER.debug("Error while reading histogram of column {} of table {}: {}", column.name(), tableId, e.getMessage(), e);
+        }
+        return List.of();
+    }
+
     public static String connectionString(JdbcConfiguration config) {
         return config.getString(URL) != null ? config.getString(URL)
                 : ConnectorAdapter.parse(config.getString("connection.adapter")).getConnectionUrl();
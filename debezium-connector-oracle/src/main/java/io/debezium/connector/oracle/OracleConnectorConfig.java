@@ -13,6 +13,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -45,6 +46,7 @@
 import io.debezium.relational.ColumnFilterMode;
 import io.debezium.relational.HistorizedRelationalDatabaseConnectorConfig;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.Selectors;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables.TableFilter;
 import io.debezium.relational.history.HistoryRecordComparator;
@@ -308,6 +310,38 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription(
                     "The maximum amount of time that the connector will use to tune the optimal sleep time when reading data from LogMiner. Value is in milliseconds.");
 
+    public static final Field LOG_MINING_BATCH_SIZE_ADAPTIVE = Field.create("log.mining.batch.size.adaptive")
+            .withDisplayName("Adapt the batch size and sleep time to the LogMiner query cost")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED))
+            .withDefault(false)
+            .withDescription("When set to 'true' (the default is 'false'), the connector limits the SCN interval of each LogMiner query to a batch size " +
+                    "between 'log.mining.batch.size.min' and 'log.mining.batch.size.max', and sleeps between 'log.mining.sleep.time.min.ms' and " +
+                    "'log.mining.sleep.time.max.ms' between queries. The batch size is halved when a query exceeds the target fetch duration or " +
+                    "row count, and is increased by 'log.mining.batch.size.increment' otherwise while the connector lags behind.");
+
+    public static final Field LOG_MINING_BATCH_TARGET_FETCH_MS = Field.create("log.mining.batch.target.fetch.ms")
+            .withDisplayName("Target duration in milliseconds of an adaptive LogMiner query")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED))
+            .withDefault(2_000L)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The duration in milliseconds of fetching the results of a LogMiner query above which the adaptive batch size is reduced.");
+
+    public static final Field LOG_MINING_BATCH_TARGET_ROWS = Field.create("log.mining.batch.target.rows")
+            .withDisplayName("Target number of rows of an adaptive LogMiner query")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED))
+            .withDefault(100_000L)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The number of rows returned by a LogMiner query above which the adaptive batch size is reduced.");
+
     public static final Field LOG_MINING_ARCHIVE_LOG_ONLY_MODE = Field.create("log.mining.archive.log.only.mode")
             .withDisplayName("Specifies whether log mining should only target archive logs or both archive and redo logs")
             .withType(Type.BOOLEAN)
@@ -447,7 +481,9 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     System.lineSeparator() +
                     "infinispan_remote - This option uses a remote Infinispan cluster to buffer transaction data and persist it to disk." + System.lineSeparator() +
                     System.lineSeparator() +
-                    "ehcache - Use ehcache in embedded mode to buffer transaction data and persist it to disk.");
+                    "ehcache - Use ehcache in embedded mode to buffer transaction data and persist it to disk." + System.lineSeparator() +
+                    System.lineSeparator() +
+                    "memory_mapped - Buffers transaction data off-heap in memory-mapped segment files that are persisted to disk.");
 
     public static final Field LOG_MINING_BUFFER_TRACK_RS_ID = Field.create("log.mining.buffer.track.rs_id")
             .withDisplayName("Toggle whether the 'rs_id' value is tracked and buffered")
@@ -520,6 +556,27 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     "This is useful for managing buffer memory and/or space when dealing with very large transactions. " +
                     "Defaults to 0, meaning that no threshold is applied and transactions can have unlimited events.");
 
+    public static final Field LOG_MINING_BUFFER_COMPACTION = Field.create("log.mining.buffer.compaction")
+            .withDisplayName("Merge buffered changes to the same row")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withValidation(OracleConnectorConfig::validateLogMiningBufferCompaction)
+            .withDescription("When enabled, changes to the same row within a transaction are merged while the transaction is buffered. " +
+                    "An update following an insert of the row is merged into the insert, and an update following an update of " +
+                    "the row is merged into the first update. This reduces the buffer size and the number of emitted events, " +
+                    "but intermediate row images are not emitted. Cannot be enabled when 'lob.enabled' is set to true.");
+
+    public static final Field LOG_MINING_BUFFER_COMPACTION_EXCLUDE_LIST = Field.create("log.mining.buffer.compaction.exclude.list")
+            .withDisplayName("List of tables to exclude from buffered change compaction")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isListOfRegex)
+            .withDescription("A comma-separated list of regular expressions that match the fully-qualified names of tables " +
+                    "('<schemaName>.<tableName>') whose changes are not merged when 'log.mining.buffer.compaction' is enabled.");
+
     public static final Field LOG_MINING_BUFFER_INFINISPAN_CACHE_GLOBAL = Field.create("log.mining.buffer.infinispan.cache.global")
             .withDisplayName("Infinispan 'global' cache configuration")
             .withType(Type.STRING)
@@ -664,6 +721,17 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     "By setting this option to 'true' (the default is 'false'), the connector will close and re-open a database connection " +
                     "after every detected log switch or if the log.mining.session.max.ms has been reached.");
 
+    public static final Field LOG_MINING_SESSION_PER_REDO_THREAD = Field.create("log.mining.session.per.redo.thread")
+            .withDisplayName("Mine each redo thread in a separate LogMiner session")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withValidation(OracleConnectorConfig::validateLogMiningSessionPerRedoThread)
+            .withDescription("When mining an Oracle RAC database with the unbuffered LogMiner adapter, setting this option to 'true' " +
+                    "(the default is 'false') mines the logs of each redo thread in a separate LogMiner session and database connection " +
+                    "in parallel, merging the committed transactions of all redo threads in commit order.");
+
     public static final Field LOG_MINING_TRANSACTION_SNAPSHOT_BOUNDARY_MODE = Field.createInternal("log.mining.transaction.snapshot.boundary.mode")
             .withDisplayName("Transaction snapshot boundary mode")
             .withEnum(TransactionSnapshotBoundaryMode.class, TransactionSnapshotBoundaryMode.SKIP)
@@ -741,6 +809,16 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .required()
             .withDescription("The port of the OpenLogReplicator network service");
 
+    public static final Field OLR_FORMAT = Field.create("openlogreplicator.format")
+            .withDisplayName("The payload format of the OpenLogReplicator network service")
+            .withEnum(OpenLogReplicatorFormat.class, OpenLogReplicatorFormat.JSON)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The payload format that the OpenLogReplicator source is configured to write, which must match " +
+                    "the 'format.type' of the source in the OpenLogReplicator configuration. " + System.lineSeparator() +
+                    "json - The payloads are JSON documents (the default)." + System.lineSeparator() +
+                    "protobuf - The payloads are protocol buffer messages, which carry column values in binary form.");
+
     public static final Field LOG_MINING_SCHEMA_CHANGES_USERNAME_EXCLUDE_LIST = Field.createInternal("log.mining.schema_changes.username.exclude.list")
             .withDisplayName("Username exclusion list for schema changes")
             .withType(Type.STRING)
@@ -821,6 +899,34 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription("Specifies the inner body the Ehcache <cache/> tag for the rollbacks cache, but " +
                     "should not include the <key-type/> nor the <value-type/> attributes as these are managed by Debezium.");
 
+    public static final Field LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY = Field.create("log.mining.buffer.memory_mapped.directory")
+            .withDisplayName("Defines the directory for the memory-mapped transaction buffer")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withValidation(OracleConnectorConfig::validateMemoryMappedConfigFieldRequired)
+            .withDescription("Specifies the directory where the memory-mapped transaction buffer stores its segment files. " +
+                    "The directory must not be shared with any other connector.");
+
+    public static final Field LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE = Field.create("log.mining.buffer.memory_mapped.segment.size")
+            .withDisplayName("Defines the size of each memory-mapped transaction buffer segment")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(64L * 1024 * 1024)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("Specifies the size in bytes of each memory-mapped segment file used by the memory-mapped transaction buffer. " +
+                    "A segment is reclaimed once all transactions with events in the segment have been committed or rolled back.");
+
+    public static final Field SCHEMA_CACHE_FILE = Field.create("schema.cache.file")
+            .withDisplayName("Defines the file where the relational schema is cached between restarts")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("Specifies the file where the connector writes the relational model of the captured tables when it stops. "
+                    + "On the next start, the model is loaded from this file instead of being recovered from the schema history, "
+                    + "provided the file is consistent with the connector offsets. The file must not be shared with any other connector.");
+
     public static final Field OBJECT_ID_CACHE_SIZE = Field.createInternal("object.id.cache.size")
             .withDisplayName("Controls the maximum size of the object ID cache")
             .withType(Type.INT)
@@ -936,6 +1042,28 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription("Specifies the maximum memory in bytes the LogMiner session can use for performing SQL sort operations. " +
                     "Setting this to 0 (the default) uses the database's default SORT_AREA_SIZE.");
 
+    public static final Field LOG_MINING_PREFETCH_ROWS = Field.create("log.mining.prefetch.rows")
+            .withDisplayName("Number of LogMiner rows to read ahead of processing")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("Specifies the maximum number of LogMiner rows that a separate thread reads ahead of processing, " +
+                    "so that fetching rows from the database overlaps parsing and processing them. " +
+                    "Setting this to 0 (the default) reads and processes the rows on the same thread.");
+
+    public static final Field XSTREAM_LCR_QUEUE_SIZE = Field.create("xstream.lcr.queue.size")
+            .withDisplayName("Number of XStream LCRs queued ahead of processing")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("Specifies the maximum number of LCRs and LOB chunks that the XStream callback hands to a separate thread " +
+                    "for processing, so that receiving LCRs from the outbound server is not throttled by processing them. " +
+                    "Setting this to 0 (the default) processes the LCRs on the XStream callback thread.");
+
     private static final ConfigDefinition CONFIG_DEFINITION = HistorizedRelationalDatabaseConnectorConfig.CONFIG_DEFINITION.edit()
             .name("Oracle")
             .excluding(
@@ -949,26 +1077,31 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .group(Field.Group.CONNECTION_ADVANCED, CONNECTOR_ADAPTER, LOG_MINING_STRATEGY, CAPTURE_MODE, ARCHIVE_LOG_HOURS, LOG_MINING_TRANSACTION_RETENTION_MS,
                     LOG_MINING_BATCH_SIZE_DEFAULT, LOG_MINING_BATCH_SIZE_MIN, LOG_MINING_BATCH_SIZE_MAX, LOG_MINING_BATCH_SIZE_INCREMENT,
                     LOG_MINING_SLEEP_TIME_DEFAULT_MS, LOG_MINING_SLEEP_TIME_MIN_MS, LOG_MINING_SLEEP_TIME_MAX_MS, LOG_MINING_SLEEP_TIME_INCREMENT_MS,
+                    LOG_MINING_BATCH_SIZE_ADAPTIVE, LOG_MINING_BATCH_TARGET_FETCH_MS, LOG_MINING_BATCH_TARGET_ROWS,
                     LOG_MINING_ARCHIVE_LOG_ONLY_MODE, LOB_ENABLED, LOG_MINING_USERNAME_INCLUDE_LIST, LOG_MINING_USERNAME_EXCLUDE_LIST, ARCHIVE_DESTINATION_NAME,
                     LOG_MINING_BUFFER_TYPE, LOG_MINING_BUFFER_TRACK_RS_ID, LOG_MINING_BUFFER_TRACK_CLIENT_ID, LOG_MINING_BUFFER_TRACK_USERNAME,
                     LOG_MINING_BUFFER_TRACK_COMMIT_TIMESTAMP, LOG_MINING_BUFFER_TRACK_START_TIMESTAMP,
                     LOG_MINING_BUFFER_DROP_ON_STOP, LOG_MINING_BUFFER_INFINISPAN_CACHE_GLOBAL,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_TRANSACTIONS, LOG_MINING_BUFFER_INFINISPAN_CACHE_EVENTS, LOG_MINING_BUFFER_INFINISPAN_CACHE_ROLLBACKS,
                     LOG_MINING_BUFFER_INFINISPAN_CACHE_PROCESSED_TRANSACTIONS, LOG_MINING_BUFFER_INFINISPAN_CACHE_SCHEMA_CHANGES,
-                    LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD, LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS, LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN,
+                    LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD, LOG_MINING_BUFFER_COMPACTION, LOG_MINING_BUFFER_COMPACTION_EXCLUDE_LIST,
+                    LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS, LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN,
                     LOG_MINING_SCN_GAP_DETECTION_TIME_INTERVAL_MAX_MS, LOG_MINING_LOG_QUERY_MAX_RETRIES, LOG_MINING_LOG_BACKOFF_INITIAL_DELAY_MS,
                     LOG_MINING_LOG_BACKOFF_MAX_DELAY_MS, LOG_MINING_SESSION_MAX_MS, LOG_MINING_WINDOW_MAX_MS, LOG_MINING_TRANSACTION_SNAPSHOT_BOUNDARY_MODE,
-                    LOG_MINING_READ_ONLY, LOG_MINING_FLUSH_TABLE_NAME, LOG_MINING_QUERY_FILTER_MODE, LOG_MINING_RESTART_CONNECTION, LOG_MINING_MAX_SCN_DEVIATION_MS,
-                    LOG_MINING_SCHEMA_CHANGES_USERNAME_EXCLUDE_LIST, LOG_MINING_INCLUDE_REDO_SQL, OLR_SOURCE, OLR_HOST, OLR_PORT,
+                    LOG_MINING_READ_ONLY, LOG_MINING_FLUSH_TABLE_NAME, LOG_MINING_QUERY_FILTER_MODE, LOG_MINING_RESTART_CONNECTION, LOG_MINING_SESSION_PER_REDO_THREAD,
+                    LOG_MINING_MAX_SCN_DEVIATION_MS,
+                    LOG_MINING_SCHEMA_CHANGES_USERNAME_EXCLUDE_LIST, LOG_MINING_INCLUDE_REDO_SQL, OLR_SOURCE, OLR_HOST, OLR_PORT, OLR_FORMAT,
                     LOG_MINING_BUFFER_EHCACHE_GLOBAL_CONFIG, LOG_MINING_BUFFER_EHCACHE_TRANSACTIONS_CONFIG, LOG_MINING_BUFFER_EHCACHE_PROCESSED_TRANSACTIONS_CONFIG,
                     LOG_MINING_BUFFER_EHCACHE_SCHEMA_CHANGES_CONFIG, LOG_MINING_BUFFER_EHCACHE_EVENTS_CONFIG, LOG_MINING_BUFFER_EHCACHE_ROLLBACKS_CONFIG,
+                    LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY, LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE,
                     LOG_MINING_SQL_RELAXED_QUOTE_DETECTION, LOG_MINING_CLIENTID_INCLUDE_LIST, LOG_MINING_CLIENTID_EXCLUDE_LIST, LOG_MINING_RESUME_POSITION_INTERVAL_MS,
                     LOG_MINING_BUFFER_DEFERRED_TRANSACTION_START, LOG_MINING_BUFFER_DEFERRED_TRANSACTION_RETENTION_MS, LOG_MINING_PATH_DICTIONARY,
                     LOG_MINING_USE_CTE_QUERY,
-                    LOG_MINING_REDO_THREAD_SCN_ADJUSTMENT, LOG_MINING_HASH_AREA_SIZE, LOG_MINING_SORT_AREA_SIZE, LOG_MINING_LOG_COUNT_MIN)
+                    LOG_MINING_REDO_THREAD_SCN_ADJUSTMENT, LOG_MINING_HASH_AREA_SIZE, LOG_MINING_SORT_AREA_SIZE, LOG_MINING_PREFETCH_ROWS, LOG_MINING_LOG_COUNT_MIN,
+                    XSTREAM_LCR_QUEUE_SIZE)
             .group(Field.Group.CONNECTOR, INTERVAL_HANDLING_MODE, UNAVAILABLE_VALUE_PLACEHOLDER, BINARY_HANDLING_MODE, SCHEMA_NAME_ADJUSTMENT_MODE,
                     LEGACY_DECIMAL_HANDLING_STRATEGY)
-            .group(Field.Group.CONNECTOR_ADVANCED, QUERY_FETCH_SIZE, OBJECT_ID_CACHE_SIZE)
+            .group(Field.Group.CONNECTOR_ADVANCED, QUERY_FETCH_SIZE, OBJECT_ID_CACHE_SIZE, SCHEMA_CACHE_FILE)
             .group(Field.Group.CONNECTOR_SNAPSHOT, SNAPSHOT_MODE, SNAPSHOT_ENHANCEMENT_TOKEN, SNAPSHOT_LOCKING_MODE, SNAPSHOT_DATABASE_ERRORS_MAX_RETRIES)
             .group(Field.Group.CONNECTOR, SOURCE_INFO_STRUCT_MAKER, SIGNAL_DATA_COLLECTION)
             .create();
@@ -1002,6 +1135,7 @@ public static ConfigDef configDef() {
     private final int queryFetchSize;
     private final int snapshotRetryDatabaseErrorsMaxRetries;
     private final int objectIdToTableIdCacheSize;
+    private final String schemaCacheFile;
     private final boolean legacyDecimalHandlingStrategy;
 
     // LogMiner options
@@ -1016,6 +1150,9 @@ public static ConfigDef configDef() {
     private final Duration logMiningSleepTimeMax;
     private final Duration logMiningSleepTimeDefault;
     private final Duration logMiningSleepTimeIncrement;
+    private final boolean logMiningBatchSizeAdaptive;
+    private final Duration logMiningBatchTargetFetch;
+    private final long logMiningBatchTargetRows;
     private final Duration logMiningTransactionRetention;
     private final boolean archiveLogOnlyMode;
     private final Duration archiveLogOnlyScnPollTime;
@@ -1024,6 +1161,8 @@ public static ConfigDef configDef() {
     private final Set<String> logMiningUsernameExcludes;
     private final LogMiningBufferType logMiningBufferType;
     private final long logMiningBufferTransactionEventsThreshold;
+    private final boolean logMiningBufferCompaction;
+    private final Predicate<TableId> logMiningBufferCompactionTableFilter;
     private final boolean logMiningBufferDropOnStop;
     private final int logMiningScnGapDetectionGapSizeMin;
     private final int logMiningScnGapDetectionTimeIntervalMaxMs;
@@ -1042,7 +1181,10 @@ public static ConfigDef configDef() {
     private final Set<String> logMiningSchemaChangesUsernameExcludes;
     private final Boolean logMiningIncludeRedoSql;
     private final Configuration logMiningEhCacheConfiguration;
+    private final String logMiningBufferMemoryMappedDirectory;
+    private final long logMiningBufferMemoryMappedSegmentSize;
     private final boolean logMiningUseSqlRelaxedQuoteDetection;
+    private final boolean logMiningSessionPerRedoThread;
     private final Set<String> logMiningClientIdIncludes;
     private final Set<String> logMiningClientIdExcludes;
     private final String logMiningPathToDictionary;
@@ -1051,6 +1193,8 @@ public static ConfigDef configDef() {
     private final Integer logMiningRedoThreadScnAdjustment;
     private final Long logMiningHashAreaSize;
     private final Long logMiningSortAreaSize;
+    private final int logMiningPrefetchRows;
+    private final int xstreamLcrQueueSize;
     private final ArchiveDestinationNameResolver destinationNameResolver;
     private final boolean logMiningBufferTrackRsId;
     private final boolean logMiningBufferTrackClientId;
@@ -1064,6 +1208,7 @@ public static ConfigDef configDef() {
     private final String openLogReplicatorSource;
     private final String openLogReplicatorHostname;
     private final Integer openLogReplicatorPort;
+    private final OpenLogReplicatorFormat openLogReplicatorFormat;
 
     private final Duration resumePositionUpdateInterval;
 
@@ -1087,6 +1232,7 @@ public OracleConnectorConfig(Configuration config) {
         this.snapshotLockingMode = SnapshotLockingMode.parse(config.getString(SNAPSHOT_LOCKING_MODE), SNAPSHOT_LOCKING_MODE.defaultValueAsString());
         this.lobEnabled = config.getBoolean(LOB_ENABLED);
         this.objectIdToTableIdCacheSize = config.getInteger(OBJECT_ID_CACHE_SIZE);
+        this.schemaCacheFile = config.getString(SCHEMA_CACHE_FILE);
         this.legacyDecimalHandlingStrategy = config.getBoolean(LEGACY_DECIMAL_HANDLING_STRATEGY);
 
         this.streamingAdapter = this.connectorAdapter.getInstance(this);
@@ -1111,12 +1257,19 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningSleepTimeMax = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_MAX_MS));
         this.logMiningSleepTimeDefault = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_DEFAULT_MS));
         this.logMiningSleepTimeIncrement = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_INCREMENT_MS));
+        this.logMiningBatchSizeAdaptive = config.getBoolean(LOG_MINING_BATCH_SIZE_ADAPTIVE);
+        this.logMiningBatchTargetFetch = Duration.ofMillis(config.getLong(LOG_MINING_BATCH_TARGET_FETCH_MS));
+        this.logMiningBatchTargetRows = config.getLong(LOG_MINING_BATCH_TARGET_ROWS);
         this.logMiningTransactionRetention = config.getDuration(LOG_MINING_TRANSACTION_RETENTION_MS, ChronoUnit.MILLIS);
         this.archiveLogOnlyMode = config.getBoolean(LOG_MINING_ARCHIVE_LOG_ONLY_MODE);
         this.logMiningUsernameIncludes = Strings.setOfTrimmed(config.getString(LOG_MINING_USERNAME_INCLUDE_LIST), String::new);
         this.logMiningUsernameExcludes = Strings.setOfTrimmed(config.getString(LOG_MINING_USERNAME_EXCLUDE_LIST), String::new);
         this.logMiningBufferType = LogMiningBufferType.parse(config.getString(LOG_MINING_BUFFER_TYPE));
         this.logMiningBufferTransactionEventsThreshold = config.getLong(LOG_MINING_BUFFER_TRANSACTION_EVENTS_THRESHOLD);
+        this.logMiningBufferCompaction = config.getBoolean(LOG_MINING_BUFFER_COMPACTION);
+        this.logMiningBufferCompactionTableFilter = Selectors.tableSelector()
+                .excludeTables(config.getString(LOG_MINING_BUFFER_COMPACTION_EXCLUDE_LIST), getTableIdMapper())
+                .build();
         this.logMiningBufferDropOnStop = config.getBoolean(LOG_MINING_BUFFER_DROP_ON_STOP);
         this.archiveLogOnlyScnPollTime = Duration.ofMillis(config.getInteger(LOG_MINING_ARCHIVE_LOG_ONLY_SCN_POLL_INTERVAL_MS));
         this.logMiningScnGapDetectionGapSizeMin = config.getInteger(LOG_MINING_SCN_GAP_DETECTION_GAP_SIZE_MIN);
@@ -1130,6 +1283,7 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningFlushTableName = config.getString(LOG_MINING_FLUSH_TABLE_NAME);
         this.logMiningQueryFilterMode = LogMiningQueryFilterMode.parse(config.getString(LOG_MINING_QUERY_FILTER_MODE));
         this.logMiningRestartConnection = config.getBoolean(LOG_MINING_RESTART_CONNECTION);
+        this.logMiningSessionPerRedoThread = config.getBoolean(LOG_MINING_SESSION_PER_REDO_THREAD);
         this.logMiningMaxScnDeviation = Duration.ofMillis(config.getLong(LOG_MINING_MAX_SCN_DEVIATION_MS));
         this.logMiningInifispanGlobalConfiguration = config.getString(LOG_MINING_BUFFER_INFINISPAN_CACHE_GLOBAL);
         this.logMiningSchemaChangesUsernameExcludes = Strings.setOf(config.getString(LOG_MINING_SCHEMA_CHANGES_USERNAME_EXCLUDE_LIST), String::new);
@@ -1155,6 +1309,8 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningRedoThreadScnAdjustment = config.getInteger(LOG_MINING_REDO_THREAD_SCN_ADJUSTMENT);
         this.logMiningHashAreaSize = config.getLong(LOG_MINING_HASH_AREA_SIZE);
         this.logMiningSortAreaSize = config.getLong(LOG_MINING_SORT_AREA_SIZE);
+        this.logMiningPrefetchRows = config.getInteger(LOG_MINING_PREFETCH_ROWS);
+        this.xstreamLcrQueueSize = config.getInteger(XSTREAM_LCR_QUEUE_SIZE);
         this.logMiningBufferTrackRsId = config.getBoolean(LOG_MINING_BUFFER_TRACK_RS_ID);
         this.logMiningBufferTrackClientId = config.getBoolean(LOG_MINING_BUFFER_TRACK_CLIENT_ID);
         this.logMiningBufferTrackUsername = config.getBoolean(LOG_MINING_BUFFER_TRACK_USERNAME);
@@ -1165,6 +1321,8 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningMinimumLogCount = config.getInteger(LOG_MINING_LOG_COUNT_MIN);
 
         this.logMiningEhCacheConfiguration = config.subset("log.mining.buffer.ehcache", false);
+        this.logMiningBufferMemoryMappedDirectory = config.getString(LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY);
+        this.logMiningBufferMemoryMappedSegmentSize = config.getLong(LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE);
 
         final List<String> destinationNames = Strings.listOfTrimmed(config.getString(ARCHIVE_DESTINATION_NAME), String::new);
         this.destinationNameResolver = new ArchiveDestinationNameResolver(destinationNames);
@@ -1173,6 +1331,7 @@ public OracleConnectorConfig(Configuration config) {
         this.openLogReplicatorSource = config.getString(OLR_SOURCE);
         this.openLogReplicatorHostname = config.getString(OLR_HOST);
         this.openLogReplicatorPort = config.getInteger(OLR_PORT, 0);
+        this.openLogReplicatorFormat = OpenLogReplicatorFormat.parse(config.getString(OLR_FORMAT));
 
         this.resumePositionUpdateInterval = Duration.ofMillis(config.getLong(LOG_MINING_RESUME_POSITION_INTERVAL_MS));
     }
@@ -1712,7 +1871,8 @@ public enum LogMiningBufferType implements EnumeratedValue {
         MEMORY("memory"),
         INFINISPAN_EMBEDDED("infinispan_embedded"),
         INFINISPAN_REMOTE("infinispan_remote"),
-        EHCACHE("ehcache");
+        EHCACHE("ehcache"),
+        MEMORY_MAPPED("memory_mapped");
 
         private final String value;
 
@@ -1737,6 +1897,10 @@ public boolean isEhcache() {
             return EHCACHE.equals(this);
         }
 
+        public boolean isMemoryMapped() {
+            return MEMORY_MAPPED.equals(this);
+        }
+
         public static LogMiningBufferType parse(String value) {
             if (value == null) {
                 return null;
@@ -1830,6 +1994,49 @@ public static LogMiningQueryFilterMode parse(String value) {
         }
     }
 
+    public enum OpenLogReplicatorFormat implements EnumeratedValue {
+        /**
+         * OpenLogReplicator writes each message as a JSON document. This is the default format.
+         */
+        JSON("json"),
+
+        /**
+         * OpenLogReplicator writes each message as a protocol buffer message, which avoids the
+         * cost of formatting and parsing column values as text.
+         */
+        PROTOBUF("protobuf");
+
+        private final String value;
+
+        OpenLogReplicatorFormat(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static OpenLogReplicatorFormat parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (OpenLogReplicatorFormat format : OpenLogReplicatorFormat.values()) {
+                if (format.getValue().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
     /**
      * A {@link TableFilter} that excludes all Oracle system tables.
      *
@@ -2015,6 +2222,27 @@ public Duration getLogMiningSleepTimeIncrement() {
         return logMiningSleepTimeIncrement;
     }
 
+    /**
+     * @return whether the batch size and sleep time adapt to the cost of the LogMiner queries
+     */
+    public boolean isLogMiningBatchSizeAdaptive() {
+        return logMiningBatchSizeAdaptive;
+    }
+
+    /**
+     * @return the fetch duration of a LogMiner query above which the adaptive batch size is reduced
+     */
+    public Duration getLogMiningBatchTargetFetch() {
+        return logMiningBatchTargetFetch;
+    }
+
+    /**
+     * @return the number of rows of a LogMiner query above which the adaptive batch size is reduced
+     */
+    public long getLogMiningBatchTargetRows() {
+        return logMiningBatchTargetRows;
+    }
+
     /**
      * @return the duration for which long running transactions are permitted in the transaction buffer between log switches
      */
@@ -2113,6 +2341,20 @@ public long getLogMiningBufferTransactionEventsThreshold() {
         return logMiningBufferTransactionEventsThreshold;
     }
 
+    /**
+     * @return whether changes to the same row are merged while a transaction is buffered
+     */
+    public boolean isLogMiningBufferCompaction() {
+        return logMiningBufferCompaction;
+    }
+
+    /**
+     * @return the filter of tables whose buffered changes may be merged, never {@code null}
+     */
+    public Predicate<TableId> getLogMiningBufferCompactionTableFilter() {
+        return logMiningBufferCompactionTableFilter;
+    }
+
     /**
      * @return whether buffer cache should be dropped on connector stop.
      */
@@ -2205,6 +2447,13 @@ public boolean isLogMiningRestartConnection() {
         return logMiningRestartConnection;
     }
 
+    /**
+     * @return whether the logs of each redo thread are mined in a separate LogMiner session.
+     */
+    public boolean isLogMiningSessionPerRedoThread() {
+        return logMiningSessionPerRedoThread;
+    }
+
     /**
      * Returns the deviation in milliseconds that should be applied to the end SCN calculation.
      * If this is {@code 0}, then there is no deviation applied.
@@ -2260,6 +2509,15 @@ public Integer getOpenLogReplicatorPort() {
         return openLogReplicatorPort;
     }
 
+    /**
+     * Returns the payload format of the OpenLogReplicator network service.
+     *
+     * @return the payload format, never {@code null}
+     */
+    public OpenLogReplicatorFormat getOpenLogReplicatorFormat() {
+        return openLogReplicatorFormat;
+    }
+
     /**
      * Get the Ehcache buffer configuration, which is all attributes under the configuration prefix
      * "log.mining.buffer.ehcache" namespace, with the prefix removed.
@@ -2270,6 +2528,20 @@ public Configuration getLogMiningEhcacheConfiguration() {
         return logMiningEhCacheConfiguration;
     }
 
+    /**
+     * @return the directory where the memory-mapped transaction buffer stores its segment files
+     */
+    public String getLogMiningBufferMemoryMappedDirectory() {
+        return logMiningBufferMemoryMappedDirectory;
+    }
+
+    /**
+     * @return the size in bytes of each memory-mapped transaction buffer segment file
+     */
+    public long getLogMiningBufferMemoryMappedSegmentSize() {
+        return logMiningBufferMemoryMappedSegmentSize;
+    }
+
     /**
      * Return the object id to table id cache size
      *
@@ -2279,6 +2551,13 @@ public int getObjectIdToTableIdCacheSize() {
         return objectIdToTableIdCacheSize;
     }
 
+    /**
+     * @return the file where the relational schema is cached between restarts, or {@code null} if not configured
+     */
+    public String getSchemaCacheFile() {
+        return schemaCacheFile;
+    }
+
     /**
      * Return whether the DML parser should use relaxed quote detection.
      *
@@ -2373,6 +2652,20 @@ public Long getLogMiningSortAreaSize() {
         return logMiningSortAreaSize;
     }
 
+    /**
+     * @return the number of LogMiner rows read ahead of processing, {@code 0} when rows are not read ahead
+     */
+    public int getLogMiningPrefetchRows() {
+        return logMiningPrefetchRows;
+    }
+
+    /**
+     * @return the number of LCRs and chunks queued for processing off the XStream callback thread, {@code 0} when not queued
+     */
+    public int getXStreamLcrQueueSize() {
+        return xstreamLcrQueueSize;
+    }
+
     @Override
     public String getConnectorName() {
         return Module.name();
@@ -2610,6 +2903,15 @@ public static int validateEhcacheCacheConfigField(Configuration config, Field fi
         return 0;
     }
 
+    public static int validateMemoryMappedConfigFieldRequired(Configuration config, Field field, ValidationOutput problems) {
+        if (isBufferedLogMiner(config)) {
+            if (LogMiningBufferType.parseWithDefaultFallback(config.getString(LOG_MINING_BUFFER_TYPE)).isMemoryMapped()) {
+                return Field.isRequired(config, field, problems);
+            }
+        }
+        return 0;
+    }
+
     public static int validateObjectIdCacheSize(Configuration config, Field field, ValidationOutput problems) {
         if (isLogMiner(config)) {
             int result = Field.isRequired(config, field, problems);
@@ -2656,6 +2958,26 @@ public static int validateDeferredTransactionStart(Configuration config, Field f
         return 0;
     }
 
+    public static int validateLogMiningBufferCompaction(Configuration config, Field field, ValidationOutput problems) {
+        if (config.getBoolean(LOG_MINING_BUFFER_COMPACTION) && isBufferedLogMiner(config)) {
+            if (config.getBoolean(LOB_ENABLED)) {
+                problems.accept(field, true, String.format(
+                        "The configuration property '%s' cannot be enabled when '%s' is set to true.",
+                        field.name(), LOB_ENABLED.name()));
+                return 1;
+            }
+            // The merge state is kept in heap, and cannot be recovered for a buffer that outlives the connector
+            final LogMiningBufferType bufferType = LogMiningBufferType.parseWithDefaultFallback(config.getString(LOG_MINING_BUFFER_TYPE));
+            if (bufferType != LogMiningBufferType.MEMORY && !config.getBoolean(LOG_MINING_BUFFER_DROP_ON_STOP)) {
+                problems.accept(field, true, String.format(
+                        "The configuration property '%s' requires '%s' to be set to true when using the '%s' buffer type.",
+                        field.name(), LOG_MINING_BUFFER_DROP_ON_STOP.name(), bufferType.getValue()));
+                return 1;
+            }
+        }
+        return 0;
+    }
+
     public static int validateLogMiningUseCteQuery(Configuration config, Field field, ValidationOutput problems) {
         if (config.getBoolean(LOG_MINING_USE_CTE_QUERY)) {
             // When using the CTE, the LogMiningQueryFilterMode must be set
@@ -2670,6 +2992,23 @@ public static int validateLogMiningUseCteQuery(Configuration config, Field field
         return 0;
     }
 
+    public static int validateLogMiningSessionPerRedoThread(Configuration config, Field field, ValidationOutput problems) {
+        if (config.getBoolean(LOG_MINING_SESSION_PER_REDO_THREAD)) {
+            if (!isUnbufferedLogMiner(config)) {
+                problems.accept(LOG_MINING_SESSION_PER_REDO_THREAD, true,
+                        "Mining each redo thread in a separate session is only supported by the unbuffered LogMiner adapter");
+                return 1;
+            }
+            // Each session only reads the logs of its own redo thread, which may not hold the data dictionary
+            if (LogMiningStrategy.CATALOG_IN_REDO.equals(LogMiningStrategy.parse(config.getString(LOG_MINING_STRATEGY)))) {
+                problems.accept(LOG_MINING_SESSION_PER_REDO_THREAD, true,
+                        "Mining each redo thread in a separate session cannot be used with the redo_log_catalog mining strategy");
+                return 1;
+            }
+        }
+        return 0;
+    }
+
     private static boolean isBufferedLogMiner(Configuration config) {
         return ConnectorAdapter.LOG_MINER.equals(ConnectorAdapter.parse(config.getString(CONNECTOR_ADAPTER)));
     }
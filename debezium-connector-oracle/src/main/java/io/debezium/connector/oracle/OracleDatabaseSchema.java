@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.oracle;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -20,6 +21,8 @@
 import io.debezium.connector.common.CdcSourceTaskContext;
 import io.debezium.connector.oracle.StreamingAdapter.TableNameCaseSensitivity;
 import io.debezium.connector.oracle.antlr.OracleDdlParser;
+import io.debezium.document.DocumentWriter;
+import io.debezium.pipeline.spi.Offsets;
 import io.debezium.relational.Attribute;
 import io.debezium.relational.Column;
 import io.debezium.relational.CustomConverterRegistry;
@@ -29,6 +32,7 @@
 import io.debezium.relational.TableId;
 import io.debezium.relational.TableSchemaBuilder;
 import io.debezium.relational.Tables;
+import io.debezium.relational.history.HistoryRecord;
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.schema.SchemaNameAdjuster;
 import io.debezium.spi.topic.TopicNamingStrategy;
@@ -55,8 +59,11 @@ public class OracleDatabaseSchema extends HistorizedRelationalDatabaseSchema {
     private final OracleValueConverters valueConverters;
     private final LRUCacheMap<Long, TableId> objectIdToTableId;
     private final boolean extendedStringsSupported;
+    private final OracleSchemaCache schemaCache;
 
     private LastObjectTableIdLookup lastObjectTableIdLookup;
+    private Scn schemaScn;
+    private boolean recoveredTablesFromCache;
 
     public OracleDatabaseSchema(OracleConnectorConfig connectorConfig, OracleValueConverters valueConverters,
                                 DefaultValueConverter defaultValueConverter, SchemaNameAdjuster schemaNameAdjuster,
@@ -87,6 +94,7 @@ public OracleDatabaseSchema(OracleConnectorConfig connectorConfig, OracleValueCo
 
         this.objectIdToTableId = new LRUCacheMap<>(connectorConfig.getObjectIdToTableIdCacheSize());
         this.extendedStringsSupported = extendedStringsSupported;
+        this.schemaCache = connectorConfig.getSchemaCacheFile() != null ? new OracleSchemaCache(connectorConfig) : null;
     }
 
     public Tables getTables() {
@@ -102,10 +110,57 @@ public OracleDdlParser getDdlParser() {
         return ddlParser;
     }
 
+    @Override
+    public void recover(Offsets<?, ?> offsets) throws InterruptedException {
+        final Scn offsetScn = getOffsetScn(offsets);
+        final String historyPosition = schemaCache != null && offsetScn != null ? getLastHistoryPosition() : null;
+        if (historyPosition != null) {
+            final Scn cachedSchemaScn = schemaCache.load(offsetScn, historyPosition, tables());
+            if (cachedSchemaScn != null) {
+                for (TableId tableId : tableIds()) {
+                    buildAndRegisterSchema(tableFor(tableId));
+                }
+                recoveredTablesFromCache = !tableIds().isEmpty();
+                schemaScn = cachedSchemaScn;
+                return;
+            }
+        }
+
+        super.recover(offsets);
+
+        // The schema history is only recovered up to the offset, so no recovered change is past it
+        schemaScn = offsetScn;
+    }
+
+    @Override
+    public boolean tableInformationComplete() {
+        return recoveredTablesFromCache || super.tableInformationComplete();
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (schemaCache != null && schemaScn != null) {
+                final String historyPosition = getLastHistoryPosition();
+                if (historyPosition != null) {
+                    schemaCache.store(schemaScn, historyPosition, tables());
+                }
+            }
+        }
+        finally {
+            super.close();
+        }
+    }
+
     @Override
     public void applySchemaChange(SchemaChangeEvent schemaChange) {
         LOGGER.debug("Applying schema change event {}", schemaChange);
 
+        final Scn changeScn = OracleOffsetContext.getScnFromOffsetMapByKey(schemaChange.getOffset(), SourceInfo.SCN_KEY);
+        if (changeScn != null && (schemaScn == null || changeScn.compareTo(schemaScn) > 0)) {
+            schemaScn = changeScn;
+        }
+
         switch (schemaChange.getType()) {
             case CREATE:
             case ALTER:
@@ -305,6 +360,39 @@ private void buildAndRegisterTableLobColumns(Table table) {
         }
     }
 
+    /**
+     * Returns the position of the most recent schema history record, which the schema cache file is
+     * validated against, or {@code null} if the history has no records. Once the history was recovered
+     * or a schema change was recorded, this is the position of the last of these records, and the
+     * history is not read again.
+     */
+    private String getLastHistoryPosition() {
+        try {
+            final HistoryRecord lastRecord = getSchemaHistory().lastRecord();
+            if (lastRecord == null) {
+                return null;
+            }
+            return DocumentWriter.defaultWriter().write(lastRecord.document().getDocument(HistoryRecord.Fields.POSITION));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to read the most recent schema history record, the schema cache file is not used.", e);
+            return null;
+        }
+    }
+
+    private static Scn getOffsetScn(Offsets<?, ?> offsets) {
+        for (Object offset : offsets.getOffsets().values()) {
+            if (offset instanceof OracleOffsetContext oracleOffset) {
+                return oracleOffset.getScn();
+            }
+        }
+        return null;
+    }
+
     private TableId tableObjectIdToTableId(Long tableObjectId, Long dataObjectId) {
         for (TableId tableId : tableIds()) {
             final Table table = tableFor(tableId);
@@ -0,0 +1,306 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.relational.Attribute;
+import io.debezium.relational.Column;
+import io.debezium.relational.ColumnEditor;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+
+/**
+ * A file that caches the relational model of the Oracle tables between connector restarts.
+ * <p>
+ * Recovering the relational model from the schema history replays every recorded DDL statement, which
+ * for databases with many tables can take a long time. When the connector stops, the tables are written
+ * to this file in a compact binary form together with the SCN of the most recent schema change they
+ * reflect, and on the next start the tables are read back instead of being recovered from the history.
+ * The object identifiers of the tables are kept as table attributes, so the object id to table id
+ * mappings are rebuilt from the cached tables without querying the data dictionary.
+ * <p>
+ * The cached tables are only used when the schema change SCN is not past the offset SCN, when the
+ * configuration that decides which tables are kept in the model has not changed, and when the most recent
+ * record of the schema history is still the one that was most recent when the file was written. The last
+ * check rejects a file that was written before a run of the connector elsewhere recorded more schema
+ * changes, for example after the task moved to another worker and back. The file is also removed once
+ * read, so it is only ever used by the start that immediately follows the stop that wrote it.
+ */
+public class OracleSchemaCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OracleSchemaCache.class);
+
+    private static final int MAGIC = 0x44425a53;
+    private static final int VERSION = 2;
+
+    private final Path file;
+    private final String fingerprint;
+
+    public OracleSchemaCache(OracleConnectorConfig connectorConfig) {
+        this(Path.of(connectorConfig.getSchemaCacheFile()), getFingerprint(connectorConfig));
+    }
+
+    OracleSchemaCache(Path file, String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Reads the cached tables into the relational model and removes the cache file.
+     *
+     * @param offsetScn the SCN of the connector offsets, should not be {@code null}
+     * @param historyPosition the position of the most recent schema history record, should not be {@code null}
+     * @param tables the relational model to read the tables into, should not be {@code null}
+     * @return the schema change SCN of the cached tables, or {@code null} if the cached tables could not be used
+     */
+    public Scn load(Scn offsetScn, String historyPosition, Tables tables) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                    LOGGER.info("Schema cache file '{}' has an unknown format and is not used.", file);
+                    return null;
+                }
+                if (!fingerprint.equals(readString(input))) {
+                    LOGGER.info("Schema cache file '{}' was written with a different table configuration and is not used.", file);
+                    return null;
+                }
+                final String cachedHistoryPosition = readString(input);
+                if (!historyPosition.equals(cachedHistoryPosition)) {
+                    LOGGER.info("Schema cache file '{}' was written at schema history position {}, but the history has changes up to {}, "
+                            + "and is not used.", file, cachedHistoryPosition, historyPosition);
+                    return null;
+                }
+                final Scn schemaScn = Scn.valueOf(readString(input));
+                if (schemaScn.compareTo(offsetScn) > 0) {
+                    LOGGER.info("Schema cache file '{}' has changes up to SCN {}, past the offset SCN {}, and is not used.",
+                            file, schemaScn, offsetScn);
+                    return null;
+                }
+
+                final int tableCount = input.readInt();
+                final List<Table> cachedTables = new ArrayList<>(tableCount);
+                for (int i = 0; i < tableCount; i++) {
+                    cachedTables.add(readTable(input));
+                }
+                cachedTables.forEach(tables::overwriteTable);
+
+                LOGGER.info("Loaded {} tables from schema cache file '{}' with changes up to SCN {}.", tableCount, file, schemaScn);
+                return schemaScn;
+            }
+            finally {
+                Files.delete(file);
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to read schema cache file '{}', the schema is recovered from the schema history.", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the tables of the relational model to the cache file, replacing any previous file.
+     *
+     * @param schemaScn the SCN of the most recent schema change reflected by the tables, should not be {@code null}
+     * @param historyPosition the position of the most recent schema history record, should not be {@code null}
+     * @param tables the relational model, should not be {@code null}
+     */
+    public void store(Scn schemaScn, String historyPosition, Tables tables) {
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                writeString(output, fingerprint);
+                writeString(output, historyPosition);
+                writeString(output, schemaScn.toString());
+
+                output.writeInt(tables.size());
+                for (TableId tableId : tables.tableIds()) {
+                    writeTable(output, tables.forTable(tableId));
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.info("Wrote {} tables to schema cache file '{}' with changes up to SCN {}.", tables.size(), file, schemaScn);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to write schema cache file '{}'.", file, e);
+        }
+    }
+
+    private static void writeTable(DataOutputStream output, Table table) throws IOException {
+        writeString(output, table.id().catalog());
+        writeString(output, table.id().schema());
+        writeString(output, table.id().table());
+        writeString(output, table.defaultCharsetName());
+        writeString(output, table.comment());
+
+        output.writeInt(table.columns().size());
+        for (Column column : table.columns()) {
+            writeColumn(output, column);
+        }
+
+        output.writeInt(table.primaryKeyColumnNames().size());
+        for (String columnName : table.primaryKeyColumnNames()) {
+            writeString(output, columnName);
+        }
+
+        output.writeInt(table.attributes().size());
+        for (Attribute attribute : table.attributes()) {
+            writeString(output, attribute.name());
+            writeString(output, attribute.value());
+        }
+    }
+
+    private static Table readTable(DataInputStream input) throws IOException {
+        final TableEditor editor = Table.editor()
+                .tableId(new TableId(readString(input), readString(input), readString(input)))
+                .setDefaultCharsetName(readString(input));
+
+        final String comment = readString(input);
+        if (comment != null) {
+            editor.setComment(comment);
+        }
+
+        final int columnCount = input.readInt();
+        for (int i = 0; i < columnCount; i++) {
+            editor.addColumn(readColumn(input));
+        }
+
+        final int primaryKeyColumnCount = input.readInt();
+        final List<String> primaryKeyColumnNames = new ArrayList<>(primaryKeyColumnCount);
+        for (int i = 0; i < primaryKeyColumnCount; i++) {
+            primaryKeyColumnNames.add(readString(input));
+        }
+        editor.setPrimaryKeyNames(primaryKeyColumnNames);
+
+        final int attributeCount = input.readInt();
+        for (int i = 0; i < attributeCount; i++) {
+            editor.addAttribute(Attribute.editor().name(readString(input)).value(readString(input)).create());
+        }
+
+        return editor.create();
+    }
+
+    private static void writeColumn(DataOutputStream output, Column column) throws IOException {
+        writeString(output, column.name());
+        output.writeInt(column.position());
+        output.writeInt(column.jdbcType());
+        output.writeInt(column.nativeType());
+        writeString(output, column.typeName());
+        writeString(output, column.typeExpression());
+        writeString(output, column.charsetName());
+        output.writeInt(column.length());
+        output.writeInt(column.scale().orElse(Column.UNSET_INT_VALUE));
+        output.writeBoolean(column.isOptional());
+        output.writeBoolean(column.isAutoIncremented());
+        output.writeBoolean(column.isGenerated());
+        output.writeBoolean(column.hasDefaultValue());
+        writeString(output, column.defaultValueExpression().orElse(null));
+        writeString(output, column.comment());
+
+        output.writeInt(column.enumValues().size());
+        for (String enumValue : column.enumValues()) {
+            writeString(output, enumValue);
+        }
+    }
+
+    private static Column readColumn(DataInputStream input) throws IOException {
+        final ColumnEditor editor = Column.editor()
+                .name(readString(input))
+                .position(input.readInt())
+                .jdbcType(input.readInt())
+                .nativeType(input.readInt())
+                .type(readString(input), readString(input))
+                .charsetName(readString(input))
+                .length(input.readInt());
+
+        final int scale = input.readInt();
+        if (scale != Column.UNSET_INT_VALUE) {
+            editor.scale(scale);
+        }
+
+        editor.optional(input.readBoolean())
+                .autoIncremented(input.readBoolean())
+                .generated(input.readBoolean());
+
+        final boolean hasDefaultValue = input.readBoolean();
+        final String defaultValueExpression = readString(input);
+        if (hasDefaultValue) {
+            editor.defaultValueExpression(defaultValueExpression);
+        }
+
+        final String comment = readString(input);
+        if (comment != null) {
+            editor.comment(comment);
+        }
+
+        final int enumValueCount = input.readInt();
+        if (enumValueCount > 0) {
+            final List<String> enumValues = new ArrayList<>(enumValueCount);
+            for (int i = 0; i < enumValueCount; i++) {
+                enumValues.add(readString(input));
+            }
+            editor.enumValues(enumValues);
+        }
+
+        return editor.create();
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+        }
+        else {
+            final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(data.length);
+            output.write(data);
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] data = new byte[length];
+        input.readFully(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the configuration that decides which tables the relational model holds, so that cached
+     * tables are not used after that configuration has changed.
+     */
+    private static String getFingerprint(OracleConnectorConfig connectorConfig) {
+        return String.join("\n",
+                connectorConfig.getLogicalName(),
+                String.valueOf(connectorConfig.getCatalogName()),
+                String.valueOf(connectorConfig.schemaIncludeList()),
+                String.valueOf(connectorConfig.schemaExcludeList()),
+                String.valueOf(connectorConfig.tableIncludeList()),
+                String.valueOf(connectorConfig.tableExcludeList()),
+                String.valueOf(connectorConfig.storeOnlyCapturedTables()));
+    }
+}
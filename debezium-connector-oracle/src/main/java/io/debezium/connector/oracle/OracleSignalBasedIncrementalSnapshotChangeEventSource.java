@@ -8,6 +8,7 @@
 import java.sql.SQLException;
 
 import io.debezium.DebeziumException;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
@@ -35,8 +36,10 @@ public OracleSignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabaseC
                                                                  Clock clock,
                                                                  SnapshotProgressListener<OraclePartition> progressListener,
                                                                  DataChangeEventListener<OraclePartition> dataChangeEventListener,
-                                                                 NotificationService<OraclePartition, OracleOffsetContext> notificationService) {
-        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService);
+                                                                 NotificationService<OraclePartition, OracleOffsetContext> notificationService,
+                                                                 ConnectionFactory<OracleConnection> chunkReaderConnectionFactory) {
+        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService,
+                chunkReaderConnectionFactory);
         this.pdbName = ((OracleConnectorConfig) config).getPdbName();
         this.connection = (OracleConnection) jdbcConnection;
     }
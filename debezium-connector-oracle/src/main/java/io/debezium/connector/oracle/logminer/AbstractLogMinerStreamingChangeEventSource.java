@@ -59,6 +59,7 @@
 import io.debezium.connector.oracle.logminer.logwriter.LogWriterFlushStrategy;
 import io.debezium.connector.oracle.logminer.logwriter.RacCommitLogWriterFlushStrategy;
 import io.debezium.connector.oracle.logminer.logwriter.ReadOnlyLogWriterFlushStrategy;
+import io.debezium.connector.oracle.logminer.parser.ColumnProjection;
 import io.debezium.connector.oracle.logminer.parser.DmlParserException;
 import io.debezium.connector.oracle.logminer.parser.ExtendedStringParser;
 import io.debezium.connector.oracle.logminer.parser.LobWriteParser;
@@ -118,6 +119,7 @@
     private final JdbcConfiguration jdbcConfiguration;
     private final LogFileCollector logCollector;
     private final LogMinerSessionContext sessionContext;
+    private final ColumnProjection columnProjection;
     private final LogMinerDmlParser dmlParser;
     private final LogMinerColumnResolverDmlParser reconstructColumnDmlParser;
     private final SelectLobParser selectLobParser;
@@ -138,7 +140,8 @@
     private OracleOffsetContext effectiveOffset;
     private OraclePartition partition;
     private ChangeEventSourceContext context;
-    private long currentSleepTime;
+    private final AdaptiveMiningWindow miningWindow;
+    private final LogMinerRowPrefetcher rowPrefetcher;
     private OffsetActivityMonitor<OraclePartition, OracleOffsetContext> offsetActivityMonitor;
 
     public AbstractLogMinerStreamingChangeEventSource(OracleConnectorConfig connectorConfig,
@@ -161,8 +164,9 @@ public AbstractLogMinerStreamingChangeEventSource(OracleConnectorConfig connecto
         this.logCollector = new LogFileCollector(connectorConfig, streamingConnection);
         this.sessionContext = new LogMinerSessionContext(streamingConnection, connectorConfig.getLogMiningStrategy(),
                 connectorConfig.getLogMiningPathToDictionary());
-        this.dmlParser = new LogMinerDmlParser(connectorConfig);
-        this.reconstructColumnDmlParser = new LogMinerColumnResolverDmlParser(connectorConfig);
+        this.columnProjection = new ColumnProjection(connectorConfig);
+        this.dmlParser = new LogMinerDmlParser(connectorConfig, columnProjection);
+        this.reconstructColumnDmlParser = new LogMinerColumnResolverDmlParser(connectorConfig, columnProjection);
         this.selectLobParser = new SelectLobParser();
         this.extendedStringParser = new ExtendedStringParser();
         this.xmlBeginParser = new XmlBeginParser();
@@ -170,6 +174,8 @@ public AbstractLogMinerStreamingChangeEventSource(OracleConnectorConfig connecto
         this.archiveDestinationNames = connectorConfig.getArchiveDestinationNameResolver().getDestinationNames(streamingConnection);
         this.columnIndexes = LogMinerColumnIndexes.fromConfig(connectorConfig);
         this.offsetActivityMonitorService = OffsetActivityMonitorService.lookup(connectorConfig.getServiceRegistry());
+        this.miningWindow = connectorConfig.isLogMiningBatchSizeAdaptive() ? new AdaptiveMiningWindow(connectorConfig, metrics) : null;
+        this.rowPrefetcher = connectorConfig.getLogMiningPrefetchRows() > 0 ? new LogMinerRowPrefetcher(connectorConfig) : null;
     }
 
     @Override
@@ -231,6 +237,10 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
             errorHandler.setProducerThrowable(throwable);
         }
         finally {
+            if (rowPrefetcher != null) {
+                rowPrefetcher.close();
+            }
+
             LOGGER.info("Streaming metrics at shutdown: {}", metrics);
             LOGGER.info("Offsets as shutdown: {}", offsetContext);
         }
@@ -296,6 +306,14 @@ protected OracleConnection getStreamingConnection() {
         return streamingConnection;
     }
 
+    protected OracleConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    protected LogMinerColumnIndexes getColumnIndexes() {
+        return columnIndexes;
+    }
+
     protected LogMinerStreamingChangeEventSourceMetrics getMetrics() {
         return metrics;
     }
@@ -429,27 +447,54 @@ protected void executeAndProcessQuery(PreparedStatement statement) throws SQLExc
 
             final Instant startProcessTime = Instant.now();
 
-            while (getContext().isRunning() && hasNextWithMetricsUpdate(resultSet)) {
-                getBatchMetrics().rowObserved();
+            if (rowPrefetcher != null) {
+                // Rows are read on the prefetch thread, and processed on this thread
+                rowPrefetcher.process(
+                        () -> hasNextWithMetricsUpdate(resultSet) ? LogMinerEventRow.fromResultSet(resultSet, schema, columnIndexes) : null,
+                        event -> {
+                            getBatchMetrics().rowObserved();
+                            processEvent(event);
+                        },
+                        () -> getContext().isRunning());
+            }
+            else {
+                while (getContext().isRunning() && hasNextWithMetricsUpdate(resultSet)) {
+                    getBatchMetrics().rowObserved();
 
-                final LogMinerEventRow event = LogMinerEventRow.fromResultSet(resultSet, schema, columnIndexes);
-                processEvent(event);
+                    final LogMinerEventRow event = LogMinerEventRow.fromResultSet(resultSet, schema, columnIndexes);
+                    processEvent(event);
+                }
             }
 
-            getBatchMetrics().updateStreamingMetrics();
+            completeQueryProcessing(startProcessTime);
+        }
+    }
 
-            // This is purposely buried inside this method so that the initial delay waiting for
-            // archive log only mode to advanced into the streaming loop does not create any
-            // false-positive on the first mining iteration.
-            offsetActivityMonitorService.pulse(partition, getOffsetContext());
+    /**
+     * Updates the metrics and offset activity after all rows of a mining query have been processed.
+     *
+     * @param startProcessTime the time when processing of the rows started, should not be {@code null}
+     */
+    protected void completeQueryProcessing(Instant startProcessTime) {
+        getBatchMetrics().updateStreamingMetrics();
 
-            LOGGER.debug("{}.", getBatchMetrics());
-            LOGGER.debug("Processed in {} ms. Lag {}. Active Transactions: {}. Offsets: {}",
-                    Duration.between(startProcessTime, Instant.now()),
-                    getMetrics().getLagFromSourceInMilliseconds(),
-                    getMetrics().getNumberOfActiveTransactions(),
-                    getOffsetContext());
+        if (miningWindow != null) {
+            miningWindow.queryCompleted(
+                    Duration.ofMillis(getMetrics().getLastDurationOfFetchQueryInMilliseconds()).plus(Duration.between(startProcessTime, Instant.now())),
+                    getBatchMetrics().getJdbcRows());
         }
+
+        // This is purposely buried inside this method so that the initial delay waiting for
+        // archive log only mode to advanced into the streaming loop does not create any
+        // false-positive on the first mining iteration.
+        offsetActivityMonitorService.pulse(partition, getOffsetContext());
+
+        LOGGER.debug("{}.", getBatchMetrics());
+        LOGGER.debug("Processed in {} ms. Lag {}. Active Transactions: {}. Offsets: {}",
+                Duration.between(startProcessTime, Instant.now()),
+                getMetrics().getLagFromSourceInMilliseconds(),
+                getMetrics().getNumberOfActiveTransactions(),
+                getOffsetContext());
     }
 
     /**
@@ -1006,8 +1051,38 @@ protected boolean isArchiveLogOnlyModeAndScnIsNotAvailable(Scn scn) throws SQLEx
      * @throws InterruptedException if the thread is interrupted
      */
     protected void pauseBetweenMiningSessions() throws InterruptedException {
-        Duration period = Duration.ofSeconds(1);
-        Metronome.sleeper(period, clock).pause();
+        Duration period = miningWindow != null ? miningWindow.getSleepTime() : Duration.ofSeconds(1);
+        if (!period.isZero()) {
+            Metronome.sleeper(period, clock).pause();
+        }
+    }
+
+    /**
+     * Limits the upper boundary of the next mining query when the batch size adapts to the query cost.
+     *
+     * @param lowerBoundsScn the lower boundary of the rows the next query returns, should not be {@code null}
+     * @param upperBoundsScn the upper boundary of the next query, should not be {@code null}
+     * @return the upper boundary of the next query, never {@code null}
+     */
+    protected Scn limitUpperBoundsToBatchSize(Scn lowerBoundsScn, Scn upperBoundsScn) {
+        if (miningWindow == null || upperBoundsScn.isNull()) {
+            return upperBoundsScn;
+        }
+        return miningWindow.limitUpperBounds(lowerBoundsScn, upperBoundsScn);
+    }
+
+    /**
+     * @return whether the upper boundary of the last mining query was limited by the adaptive batch size
+     */
+    protected boolean isUpperBoundsLimitedToBatchSize() {
+        return miningWindow != null && miningWindow.isLimited();
+    }
+
+    /**
+     * @return whether the last mining query stopped early because a mined log was no longer available
+     */
+    protected boolean isMinedLogUnavailable() {
+        return sequenceUnavailable;
     }
 
     /**
@@ -1029,12 +1104,22 @@ protected void prepareJdbcConnection(boolean closeAndReconnect) throws SQLExcept
             }
         }
 
+        prepareMiningConnection(streamingConnection);
+    }
+
+    /**
+     * Prepares the session of a connection that runs LogMiner sessions and queries.
+     *
+     * @param connection the connection to prepare, should not be {@code null}
+     * @throws SQLException if a database exception occurred
+     */
+    protected void prepareMiningConnection(OracleConnection connection) throws SQLException {
         // Prepare the session's NLS configuration for streaming
         // This makes sure that specific LogMiner attributes are serialized in a consistent format
         // to minimize the various permutations needed in the value converters.
-        setNlsSessionParameters();
+        setNlsSessionParameters(connection);
 
-        setHashSortArea();
+        setHashSortArea(connection);
     }
 
     /**
@@ -1333,6 +1418,11 @@ protected void dispatchSchemaChangeEventInternal(LogMinerEventRow event) throws
     protected void dispatchDataChangeEventInternal(LogMinerEventRow event, Table table) throws InterruptedException {
         final LogMinerDmlEntry parsedEvent = parseDmlStatement(event, table);
         if (parsedEvent != null) {
+            if (isUnchangedEventDiscarded(event, table, parsedEvent)) {
+                getMetrics().incrementTotalChangesCount();
+                return;
+            }
+
             parsedEvent.setObjectName(event.getTableName());
             parsedEvent.setObjectOwner(event.getTablespaceName());
 
@@ -1344,6 +1434,35 @@ protected void dispatchDataChangeEventInternal(LogMinerEventRow event, Table tab
         }
     }
 
+    /**
+     * Checks whether an update is discarded before it is dispatched, because none of its captured columns
+     * changed and {@code skip.messages.without.change} would skip its change event.
+     * <p>
+     * This only applies when reading committed data only. A buffered transaction undoes a partial rollback
+     * by removing the last buffered event with the same row identifier, which would be the wrong event if
+     * the event being undone had been discarded. Tables with LOB columns are also excluded, as the value of
+     * such a column can change by events that follow the update.
+     *
+     * @param event the event, should not be {@code null}
+     * @param table the event's relational table, should not be {@code null}
+     * @param parsedEvent the parsed event, should not be {@code null}
+     * @return true if the event is discarded, false otherwise
+     */
+    private boolean isUnchangedEventDiscarded(LogMinerEventRow event, Table table, LogMinerDmlEntry parsedEvent) {
+        if (!isUsingCommittedDataOnly() || !connectorConfig.skipMessagesWithoutChange()
+                || parsedEvent.getEventType() != EventType.UPDATE || parsedEvent.getOldValues().length == 0
+                || !schema.getLobColumnsForTable(table.id()).isEmpty()) {
+            return false;
+        }
+        if (columnProjection.isCapturedColumnChanged(table, parsedEvent.getOldValues(), parsedEvent.getNewValues())) {
+            return false;
+        }
+        LOGGER.trace("Discarding update in transaction {} at SCN {} for table '{}', no captured column changed.",
+                event.getTransactionId(), event.getScn(), table.id());
+        metrics.onUnchangedEventSkipped(getPartition());
+        return true;
+    }
+
     /**
      * Check whether the specific event was included as part of the initial snapshot.
      * <p>
@@ -1750,36 +1869,38 @@ protected Table dispatchSchemaChangeEventAndGetTableForNewConfiguredTable(TableI
     /**
      * Sets the NLS parameters for the mining session.
      *
+     * @param connection the mining connection, should not be {@code null}
      * @throws SQLException if a database exception occurred
      */
-    private void setNlsSessionParameters() throws SQLException {
+    private void setNlsSessionParameters(OracleConnection connection) throws SQLException {
         final String NLS_SESSION_PARAMETERS = "ALTER SESSION SET "
                 + "  NLS_DATE_FORMAT = 'YYYY-MM-DD HH24:MI:SS'"
                 + "  NLS_TIMESTAMP_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF9'"
                 + "  NLS_TIMESTAMP_TZ_FORMAT = 'YYYY-MM-DD HH24:MI:SS.FF9 TZH:TZM'"
                 + "  NLS_NUMERIC_CHARACTERS = '.,'";
-        streamingConnection.executeWithoutCommitting(NLS_SESSION_PARAMETERS);
+        connection.executeWithoutCommitting(NLS_SESSION_PARAMETERS);
 
         // This is necessary so that TIMESTAMP WITH LOCAL TIME ZONE is returned in UTC
-        streamingConnection.executeWithoutCommitting("ALTER SESSION SET TIME_ZONE = '00:00'");
+        connection.executeWithoutCommitting("ALTER SESSION SET TIME_ZONE = '00:00'");
     }
 
     /**
      * Sets the hash/sort area for the mining session.
      *
+     * @param connection the mining connection, should not be {@code null}
      * @throws SQLException the hash/sort area
      */
-    private void setHashSortArea() throws SQLException {
+    private void setHashSortArea(OracleConnection connection) throws SQLException {
         final long hashAreaSize = getConfig().getLogMiningHashAreaSize();
         if (hashAreaSize > 0) {
             LOGGER.debug("Setting LogMiner connection HASH_AREA_SIZE={}", hashAreaSize);
-            streamingConnection.executeWithoutCommitting("ALTER SESSION SET HASH_AREA_SIZE = " + hashAreaSize);
+            connection.executeWithoutCommitting("ALTER SESSION SET HASH_AREA_SIZE = " + hashAreaSize);
         }
 
         final long sortAreaSize = getConfig().getLogMiningSortAreaSize();
         if (sortAreaSize > 0) {
             LOGGER.debug("Setting LogMiner connection SORT_AREA_SIZE={}", sortAreaSize);
-            streamingConnection.executeWithoutCommitting("ALTER SESSION SET SORT_AREA_SIZE = " + sortAreaSize);
+            connection.executeWithoutCommitting("ALTER SESSION SET SORT_AREA_SIZE = " + sortAreaSize);
         }
     }
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+
+/**
+ * Adapts the SCN interval of each LogMiner query and the sleep time between queries to the measured cost
+ * of the previous query.
+ * <p>
+ * The batch size follows an additive-increase, multiplicative-decrease scheme: it is halved when a query
+ * exceeds the target fetch duration or row count, and grows by the configured increment when a query
+ * within the targets was limited by the batch size, meaning the connector lags behind. The sleep time
+ * shrinks while the connector lags behind and grows while it has caught up with the database.
+ */
+public class AdaptiveMiningWindow {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveMiningWindow.class);
+
+    private final LogMinerStreamingChangeEventSourceMetrics metrics;
+    private final long minBatchSize;
+    private final long maxBatchSize;
+    private final long batchSizeIncrement;
+    private final Duration minSleepTime;
+    private final Duration maxSleepTime;
+    private final Duration sleepTimeIncrement;
+    private final Duration targetFetchDuration;
+    private final long targetRows;
+
+    private long batchSize;
+    private Duration sleepTime;
+    private boolean limited;
+
+    public AdaptiveMiningWindow(OracleConnectorConfig connectorConfig, LogMinerStreamingChangeEventSourceMetrics metrics) {
+        this.metrics = metrics;
+        this.minBatchSize = connectorConfig.getLogMiningBatchSizeMin();
+        this.maxBatchSize = connectorConfig.getLogMiningBatchSizeMax();
+        this.batchSizeIncrement = connectorConfig.getLogMiningBatchSizeIncrement();
+        this.minSleepTime = connectorConfig.getLogMiningSleepTimeMin();
+        this.maxSleepTime = connectorConfig.getLogMiningSleepTimeMax();
+        this.sleepTimeIncrement = connectorConfig.getLogMiningSleepTimeIncrement();
+        this.targetFetchDuration = connectorConfig.getLogMiningBatchTargetFetch();
+        this.targetRows = connectorConfig.getLogMiningBatchTargetRows();
+        this.batchSize = Math.min(Math.max(connectorConfig.getLogMiningBatchSizeDefault(), minBatchSize), maxBatchSize);
+        this.sleepTime = connectorConfig.getLogMiningSleepTimeDefault();
+
+        metrics.setBatchSize(batchSize);
+        metrics.setSleepTime(sleepTime);
+    }
+
+    /**
+     * Limits the upper boundary of the next LogMiner query to the current batch size.
+     *
+     * @param lowerBoundsScn the lower boundary of the next query, should not be {@code null}
+     * @param upperBoundsScn the upper boundary of the next query, should not be {@code null}
+     * @return the limited upper boundary, never {@code null}
+     */
+    public Scn limitUpperBounds(Scn lowerBoundsScn, Scn upperBoundsScn) {
+        final Scn maximumScn = lowerBoundsScn.add(Scn.valueOf(batchSize));
+        limited = maximumScn.compareTo(upperBoundsScn) < 0;
+        if (limited) {
+            LOGGER.debug("Limiting upper bounds {} to batch size {} at {}.", upperBoundsScn, batchSize, maximumScn);
+            return maximumScn;
+        }
+        return upperBoundsScn;
+    }
+
+    /**
+     * Adapts the batch size and sleep time to the cost of the last LogMiner query.
+     *
+     * @param fetchDuration the duration of fetching all rows of the query, should not be {@code null}
+     * @param rows the number of rows returned by the query
+     */
+    public void queryCompleted(Duration fetchDuration, long rows) {
+        final boolean exceeded = fetchDuration.compareTo(targetFetchDuration) > 0 || rows > targetRows;
+        if (exceeded) {
+            batchSize = Math.max(minBatchSize, batchSize / 2);
+        }
+        else if (limited) {
+            batchSize = Math.min(maxBatchSize, batchSize + batchSizeIncrement);
+        }
+
+        if (limited) {
+            sleepTime = max(minSleepTime, sleepTime.minus(sleepTimeIncrement));
+        }
+        else {
+            sleepTime = min(maxSleepTime, sleepTime.plus(sleepTimeIncrement));
+        }
+
+        LOGGER.debug("Query fetched {} rows in {} ms, next batch size {} and sleep time {} ms.",
+                rows, fetchDuration.toMillis(), batchSize, sleepTime.toMillis());
+
+        metrics.setBatchSize(batchSize);
+        metrics.setSleepTime(sleepTime);
+    }
+
+    /**
+     * @return the time to sleep before the next LogMiner query, never {@code null}
+     */
+    public Duration getSleepTime() {
+        return sleepTime;
+    }
+
+    /**
+     * @return whether the upper boundary of the last LogMiner query was limited by the batch size
+     */
+    public boolean isLimited() {
+        return limited;
+    }
+
+    /**
+     * @return the current maximum SCN interval of a LogMiner query
+     */
+    public long getBatchSize() {
+        return batchSize;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
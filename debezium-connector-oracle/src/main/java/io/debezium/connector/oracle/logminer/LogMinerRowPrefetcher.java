@@ -0,0 +1,132 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.util.Threads;
+
+/**
+ * Reads LogMiner rows on a separate thread into a bounded buffer, while the calling thread processes them.
+ * <p>
+ * This overlaps waiting for the database to return the next rows of a LogMiner query with parsing and
+ * processing the rows already read. When the buffer is full, reading pauses until the processing catches up.
+ */
+public class LogMinerRowPrefetcher implements AutoCloseable {
+
+    private static final LogMinerEventRow END_OF_ROWS = new LogMinerEventRow();
+
+    private final int capacity;
+    private final ExecutorService executor;
+
+    public LogMinerRowPrefetcher(OracleConnectorConfig connectorConfig) {
+        this.capacity = connectorConfig.getLogMiningPrefetchRows();
+        this.executor = Threads.newSingleThreadExecutor(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-row-prefetcher");
+    }
+
+    /**
+     * Reads all rows from the reader on a separate thread and passes them to the consumer on the calling thread.
+     * <p>
+     * The reader is no longer used once this method returns, even if it returns exceptionally.
+     *
+     * @param reader reads the next row, returning {@code null} when there are no more rows
+     * @param consumer processes each row, should not be {@code null}
+     * @param running whether the rows should continue to be processed, should not be {@code null}
+     * @throws SQLException if reading or processing a row failed
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public void process(RowReader reader, RowConsumer consumer, BooleanSupplier running) throws SQLException, InterruptedException {
+        final BlockingQueue<LogMinerEventRow> queue = new ArrayBlockingQueue<>(capacity);
+        final AtomicBoolean stopped = new AtomicBoolean();
+
+        final Future<Void> producer = executor.submit(() -> {
+            try {
+                LogMinerEventRow row;
+                while (!stopped.get() && (row = reader.next()) != null) {
+                    queue.put(row);
+                }
+            }
+            finally {
+                queue.put(END_OF_ROWS);
+            }
+            return null;
+        });
+
+        try {
+            while (running.getAsBoolean()) {
+                final LogMinerEventRow row = queue.take();
+                if (row == END_OF_ROWS) {
+                    break;
+                }
+                consumer.accept(row);
+            }
+        }
+        finally {
+            stopped.set(true);
+            awaitProducer(producer, queue);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void awaitProducer(Future<Void> producer, BlockingQueue<LogMinerEventRow> queue) throws SQLException, InterruptedException {
+        while (true) {
+            // A stopped producer may still wait to add a row
+            queue.clear();
+            try {
+                producer.get(100, TimeUnit.MILLISECONDS);
+                return;
+            }
+            catch (TimeoutException e) {
+                // continue draining
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new DebeziumException("Failed to read LogMiner rows", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Reads the next LogMiner row.
+     */
+    @FunctionalInterface
+    public interface RowReader {
+        /**
+         * @return the next row, or {@code null} if there are no more rows
+         */
+        LogMinerEventRow next() throws SQLException;
+    }
+
+    /**
+     * Processes a LogMiner row.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(LogMinerEventRow row) throws SQLException, InterruptedException;
+    }
+}
@@ -78,7 +78,10 @@
     private final AtomicLong oversizedTransactionCount = new AtomicLong();
     private final AtomicLong changesCount = new AtomicLong();
     private final AtomicLong scnFreezeCount = new AtomicLong();
+    private final AtomicLong batchSize = new AtomicLong();
+    private final AtomicLong sleepTime = new AtomicLong();
     private final AtomicLong partialRollbackCount = new AtomicLong();
+    private final AtomicLong compactedEventCount = new AtomicLong();
     private final AtomicLong numberOfBufferedEvents = new AtomicLong();
     private final AtomicLong numberOfCommittedEvents = new AtomicLong();
 
@@ -131,6 +134,7 @@ public void reset() {
         oversizedTransactionCount.set(0);
         scnFreezeCount.set(0);
         partialRollbackCount.set(0);
+        compactedEventCount.set(0);
         numberOfBufferedEvents.set(0);
         numberOfCommittedEvents.set(0);
 
@@ -273,6 +277,16 @@ public long getScnFreezeCount() {
         return scnFreezeCount.get();
     }
 
+    @Override
+    public long getBatchSize() {
+        return batchSize.get();
+    }
+
+    @Override
+    public long getMillisecondsToSleepBetweenMiningQuery() {
+        return sleepTime.get();
+    }
+
     @Override
     public long getLastDurationOfFetchQueryInMilliseconds() {
         return fetchQueryDuration.getLast().toMillis();
@@ -422,6 +436,11 @@ public long getNumberOfPartialRollbackCount() {
         return partialRollbackCount.get();
     }
 
+    @Override
+    public long getNumberOfCompactedEvents() {
+        return compactedEventCount.get();
+    }
+
     @Override
     public Set<String> getRolledBackTransactionIds() {
         return rolledBackTransactionIds.getAll();
@@ -590,6 +609,24 @@ public void setScnFreezeCount(long scnFreezeCount) {
         this.scnFreezeCount.set(scnFreezeCount);
     }
 
+    /**
+     * Sets the maximum SCN interval of the next LogMiner query.
+     *
+     * @param batchSize the maximum SCN interval
+     */
+    public void setBatchSize(long batchSize) {
+        this.batchSize.set(batchSize);
+    }
+
+    /**
+     * Sets the time the connector sleeps before the next LogMiner query.
+     *
+     * @param sleepTime the sleep time, should not be {@code null}
+     */
+    public void setSleepTime(Duration sleepTime) {
+        this.sleepTime.set(sleepTime.toMillis());
+    }
+
     /**
      * Sets the duration of the last LogMiner query execution.
      *
@@ -766,6 +803,13 @@ public void increasePartialRollbackCount() {
         partialRollbackCount.addAndGet(1);
     }
 
+    /**
+     * Increases the number of events merged into a buffered event by compaction.
+     */
+    public void increaseCompactedEventCount() {
+        compactedEventCount.addAndGet(1);
+    }
+
     @Override
     public String toString() {
         return "LogMinerStreamingChangeEventSourceMetrics{" +
@@ -791,6 +835,8 @@ public String toString() {
                 ", oversizedTransactionCount=" + oversizedTransactionCount +
                 ", changesCount=" + changesCount +
                 ", scnFreezeCount=" + scnFreezeCount +
+                ", batchSize=" + batchSize +
+                ", sleepTime=" + sleepTime +
                 ", batchProcessingDuration=" + batchProcessingDuration +
                 ", fetchQueryDuration=" + fetchQueryDuration +
                 ", commitDuration=" + commitDuration +
@@ -1070,6 +1116,10 @@ public boolean hasJdbcRows() {
             return jdbcRows > 0;
         }
 
+        public int getJdbcRows() {
+            return jdbcRows;
+        }
+
         public void reset() {
             schemaChangeCount = 0;
             dataChangeCount = 0;
@@ -152,6 +152,17 @@
      */
     long getScnFreezeCount();
 
+    /**
+     * @return maximum SCN interval of the next LogMiner query, or {@code 0} if the batch size is not adaptive
+     */
+    long getBatchSize();
+
+    /**
+     * @return time in milliseconds the connector sleeps before the next LogMiner query, or {@code 0} if the
+     * sleep time is not adaptive
+     */
+    long getMillisecondsToSleepBetweenMiningQuery();
+
     /**
      * @return duration of the last LogMiner query execution in milliseconds
      */
@@ -306,6 +317,11 @@
      */
     long getNumberOfPartialRollbackCount();
 
+    /**
+     * @return the number of events that were merged into an already buffered event of the same row
+     */
+    long getNumberOfCompactedEvents();
+
     /**
      * @return most recent transaction identifiers that were rolled back
      */
@@ -9,6 +9,8 @@
 import java.util.Optional;
 import java.util.Set;
 
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+
 /**
  * An abstract implementation of {@link LogMinerTransactionCache}.
  *
@@ -35,6 +37,12 @@ public boolean isAbandoned(String transactionId) {
         return abandonedTransactions.contains(transactionId);
     }
 
+    @Override
+    public void replaceTransactionEvent(T transaction, int eventKey, LogMinerEvent event) {
+        // Caches that store events by their key overwrite the existing event in place
+        addTransactionEvent(transaction, eventKey, event);
+    }
+
     @Override
     public void resetTransactionToStart(T transaction) {
         transaction.start();
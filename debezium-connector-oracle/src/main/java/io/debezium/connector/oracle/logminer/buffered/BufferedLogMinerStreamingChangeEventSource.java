@@ -47,6 +47,8 @@
 import io.debezium.connector.oracle.logminer.buffered.infinispan.RemoteInfinispanCacheProvider;
 import io.debezium.connector.oracle.logminer.buffered.memory.MemoryCacheProvider;
 import io.debezium.connector.oracle.logminer.buffered.memory.MemoryTransactionFactory;
+import io.debezium.connector.oracle.logminer.buffered.mmap.MemoryMappedCacheProvider;
+import io.debezium.connector.oracle.logminer.buffered.mmap.MemoryMappedTransactionFactory;
 import io.debezium.connector.oracle.logminer.events.DmlEvent;
 import io.debezium.connector.oracle.logminer.events.EventType;
 import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
@@ -82,6 +84,7 @@ public class BufferedLogMinerStreamingChangeEventSource extends AbstractLogMiner
     private final String queryString;
     private final CacheProvider<Transaction> cacheProvider;
     private final TransactionFactory<Transaction> transactionFactory;
+    private final TransactionEventCompactor compactor;
 
     private Instant lastProcessedScnChangeTime = null;
     private Scn lastProcessedScn = Scn.NULL;
@@ -122,6 +125,7 @@ public BufferedLogMinerStreamingChangeEventSource(OracleConnectorConfig connecto
         this.queryString = new BufferedLogMinerQueryBuilder(connectorConfig).getQuery();
         this.cacheProvider = createCacheProvider(connectorConfig);
         this.transactionFactory = createTransactionFactory(connectorConfig);
+        this.compactor = connectorConfig.isLogMiningBufferCompaction() ? new TransactionEventCompactor(connectorConfig, getTransactionCache()) : null;
     }
 
     @Override
@@ -174,7 +178,7 @@ protected void executeLogMiningStreaming() throws Exception {
                 Scn currentScn = getCurrentScn();
                 getMetrics().setCurrentScn(currentScn);
 
-                sessionEndScn = calculateUpperBounds(readScn, currentScn);
+                sessionEndScn = limitUpperBoundsToBatchSize(readScn, calculateUpperBounds(readScn, currentScn));
                 if (sessionEndScn.isNull()) {
                     LOGGER.debug("Requested delay of mining by one iteration");
                     pauseBetweenMiningSessions();
@@ -275,6 +279,7 @@ private <T extends Transaction> CacheProvider<T> createCacheProvider(OracleConne
             case INFINISPAN_EMBEDDED -> new EmbeddedInfinispanCacheProvider(connectorConfig);
             case INFINISPAN_REMOTE -> new RemoteInfinispanCacheProvider(connectorConfig);
             case EHCACHE -> new EhcacheCacheProvider(connectorConfig);
+            case MEMORY_MAPPED -> new MemoryMappedCacheProvider(connectorConfig);
         };
     }
 
@@ -284,6 +289,7 @@ private <T extends Transaction> TransactionFactory<T> createTransactionFactory(O
             case MEMORY -> new MemoryTransactionFactory();
             case INFINISPAN_EMBEDDED, INFINISPAN_REMOTE -> new InfinispanTransactionFactory();
             case EHCACHE -> new EhcacheTransactionFactory();
+            case MEMORY_MAPPED -> new MemoryMappedTransactionFactory();
         };
     }
 
@@ -767,6 +773,10 @@ protected boolean isDispatchAllowedForDataChangeEvent(LogMinerEventRow event) {
             // with a rollback flag to indicate that the prior event should be omitted. In this
             // use case, the transaction can still be committed, so we need to manually rollback
             // the previous DML event when this use case occurs.
+            if (compactor != null && compactor.isUndoOfMergedEvent(event.getTransactionId(), event.getRowId())) {
+                // The undo change is parsed to restore the merged event's prior row image
+                return true;
+            }
             removeEventWithRowId(event);
             return false;
         }
@@ -783,7 +793,7 @@ protected void handleReplicationMarkerEvent(LogMinerEventRow event) {
         final Transaction transaction = getTransactionCache().getTransaction(transactionId);
         if (transaction != null) {
             LOGGER.debug("Skipping GoldenGate replication marker for transaction {} with SCN {}", transactionId, event.getScn());
-            getTransactionCache().removeTransactionEvents(transaction);
+            removeTransactionEvents(transaction);
             getTransactionCache().removeTransaction(transaction);
         }
         // It should not exist in this cache, but in case.
@@ -1077,6 +1087,10 @@ else if (!getConfig().isLobEnabled()) {
      */
     private boolean rollbackTransactionEventWithRowId(Transaction transaction, LogMinerEventRow row) {
         if (getTransactionCache().rollbackTransactionEventWithRowId(transaction, row.getRowId())) {
+            if (compactor != null) {
+                compactor.eventRolledBack(transaction, row.getRowId());
+            }
+
             // This metric won't necessarily be accurate when LOB is enabled, it will scale based on the
             // number of times a given transaction is re-mined.
             getMetrics().increasePartialRollbackCount();
@@ -1103,7 +1117,19 @@ private void cleanupAfterTransactionRemovedFromCache(Transaction transaction, bo
         else {
             getTransactionCache().removeAbandonedTransaction(transaction.getTransactionId());
         }
+        removeTransactionEvents(transaction);
+    }
+
+    /**
+     * Removes all cached events of the given transaction.
+     *
+     * @param transaction the transaction, should not be {@code null}
+     */
+    private void removeTransactionEvents(Transaction transaction) {
         getTransactionCache().removeTransactionEvents(transaction);
+        if (compactor != null) {
+            compactor.removeTransaction(transaction.getTransactionId());
+        }
     }
 
     @Override
@@ -1145,7 +1171,7 @@ private void finalizeTransaction(String transactionId, Scn eventScn, boolean rol
         if (rollbackEvent) {
             final Transaction transaction = getTransactionCache().getTransaction(transactionId);
             if (transaction != null) {
-                getTransactionCache().removeTransactionEvents(transaction);
+                removeTransactionEvents(transaction);
                 getTransactionCache().removeTransaction(transaction);
             }
         }
@@ -1179,6 +1205,11 @@ else if (cacheSize == 1) {
 
     @Override
     protected void enqueueEvent(LogMinerEventRow event, LogMinerEvent dispatchedEvent) throws InterruptedException {
+        if (compactor != null && event.isRollbackFlag() && compactor.isUndoOfMergedEvent(event.getTransactionId(), event.getRowId())) {
+            undoMergedEvent(event, dispatchedEvent);
+            return;
+        }
+
         final String transactionId = event.getTransactionId();
 
         Transaction transaction = getTransactionCache().getTransaction(transactionId);
@@ -1203,11 +1234,21 @@ protected void enqueueEvent(LogMinerEventRow event, LogMinerEvent dispatchedEven
             }
         }
 
+        if (compactor != null && compactor.merge(transaction, dispatchedEvent)) {
+            LOGGER.trace("Transaction {}, merged event into buffered event with row-id {}", transactionId, event.getRowId());
+            getMetrics().increaseCompactedEventCount();
+            getMetrics().calculateLagFromSource(event.getChangeTime());
+            return;
+        }
+
         final int eventId = transaction.getNextEventId();
         if (!getTransactionCache().containsTransactionEvent(transaction, eventId)) {
             // Add new event at eventId offset
             LOGGER.trace("Transaction {}, adding event reference at key {}", transactionId, transaction.getEventId(eventId));
             getTransactionCache().addTransactionEvent(transaction, eventId, dispatchedEvent);
+            if (compactor != null) {
+                compactor.eventBuffered(transaction, eventId, dispatchedEvent);
+            }
             getMetrics().calculateLagFromSource(event.getChangeTime());
 
             getMetrics().setBufferedEventCount(getTransactionCache().getTransactionEvents());
@@ -1217,6 +1258,27 @@ protected void enqueueEvent(LogMinerEventRow event, LogMinerEvent dispatchedEven
         getTransactionCache().syncTransaction(transaction);
     }
 
+    /**
+     * Applies the undo change to the buffered event that the changes of its row were merged into.
+     *
+     * @param row the undo change, should not be {@code null}
+     * @param undoEvent the parsed undo change, should not be {@code null}
+     */
+    private void undoMergedEvent(LogMinerEventRow row, LogMinerEvent undoEvent) {
+        final Transaction transaction = getTransactionCache().getTransaction(row.getTransactionId());
+        if (transaction != null && compactor.undo(transaction, undoEvent)) {
+            getMetrics().increasePartialRollbackCount();
+            getBatchMetrics().partialRollbackObserved();
+
+            Loggings.logDebugAndTraceRecord(LOGGER, row,
+                    "Undo change on table '{}' applied to merged transaction event with row-id '{}'",
+                    row.getTableId(), row.getRowId());
+        }
+        else {
+            removeEventWithRowId(row);
+        }
+    }
+
     /**
      * Check whether the transaction's cached event count exceeds the configured event threshold limit.
      *
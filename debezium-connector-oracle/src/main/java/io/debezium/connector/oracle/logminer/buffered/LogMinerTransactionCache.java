@@ -140,6 +140,15 @@
      */
     void addTransactionEvent(T transaction, int eventKey, LogMinerEvent event);
 
+    /**
+     * Replaces an existing transaction event in the cache, retaining its position in the transaction.
+     *
+     * @param transaction the transaction, should not be {@code null}
+     * @param eventKey the event key of the existing event
+     * @param event the replacement event, should not be {@code null}
+     */
+    void replaceTransactionEvent(T transaction, int eventKey, LogMinerEvent event);
+
     /**
      * Removes all events for a given transaction.
      *
@@ -0,0 +1,187 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.RowIdCodec;
+import io.debezium.relational.TableId;
+
+/**
+ * Merges changes to the same row of a buffered transaction into a single buffered event.
+ * <p>
+ * An update that follows an insert of a row is merged into the insert, and an update that follows an
+ * update of a row is merged into the first update, which retains its old values. The buffered events
+ * of a row are tracked as one merged event followed by the events that were buffered without merging,
+ * such as a delete. Once such an event is buffered, later changes to the row are no longer merged.
+ * <p>
+ * A partial rollback of a change that was merged is applied by restoring the row image of the undo
+ * change into the merged event, so only the merged event's last change can be undone at any time.
+ * <p>
+ * The merge state is kept in heap, and is not recovered for a transaction buffer that survives a
+ * connector restart.
+ */
+public class TransactionEventCompactor {
+
+    private final LogMinerTransactionCache<Transaction> transactionCache;
+    private final Predicate<TableId> tableFilter;
+    private final Map<String, Map<RowIdCodec.Packed, RowState>> rowsByTransactionId = new HashMap<>();
+
+    public TransactionEventCompactor(OracleConnectorConfig connectorConfig, LogMinerTransactionCache<Transaction> transactionCache) {
+        this.transactionCache = transactionCache;
+        this.tableFilter = connectorConfig.getLogMiningBufferCompactionTableFilter();
+    }
+
+    /**
+     * Merges the event into the buffered event of the same row, if possible.
+     *
+     * @param transaction the transaction, should not be {@code null}
+     * @param event the event, should not be {@code null}
+     * @return {@code true} if the event was merged, {@code false} if the event should be buffered
+     */
+    public boolean merge(Transaction transaction, LogMinerEvent event) {
+        if (event.getEventType() != EventType.UPDATE || !isCompactable(event)) {
+            return false;
+        }
+
+        final RowState state = getRowState(transaction.getTransactionId(), event.getRowId());
+        if (state == null || state.unmergedEvents > 0) {
+            return false;
+        }
+
+        final DmlEvent bufferedEvent = (DmlEvent) transactionCache.getTransactionEvent(transaction, state.eventKey);
+        if (bufferedEvent == null) {
+            return false;
+        }
+
+        transactionCache.replaceTransactionEvent(transaction, state.eventKey, withNewValues(bufferedEvent, ((DmlEvent) event).getNewValues()));
+        state.mergedEvents++;
+        return true;
+    }
+
+    /**
+     * Records that the event was buffered as a new event.
+     *
+     * @param transaction the transaction, should not be {@code null}
+     * @param eventKey the key of the buffered event
+     * @param event the buffered event, should not be {@code null}
+     */
+    public void eventBuffered(Transaction transaction, int eventKey, LogMinerEvent event) {
+        final RowIdCodec.Packed rowId = event.getRowId();
+        if (RowIdCodec.EMPTY_ROW_ID.equals(rowId)) {
+            return;
+        }
+
+        final Map<RowIdCodec.Packed, RowState> rows = rowsByTransactionId.computeIfAbsent(transaction.getTransactionId(), k -> new HashMap<>());
+        final RowState state = rows.get(rowId);
+        if (state != null) {
+            state.unmergedEvents++;
+        }
+        else if (isCompactable(event) && (event.getEventType() == EventType.INSERT || event.getEventType() == EventType.UPDATE)) {
+            rows.put(rowId, new RowState(eventKey));
+        }
+    }
+
+    /**
+     * Returns whether an undo change for the row applies to a merged event.
+     *
+     * @param transactionId the transaction identifier, should not be {@code null}
+     * @param rowId the row identifier of the undo change, should not be {@code null}
+     * @return {@code true} if the undo change should be passed to {@link #undo}, {@code false} otherwise
+     */
+    public boolean isUndoOfMergedEvent(String transactionId, String rowId) {
+        final RowState state = getRowState(transactionId, RowIdCodec.encode(rowId));
+        return state != null && state.unmergedEvents == 0 && state.mergedEvents > 1;
+    }
+
+    /**
+     * Undoes the last change merged into a buffered event by restoring the row image of the undo change.
+     *
+     * @param transaction the transaction, should not be {@code null}
+     * @param undoEvent the undo change, should not be {@code null}
+     * @return {@code true} if the undo change was applied, {@code false} otherwise
+     */
+    public boolean undo(Transaction transaction, LogMinerEvent undoEvent) {
+        final RowState state = getRowState(transaction.getTransactionId(), undoEvent.getRowId());
+        if (state == null || state.unmergedEvents > 0 || state.mergedEvents <= 1 || undoEvent.getEventType() != EventType.UPDATE) {
+            return false;
+        }
+
+        final DmlEvent bufferedEvent = (DmlEvent) transactionCache.getTransactionEvent(transaction, state.eventKey);
+        if (bufferedEvent == null) {
+            return false;
+        }
+
+        transactionCache.replaceTransactionEvent(transaction, state.eventKey, withNewValues(bufferedEvent, ((DmlEvent) undoEvent).getNewValues()));
+        state.mergedEvents--;
+        return true;
+    }
+
+    /**
+     * Records that the last buffered event of the row was rolled back.
+     *
+     * @param transaction the transaction, should not be {@code null}
+     * @param rowId the row identifier, should not be {@code null}
+     */
+    public void eventRolledBack(Transaction transaction, String rowId) {
+        final Map<RowIdCodec.Packed, RowState> rows = rowsByTransactionId.get(transaction.getTransactionId());
+        if (rows != null) {
+            final RowIdCodec.Packed packedRowId = RowIdCodec.encode(rowId);
+            final RowState state = rows.get(packedRowId);
+            if (state != null) {
+                if (state.unmergedEvents > 0) {
+                    state.unmergedEvents--;
+                }
+                else {
+                    rows.remove(packedRowId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the merge state of the transaction.
+     *
+     * @param transactionId the transaction identifier, should not be {@code null}
+     */
+    public void removeTransaction(String transactionId) {
+        rowsByTransactionId.remove(transactionId);
+    }
+
+    private boolean isCompactable(LogMinerEvent event) {
+        // Subtypes such as redo SQL, truncate, or LOB events carry state that cannot be merged
+        return event.getClass() == DmlEvent.class && tableFilter.test(event.getTableId());
+    }
+
+    private RowState getRowState(String transactionId, RowIdCodec.Packed rowId) {
+        final Map<RowIdCodec.Packed, RowState> rows = rowsByTransactionId.get(transactionId);
+        return rows != null ? rows.get(rowId) : null;
+    }
+
+    private static DmlEvent withNewValues(DmlEvent event, Object[] newValues) {
+        return new DmlEvent(event.getEventType(), event.getScn(), event.getTableId(), event.getRowIdAsString(),
+                event.getRsId(), event.getChangeTime(), event.getOldValues(), newValues);
+    }
+
+    /**
+     * Tracks the buffered events of a single row.
+     */
+    private static class RowState {
+        private final int eventKey;
+        private int mergedEvents = 1;
+        private int unmergedEvents;
+
+        RowState(int eventKey) {
+            this.eventKey = eventKey;
+        }
+    }
+}
@@ -122,6 +122,20 @@ public void addTransactionEvent(MemoryTransaction transaction, int eventKey, Log
                 .put(eventKey, event);
     }
 
+    @Override
+    public void replaceTransactionEvent(MemoryTransaction transaction, int eventKey, LogMinerEvent event) {
+        final var events = eventsByTransactionId.get(transaction.getTransactionId());
+        if (events != null) {
+            for (int i = events.size() - 1; i >= 0; i--) {
+                if (events.get(i).eventId == eventKey) {
+                    events.set(i, new LogMinerEventEntry(eventKey, event));
+                    eventsByEventIdByTransactionId.get(transaction.getTransactionId()).put(eventKey, event);
+                    return;
+                }
+            }
+        }
+    }
+
     @Override
     public void removeTransactionEvents(MemoryTransaction transaction) {
         eventsByTransactionId.remove(transaction.getTransactionId());
@@ -0,0 +1,76 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.logminer.buffered.AbstractCacheProvider;
+import io.debezium.connector.oracle.logminer.buffered.LogMinerCache;
+import io.debezium.connector.oracle.logminer.buffered.LogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.memory.MemoryBasedLogMinerCache;
+
+/**
+ * Provides access to various transaction-focused caches to store transaction details in memory-mapped
+ * segment files while processing change events from Oracle LogMiner's buffered implementation.
+ * <p>
+ * Transaction events are kept off-heap and survive connector restarts, while the processed transactions
+ * and schema changes caches are small and are kept on the heap, just like the {@code memory} buffer.
+ */
+public class MemoryMappedCacheProvider extends AbstractCacheProvider<MemoryMappedTransaction> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryMappedCacheProvider.class);
+
+    private final boolean dropBufferOnStop;
+    private final MemoryMappedSegmentStore store;
+    private final MemoryMappedLogMinerTransactionCache transactionCache;
+    private final MemoryBasedLogMinerCache<String, String> processedTransactionsCache;
+    private final MemoryBasedLogMinerCache<String, String> schemaChangesCache;
+
+    public MemoryMappedCacheProvider(OracleConnectorConfig connectorConfig) {
+        final Path directory = Path.of(connectorConfig.getLogMiningBufferMemoryMappedDirectory());
+        LOGGER.info("Using memory-mapped files in '{}' to buffer transactions", directory);
+
+        this.dropBufferOnStop = connectorConfig.isLogMiningBufferDropOnStop();
+        this.store = new MemoryMappedSegmentStore(directory, connectorConfig.getLogMiningBufferMemoryMappedSegmentSize());
+        this.transactionCache = new MemoryMappedLogMinerTransactionCache(store);
+        this.processedTransactionsCache = new MemoryBasedLogMinerCache<>();
+        this.schemaChangesCache = new MemoryBasedLogMinerCache<>();
+    }
+
+    @Override
+    public LogMinerTransactionCache<MemoryMappedTransaction> getTransactionCache() {
+        return transactionCache;
+    }
+
+    @Override
+    public LogMinerCache<String, String> getSchemaChangesCache() {
+        return schemaChangesCache;
+    }
+
+    @Override
+    public LogMinerCache<String, String> getProcessedTransactionsCache() {
+        return processedTransactionsCache;
+    }
+
+    @Override
+    public void displayCacheStatistics() {
+        super.displayCacheStatistics();
+        LOGGER.info("\tSegments            : {}", store.getSegmentCount());
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dropBufferOnStop) {
+            LOGGER.info("Clearing memory-mapped buffer");
+        }
+        store.close(dropBufferOnStop);
+    }
+
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.buffered.AbstractLogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.LogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.ehcache.serialization.LogMinerEventSerializer;
+import io.debezium.connector.oracle.logminer.buffered.ehcache.serialization.SerializerInputStream;
+import io.debezium.connector.oracle.logminer.buffered.ehcache.serialization.SerializerOutputStream;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.connector.oracle.logminer.events.RowIdCodec;
+
+/**
+ * A concrete implementation of the {@link LogMinerTransactionCache} that stores transaction events off-heap
+ * in a {@link MemoryMappedSegmentStore}.
+ * <p>
+ * Only a small index is kept on the heap for each transaction, which maps each event id to the location of
+ * the serialized event, and tracks which events have been rolled back. The event's row identifier is stored
+ * uncompressed in front of the serialized event so that savepoint rollbacks can be matched without having
+ * to deserialize events.
+ * <p>
+ * Each transaction is assigned a unique incarnation number that prefixes all of its records, so that after a
+ * restart, events can be re-associated with their transaction, and events whose transaction record was
+ * released are ignored.
+ */
+public class MemoryMappedLogMinerTransactionCache extends AbstractLogMinerTransactionCache<MemoryMappedTransaction> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryMappedLogMinerTransactionCache.class);
+
+    private static final byte TRANSACTION_RECORD = 1;
+    private static final byte EVENT_RECORD = 2;
+
+    private static final long NO_LOCATION = -1L;
+    private static final int INCARNATION_OFFSET = 0;
+    private static final int EVENT_ID_OFFSET = INCARNATION_OFFSET + Long.BYTES;
+    private static final int ROW_ID_HIGH_OFFSET = EVENT_ID_OFFSET + Integer.BYTES;
+    private static final int ROW_ID_LOW_OFFSET = ROW_ID_HIGH_OFFSET + Long.BYTES;
+    private static final int EVENT_HEADER_SIZE = ROW_ID_LOW_OFFSET + Long.BYTES;
+
+    private final MemoryMappedSegmentStore store;
+    private final LogMinerEventSerializer eventSerializer;
+    private final Map<String, MemoryMappedTransaction> transactionsByTransactionId = new HashMap<>();
+    private final Map<String, TransactionIndex> indexByTransactionId = new HashMap<>();
+    private final ByteBuffer eventHeader = ByteBuffer.allocate(EVENT_HEADER_SIZE);
+
+    private long nextIncarnation;
+    private int totalEvents;
+
+    public MemoryMappedLogMinerTransactionCache(MemoryMappedSegmentStore store) {
+        this.store = store;
+        this.eventSerializer = new LogMinerEventSerializer(getClass().getClassLoader());
+
+        recover();
+    }
+
+    @Override
+    public MemoryMappedTransaction getTransaction(String transactionId) {
+        return transactionsByTransactionId.get(transactionId);
+    }
+
+    @Override
+    public MemoryMappedTransaction getAndRemoveTransaction(String transactionId) {
+        final MemoryMappedTransaction transaction = transactionsByTransactionId.remove(transactionId);
+        if (transaction != null) {
+            releaseTransactionRecord(transactionId);
+        }
+        return transaction;
+    }
+
+    @Override
+    public void addTransaction(MemoryMappedTransaction transaction) {
+        transactionsByTransactionId.put(transaction.getTransactionId(), transaction);
+
+        final TransactionIndex index = getOrCreateIndex(transaction.getTransactionId());
+        if (index.transactionLocation == NO_LOCATION) {
+            index.transactionLocation = appendTransactionRecord(index.incarnation, transaction);
+        }
+    }
+
+    @Override
+    public void removeTransaction(MemoryMappedTransaction transaction) {
+        if (transactionsByTransactionId.remove(transaction.getTransactionId()) != null) {
+            releaseTransactionRecord(transaction.getTransactionId());
+        }
+    }
+
+    @Override
+    public boolean containsTransaction(String transactionId) {
+        return transactionsByTransactionId.containsKey(transactionId);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return transactionsByTransactionId.isEmpty();
+    }
+
+    @Override
+    public int getTransactionCount() {
+        return transactionsByTransactionId.size();
+    }
+
+    @Override
+    public <R> R streamTransactionsAndReturn(Function<Stream<MemoryMappedTransaction>, R> consumer) {
+        return consumer.apply(transactionsByTransactionId.values().stream());
+    }
+
+    @Override
+    public void transactions(Consumer<Stream<MemoryMappedTransaction>> consumer) {
+        consumer.accept(transactionsByTransactionId.values().stream());
+    }
+
+    @Override
+    public void eventKeys(Consumer<Stream<String>> consumer) {
+        consumer.accept(indexByTransactionId.entrySet().stream()
+                .flatMap(entry -> entry.getValue().eventIds().mapToObj(eventId -> entry.getKey() + "-" + eventId)));
+    }
+
+    @Override
+    public void forEachEvent(MemoryMappedTransaction transaction, LogMinerEventPredicate predicate) throws InterruptedException {
+        final TransactionIndex index = indexByTransactionId.get(transaction.getTransactionId());
+        if (index != null) {
+            for (int eventId = 0; eventId < index.eventLocations.length; eventId++) {
+                final long location = index.eventLocations[eventId];
+                if (location != NO_LOCATION && !predicate.test(readEvent(location), index.rolledBack.get(eventId))) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public LogMinerEvent getTransactionEvent(MemoryMappedTransaction transaction, int eventKey) {
+        final TransactionIndex index = indexByTransactionId.get(transaction.getTransactionId());
+        if (index != null && index.contains(eventKey)) {
+            return readEvent(index.eventLocations[eventKey]);
+        }
+        return null;
+    }
+
+    @Override
+    public void addTransactionEvent(MemoryMappedTransaction transaction, int eventKey, LogMinerEvent event) {
+        final TransactionIndex index = getOrCreateIndex(transaction.getTransactionId());
+        final RowIdCodec.Packed rowId = event.getRowId() != null ? event.getRowId() : RowIdCodec.EMPTY_ROW_ID;
+
+        eventHeader.clear()
+                .putLong(index.incarnation)
+                .putInt(eventKey)
+                .putLong(rowId.high())
+                .putLong(rowId.low())
+                .flip();
+
+        final long previousLocation = index.put(eventKey, store.append(EVENT_RECORD, eventHeader, serialize(event)));
+        if (previousLocation != NO_LOCATION) {
+            store.release(previousLocation);
+            index.rolledBack.clear(eventKey);
+        }
+        else {
+            totalEvents++;
+        }
+    }
+
+    @Override
+    public void removeTransactionEvents(MemoryMappedTransaction transaction) {
+        final TransactionIndex index = indexByTransactionId.get(transaction.getTransactionId());
+        if (index != null) {
+            for (long location : index.eventLocations) {
+                if (location != NO_LOCATION) {
+                    store.release(location);
+                }
+            }
+            totalEvents -= index.eventCount;
+            index.clearEvents();
+            if (index.transactionLocation == NO_LOCATION) {
+                indexByTransactionId.remove(transaction.getTransactionId());
+            }
+        }
+    }
+
+    @Override
+    public boolean rollbackTransactionEventWithRowId(MemoryMappedTransaction transaction, String rowId) {
+        final RowIdCodec.Packed encodedRowId = RowIdCodec.encode(rowId);
+        final TransactionIndex index = indexByTransactionId.get(transaction.getTransactionId());
+        if (index != null) {
+            for (int eventId = index.eventLocations.length - 1; eventId >= 0; eventId--) {
+                final long location = index.eventLocations[eventId];
+                if (location == NO_LOCATION || index.rolledBack.get(eventId)) {
+                    continue;
+                }
+                final ByteBuffer body = store.read(location);
+                if (body.getLong(ROW_ID_HIGH_OFFSET) == encodedRowId.high() && body.getLong(ROW_ID_LOW_OFFSET) == encodedRowId.low()) {
+                    store.setFlag(location, MemoryMappedSegmentStore.FLAG_ROLLED_BACK);
+                    index.rolledBack.set(eventId);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsTransactionEvent(MemoryMappedTransaction transaction, int eventKey) {
+        final TransactionIndex index = indexByTransactionId.get(transaction.getTransactionId());
+        return index != null && index.contains(eventKey);
+    }
+
+    @Override
+    public int getTransactionEventCount(MemoryMappedTransaction transaction) {
+        final TransactionIndex index = indexByTransactionId.get(transaction.getTransactionId());
+        return index != null ? index.eventCount : 0;
+    }
+
+    @Override
+    public int getTransactionEvents() {
+        return totalEvents;
+    }
+
+    @Override
+    public void clear() {
+        transactionsByTransactionId.clear();
+        indexByTransactionId.clear();
+        store.clear();
+        totalEvents = 0;
+    }
+
+    @Override
+    public void syncTransaction(MemoryMappedTransaction transaction) {
+        // The number of events is derived from the recovered events after a restart, therefore this is a no-op
+    }
+
+    private TransactionIndex getOrCreateIndex(String transactionId) {
+        return indexByTransactionId.computeIfAbsent(transactionId, id -> new TransactionIndex(nextIncarnation++));
+    }
+
+    private void releaseTransactionRecord(String transactionId) {
+        final TransactionIndex index = indexByTransactionId.get(transactionId);
+        if (index != null && index.transactionLocation != NO_LOCATION) {
+            store.release(index.transactionLocation);
+            index.transactionLocation = NO_LOCATION;
+            if (index.eventCount == 0) {
+                indexByTransactionId.remove(transactionId);
+            }
+        }
+    }
+
+    private long appendTransactionRecord(long incarnation, MemoryMappedTransaction transaction) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (SerializerOutputStream stream = new SerializerOutputStream(output)) {
+            stream.writeString(transaction.getTransactionId());
+            stream.writeScn(transaction.getStartScn());
+            stream.writeInstant(transaction.getChangeTime());
+            stream.writeString(transaction.getUserName());
+            stream.writeInt(transaction.getRedoThreadId());
+            stream.writeString(transaction.getClientId());
+        }
+        catch (Exception e) {
+            throw new DebeziumException("Failed to serialize transaction " + transaction.getTransactionId(), e);
+        }
+        return store.append(TRANSACTION_RECORD, ByteBuffer.allocate(Long.BYTES).putLong(0, incarnation), ByteBuffer.wrap(output.toByteArray()));
+    }
+
+    private MemoryMappedTransaction readTransactionRecord(long location, int numberOfEvents) {
+        final ByteBuffer body = store.read(location);
+        final byte[] data = new byte[body.remaining() - Long.BYTES];
+        body.get(Long.BYTES, data);
+        try (SerializerInputStream stream = new SerializerInputStream(new ByteArrayInputStream(data))) {
+            final String transactionId = stream.readString();
+            final Scn startScn = stream.readScn();
+            final Instant changeTime = stream.readInstant();
+            final String userName = stream.readString();
+            final int redoThreadId = stream.readInt();
+            final String clientId = stream.readString();
+            return new MemoryMappedTransaction(transactionId, startScn, changeTime, userName, redoThreadId, numberOfEvents, clientId);
+        }
+        catch (Exception e) {
+            throw new DebeziumException("Failed to deserialize transaction at location " + Long.toHexString(location), e);
+        }
+    }
+
+    private ByteBuffer serialize(LogMinerEvent event) {
+        try {
+            return eventSerializer.serialize(event);
+        }
+        catch (Exception e) {
+            throw new DebeziumException("Failed to serialize event " + event, e);
+        }
+    }
+
+    private LogMinerEvent readEvent(long location) {
+        final ByteBuffer body = store.read(location);
+        final byte[] data = new byte[body.remaining() - EVENT_HEADER_SIZE];
+        body.get(EVENT_HEADER_SIZE, data);
+        try {
+            return eventSerializer.read(ByteBuffer.wrap(data));
+        }
+        catch (Exception e) {
+            throw new DebeziumException("Failed to deserialize event at location " + Long.toHexString(location), e);
+        }
+    }
+
+    private void recover() {
+        final Map<Long, TransactionIndex> indexByIncarnation = new HashMap<>();
+        store.recover((location, type, flags, body) -> {
+            final long incarnation = body.getLong(INCARNATION_OFFSET);
+            nextIncarnation = Math.max(nextIncarnation, incarnation + 1);
+            if (type == TRANSACTION_RECORD) {
+                final TransactionIndex index = new TransactionIndex(incarnation);
+                index.transactionLocation = location;
+                indexByIncarnation.put(incarnation, index);
+                return true;
+            }
+            else if (type == EVENT_RECORD) {
+                final TransactionIndex index = indexByIncarnation.get(incarnation);
+                if (index == null) {
+                    // The transaction was removed before the event records were released
+                    return false;
+                }
+                final int eventId = body.getInt(EVENT_ID_OFFSET);
+                final long previousLocation = index.put(eventId, location);
+                if (previousLocation != NO_LOCATION) {
+                    // Superseded by a later write of the same event
+                    store.release(previousLocation);
+                }
+                else {
+                    totalEvents++;
+                }
+                index.rolledBack.set(eventId, (flags & MemoryMappedSegmentStore.FLAG_ROLLED_BACK) != 0);
+                return true;
+            }
+            LOGGER.warn("Ignoring memory-mapped buffer record with unknown type {}.", type);
+            return false;
+        });
+
+        for (TransactionIndex index : indexByIncarnation.values()) {
+            final int numberOfEvents = index.eventIds().max().orElse(-1) + 1;
+            final MemoryMappedTransaction transaction = readTransactionRecord(index.transactionLocation, numberOfEvents);
+            transactionsByTransactionId.put(transaction.getTransactionId(), transaction);
+            indexByTransactionId.put(transaction.getTransactionId(), index);
+        }
+
+        if (!transactionsByTransactionId.isEmpty()) {
+            LOGGER.info("Recovered {} transactions with {} events from the memory-mapped buffer.", transactionsByTransactionId.size(), totalEvents);
+        }
+    }
+
+    /**
+     * The heap index of a single transaction's records.
+     */
+    private static final class TransactionIndex {
+
+        private static final long[] NO_EVENTS = new long[0];
+
+        private final long incarnation;
+        private final BitSet rolledBack = new BitSet();
+        private long transactionLocation = NO_LOCATION;
+        private long[] eventLocations = NO_EVENTS;
+        private int eventCount;
+
+        TransactionIndex(long incarnation) {
+            this.incarnation = incarnation;
+        }
+
+        boolean contains(int eventId) {
+            return eventId >= 0 && eventId < eventLocations.length && eventLocations[eventId] != NO_LOCATION;
+        }
+
+        long put(int eventId, long location) {
+            if (eventId >= eventLocations.length) {
+                final int previousLength = eventLocations.length;
+                eventLocations = Arrays.copyOf(eventLocations, Math.max(eventId + 1, Math.max(16, previousLength * 2)));
+                Arrays.fill(eventLocations, previousLength, eventLocations.length, NO_LOCATION);
+            }
+            final long previousLocation = eventLocations[eventId];
+            eventLocations[eventId] = location;
+            if (previousLocation == NO_LOCATION) {
+                eventCount++;
+            }
+            return previousLocation;
+        }
+
+        IntStream eventIds() {
+            return IntStream.range(0, eventLocations.length).filter(eventId -> eventLocations[eventId] != NO_LOCATION);
+        }
+
+        void clearEvents() {
+            eventLocations = NO_EVENTS;
+            rolledBack.clear();
+            eventCount = 0;
+        }
+    }
+}
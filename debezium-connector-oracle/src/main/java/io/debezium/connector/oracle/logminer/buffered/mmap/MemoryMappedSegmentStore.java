@@ -0,0 +1,467 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+
+/**
+ * An append-only record store that is backed by a directory of fixed-size, memory-mapped segment files.
+ * <p>
+ * Records are appended to the active segment and addressed by a {@code long} location that combines the
+ * segment's generation and the record's offset within the segment. Each segment keeps a count of its live
+ * records; once all records of a segment have been released, the segment is either kept for reuse or its
+ * file is deleted.
+ * <p>
+ * Every record is written with a checksum that includes the generation of the segment, and the length of a
+ * record is written last. This allows {@link #recover(RecordVisitor)} to detect the end of the valid data in
+ * a segment after a crash, and to ignore stale data left in a segment that was reused. Released records are
+ * flagged as removed in-place so that they are not recovered.
+ */
+class MemoryMappedSegmentStore implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryMappedSegmentStore.class);
+
+    /**
+     * Record flag that marks a record as released, it will not be supplied during recovery.
+     */
+    static final byte FLAG_REMOVED = 0x01;
+
+    /**
+     * Record flag that callers may use to mark a record as rolled back.
+     */
+    static final byte FLAG_ROLLED_BACK = 0x02;
+
+    private static final int SEGMENT_MAGIC = 0x44425A4D;
+    private static final int SEGMENT_VERSION = 1;
+    private static final int SEGMENT_HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 10;
+    private static final int RECORD_CHECKSUM_OFFSET = 4;
+    private static final int RECORD_TYPE_OFFSET = 8;
+    private static final int RECORD_FLAGS_OFFSET = 9;
+    private static final int MAX_FREE_SEGMENTS = 2;
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_SUFFIX = ".dat";
+    private static final String LOCK_FILE_NAME = "buffer.lock";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Map<Integer, Segment> segments = new HashMap<>();
+    private final Deque<Segment> freeSegments = new ArrayDeque<>();
+    private final CRC32C checksum = new CRC32C();
+    private final ByteBuffer checksumPrefix = ByteBuffer.allocate(Integer.BYTES + 1);
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+
+    private Segment activeSegment;
+    private boolean recovering;
+    private int nextGeneration;
+    private long nextFileId;
+
+    /**
+     * Visits a record during recovery.
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        /**
+         * @param location the record's location
+         * @param type the record's type
+         * @param flags the record's flags
+         * @param body the record's body, only valid for the duration of the call
+         * @return {@code true} if the record is live, {@code false} if it should be released
+         */
+        boolean visit(long location, byte type, byte flags, ByteBuffer body);
+    }
+
+    MemoryMappedSegmentStore(Path directory, long segmentSize) {
+        if (segmentSize <= SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new DebeziumException("The memory-mapped buffer segment size must be between "
+                    + (SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE + 1) + " and " + Integer.MAX_VALUE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize;
+        try {
+            Files.createDirectories(directory);
+            this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            this.lock = tryLock(lockChannel);
+            if (lock == null) {
+                lockChannel.close();
+                throw new DebeziumException("The memory-mapped buffer directory '" + directory + "' is in use by another process");
+            }
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to open the memory-mapped buffer directory '" + directory + "'", e);
+        }
+    }
+
+    /**
+     * Loads all existing segments and supplies each record that is not flagged as removed to the visitor,
+     * in the order the records were appended. Segments without any live records are reclaimed afterward.
+     *
+     * @param visitor the record visitor, should not be {@code null}
+     */
+    void recover(RecordVisitor visitor) {
+        final List<Segment> recovered = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(MemoryMappedSegmentStore::isSegmentFile).toList()) {
+                nextFileId = Math.max(nextFileId, getFileId(file) + 1);
+                final Segment segment = Segment.open(file);
+                if (segment == null) {
+                    LOGGER.warn("Deleting memory-mapped buffer segment '{}' with an invalid header.", file);
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                recovered.add(segment);
+            }
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to read the memory-mapped buffer directory '" + directory + "'", e);
+        }
+
+        recovered.sort(Comparator.comparingInt(segment -> segment.generation));
+        for (Segment segment : recovered) {
+            segments.put(segment.generation, segment);
+            nextGeneration = Math.max(nextGeneration, segment.generation + 1);
+        }
+
+        recovering = true;
+        try {
+            for (Segment segment : recovered) {
+                recoverSegment(segment, visitor);
+            }
+        }
+        finally {
+            recovering = false;
+        }
+
+        for (Segment segment : recovered) {
+            if (segment.liveRecords == 0) {
+                reclaim(segment);
+            }
+        }
+    }
+
+    /**
+     * Appends a new record.
+     *
+     * @param type the record type
+     * @param header the first part of the record's body, should not be {@code null}
+     * @param payload the second part of the record's body, may be {@code null}
+     * @return the location of the record
+     */
+    long append(byte type, ByteBuffer header, ByteBuffer payload) {
+        final int bodyLength = header.remaining() + (payload == null ? 0 : payload.remaining());
+        final Segment segment = segmentFor(RECORD_HEADER_SIZE + bodyLength);
+        final MappedByteBuffer buffer = segment.buffer;
+        final int position = segment.writePosition;
+        final int bodyPosition = position + RECORD_HEADER_SIZE;
+
+        buffer.put(position + RECORD_TYPE_OFFSET, type);
+        buffer.put(position + RECORD_FLAGS_OFFSET, (byte) 0);
+        buffer.put(bodyPosition, header, header.position(), header.remaining());
+        if (payload != null) {
+            buffer.put(bodyPosition + header.remaining(), payload, payload.position(), payload.remaining());
+        }
+        buffer.putInt(position + RECORD_CHECKSUM_OFFSET, checksum(segment, type, bodyPosition, bodyLength));
+        // The length is written last, a record without a length is never recovered
+        buffer.putInt(position, bodyLength);
+
+        segment.writePosition = bodyPosition + bodyLength;
+        segment.liveRecords++;
+        return toLocation(segment.generation, position);
+    }
+
+    /**
+     * Get the body of a record.
+     *
+     * @param location the record's location
+     * @return a buffer over the record's body, only valid until the record is released
+     */
+    ByteBuffer read(long location) {
+        final Segment segment = getSegment(location);
+        final int position = getPosition(location);
+        return segment.buffer.slice(position + RECORD_HEADER_SIZE, segment.buffer.getInt(position));
+    }
+
+    /**
+     * Sets a flag on a record in-place.
+     *
+     * @param location the record's location
+     * @param flag the flag to set
+     */
+    void setFlag(long location, byte flag) {
+        final Segment segment = getSegment(location);
+        final int flagsPosition = getPosition(location) + RECORD_FLAGS_OFFSET;
+        segment.buffer.put(flagsPosition, (byte) (segment.buffer.get(flagsPosition) | flag));
+    }
+
+    /**
+     * Releases a record, reclaiming its segment if it no longer holds any live records.
+     *
+     * @param location the record's location
+     */
+    void release(long location) {
+        final Segment segment = getSegment(location);
+        setFlag(location, FLAG_REMOVED);
+        if (--segment.liveRecords == 0 && segment != activeSegment && !recovering) {
+            reclaim(segment);
+        }
+    }
+
+    /**
+     * Releases all records and reclaims all segments.
+     */
+    void clear() {
+        for (Segment segment : new ArrayList<>(segments.values())) {
+            segment.liveRecords = 0;
+            reclaim(segment);
+        }
+        activeSegment = null;
+    }
+
+    /**
+     * @return the number of segments that hold live records
+     */
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        close(false);
+    }
+
+    /**
+     * Closes the store.
+     *
+     * @param deleteSegments whether all segment files should be deleted rather than retained for recovery
+     */
+    void close(boolean deleteSegments) {
+        try {
+            for (Segment segment : segments.values()) {
+                if (deleteSegments) {
+                    segment.delete();
+                }
+                else {
+                    segment.buffer.force();
+                }
+            }
+            for (Segment segment : freeSegments) {
+                segment.delete();
+            }
+            segments.clear();
+            freeSegments.clear();
+            activeSegment = null;
+
+            lock.release();
+            lockChannel.close();
+            if (deleteSegments) {
+                Files.deleteIfExists(directory.resolve(LOCK_FILE_NAME));
+            }
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to close the memory-mapped buffer in '" + directory + "'", e);
+        }
+    }
+
+    private void recoverSegment(Segment segment, RecordVisitor visitor) {
+        final MappedByteBuffer buffer = segment.buffer;
+        int position = SEGMENT_HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            final int bodyLength = buffer.getInt(position);
+            final int bodyPosition = position + RECORD_HEADER_SIZE;
+            if (bodyLength <= 0 || bodyLength > buffer.capacity() - bodyPosition) {
+                break;
+            }
+            final byte type = buffer.get(position + RECORD_TYPE_OFFSET);
+            if (buffer.getInt(position + RECORD_CHECKSUM_OFFSET) != checksum(segment, type, bodyPosition, bodyLength)) {
+                // Either a partially written record or stale data from a previous generation of the segment
+                break;
+            }
+
+            final byte flags = buffer.get(position + RECORD_FLAGS_OFFSET);
+            if ((flags & FLAG_REMOVED) == 0) {
+                final long location = toLocation(segment.generation, position);
+                if (visitor.visit(location, type, flags, buffer.slice(bodyPosition, bodyLength))) {
+                    segment.liveRecords++;
+                }
+                else {
+                    setFlag(location, FLAG_REMOVED);
+                }
+            }
+            position = bodyPosition + bodyLength;
+        }
+        segment.writePosition = position;
+    }
+
+    private Segment segmentFor(int recordLength) {
+        if (activeSegment == null || activeSegment.buffer.capacity() - activeSegment.writePosition < recordLength) {
+            if (activeSegment != null && activeSegment.liveRecords == 0) {
+                reclaim(activeSegment);
+            }
+            activeSegment = newSegment(SEGMENT_HEADER_SIZE + recordLength);
+        }
+        return activeSegment;
+    }
+
+    private Segment newSegment(int minimumCapacity) {
+        try {
+            Segment segment = null;
+            if (minimumCapacity <= segmentSize) {
+                segment = freeSegments.poll();
+            }
+            if (segment == null) {
+                final Path file = directory.resolve(SEGMENT_FILE_PREFIX + nextFileId++ + SEGMENT_FILE_SUFFIX);
+                segment = Segment.create(file, Math.max(segmentSize, minimumCapacity));
+            }
+            segment.reset(nextGeneration++);
+            segments.put(segment.generation, segment);
+            return segment;
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create a memory-mapped buffer segment in '" + directory + "'", e);
+        }
+    }
+
+    private void reclaim(Segment segment) {
+        segments.remove(segment.generation);
+        if (segment == activeSegment) {
+            activeSegment = null;
+        }
+        try {
+            if (segment.buffer.capacity() == segmentSize && freeSegments.size() < MAX_FREE_SEGMENTS) {
+                freeSegments.push(segment);
+            }
+            else {
+                segment.delete();
+            }
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to delete memory-mapped buffer segment '" + segment.path + "'", e);
+        }
+    }
+
+    private int checksum(Segment segment, byte type, int bodyPosition, int bodyLength) {
+        checksum.reset();
+        checksum.update(checksumPrefix.clear().putInt(segment.generation).put(type).flip());
+        checksum.update(segment.buffer.slice(bodyPosition, bodyLength));
+        return (int) checksum.getValue();
+    }
+
+    private Segment getSegment(long location) {
+        final Segment segment = segments.get((int) (location >>> 32));
+        if (segment == null) {
+            throw new DebeziumException("No memory-mapped buffer segment exists for location " + Long.toHexString(location));
+        }
+        return segment;
+    }
+
+    private static int getPosition(long location) {
+        return (int) location;
+    }
+
+    private static long toLocation(int generation, int position) {
+        return ((long) generation << 32) | (position & 0xFFFFFFFFL);
+    }
+
+    private static boolean isSegmentFile(Path file) {
+        final String fileName = file.getFileName().toString();
+        return fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.endsWith(SEGMENT_FILE_SUFFIX);
+    }
+
+    private static long getFileId(Path file) {
+        final String fileName = file.getFileName().toString();
+        try {
+            return Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(), fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+        }
+        catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        }
+        catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A single memory-mapped segment file.
+     */
+    private static final class Segment {
+
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int generation;
+        private int writePosition;
+        private int liveRecords;
+
+        private Segment(Path path, MappedByteBuffer buffer, int generation) {
+            this.path = path;
+            this.buffer = buffer;
+            this.generation = generation;
+        }
+
+        static Segment create(Path path, int capacity) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), 0);
+            }
+        }
+
+        static Segment open(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final long size = channel.size();
+                if (size < SEGMENT_HEADER_SIZE || size > Integer.MAX_VALUE) {
+                    return null;
+                }
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (buffer.getInt(0) != SEGMENT_MAGIC || buffer.getInt(4) != SEGMENT_VERSION) {
+                    return null;
+                }
+                return new Segment(path, buffer, buffer.getInt(8));
+            }
+        }
+
+        void reset(int newGeneration) {
+            generation = newGeneration;
+            writePosition = SEGMENT_HEADER_SIZE;
+            liveRecords = 0;
+            buffer.putInt(0, SEGMENT_MAGIC);
+            buffer.putInt(4, SEGMENT_VERSION);
+            buffer.putInt(8, newGeneration);
+            buffer.putInt(SEGMENT_HEADER_SIZE, 0);
+        }
+
+        void delete() throws IOException {
+            // The mapping is released by the garbage collector once the buffer is no longer referenced
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.time.Instant;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.buffered.AbstractTransaction;
+
+/**
+ * A {@link AbstractTransaction} implementation for the memory-mapped transaction buffer.
+ */
+public class MemoryMappedTransaction extends AbstractTransaction {
+
+    private int numberOfEvents;
+
+    public MemoryMappedTransaction(String transactionId, Scn startScn, Instant changeTime, String userName, Integer redoThreadId, String clientId) {
+        super(transactionId, startScn, changeTime, userName, redoThreadId, clientId);
+        start();
+    }
+
+    public MemoryMappedTransaction(String transactionId, Scn startScn, Instant changeTime, String userName, Integer redoThreadId, int numberOfEvents,
+                                   String clientId) {
+        super(transactionId, startScn, changeTime, userName, redoThreadId, clientId);
+        this.numberOfEvents = numberOfEvents;
+    }
+
+    @Override
+    public int getNumberOfEvents() {
+        return numberOfEvents;
+    }
+
+    @Override
+    public int getNextEventId() {
+        return numberOfEvents++;
+    }
+
+    @Override
+    public void start() {
+        numberOfEvents = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryMappedTransaction{" +
+                "numberOfEvents=" + numberOfEvents +
+                "} " + super.toString();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import java.time.Instant;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.buffered.TransactionFactory;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Transaction factory implementation for {@link MemoryMappedTransaction}.
+ */
+public class MemoryMappedTransactionFactory implements TransactionFactory<MemoryMappedTransaction> {
+    @Override
+    public MemoryMappedTransaction createTransaction(LogMinerEventRow event) {
+        return new MemoryMappedTransaction(event.getTransactionId(), event.getScn(), event.getChangeTime(),
+                event.getUserName(), event.getThread(), event.getClientId());
+    }
+
+    @Override
+    public MemoryMappedTransaction createTransaction(String transactionId, Scn startScn, Instant changeTime, String userName, Integer redoThreadId,
+                                                     String clientId) {
+        return new MemoryMappedTransaction(transactionId, startScn, changeTime, userName, redoThreadId, clientId);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.parser;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.relational.Column;
+import io.debezium.relational.Key.KeyMapper;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables.ColumnNameFilter;
+
+/**
+ * Resolves which columns of a table are captured, based on the {@code column.include.list} or
+ * {@code column.exclude.list} configuration.
+ * <p>
+ * A column is captured when the column filter includes it, or when it is part of the table's
+ * message key, which is emitted regardless of the column filter. The values of columns that are
+ * not captured never reach a change event, so they need not be materialized when parsing.
+ * <p>
+ * The captured columns are cached by table, and are resolved again when the relational table
+ * model of a table changes, such as after a schema change.
+ */
+public class ColumnProjection {
+
+    private final ColumnNameFilter columnFilter;
+    private final KeyMapper keyMapper;
+    private final Map<TableId, Projection> projections = new HashMap<>();
+
+    public ColumnProjection(OracleConnectorConfig connectorConfig) {
+        this.columnFilter = connectorConfig.isColumnsFiltered() ? connectorConfig.getColumnFilter() : null;
+        this.keyMapper = connectorConfig.getKeyMapper();
+    }
+
+    /**
+     * Returns the captured columns of the table.
+     *
+     * @param table the relational table, should not be {@code null}
+     * @return an array indexed by column position whether the column is captured, or {@code null}
+     *         if all columns of the table are captured
+     */
+    public boolean[] getCapturedColumns(Table table) {
+        if (columnFilter == null) {
+            return null;
+        }
+
+        Projection projection = projections.get(table.id());
+        if (projection == null || projection.table != table) {
+            projection = new Projection(table, resolveCapturedColumns(table));
+            projections.put(table.id(), projection);
+        }
+        return projection.capturedColumns;
+    }
+
+    /**
+     * Returns whether the value of any captured column differs between the old and new values.
+     *
+     * @param table the relational table, should not be {@code null}
+     * @param oldValues the old column values, should not be {@code null}
+     * @param newValues the new column values, should not be {@code null}
+     * @return {@code true} if a captured column changed, {@code false} otherwise
+     */
+    public boolean isCapturedColumnChanged(Table table, Object[] oldValues, Object[] newValues) {
+        final boolean[] capturedColumns = getCapturedColumns(table);
+        for (int i = 0; i < newValues.length; i++) {
+            if ((capturedColumns == null || capturedColumns[i]) && !Objects.equals(oldValues[i], newValues[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean[] resolveCapturedColumns(Table table) {
+        final TableId tableId = table.id();
+        final List<Column> columns = table.columns();
+        final List<Column> keyColumns = keyMapper != null ? keyMapper.getKeyKolumns(table) : table.primaryKeyColumns();
+
+        final boolean[] capturedColumns = new boolean[columns.size()];
+        boolean allCaptured = true;
+        for (int i = 0; i < columns.size(); i++) {
+            final Column column = columns.get(i);
+            capturedColumns[i] = columnFilter.matches(tableId.catalog(), tableId.schema(), tableId.table(), column.name())
+                    || table.isPrimaryKeyColumn(column.name())
+                    || keyColumns.contains(column);
+            allCaptured &= capturedColumns[i];
+        }
+        return allCaptured ? null : capturedColumns;
+    }
+
+    private record Projection(Table table, boolean[] capturedColumns) {
+    }
+}
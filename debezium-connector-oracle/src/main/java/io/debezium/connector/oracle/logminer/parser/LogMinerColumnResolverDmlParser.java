@@ -7,6 +7,7 @@
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import io.debezium.DebeziumException;
 import io.debezium.connector.oracle.OracleConnectorConfig;
@@ -26,15 +27,21 @@
  */
 public class LogMinerColumnResolverDmlParser extends LogMinerDmlParser {
 
+    private static final Pattern RECONSTRUCTED_COLUMN_NAME = Pattern.compile("COL \\d*");
+
     private Map<TableId, Map<String, Integer>> tableColumnPositionCache = new HashMap<>();
 
     public LogMinerColumnResolverDmlParser(OracleConnectorConfig connectorConfig) {
         super(connectorConfig);
     }
 
+    public LogMinerColumnResolverDmlParser(OracleConnectorConfig connectorConfig, ColumnProjection columnProjection) {
+        super(connectorConfig, columnProjection);
+    }
+
     @Override
     protected int getColumnIndexByName(String columnName, Table table) {
-        if (columnName.matches("COL \\d*")) {
+        if (RECONSTRUCTED_COLUMN_NAME.matcher(columnName).matches()) {
             Map<String, Integer> tableColumnPositions = tableColumnPositionCache.get(table.id());
             if (tableColumnPositions == null || !tableColumnPositions.containsKey(columnName)) {
                 tableColumnPositions = updateTableColumnPositionCache(table);
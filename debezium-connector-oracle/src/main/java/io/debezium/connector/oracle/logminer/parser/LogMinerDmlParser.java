@@ -37,6 +37,9 @@
  * The new value for {@code C1} would be {@code TO_TIMESTAMP('2020-02-02 00:00:00', 'YYYY-MM-DD HH24:MI:SS')}.
  * The old value for {@code C1} would be {@code TO_TIMESTAMP('2020-02-01 00:00:00', 'YYYY-MM-DD HH24:MI:SS')}.
  *
+ * When the column filter configuration excludes columns of the table, the values of the columns that
+ * are not captured are scanned past without being materialized, and are left {@code null}.
+ *
  * @author Chris Cranford
  */
 public class LogMinerDmlParser implements DmlParser {
@@ -65,10 +68,18 @@ public class LogMinerDmlParser implements DmlParser {
     private static final int WHERE_LENGTH = WHERE.length();
 
     private final boolean useRelaxedQuotes;
+    private final ColumnProjection columnProjection;
+    private final QuotedValue quotedValue = new QuotedValue();
     private int rowArchivalColumnIndex = -1;
+    private boolean[] capturedColumns;
 
     public LogMinerDmlParser(OracleConnectorConfig connectorConfig) {
+        this(connectorConfig, new ColumnProjection(connectorConfig));
+    }
+
+    public LogMinerDmlParser(OracleConnectorConfig connectorConfig, ColumnProjection columnProjection) {
         this.useRelaxedQuotes = connectorConfig.getLogMiningUseSqlRelaxedQuoteDetection();
+        this.columnProjection = columnProjection;
     }
 
     @Override
@@ -77,6 +88,7 @@ public LogMinerDmlEntry parse(String sql, Table table) {
             throw new DmlParserException("DML parser requires a non-null table");
         }
         if (sql != null && sql.length() > 0) {
+            capturedColumns = columnProjection.getCapturedColumns(table);
             try {
                 switch (sql.charAt(0)) {
                     case 'i':
@@ -89,6 +101,7 @@ public LogMinerDmlEntry parse(String sql, Table table) {
             }
             finally {
                 rowArchivalColumnIndex = -1;
+                capturedColumns = null;
             }
         }
         throw new DmlParserException("Unknown supported SQL '" + sql + "'");
@@ -301,17 +314,16 @@ private int parseColumnValuesClause(String sql, int start, String[] columnNames,
 
         int columnIndex = 0;
         int sqlLength = sql.length();
-        StringBuilder collectedValue = null;
         for (; index < sqlLength; ++index) {
             char c = sql.charAt(index);
             char lookAhead = (index + 1 < sqlLength) ? sql.charAt(index + 1) : 0;
 
             if (inQuote) {
                 if (c != '\'') {
-                    collectedValue.append(c);
+                    quotedValue.append(index);
                 }
                 else if (lookAhead == '\'') {
-                    collectedValue.append('\'');
+                    quotedValue.append(index);
                     // In relaxed mode, '' before an end-of-value boundary means (lone ') + (closing ').
                     // Check whether the following after '' chars signal end-of-value.
                     lookAhead = (index + 2 < sqlLength) ? sql.charAt(index + 2) : 0;
@@ -328,7 +340,7 @@ else if (useRelaxedQuotes && (lookAhead != ',' && lookAhead != ')')) {
                     // signify the next value, or the end parenthesis to identify that being the last column value.
                     // Obviously if the text has "'," or "')" as the text sequence, this rule will fail, but there
                     // really is no other way to identify this.
-                    collectedValue.append(c);
+                    quotedValue.append(index);
                     continue;
                 }
             }
@@ -346,7 +358,7 @@ else if (c == '\'') {
                     continue;
                 }
                 inQuote = true;
-                collectedValue = new StringBuilder();
+                quotedValue.begin(sql, index + 1);
             }
             else if (!inQuote && (c == ',' || c == ')')) {
                 if (c == ')' && nested != 0) {
@@ -365,16 +377,15 @@ else if (!inQuote && (c == ',' || c == ')')) {
 
                 if (sql.charAt(start) == '\'' && sql.charAt(index - 1) == '\'') {
                     // value is single-quoted at the start/end, substring without the quotes.
-                    int position = getColumnIndexByName(columnNames[columnIndex], table);
-                    values[position] = collectedValue.toString();
-                    collectedValue = null;
+                    setColumnValue(columnNames[columnIndex], quotedValue, table, values);
                 }
                 else {
                     // use value as-is
-                    String s = sql.substring(start, index);
-                    if (!s.equals(UNSUPPORTED_TYPE) && !s.equals(NULL)) {
+                    if (!isToken(sql, start, index, UNSUPPORTED_TYPE) && !isToken(sql, start, index, NULL)) {
                         int position = getColumnIndexByName(columnNames[columnIndex], table);
-                        values[position] = s;
+                        if (isCaptured(position)) {
+                            values[position] = sql.substring(start, index);
+                        }
                     }
                 }
 
@@ -417,7 +428,6 @@ else if (set != start) {
 
         int index = start;
         String currentColumnName = null;
-        StringBuilder collectedValue = null;
         for (; index < sql.length(); ++index) {
             char c = sql.charAt(index);
             char lookAhead = (index + 1 < sql.length()) ? sql.charAt(index + 1) : 0;
@@ -426,11 +436,11 @@ else if (set != start) {
 
             if (inSingleQuote) {
                 if (c != '\'') {
-                    collectedValue.append(c);
+                    quotedValue.append(index);
                 }
                 else {
                     if (lookAhead == '\'') {
-                        collectedValue.append('\'');
+                        quotedValue.append(index);
                         // In relaxed mode, '' before an end-of-value boundary means (lone ') + (closing ').
                         // Check whether the following after '' chars signal end-of-value.
                         if (useRelaxedQuotes && (sql.startsWith(", \"", index + 2) ||
@@ -485,7 +495,7 @@ else if (c == '\'' && inColumnValue) {
                     if (lookAhead == ',' && lookAhead2 == ' ' && (lookAhead3 == '\"' || lookAhead3 == 'w')) {
                         // reached end of value
                     }
-                    else if (lookAhead == ' ' && lookAhead2 == 'w' && sql.substring(index + 1).startsWith(" where ")) {
+                    else if (lookAhead == ' ' && lookAhead2 == 'w' && sql.startsWith(WHERE, index + 1)) {
                         // reached each of set clause and moving onto where condition
                     }
                     else if (lookAhead == ';' && lookAhead2 == 0) {
@@ -493,7 +503,7 @@ else if (lookAhead == ' ' && lookAhead2 == 'w' && sql.substring(index + 1).start
                     }
                     else {
                         // found a solo single quote, treat it as part of value
-                        collectedValue.append(c);
+                        quotedValue.append(index);
                         continue;
                     }
                 }
@@ -501,8 +511,7 @@ else if (lookAhead == ' ' && lookAhead2 == 'w' && sql.substring(index + 1).start
                 if (inSingleQuote) {
                     inSingleQuote = false;
                     if (nested == 0) {
-                        setColumnValue(currentColumnName, collectedValue, table, newValues);
-                        collectedValue = null;
+                        setColumnValue(currentColumnName, quotedValue, table, newValues);
                         start = index + 1;
                         inColumnValue = false;
                         inColumnName = false;
@@ -513,7 +522,7 @@ else if (lookAhead == ' ' && lookAhead2 == 'w' && sql.substring(index + 1).start
                     start = index;
                 }
                 inSingleQuote = true;
-                collectedValue = new StringBuilder();
+                quotedValue.begin(sql, index + 1);
             }
             else if (c == ',' && !inColumnValue && !inColumnName) {
                 // Set clause uses ', ' skip following space
@@ -551,9 +560,9 @@ else if (c == ')' && nested > 0) {
                     nested--;
                 }
                 else if ((c == ',' || c == ' ' || c == ';') && nested == 0) {
-                    String value = sql.substring(start, index);
-                    if (value.equals(NULL) || value.equals(UNSUPPORTED_TYPE)) {
-                        if (value.equals(NULL)) {
+                    final boolean isNull = isToken(sql, start, index, NULL);
+                    if (isNull || isToken(sql, start, index, UNSUPPORTED_TYPE)) {
+                        if (isNull) {
                             // In order to identify when a field is not present in the set-clause or when
                             // a field is explicitly set to null, the NULL_SENTINEL value is used to then
                             // indicate that the field is explicitly being cleared to NULL.
@@ -567,10 +576,10 @@ else if (c == ')' && nested > 0) {
                         inColumnName = true;
                         continue;
                     }
-                    else if (value.equals(UNSUPPORTED)) {
+                    else if (isToken(sql, start, index, UNSUPPORTED)) {
                         continue;
                     }
-                    setColumnValue(currentColumnName, value, table, newValues);
+                    setColumnValue(currentColumnName, sql, start, index, table, newValues);
                     start = index + 1;
                     inColumnValue = false;
                     inSpecial = false;
@@ -625,17 +634,16 @@ else if (where != start) {
 
         int index = start;
         String currentColumnName = null;
-        StringBuilder collectedValue = null;
         for (; index < sql.length(); ++index) {
             char c = sql.charAt(index);
             char lookAhead = (index + 1 < sql.length()) ? sql.charAt(index + 1) : 0;
             if (inSingleQuote) {
                 if (c != '\'') {
-                    collectedValue.append(c);
+                    quotedValue.append(index);
                 }
                 else {
                     if (lookAhead == '\'') {
-                        collectedValue.append('\'');
+                        quotedValue.append(index);
                         index = index + 1;
                         continue;
                     }
@@ -676,8 +684,7 @@ else if (c == '\'' && inColumnValue) {
                 if (inSingleQuote) {
                     inSingleQuote = false;
                     if (nested == 0) {
-                        setColumnValue(currentColumnName, collectedValue, table, values);
-                        collectedValue = null;
+                        setColumnValue(currentColumnName, quotedValue, table, values);
                         start = index + 1;
                         inColumnValue = false;
                         inColumnName = false;
@@ -688,7 +695,7 @@ else if (c == '\'' && inColumnValue) {
                     start = index;
                 }
                 inSingleQuote = true;
-                collectedValue = new StringBuilder();
+                quotedValue.begin(sql, index + 1);
             }
             else if (inColumnValue && !inSingleQuote) {
                 if (!inSpecial) {
@@ -715,18 +722,17 @@ else if (nested == 0 && c == '|' && lookAhead == '|') {
                     }
                 }
                 else if ((c == ';' || c == ' ') && nested == 0) {
-                    String value = sql.substring(start, index);
-                    if (value.equals(NULL) || value.equals(UNSUPPORTED_TYPE)) {
+                    if (isToken(sql, start, index, NULL) || isToken(sql, start, index, UNSUPPORTED_TYPE)) {
                         start = index + 1;
                         inColumnValue = false;
                         inSpecial = false;
                         inColumnName = true;
                         continue;
                     }
-                    else if (value.equals(UNSUPPORTED)) {
+                    else if (isToken(sql, start, index, UNSUPPORTED)) {
                         continue;
                     }
-                    setColumnValue(currentColumnName, value, table, values);
+                    setColumnValue(currentColumnName, sql, start, index, table, values);
                     start = index + 1;
                     inColumnValue = false;
                     inSpecial = false;
@@ -753,14 +759,78 @@ else if (c == 'o' && lookAhead == 'r' && sql.indexOf(OR, index) == index) {
     private void setColumnValue(String columnName, String columnValue, Table table, Object[] values) {
         if (!ORA_ARCHIVE_STATE.equals(columnName)) {
             int position = getColumnIndexByName(columnName, table);
-            values[position] = columnValue;
+            if (isCaptured(position)) {
+                values[position] = columnValue;
+            }
         }
     }
 
-    private void setColumnValue(String columnName, StringBuilder columnValue, Table table, Object[] values) {
+    private void setColumnValue(String columnName, String sql, int start, int end, Table table, Object[] values) {
         if (!ORA_ARCHIVE_STATE.equals(columnName)) {
             int position = getColumnIndexByName(columnName, table);
-            values[position] = columnValue.toString();
+            if (isCaptured(position)) {
+                values[position] = sql.substring(start, end);
+            }
+        }
+    }
+
+    private void setColumnValue(String columnName, QuotedValue columnValue, Table table, Object[] values) {
+        if (!ORA_ARCHIVE_STATE.equals(columnName)) {
+            int position = getColumnIndexByName(columnName, table);
+            if (isCaptured(position)) {
+                values[position] = columnValue.toString();
+            }
+        }
+    }
+
+    private boolean isCaptured(int position) {
+        return capturedColumns == null || capturedColumns[position];
+    }
+
+    /**
+     * Checks whether the unquoted value between the given indices of the sql statement is the given token,
+     * without materializing the value.
+     */
+    private static boolean isToken(String sql, int start, int end, String token) {
+        return end - start == token.length() && sql.startsWith(token, start);
+    }
+
+    /**
+     * Collects a single-quoted column value as a view over the sql statement, which is materialized with a single
+     * copy once the value is complete. Only values with escaped quotes, which are no contiguous region of the sql
+     * statement, are copied into a buffer that is reused across values.
+     */
+    private static final class QuotedValue {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private String sql;
+        private int start;
+        private int end;
+        private boolean buffered;
+
+        void begin(String sql, int start) {
+            this.sql = sql;
+            this.start = start;
+            this.end = start;
+            this.buffered = false;
+        }
+
+        void append(int index) {
+            if (!buffered) {
+                if (index == end) {
+                    end++;
+                    return;
+                }
+                buffer.setLength(0);
+                buffer.append(sql, start, end);
+                buffered = true;
+            }
+            buffer.append(sql.charAt(index));
+        }
+
+        @Override
+        public String toString() {
+            return buffered ? buffer.toString() : sql.substring(start, end);
         }
     }
 }
@@ -0,0 +1,405 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.unbuffered;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.LogFile;
+import io.debezium.connector.oracle.logminer.LogMinerSessionContext;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.util.Threads;
+
+/**
+ * Mines the logs of each redo thread of an Oracle RAC database in a separate LogMiner session, each using
+ * its own database connection, and merges the rows of all sessions.
+ * <p>
+ * As all sessions use {@code COMMITTED_DATA_ONLY} mode, each session returns the transactions of its redo
+ * thread in commit order. The sessions are read in parallel, and their transactions are merged by commit
+ * system change number and redo thread, so that the merged rows are in the same order as when mining all
+ * logs in a single session.
+ */
+public class RedoThreadSessionMiner implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedoThreadSessionMiner.class);
+
+    private static final String LOG_UNAVAILABLE_ERROR = "ORA-00310";
+
+    /**
+     * The number of transactions each session may read ahead of the merge.
+     */
+    private static final int TRANSACTION_QUEUE_CAPACITY = 64;
+
+    /**
+     * The interval at which the merge checks whether the connector is stopped while waiting for a session.
+     */
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final OracleConnectorConfig connectorConfig;
+    private final String miningQuery;
+    private final ConnectionProvider connectionProvider;
+    private final RowReader rowReader;
+    private final BooleanSupplier running;
+    private final ExecutorService executor;
+    private final Map<Integer, RedoThreadSession> sessions = new HashMap<>();
+
+    public RedoThreadSessionMiner(OracleConnectorConfig connectorConfig, String miningQuery, ConnectionProvider connectionProvider,
+                                  RowReader rowReader, BooleanSupplier running) {
+        this.connectorConfig = connectorConfig;
+        this.miningQuery = miningQuery;
+        this.connectionProvider = connectionProvider;
+        this.rowReader = rowReader;
+        this.running = running;
+        this.executor = Executors.newCachedThreadPool(
+                Threads.threadFactory(OracleConnector.class, connectorConfig.getLogicalName(), "redo-thread-miner", true, false));
+    }
+
+    /**
+     * Checks whether the logs span more than one redo thread.
+     *
+     * @param logFiles the logs to mine, should not be {@code null}
+     * @return {@code true} if the logs belong to more than one redo thread, {@code false} otherwise
+     */
+    public static boolean hasMultipleRedoThreads(List<LogFile> logFiles) {
+        return logFiles.stream().map(LogFile::getThread).distinct().count() > 1;
+    }
+
+    /**
+     * Mines the logs of each redo thread in parallel and passes the merged rows to the consumer.
+     * <p>
+     * When a log of a redo thread becomes unavailable while it is read, no rows beyond the last merged
+     * transaction of that redo thread are passed to the consumer, so that mining can resume from there.
+     *
+     * @param logFiles the logs to mine, should not be {@code null}
+     * @param startScn the mining session start system change number, should not be {@code null}
+     * @param parameterBinder binds the parameters of the mining query, should not be {@code null}
+     * @param consumer the consumer of the merged rows, should not be {@code null}
+     * @return {@code true} if all rows were merged, {@code false} if the merge stopped early
+     * @throws SQLException if a database exception occurred
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public boolean mine(List<LogFile> logFiles, Scn startScn, ParameterBinder parameterBinder, RowConsumer consumer)
+            throws SQLException, InterruptedException {
+        final Map<Integer, List<LogFile>> logFilesByThread = logFiles.stream()
+                .collect(Collectors.groupingBy(LogFile::getThread, TreeMap::new, Collectors.toList()));
+
+        closeSessionsExcept(logFilesByThread.keySet().stream().toList());
+
+        final List<RedoThreadSession> batchSessions = new ArrayList<>(logFilesByThread.size());
+        final List<BlockingQueue<Transaction>> queues = new ArrayList<>(logFilesByThread.size());
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final CountDownLatch readersCompleted = new CountDownLatch(logFilesByThread.size());
+
+        for (Map.Entry<Integer, List<LogFile>> entry : logFilesByThread.entrySet()) {
+            final RedoThreadSession session = sessions.computeIfAbsent(entry.getKey(), RedoThreadSession::new);
+            final BlockingQueue<Transaction> queue = new ArrayBlockingQueue<>(TRANSACTION_QUEUE_CAPACITY);
+            batchSessions.add(session);
+            queues.add(queue);
+            executor.execute(() -> {
+                try {
+                    session.read(entry.getValue(), startScn, parameterBinder, queue, aborted);
+                }
+                finally {
+                    readersCompleted.countDown();
+                }
+            });
+        }
+
+        try {
+            return merge(queues, consumer);
+        }
+        finally {
+            aborted.set(true);
+            batchSessions.forEach(RedoThreadSession::cancel);
+            // The sessions are only reused once all readers of this batch stopped using their connections,
+            // and readers that stopped early may still wait to queue their remaining rows
+            do {
+                queues.forEach(BlockingQueue::clear);
+            } while (!readersCompleted.await(100, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Override
+    public void close() {
+        closeSessionsExcept(List.of());
+        executor.shutdownNow();
+    }
+
+    private boolean merge(List<BlockingQueue<Transaction>> queues, RowConsumer consumer) throws SQLException, InterruptedException {
+        final Transaction[] heads = new Transaction[queues.size()];
+        for (int i = 0; i < heads.length; i++) {
+            heads[i] = take(queues.get(i));
+            if (heads[i] == null) {
+                return false;
+            }
+        }
+
+        while (running.getAsBoolean()) {
+            int next = -1;
+            for (int i = 0; i < heads.length; i++) {
+                final Transaction head = heads[i];
+                if (head.failure() != null) {
+                    if (head.failure() instanceof SQLException e) {
+                        throw e;
+                    }
+                    throw new DebeziumException("Failed to mine redo thread logs", head.failure());
+                }
+                else if (head.truncated()) {
+                    // Transactions of other redo threads may commit after the unavailable rows of this redo thread
+                    LOGGER.warn("Restarting mining sessions after a log became unavailable.");
+                    return false;
+                }
+                else if (!head.isEnd() && (next == -1 || head.scn().compareTo(heads[next].scn()) < 0)) {
+                    // Sessions are in redo thread order, so the lower redo thread wins a tie
+                    next = i;
+                }
+            }
+
+            if (next == -1) {
+                return true;
+            }
+
+            for (LogMinerEventRow row : heads[next].rows()) {
+                consumer.accept(row);
+            }
+            heads[next] = take(queues.get(next));
+            if (heads[next] == null) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes the next transaction of a session, or returns {@code null} if the connector is stopped while waiting
+     * for it, as the mining query of the session may not return further rows for a long time.
+     */
+    private Transaction take(BlockingQueue<Transaction> queue) throws InterruptedException {
+        Transaction transaction;
+        while ((transaction = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) == null) {
+            if (!running.getAsBoolean()) {
+                return null;
+            }
+        }
+        return transaction;
+    }
+
+    private void closeSessionsExcept(List<Integer> threads) {
+        final Iterator<RedoThreadSession> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            final RedoThreadSession session = iterator.next();
+            if (!threads.contains(session.thread)) {
+                session.close();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Provides a new connection that is prepared for mining.
+     */
+    @FunctionalInterface
+    public interface ConnectionProvider {
+        OracleConnection newConnection() throws SQLException;
+    }
+
+    /**
+     * Reads a row of the mining query.
+     */
+    @FunctionalInterface
+    public interface RowReader {
+        LogMinerEventRow read(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Binds the parameters of the mining query.
+     */
+    @FunctionalInterface
+    public interface ParameterBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * Consumes the merged rows.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(LogMinerEventRow row) throws SQLException, InterruptedException;
+    }
+
+    /**
+     * The rows of a transaction of a redo thread, or the end of the rows of a redo thread.
+     *
+     * @param rows the rows of the transaction
+     * @param scn the commit system change number of the transaction, or the system change number of a schema change
+     * @param truncated whether the rows of the redo thread ended because a log became unavailable
+     * @param failure the exception that ended the rows of the redo thread, may be {@code null}
+     */
+    private record Transaction(List<LogMinerEventRow> rows, Scn scn, boolean truncated, Exception failure) {
+
+        static Transaction of(List<LogMinerEventRow> rows) {
+            final LogMinerEventRow last = rows.get(rows.size() - 1);
+            // DDL events and their corresponding START events do not have a COMMIT_SCN value
+            return new Transaction(rows, last.getCommitScn().isNull() ? last.getScn() : last.getCommitScn(), false, null);
+        }
+
+        static Transaction end(boolean truncated, Exception failure) {
+            return new Transaction(List.of(), null, truncated, failure);
+        }
+
+        boolean isEnd() {
+            return scn == null;
+        }
+    }
+
+    private final class RedoThreadSession {
+
+        private final int thread;
+
+        private OracleConnection connection;
+        private LogMinerSessionContext sessionContext;
+        private List<LogFile> sessionLogFiles = List.of();
+        private volatile PreparedStatement statement;
+
+        RedoThreadSession(int thread) {
+            this.thread = thread;
+        }
+
+        void read(List<LogFile> logFiles, Scn startScn, ParameterBinder parameterBinder, BlockingQueue<Transaction> queue,
+                  AtomicBoolean aborted) {
+            try {
+                try {
+                    startSession(logFiles, startScn);
+                    readRows(parameterBinder, queue, aborted);
+                    queue.put(Transaction.end(false, null));
+                }
+                catch (SQLException e) {
+                    if (e.getMessage() != null && e.getMessage().startsWith(LOG_UNAVAILABLE_ERROR)) {
+                        LOGGER.debug("A mined log of redo thread {} is no longer available: {}", thread, e.getMessage());
+                        queue.put(Transaction.end(true, null));
+                    }
+                    else {
+                        queue.put(Transaction.end(false, e));
+                    }
+                }
+                catch (RuntimeException e) {
+                    queue.put(Transaction.end(false, e));
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void cancel() {
+            final PreparedStatement current = statement;
+            if (current != null) {
+                try {
+                    current.cancel();
+                }
+                catch (SQLException e) {
+                    LOGGER.debug("Failed to cancel the mining query of redo thread {}", thread, e);
+                }
+            }
+        }
+
+        void close() {
+            if (connection != null) {
+                try {
+                    sessionContext.endMiningSession();
+                }
+                catch (SQLException e) {
+                    LOGGER.warn("Failed to end the mining session of redo thread {}", thread, e);
+                }
+                try {
+                    connection.close();
+                }
+                catch (SQLException e) {
+                    LOGGER.warn("Failed to close the mining connection of redo thread {}", thread, e);
+                }
+            }
+        }
+
+        private void startSession(List<LogFile> logFiles, Scn startScn) throws SQLException {
+            if (connection == null) {
+                connection = connectionProvider.newConnection();
+                sessionContext = new LogMinerSessionContext(connection, connectorConfig.getLogMiningStrategy(),
+                        connectorConfig.getLogMiningPathToDictionary());
+            }
+
+            if (!logFiles.equals(sessionLogFiles)) {
+                LOGGER.debug("Adding {} logs of redo thread {} to its mining session.", logFiles.size(), thread);
+                sessionContext.removeAllLogFilesFromSession();
+                sessionContext.addLogFiles(logFiles);
+                sessionLogFiles = logFiles;
+            }
+
+            sessionContext.startSession(startScn, Scn.NULL, true);
+        }
+
+        private void readRows(ParameterBinder parameterBinder, BlockingQueue<Transaction> queue, AtomicBoolean aborted)
+                throws SQLException, InterruptedException {
+            try (PreparedStatement queryStatement = connection.connection().prepareStatement(miningQuery,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY,
+                    ResultSet.HOLD_CURSORS_OVER_COMMIT)) {
+                queryStatement.setQueryTimeout((int) connection.config().getQueryTimeout().toSeconds());
+                queryStatement.setFetchSize(connectorConfig.getQueryFetchSize());
+                queryStatement.setFetchDirection(ResultSet.FETCH_FORWARD);
+                parameterBinder.bind(queryStatement);
+
+                statement = queryStatement;
+                try (ResultSet resultSet = queryStatement.executeQuery()) {
+                    List<LogMinerEventRow> rows = new ArrayList<>();
+                    while (!aborted.get() && running.getAsBoolean() && resultSet.next()) {
+                        final LogMinerEventRow row = rowReader.read(resultSet);
+                        rows.add(row);
+                        if (isTransactionEnd(row)) {
+                            queue.put(Transaction.of(rows));
+                            rows = new ArrayList<>();
+                        }
+                    }
+                    if (!rows.isEmpty()) {
+                        queue.put(Transaction.of(rows));
+                    }
+                }
+                finally {
+                    statement = null;
+                }
+            }
+        }
+
+        private boolean isTransactionEnd(LogMinerEventRow row) {
+            final EventType eventType = row.getEventType();
+            return eventType == EventType.COMMIT || eventType == EventType.ROLLBACK || eventType == EventType.DDL;
+        }
+    }
+}
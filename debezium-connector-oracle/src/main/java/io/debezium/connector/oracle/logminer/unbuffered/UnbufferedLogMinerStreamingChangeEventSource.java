@@ -22,6 +22,7 @@
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Configuration;
 import io.debezium.connector.oracle.CommitScn;
+import io.debezium.connector.oracle.OracleConnection;
 import io.debezium.connector.oracle.OracleConnectorConfig;
 import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OraclePartition;
@@ -64,10 +65,12 @@ public class UnbufferedLogMinerStreamingChangeEventSource extends AbstractLogMin
     private final TransactionCommitConsumer accumulator;
     private final List<LogMinerEventRow> ddlQueue = new ArrayList<>();
     private final ResumePositionProvider resumePositionProvider;
+    private final RedoThreadSessionMiner redoThreadSessionMiner;
 
     private boolean skipCurrentTransaction = false;
     private ZoneOffset databaseOffset;
     private Scn lastCommitScn = Scn.NULL;
+    private boolean queryCompleted;
 
     public UnbufferedLogMinerStreamingChangeEventSource(OracleConnectorConfig connectorConfig,
                                                         OracleConnectionFactory connectionFactory,
@@ -82,6 +85,11 @@ public UnbufferedLogMinerStreamingChangeEventSource(OracleConnectorConfig connec
         this.includeSql = connectorConfig.isLogMiningIncludeRedoSql();
         this.accumulator = new TransactionCommitConsumer(this::dispatchEvent, connectorConfig, schema);
         this.resumePositionProvider = new ResumePositionProvider(connectorConfig, getJdbcConfiguration());
+        this.redoThreadSessionMiner = connectorConfig.isLogMiningSessionPerRedoThread()
+                ? new RedoThreadSessionMiner(connectorConfig, miningQuery, this::newMiningConnection,
+                        resultSet -> LogMinerEventRow.fromResultSet(resultSet, schema, getColumnIndexes()),
+                        () -> getContext().isRunning())
+                : null;
     }
 
     @Override
@@ -141,7 +149,7 @@ protected void executeLogMiningStreaming() throws Exception {
             Scn currentScn = getCurrentScn();
             getMetrics().setCurrentScn(currentScn);
 
-            upperBoundsScn = calculateUpperBounds(minLogScn, currentScn);
+            upperBoundsScn = limitUpperBoundsToBatchSize(minCommitScn, calculateUpperBounds(minLogScn, currentScn));
             if (upperBoundsScn.isNull()) {
                 LOGGER.debug("Delaying mining transaction logs by one iteration");
                 pauseBetweenMiningSessions();
@@ -167,9 +175,14 @@ protected void executeLogMiningStreaming() throws Exception {
                 sessionActive = true;
             }
 
-            if (startMiningSession(minLogScn, Scn.NULL, miningStartAttempts)) {
+            if (redoThreadSessionMiner != null && RedoThreadSessionMiner.hasMultipleRedoThreads(getSessionLogFiles())) {
+                minCommitScn = advanceBeyondEmptyBatch(minCommitScn, processRedoThreads(minLogScn, minCommitScn, upperBoundsScn), upperBoundsScn);
+
+                getMetrics().setLastBatchProcessingDuration(Duration.between(batchStartTime, Instant.now()));
+            }
+            else if (startMiningSession(minLogScn, Scn.NULL, miningStartAttempts)) {
                 miningStartAttempts = 1;
-                minCommitScn = process(minCommitScn, upperBoundsScn);
+                minCommitScn = advanceBeyondEmptyBatch(minCommitScn, process(minCommitScn, upperBoundsScn), upperBoundsScn);
 
                 getMetrics().setLastBatchProcessingDuration(Duration.between(batchStartTime, Instant.now()));
             }
@@ -208,6 +221,9 @@ public void close() {
         catch (Exception e) {
             LOGGER.warn("Failed to gracefully shutdown the resume position provider", e);
         }
+        if (redoThreadSessionMiner != null) {
+            redoThreadSessionMiner.close();
+        }
     }
 
     @Override
@@ -277,19 +293,14 @@ private Scn process(Scn minCommitScn, Scn upperBoundsScn) throws SQLException, I
             LOGGER.debug("Fetching results with COMMIT_SCN >= {} and < {}", minCommitScn, upperBoundsScn);
             statement.setFetchSize(getConfig().getQueryFetchSize());
             statement.setFetchDirection(ResultSet.FETCH_FORWARD);
-            statement.setString(1, minCommitScn.toString());
-            statement.setString(2, upperBoundsScn.toString());
-
-            if (getConfig().isLogMiningUseCteQuery()) {
-                statement.setString(3, minCommitScn.toString());
-                statement.setString(4, upperBoundsScn.toString());
-            }
+            bindQueryParameters(statement, minCommitScn, upperBoundsScn);
 
             lastCommitScn = minCommitScn;
 
             getMetrics().setLastMiningFetchRange(minCommitScn, upperBoundsScn);
 
             executeAndProcessQuery(statement);
+            queryCompleted = getContext().isRunning() && !isMinedLogUnavailable();
 
             if (!minCommitScn.equals(lastCommitScn)) {
                 LOGGER.debug("Adjusting Min Commit SCN from {} to {}.", minCommitScn, lastCommitScn);
@@ -301,6 +312,79 @@ private Scn process(Scn minCommitScn, Scn upperBoundsScn) throws SQLException, I
         }
     }
 
+    /**
+     * Processes the Oracle LogMiner data between the specified bounds, mining the logs of each redo thread
+     * in a separate mining session.
+     *
+     * @param minLogScn mining session start SCN, should not be {@code null}
+     * @param minCommitScn mining range lower bounds SCN, should not be {@code null}
+     * @param upperBoundsScn mining range upper bounds SCN, should not be {@code null}
+     * @return the next iteration's lower bounds SCN, never {@code null}
+     * @throws SQLException if a database exception occurred
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private Scn processRedoThreads(Scn minLogScn, Scn minCommitScn, Scn upperBoundsScn) throws SQLException, InterruptedException {
+        getBatchMetrics().reset();
+
+        LOGGER.debug("Fetching results of each redo thread with COMMIT_SCN >= {} and < {}", minCommitScn, upperBoundsScn);
+        lastCommitScn = minCommitScn;
+
+        getMetrics().setLastMiningFetchRange(minCommitScn, upperBoundsScn);
+
+        final Instant startProcessTime = Instant.now();
+        queryCompleted = redoThreadSessionMiner.mine(getSessionLogFiles(), minLogScn,
+                statement -> bindQueryParameters(statement, minCommitScn, upperBoundsScn),
+                event -> {
+                    getBatchMetrics().rowObserved();
+                    processEvent(event);
+                });
+        completeQueryProcessing(startProcessTime);
+
+        if (!minCommitScn.equals(lastCommitScn)) {
+            LOGGER.debug("Adjusting Min Commit SCN from {} to {}.", minCommitScn, lastCommitScn);
+        }
+
+        clearSchemaChangeQueue();
+
+        return lastCommitScn;
+    }
+
+    /**
+     * Advances the lower bounds beyond a batch that was limited by the adaptive batch size and that held
+     * no commits, as the lower bounds only advance with the commits of a batch.
+     *
+     * @param minCommitScn the lower bounds of the batch, should not be {@code null}
+     * @param nextMinCommitScn the lower bounds of the next batch, should not be {@code null}
+     * @param upperBoundsScn the upper bounds of the batch, should not be {@code null}
+     * @return the lower bounds of the next batch, never {@code null}
+     */
+    private Scn advanceBeyondEmptyBatch(Scn minCommitScn, Scn nextMinCommitScn, Scn upperBoundsScn) {
+        if (queryCompleted && nextMinCommitScn.equals(minCommitScn) && isUpperBoundsLimitedToBatchSize()) {
+            LOGGER.debug("No commits with COMMIT_SCN >= {} and < {}, advancing Min Commit SCN.", minCommitScn, upperBoundsScn);
+            return upperBoundsScn;
+        }
+        return nextMinCommitScn;
+    }
+
+    private void bindQueryParameters(PreparedStatement statement, Scn minCommitScn, Scn upperBoundsScn) throws SQLException {
+        statement.setString(1, minCommitScn.toString());
+        statement.setString(2, upperBoundsScn.toString());
+
+        if (getConfig().isLogMiningUseCteQuery()) {
+            statement.setString(3, minCommitScn.toString());
+            statement.setString(4, upperBoundsScn.toString());
+        }
+    }
+
+    private OracleConnection newMiningConnection() throws SQLException {
+        final OracleConnection connection = getConnectionFactory().streamingConnectionFactory().newConnection();
+        if (isUsingPluggableDatabase()) {
+            connection.resetSessionToCdb();
+        }
+        prepareMiningConnection(connection);
+        return connection;
+    }
+
     @Override
     protected void processEvent(LogMinerEventRow event) throws SQLException, InterruptedException {
         super.processEvent(event);
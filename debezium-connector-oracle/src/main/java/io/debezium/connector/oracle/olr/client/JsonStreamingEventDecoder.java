@@ -0,0 +1,296 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.olr.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.olr.client.payloads.BeginEvent;
+import io.debezium.connector.oracle.olr.client.payloads.CheckpointEvent;
+import io.debezium.connector.oracle.olr.client.payloads.CommitEvent;
+import io.debezium.connector.oracle.olr.client.payloads.DeleteEvent;
+import io.debezium.connector.oracle.olr.client.payloads.InsertEvent;
+import io.debezium.connector.oracle.olr.client.payloads.PayloadSchema;
+import io.debezium.connector.oracle.olr.client.payloads.SchemaChangeEvent;
+import io.debezium.connector.oracle.olr.client.payloads.SchemaColumn;
+import io.debezium.connector.oracle.olr.client.payloads.UpdateEvent;
+import io.debezium.connector.oracle.olr.client.payloads.Values;
+
+/**
+ * Decodes OpenLogReplicator JSON streaming events from the parser token stream.
+ *
+ * <p>The message is parsed directly from the network buffer, without first being copied into a
+ * string or bound through an intermediate tree, and the column values are read into the same types
+ * that data binding with {@code USE_BIG_DECIMAL_FOR_FLOATS} produces: integers as the smallest of
+ * {@link Integer}, {@link Long}, or {@link java.math.BigInteger} that holds them, and decimals as
+ * {@link java.math.BigDecimal}. Fields that are not known are skipped.
+ */
+public class JsonStreamingEventDecoder implements StreamingEventDecoder {
+
+    private final JsonFactory factory = new JsonFactory();
+
+    @Override
+    public StreamingEvent decode(ByteBuffer message) throws IOException {
+        final byte[] data = message.array();
+        final int offset = message.arrayOffset() + message.position();
+        try (JsonParser parser = factory.createParser(data, offset, message.remaining())) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            return readStreamingEvent(parser);
+        }
+        catch (JsonProcessingException e) {
+            throw new IOException("Failed to decode streaming event: " + new String(data, offset, message.remaining(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    private StreamingEvent readStreamingEvent(JsonParser parser) throws IOException {
+        Scn scn = null;
+        Instant timestamp = null;
+        String xid = null;
+        String databaseName = null;
+        Scn checkpointScn = null;
+        Long checkpointIndex = null;
+        List<PayloadEvent> payload = null;
+
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            final JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "scn" -> scn = readScn(parser, token);
+                case "tm" -> timestamp = readTimestamp(parser, token);
+                case "xid" -> xid = readString(parser, token);
+                case "db" -> databaseName = readString(parser, token);
+                case "c_scn" -> checkpointScn = readScn(parser, token);
+                case "c_idx" -> checkpointIndex = readLong(parser, token);
+                case "payload" -> payload = readPayloads(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        return new StreamingEvent(scn, timestamp, xid, databaseName, checkpointScn, checkpointIndex, payload);
+    }
+
+    private List<PayloadEvent> readPayloads(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_ARRAY);
+
+        final List<PayloadEvent> payloads = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            payloads.add(readPayload(parser));
+        }
+        return payloads;
+    }
+
+    private PayloadEvent readPayload(JsonParser parser) throws IOException {
+        String op = null;
+        Integer num = null;
+        String rid = null;
+        PayloadSchema schema = null;
+        Values before = null;
+        Values after = null;
+        String sql = null;
+        Long sequence = null;
+        Long offset = null;
+        boolean redo = false;
+
+        // The operation is not guaranteed to be the first field, so the payload type is only
+        // resolved once all of its fields have been read.
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            final JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "op" -> op = readString(parser, token);
+                case "num" -> num = readInteger(parser, token);
+                case "rid" -> rid = readString(parser, token);
+                case "schema" -> schema = readSchema(parser, token);
+                case "before" -> before = readValues(parser, token);
+                case "after" -> after = readValues(parser, token);
+                case "sql" -> sql = readString(parser, token);
+                case "seq" -> sequence = readLong(parser, token);
+                case "offset" -> offset = readLong(parser, token);
+                case "redo" -> redo = parser.getValueAsBoolean();
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (op == null) {
+            throw new IOException("Payload event has no operation");
+        }
+        return switch (op) {
+            case "begin" -> new BeginEvent(num, rid);
+            case "commit" -> new CommitEvent(num, rid);
+            case "c" -> new InsertEvent(num, rid, schema, before, after);
+            case "u" -> new UpdateEvent(num, rid, schema, before, after);
+            case "d" -> new DeleteEvent(num, rid, schema, before, after);
+            case "ddl" -> new SchemaChangeEvent(num, rid, schema, sql);
+            case "chkpt" -> new CheckpointEvent(num, rid, sequence, offset, redo);
+            default -> throw new IOException("Unknown payload event operation: " + op);
+        };
+    }
+
+    private PayloadSchema readSchema(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+
+        String owner = null;
+        String table = null;
+        Long objectId = null;
+        List<SchemaColumn> columns = null;
+
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            token = parser.nextToken();
+            switch (fieldName) {
+                case "owner" -> owner = readString(parser, token);
+                case "table" -> table = readString(parser, token);
+                case "obj" -> objectId = readLong(parser, token);
+                case "columns" -> columns = readColumns(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        return new PayloadSchema(owner, table, objectId, columns);
+    }
+
+    private List<SchemaColumn> readColumns(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_ARRAY);
+
+        final List<SchemaColumn> columns = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+
+            String name = null;
+            String type = null;
+            Integer precision = null;
+            Integer scale = null;
+            Integer length = null;
+            boolean nullable = false;
+
+            String fieldName;
+            while ((fieldName = parser.nextFieldName()) != null) {
+                final JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                    case "name" -> name = readString(parser, valueToken);
+                    case "type" -> type = readString(parser, valueToken);
+                    case "precision" -> precision = readInteger(parser, valueToken);
+                    case "scale" -> scale = readInteger(parser, valueToken);
+                    case "length" -> length = readInteger(parser, valueToken);
+                    case "nullable" -> nullable = parser.getValueAsBoolean();
+                    default -> parser.skipChildren();
+                }
+            }
+            columns.add(new SchemaColumn(name, type, precision, scale, length, nullable));
+        }
+        return columns;
+    }
+
+    private Values readValues(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+
+        final Values values = new Values();
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            values.addProperty(fieldName, readValue(parser, parser.nextToken()));
+        }
+        return values;
+    }
+
+    private Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            case START_ARRAY -> readList(parser);
+            case START_OBJECT -> readMap(parser);
+            default -> throw new IOException("Unexpected token " + token + " at " + parser.currentLocation());
+        };
+    }
+
+    private List<Object> readList(JsonParser parser) throws IOException {
+        final List<Object> list = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            list.add(readValue(parser, token));
+        }
+        return list;
+    }
+
+    private Map<String, Object> readMap(JsonParser parser) throws IOException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            map.put(fieldName, readValue(parser, parser.nextToken()));
+        }
+        return map;
+    }
+
+    private static Scn readScn(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        final String scn = parser.getText();
+        try {
+            return Scn.valueOf(scn);
+        }
+        catch (Exception e) {
+            throw new IOException("Failed to deserialize SCN: " + scn);
+        }
+    }
+
+    private static Instant readTimestamp(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        final String timestamp = parser.getText();
+        try {
+            return StreamingEvent.TimestampAsInstantDeserializer.toInstant(Long.parseLong(timestamp));
+        }
+        catch (NumberFormatException e) {
+            throw new IOException("Failed to deserialize timestamp as instant: " + timestamp);
+        }
+    }
+
+    private static String readString(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static Integer readInteger(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+    }
+
+    private static Long readLong(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at " + parser.currentLocation());
+        }
+    }
+}
@@ -13,18 +13,14 @@
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.OpenLogReplicatorFormat;
 import io.debezium.connector.oracle.Scn;
 import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.RedoRequest;
 import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.RedoResponse;
@@ -32,7 +28,7 @@
 import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.ResponseCode;
 
 /**
- * An OpenLogReplicator network client that communicates using JSON streaming payloads.
+ * An OpenLogReplicator network client that communicates using JSON or protobuf streaming payloads.
  *
  * <p>The initial handshake is performed while the channel is in blocking mode as it consists of a
  * fixed request and response exchange. Once the server has entered streaming mode, the channel is
@@ -45,6 +41,9 @@
  * as no longer connected, so that {@link #isConnected()} reports {@code false} and the caller's read
  * loop stops of its own accord instead of having to interpret a failure.
  *
+ * <p>Messages are read into a single buffer that is reused for each message and grows to fit the
+ * largest message received, and the streaming events are decoded directly from that buffer.
+ *
  * @author Chris Cranford
  */
 public class OlrNetworkClient {
@@ -52,10 +51,10 @@ public class OlrNetworkClient {
     private static final Logger LOGGER = LoggerFactory.getLogger(OlrNetworkClient.class);
 
     private static final int MESSAGE_SIZE_LENGTH = 4;
+    private static final int INITIAL_MESSAGE_BUFFER_SIZE = 64 * 1024;
     private static final Duration READ_TIMEOUT = Duration.ofSeconds(1);
 
-    private final ObjectMapper mapper = new ObjectMapper()
-            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private final StreamingEventDecoder decoder;
     private final String hostName;
     private final int port;
     private final String sourceName;
@@ -63,6 +62,7 @@ public class OlrNetworkClient {
 
     private SocketChannel channel;
     private Selector selector;
+    private ByteBuffer messageBuffer = ByteBuffer.allocate(INITIAL_MESSAGE_BUFFER_SIZE);
     private ByteBuffer payloadBuffer;
     private volatile boolean disconnected;
     private boolean skipToStartScn;
@@ -79,6 +79,9 @@ public OlrNetworkClient(OracleConnectorConfig connectorConfig) {
         this.hostName = connectorConfig.getOpenLogReplicatorHostname();
         this.port = connectorConfig.getOpenLogReplicatorPort();
         this.sourceName = connectorConfig.getOpenLogReplicatorSource();
+        this.decoder = connectorConfig.getOpenLogReplicatorFormat() == OpenLogReplicatorFormat.PROTOBUF
+                ? new ProtobufStreamingEventDecoder(connectorConfig.getCatalogName())
+                : new JsonStreamingEventDecoder();
     }
 
     /**
@@ -229,12 +232,11 @@ private StreamingEvent readNextEvent() {
             return null;
         }
 
-        final String data = new String(message.array(), StandardCharsets.UTF_8);
         try {
-            return mapper.readValue(data, StreamingEvent.class);
+            return decoder.decode(message);
         }
-        catch (JsonProcessingException e) {
-            throw new OlrNetworkClientException("Failed to deserialize network packet: " + data, e);
+        catch (IOException e) {
+            throw new OlrNetworkClientException("Failed to deserialize network packet", e);
         }
     }
 
@@ -310,7 +312,7 @@ private RedoResponse readResponse() {
             return null;
         }
         try {
-            return RedoResponse.parseFrom(response.array());
+            return RedoResponse.parseFrom(response);
         }
         catch (IOException e) {
             throw new OlrNetworkClientException("Failed to read response", e);
@@ -324,6 +326,8 @@ private RedoResponse readResponse() {
      * <p>A message that has only partially arrived within that window is retained across calls so
      * that the next read resumes where the previous one left off.
      *
+     * <p>The returned buffer is only valid until the next read, as it is reused for each message.
+     *
      * @return the message payload, or {@code null} if the message has not been fully received
      */
     private ByteBuffer read() {
@@ -332,7 +336,7 @@ private ByteBuffer read() {
             // Read the packet size
             if (payloadBuffer == null && fillBuffer(sizeBuffer)) {
                 sizeBuffer.flip();
-                payloadBuffer = ByteBuffer.allocate(sizeBuffer.getInt());
+                payloadBuffer = prepareMessageBuffer(sizeBuffer.getInt());
                 sizeBuffer.clear();
             }
 
@@ -350,6 +354,21 @@ private ByteBuffer read() {
         }
     }
 
+    /**
+     * Prepares the reusable message buffer to receive a message of the given size, replacing it with
+     * a larger buffer when the message does not fit.
+     *
+     * @param size the size of the message in bytes
+     * @return the message buffer, limited to the message size
+     */
+    private ByteBuffer prepareMessageBuffer(int size) {
+        if (size > messageBuffer.capacity()) {
+            messageBuffer = ByteBuffer.allocate(Math.max(size, messageBuffer.capacity() * 2));
+        }
+        messageBuffer.clear().limit(size);
+        return messageBuffer;
+    }
+
     /**
      * Waits for the channel to become readable, up to the supplied deadline.
      *
@@ -0,0 +1,131 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.olr.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.olr.client.payloads.BeginEvent;
+import io.debezium.connector.oracle.olr.client.payloads.CheckpointEvent;
+import io.debezium.connector.oracle.olr.client.payloads.CommitEvent;
+import io.debezium.connector.oracle.olr.client.payloads.DeleteEvent;
+import io.debezium.connector.oracle.olr.client.payloads.InsertEvent;
+import io.debezium.connector.oracle.olr.client.payloads.PayloadSchema;
+import io.debezium.connector.oracle.olr.client.payloads.SchemaChangeEvent;
+import io.debezium.connector.oracle.olr.client.payloads.SchemaColumn;
+import io.debezium.connector.oracle.olr.client.payloads.UpdateEvent;
+import io.debezium.connector.oracle.olr.client.payloads.Values;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Column;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Payload;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.RedoResponse;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Schema;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Value;
+
+/**
+ * Decodes OpenLogReplicator streaming events sent in the protobuf payload format.
+ *
+ * <p>Column values are carried as typed values, so numbers arrive as {@link Long}, {@link Float},
+ * or {@link Double} rather than as their decimal text, and binary values arrive as bytes rather
+ * than hex encoded strings. The protobuf format does not carry the database name, so the events
+ * are attributed to the supplied catalog name instead.
+ */
+public class ProtobufStreamingEventDecoder implements StreamingEventDecoder {
+
+    private final String databaseName;
+
+    public ProtobufStreamingEventDecoder(String databaseName) {
+        this.databaseName = databaseName;
+    }
+
+    @Override
+    public StreamingEvent decode(ByteBuffer message) throws IOException {
+        final RedoResponse response = RedoResponse.parseFrom(message);
+
+        final List<PayloadEvent> payloads = new ArrayList<>(response.getPayloadCount());
+        for (Payload payload : response.getPayloadList()) {
+            payloads.add(toPayloadEvent(payload));
+        }
+
+        // Protobuf has no field presence for the checkpoint, an unset checkpoint is read as zero
+        final Scn checkpointScn = response.getCScn() != 0 ? Scn.valueOf(response.getCScn()) : null;
+        final Long checkpointIndex = checkpointScn != null ? response.getCIdx() : null;
+
+        return new StreamingEvent(toScn(response), toTimestamp(response), toXid(response), databaseName,
+                checkpointScn, checkpointIndex, payloads);
+    }
+
+    private static PayloadEvent toPayloadEvent(Payload payload) throws IOException {
+        final Integer num = payload.hasNum() ? (int) payload.getNum() : null;
+        final String rid = payload.getRid().isEmpty() ? null : payload.getRid();
+        final PayloadSchema schema = payload.hasSchema() ? toSchema(payload.getSchema()) : null;
+        return switch (payload.getOp()) {
+            case BEGIN -> new BeginEvent(num, rid);
+            case COMMIT -> new CommitEvent(num, rid);
+            case INSERT -> new InsertEvent(num, rid, schema, null, toValues(payload.getAfterList()));
+            case UPDATE -> new UpdateEvent(num, rid, schema, toValues(payload.getBeforeList()), toValues(payload.getAfterList()));
+            case DELETE -> new DeleteEvent(num, rid, schema, toValues(payload.getBeforeList()), null);
+            case DDL -> new SchemaChangeEvent(num, rid, schema, payload.getDdl());
+            case CHKPT -> new CheckpointEvent(num, rid, Integer.toUnsignedLong(payload.getSeq()), payload.getOffset(), payload.getRedo());
+            default -> throw new IOException("Unknown payload event operation: " + payload.getOp());
+        };
+    }
+
+    private static PayloadSchema toSchema(Schema schema) {
+        final List<SchemaColumn> columns = new ArrayList<>(schema.getColumnCount());
+        for (Column column : schema.getColumnList()) {
+            columns.add(new SchemaColumn(column.getName(), column.getType().name().toLowerCase(Locale.ROOT),
+                    column.getPrecision(), column.getScale(), column.getLength(), column.getNullable()));
+        }
+        return new PayloadSchema(schema.getOwner(), schema.getName(), Integer.toUnsignedLong(schema.getObj()), columns);
+    }
+
+    private static Values toValues(List<Value> valueList) {
+        final Values values = new Values();
+        for (Value value : valueList) {
+            values.addProperty(value.getName(), switch (value.getDatumCase()) {
+                case VALUE_INT -> value.getValueInt();
+                case VALUE_FLOAT -> value.getValueFloat();
+                case VALUE_DOUBLE -> value.getValueDouble();
+                case VALUE_STRING -> value.getValueString();
+                case VALUE_BYTES -> value.getValueBytes().toByteArray();
+                case DATUM_NOT_SET -> null;
+            });
+        }
+        return values;
+    }
+
+    private static Scn toScn(RedoResponse response) {
+        return switch (response.getScnValCase()) {
+            case SCN -> Scn.valueOf(response.getScn());
+            case SCNS -> Scn.valueOf(response.getScns());
+            case SCNVAL_NOT_SET -> null;
+        };
+    }
+
+    private static Instant toTimestamp(RedoResponse response) {
+        return switch (response.getTmValCase()) {
+            case TM -> StreamingEvent.TimestampAsInstantDeserializer.toInstant(response.getTm());
+            case TMS -> StreamingEvent.TimestampAsInstantDeserializer.toInstant(Long.parseLong(response.getTms()));
+            case TMVAL_NOT_SET -> null;
+        };
+    }
+
+    private static String toXid(RedoResponse response) {
+        return switch (response.getXidValCase()) {
+            case XID -> response.getXid();
+            // The numeric form packs the undo segment, slot, and sequence into a single value,
+            // rendered here in the same text form that OpenLogReplicator uses for the string form
+            case XIDN -> String.format("0x%04x.%03x.%08x", response.getXidn() >>> 48, (response.getXidn() >>> 32) & 0xffff,
+                    response.getXidn() & 0xffffffffL);
+            case XIDVAL_NOT_SET -> null;
+        };
+    }
+}
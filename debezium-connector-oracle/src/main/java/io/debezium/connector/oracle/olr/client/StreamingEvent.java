@@ -45,6 +45,20 @@ public class StreamingEvent {
     private Long checkpointIndex;
     private List<PayloadEvent> payload;
 
+    public StreamingEvent() {
+    }
+
+    StreamingEvent(Scn scn, Instant timestamp, String xid, String databaseName, Scn checkpointScn, Long checkpointIndex,
+                   List<PayloadEvent> payload) {
+        this.scn = scn;
+        this.timestamp = timestamp;
+        this.xid = xid;
+        this.databaseName = databaseName;
+        this.checkpointScn = checkpointScn;
+        this.checkpointIndex = checkpointIndex;
+        this.payload = payload;
+    }
+
     public Scn getScn() {
         return scn;
     }
@@ -129,7 +143,7 @@ public Instant deserialize(JsonParser jsonParser, DeserializationContext deseria
             }
         }
 
-        private static Instant toInstant(long value) {
+        static Instant toInstant(long value) {
             if (value < EPOCH_SECONDS_MAX) {
                 return Instant.ofEpochSecond(value);
             }
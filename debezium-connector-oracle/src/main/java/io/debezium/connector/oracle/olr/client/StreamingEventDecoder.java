@@ -0,0 +1,28 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.olr.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the streaming event messages that OpenLogReplicator sends in a specific payload format.
+ */
+public interface StreamingEventDecoder {
+
+    /**
+     * Decodes a streaming event message.
+     *
+     * <p>The message buffer is reused for subsequent messages, so a decoder must not retain it once
+     * this method returns.
+     *
+     * @param message the message, from its position to its limit, never {@code null}
+     * @return the decoded streaming event, never {@code null}
+     * @throws IOException if the message could not be decoded
+     */
+    StreamingEvent decode(ByteBuffer message) throws IOException;
+
+}
@@ -24,6 +24,13 @@ public AbstractMutationEvent(Type type) {
         super(type);
     }
 
+    public AbstractMutationEvent(Type type, Integer num, String rid, PayloadSchema schema, Values before, Values after) {
+        super(type, num, rid);
+        this.schema = schema;
+        this.before = before;
+        this.after = after;
+    }
+
     public PayloadSchema getSchema() {
         return schema;
     }
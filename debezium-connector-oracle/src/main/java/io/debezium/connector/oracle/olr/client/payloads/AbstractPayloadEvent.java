@@ -22,6 +22,12 @@ public AbstractPayloadEvent(Type type) {
         this.type = type;
     }
 
+    public AbstractPayloadEvent(Type type, Integer num, String rid) {
+        this.type = type;
+        this.num = num;
+        this.rid = rid;
+    }
+
     @Override
     public Type getType() {
         return type;
@@ -14,4 +14,8 @@ public class BeginEvent extends AbstractPayloadEvent {
     public BeginEvent() {
         super(Type.BEGIN);
     }
+
+    public BeginEvent(Integer num, String rid) {
+        super(Type.BEGIN, num, rid);
+    }
 }
@@ -23,6 +23,13 @@ public CheckpointEvent() {
         super(Type.CHECKPOINT);
     }
 
+    public CheckpointEvent(Integer num, String rid, Long sequence, Long offset, boolean redo) {
+        super(Type.CHECKPOINT, num, rid);
+        this.sequence = sequence;
+        this.offset = offset;
+        this.redo = redo;
+    }
+
     public Long getSequence() {
         return sequence;
     }
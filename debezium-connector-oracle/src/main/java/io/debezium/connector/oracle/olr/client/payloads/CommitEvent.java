@@ -14,4 +14,8 @@ public class CommitEvent extends AbstractPayloadEvent {
     public CommitEvent() {
         super(Type.COMMIT);
     }
+
+    public CommitEvent(Integer num, String rid) {
+        super(Type.COMMIT, num, rid);
+    }
 }
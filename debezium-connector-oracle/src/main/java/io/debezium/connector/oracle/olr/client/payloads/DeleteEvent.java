@@ -14,4 +14,8 @@ public class DeleteEvent extends AbstractMutationEvent {
     public DeleteEvent() {
         super(Type.DELETE);
     }
+
+    public DeleteEvent(Integer num, String rid, PayloadSchema schema, Values before, Values after) {
+        super(Type.DELETE, num, rid, schema, before, after);
+    }
 }
@@ -14,4 +14,8 @@ public class InsertEvent extends AbstractMutationEvent {
     public InsertEvent() {
         super(Type.INSERT);
     }
+
+    public InsertEvent(Integer num, String rid, PayloadSchema schema, Values before, Values after) {
+        super(Type.INSERT, num, rid, schema, before, after);
+    }
 }
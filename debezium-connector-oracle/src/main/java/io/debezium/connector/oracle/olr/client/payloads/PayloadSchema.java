@@ -27,6 +27,16 @@ public class PayloadSchema {
     @JsonIgnore
     private TableId tableId;
 
+    public PayloadSchema() {
+    }
+
+    public PayloadSchema(String owner, String table, Long objectId, List<SchemaColumn> columns) {
+        this.owner = owner;
+        this.table = table;
+        this.objectId = objectId;
+        this.columns = columns;
+    }
+
     public String getOwner() {
         return owner;
     }
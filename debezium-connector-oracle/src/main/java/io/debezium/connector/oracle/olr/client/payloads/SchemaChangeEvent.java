@@ -22,6 +22,12 @@ public SchemaChangeEvent() {
         super(Type.DDL);
     }
 
+    public SchemaChangeEvent(Integer num, String rid, PayloadSchema schema, String sql) {
+        super(Type.DDL, num, rid);
+        this.schema = schema;
+        this.sql = sql;
+    }
+
     public PayloadSchema getSchema() {
         return schema;
     }
@@ -19,6 +19,18 @@ public class SchemaColumn {
     private Integer length;
     private boolean nullable;
 
+    public SchemaColumn() {
+    }
+
+    public SchemaColumn(String name, String type, Integer precision, Integer scale, Integer length, boolean nullable) {
+        this.name = name;
+        this.type = type;
+        this.precision = precision;
+        this.scale = scale;
+        this.length = length;
+        this.nullable = nullable;
+    }
+
     public String getName() {
         return name;
     }
@@ -14,4 +14,8 @@ public class UpdateEvent extends AbstractMutationEvent {
     public UpdateEvent() {
         super(Type.UPDATE);
     }
+
+    public UpdateEvent(Integer num, String rid, PayloadSchema schema, Values before, Values after) {
+        super(Type.UPDATE, num, rid, schema, before, after);
+    }
 }
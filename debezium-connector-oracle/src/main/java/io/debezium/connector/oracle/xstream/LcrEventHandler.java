@@ -43,6 +43,9 @@
 
 /**
  * Handler for Oracle DDL and DML events. Just forwards events to the {@link EventDispatcher}.
+ * <p>
+ * When a {@link LcrProcessingQueue} is supplied, the LCRs and chunks are handed to the queue on the XStream
+ * callback thread, and are processed on the queue's thread instead.
  *
  * @author Gunnar Morling
  */
@@ -61,13 +64,14 @@ class LcrEventHandler implements XStreamLCRCallbackHandler {
     private final XstreamStreamingChangeEventSource eventSource;
     private final XStreamStreamingChangeEventSourceMetrics streamingMetrics;
     private final Map<String, ChunkColumnValues> columnChunks;
+    private final LcrProcessingQueue processingQueue;
     private RowLCR currentRow;
 
     LcrEventHandler(OracleConnectorConfig connectorConfig, ErrorHandler errorHandler,
                     EventDispatcher<OraclePartition, TableId> dispatcher, Clock clock,
                     OracleDatabaseSchema schema, OraclePartition partition, OracleOffsetContext offsetContext,
                     boolean tablenameCaseInsensitive, XstreamStreamingChangeEventSource eventSource,
-                    XStreamStreamingChangeEventSourceMetrics streamingMetrics) {
+                    XStreamStreamingChangeEventSourceMetrics streamingMetrics, LcrProcessingQueue processingQueue) {
         this.connectorConfig = connectorConfig;
         this.errorHandler = errorHandler;
         this.dispatcher = dispatcher;
@@ -79,14 +83,55 @@ class LcrEventHandler implements XStreamLCRCallbackHandler {
         this.eventSource = eventSource;
         this.streamingMetrics = streamingMetrics;
         this.columnChunks = new LinkedHashMap<>();
+        this.processingQueue = processingQueue;
     }
 
     @Override
     public void processLCR(LCR lcr) throws StreamsException {
         LOGGER.trace("Received LCR {}", lcr);
+        if (processingQueue == null) {
+            handleLCR(lcr, true);
+            return;
+        }
         try {
-            // First set watermark to flush messages seen
+            // The watermark must be set on the callback thread, see XstreamStreamingChangeEventSource#lcrMessage
             setWatermark();
+            processingQueue.submit(lcr);
+        }
+        catch (InterruptedException e) {
+            Thread.interrupted();
+            LOGGER.info("Received signal to stop, event loop will halt");
+        }
+        catch (Exception e) {
+            errorHandler.setProducerThrowable(e);
+        }
+    }
+
+    /**
+     * Processes an LCR or chunk that was queued by the XStream callback thread.
+     *
+     * @param item the LCR or chunk, should not be {@code null}
+     */
+    void processQueuedItem(Object item) {
+        if (item instanceof LCR lcr) {
+            handleLCR(lcr, false);
+        }
+        else {
+            try {
+                handleChunk((ChunkColumnValue) item);
+            }
+            catch (Exception e) {
+                errorHandler.setProducerThrowable(e);
+            }
+        }
+    }
+
+    private void handleLCR(LCR lcr, boolean watermark) {
+        try {
+            if (watermark) {
+                // First set watermark to flush messages seen
+                setWatermark();
+            }
             columnChunks.clear();
 
             final LcrPosition lcrPosition = new LcrPosition(lcr.getPosition());
@@ -364,6 +409,20 @@ else if (message.scn != null) {
 
     @Override
     public void processChunk(ChunkColumnValue chunk) throws StreamsException {
+        if (processingQueue == null) {
+            handleChunk(chunk);
+            return;
+        }
+        try {
+            processingQueue.submit(chunk);
+        }
+        catch (InterruptedException e) {
+            Thread.interrupted();
+            LOGGER.info("Received signal to stop, event loop will halt");
+        }
+    }
+
+    private void handleChunk(ChunkColumnValue chunk) {
         columnChunks.computeIfAbsent(chunk.getColumnName(), v -> new ChunkColumnValues()).add(chunk);
         if (chunk.isEndOfRow()) {
             resolveAndDispatchCurrentChunkedRow();
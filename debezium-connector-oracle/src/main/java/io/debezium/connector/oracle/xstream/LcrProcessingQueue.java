@@ -0,0 +1,138 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.xstream;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.util.Threads;
+
+/**
+ * Hands the LCRs and LOB chunks received on the XStream callback thread to a separate thread that processes them.
+ * <p>
+ * The items are processed one at a time, in the order in which the outbound server sent them, so the chunks of a
+ * row are reassembled in order and change events are dispatched in source order. When the queue is full, the
+ * callback thread waits for processing to catch up, which applies back pressure to the outbound server.
+ * <p>
+ * The processing thread also runs the idle task after each item and whenever no item has arrived for a while,
+ * as the streaming loop does after each callback when items are processed on the callback thread.
+ */
+class LcrProcessingQueue implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LcrProcessingQueue.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final BlockingQueue<Object> queue;
+    private final ExecutorService executor;
+    private final ErrorHandler errorHandler;
+    private final BooleanSupplier running;
+    private final AtomicLong pending = new AtomicLong();
+    private volatile boolean stopped;
+
+    LcrProcessingQueue(OracleConnectorConfig connectorConfig, ErrorHandler errorHandler, BooleanSupplier running) {
+        this.queue = new ArrayBlockingQueue<>(connectorConfig.getXStreamLcrQueueSize());
+        this.executor = Threads.newSingleThreadExecutor(OracleConnector.class, connectorConfig.getLogicalName(), "xstream-lcr-processor");
+        this.errorHandler = errorHandler;
+        this.running = running;
+    }
+
+    /**
+     * Starts processing the queued items on the processing thread.
+     *
+     * @param processor processes each LCR or chunk, should not be {@code null}
+     * @param idleTask runs after each item and when the queue has been empty for a while, should not be {@code null}
+     */
+    void start(ItemProcessor processor, IdleTask idleTask) {
+        executor.submit(() -> {
+            try {
+                while (!stopped) {
+                    final Object item = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (item != null) {
+                        try {
+                            processor.process(item);
+                        }
+                        finally {
+                            pending.decrementAndGet();
+                        }
+                    }
+                    idleTask.run();
+                }
+            }
+            catch (InterruptedException e) {
+                LOGGER.info("Received signal to stop, LCR processing will halt");
+            }
+            catch (Throwable t) {
+                stopped = true;
+                errorHandler.setProducerThrowable(t);
+            }
+        });
+    }
+
+    /**
+     * Queues an LCR or chunk for processing, waiting while the queue is full. The item is dropped when
+     * streaming has stopped or processing has failed, as it is then not acknowledged to the outbound server
+     * and is sent again once the connector restarts.
+     *
+     * @param item the LCR or chunk, should not be {@code null}
+     * @throws InterruptedException if the thread is interrupted
+     */
+    void submit(Object item) throws InterruptedException {
+        pending.incrementAndGet();
+        while (!queue.offer(item, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+            if (stopped || !running.getAsBoolean()) {
+                pending.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits until all queued items have been processed.
+     *
+     * @throws InterruptedException if the thread is interrupted
+     */
+    void awaitProcessed() throws InterruptedException {
+        while (pending.get() > 0 && !stopped && running.getAsBoolean()) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        stopped = true;
+        executor.shutdownNow();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            LOGGER.warn("LCR processing thread did not stop in time");
+        }
+    }
+
+    /**
+     * Processes an LCR or a chunk.
+     */
+    @FunctionalInterface
+    interface ItemProcessor {
+        void process(Object item) throws Exception;
+    }
+
+    /**
+     * Runs between items on the processing thread.
+     */
+    @FunctionalInterface
+    interface IdleTask {
+        void run() throws InterruptedException;
+    }
+}
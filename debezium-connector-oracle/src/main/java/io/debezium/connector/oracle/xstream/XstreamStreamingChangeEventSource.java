@@ -111,8 +111,20 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
 
         this.effectiveOffset = offsetContext;
 
+        final LcrProcessingQueue processingQueue = connectorConfig.getXStreamLcrQueueSize() > 0
+                ? new LcrProcessingQueue(connectorConfig, errorHandler, context::isRunning)
+                : null;
+
         LcrEventHandler eventHandler = new LcrEventHandler(connectorConfig, errorHandler, dispatcher, clock, schema,
-                partition, offsetContext, isTableCaseInsensitive(), this, streamingMetrics);
+                partition, offsetContext, isTableCaseInsensitive(), this, streamingMetrics, processingQueue);
+
+        if (processingQueue != null) {
+            // The heartbeat and offset activity read the offset context, which is updated on the processing thread
+            processingQueue.start(eventHandler::processQueuedItem, () -> {
+                dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
+                offsetActivityMonitorService.pulse(partition, offsetContext);
+            });
+        }
 
         try (OracleConnection xsConnection = connectAndAttachWithRetries(getStartPosition(offsetContext))) {
             try {
@@ -120,11 +132,16 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
                 while (context.isRunning()) {
                     LOGGER.trace("Receiving LCR");
                     xsOut.receiveLCRCallback(eventHandler, XStreamOut.DEFAULT_MODE);
-                    dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
+                    if (processingQueue == null) {
+                        dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
 
-                    offsetActivityMonitorService.pulse(partition, offsetContext);
+                        offsetActivityMonitorService.pulse(partition, offsetContext);
+                    }
 
                     if (context.isPaused()) {
+                        if (processingQueue != null) {
+                            processingQueue.awaitProcessed();
+                        }
                         LOGGER.info("Streaming will now pause");
                         context.streamingPaused();
                         context.waitSnapshotCompletion();
@@ -133,6 +150,10 @@ public void execute(ChangeEventSourceContext context, OraclePartition partition,
                 }
             }
             finally {
+                if (processingQueue != null) {
+                    processingQueue.close();
+                }
+
                 // 3. disconnect
                 if (this.xsOut != null) {
                     try {
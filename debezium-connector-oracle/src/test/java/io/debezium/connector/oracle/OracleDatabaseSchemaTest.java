@@ -7,23 +7,37 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Path;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import io.debezium.config.Configuration;
 import io.debezium.connector.oracle.util.TestHelper;
 import io.debezium.doc.FixFor;
+import io.debezium.pipeline.source.snapshot.incremental.SignalBasedIncrementalSnapshotContext;
+import io.debezium.pipeline.spi.Offsets;
+import io.debezium.pipeline.txmetadata.TransactionContext;
 import io.debezium.relational.Column;
 import io.debezium.relational.CustomConverterRegistry;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
+import io.debezium.relational.history.HistoryRecord;
+import io.debezium.relational.history.TableChanges;
 import io.debezium.schema.SchemaNameAdjuster;
 import io.debezium.schema.SchemaTopicNamingStrategy;
 import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.storage.file.history.FileSchemaHistory;
 
 import oracle.sql.CharacterSet;
 
@@ -67,8 +81,124 @@ public void shouldGetNullFromCacheForNonExistingItem() {
         assertThat(schema.getTableIdByObjectId(0L, 0L)).isNull();
     }
 
+    @Test
+    public void shouldNotUseSchemaCacheWrittenBeforeLaterHistoryChanges(@TempDir Path directory) throws Exception {
+        final TableId tableId = TableId.parse("ORCLPDB1.DEBEZIUM.CACHED_TABLE");
+        final Table table = Table.editor()
+                .tableId(tableId)
+                .addColumn(Column.editor().name("ID").position(1).jdbcType(Types.NUMERIC).type("NUMBER").length(9).scale(0).optional(false).create())
+                .setPrimaryKeyNames("ID")
+                .create();
+        final Table alteredTable = table.edit()
+                .addColumn(Column.editor().name("DATA").position(2).jdbcType(Types.VARCHAR).type("VARCHAR2").length(50).optional(true).create())
+                .create();
+
+        final Configuration configuration = TestHelper.defaultConfig()
+                .with(FileSchemaHistory.FILE_PATH, directory.resolve("schema-history.txt"))
+                .with(OracleConnectorConfig.SCHEMA_CACHE_FILE, directory.resolve("schema.cache"))
+                .build();
+
+        // The task records the table on the first worker and writes the schema cache when it stops
+        final OracleDatabaseSchema firstWorker = createOracleDatabaseSchema(configuration);
+        firstWorker.initializeStorage();
+        recordTableChange(firstWorker, "100", "CREATE TABLE CACHED_TABLE (ID NUMBER(9,0) PRIMARY KEY)", new TableChanges().create(table));
+        firstWorker.recover(createOffsets(configuration, 200L));
+        assertThat(firstWorker.tableFor(tableId)).isEqualTo(table);
+        firstWorker.close();
+        assertThat(directory.resolve("schema.cache")).exists();
+
+        // The task moves to a second worker, without the cache file, that records a schema change
+        final Configuration secondWorkerConfiguration = configuration.edit().without(OracleConnectorConfig.SCHEMA_CACHE_FILE.name()).build();
+        final OracleDatabaseSchema secondWorker = createOracleDatabaseSchema(secondWorkerConfiguration);
+        secondWorker.recover(createOffsets(configuration, 200L));
+        recordTableChange(secondWorker, "150", "ALTER TABLE CACHED_TABLE ADD DATA VARCHAR2(50)", new TableChanges().alter(alteredTable));
+        secondWorker.close();
+
+        // Back on the first worker, the cache file no longer reflects the schema history
+        final OracleDatabaseSchema restarted = createOracleDatabaseSchema(configuration);
+        try {
+            restarted.recover(createOffsets(configuration, 200L));
+            assertThat(restarted.tableFor(tableId)).isEqualTo(alteredTable);
+            assertThat(directory.resolve("schema.cache")).doesNotExist();
+        }
+        finally {
+            restarted.close();
+        }
+    }
+
+    @Test
+    public void shouldNotReadSchemaHistoryToStoreOrLoadSchemaCache(@TempDir Path directory) throws Exception {
+        final TableId tableId = TableId.parse("ORCLPDB1.DEBEZIUM.CACHED_TABLE");
+        final Table table = Table.editor()
+                .tableId(tableId)
+                .addColumn(Column.editor().name("ID").position(1).jdbcType(Types.NUMERIC).type("NUMBER").length(9).scale(0).optional(false).create())
+                .setPrimaryKeyNames("ID")
+                .create();
+        final Table alteredTable = table.edit()
+                .addColumn(Column.editor().name("DATA").position(2).jdbcType(Types.VARCHAR).type("VARCHAR2").length(50).optional(true).create())
+                .create();
+
+        final Configuration configuration = TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.SCHEMA_HISTORY, CountingFileSchemaHistory.class)
+                .with(FileSchemaHistory.FILE_PATH, directory.resolve("schema-history.txt"))
+                .with(OracleConnectorConfig.SCHEMA_CACHE_FILE, directory.resolve("schema.cache"))
+                .build();
+
+        final OracleDatabaseSchema firstStart = createOracleDatabaseSchema(configuration);
+        firstStart.initializeStorage();
+        recordTableChange(firstStart, "100", "CREATE TABLE CACHED_TABLE (ID NUMBER(9,0) PRIMARY KEY)", new TableChanges().create(table));
+        firstStart.recover(createOffsets(configuration, 200L));
+
+        // A schema change is captured after the recovery, so the cache file must reflect its history record
+        recordTableChange(firstStart, "250", "ALTER TABLE CACHED_TABLE ADD DATA VARCHAR2(50)", new TableChanges().alter(alteredTable));
+        firstStart.getTables().overwriteTable(alteredTable);
+        CountingFileSchemaHistory.RECOVERIES.set(0);
+        firstStart.close();
+        assertThat(directory.resolve("schema.cache")).exists();
+        assertThat(CountingFileSchemaHistory.RECOVERIES.get()).isZero();
+
+        final OracleDatabaseSchema restarted = createOracleDatabaseSchema(configuration);
+        try {
+            restarted.recover(createOffsets(configuration, 300L));
+            assertThat(restarted.tableFor(tableId)).isEqualTo(alteredTable);
+            assertThat(CountingFileSchemaHistory.RECOVERIES.get()).isZero();
+        }
+        finally {
+            restarted.close();
+        }
+    }
+
+    private static void recordTableChange(OracleDatabaseSchema schema, String scn, String ddl, TableChanges changes) {
+        schema.getSchemaHistory().record(Map.of("server", TestHelper.SERVER_NAME), Map.of("scn", scn), TestHelper.getDatabaseName(), "DEBEZIUM",
+                ddl, changes, Instant.now());
+    }
+
+    private static Offsets<OraclePartition, OracleOffsetContext> createOffsets(Configuration configuration, long scn) {
+        final OracleOffsetContext offset = OracleOffsetContext.create()
+                .logicalName(new OracleConnectorConfig(configuration))
+                .scn(Scn.valueOf(scn))
+                .commitScn(CommitScn.valueOf(scn))
+                .snapshotPendingTransactions(Collections.emptyMap())
+                .transactionContext(new TransactionContext())
+                .incrementalSnapshotContext(new SignalBasedIncrementalSnapshotContext<>())
+                .build();
+        return Offsets.of(new OraclePartition(TestHelper.SERVER_NAME, TestHelper.getDatabaseName()), offset);
+    }
+
     private OracleDatabaseSchema createOracleDatabaseSchema() {
-        Configuration configuration = TestHelper.defaultConfig().build();
+        final OracleDatabaseSchema schema = createOracleDatabaseSchema(TestHelper.defaultConfig().build());
+
+        Table table = Table.editor()
+                .tableId(TableId.parse("ORCLPDB1.DEBEZIUM.TEST_TABLE"))
+                .addColumn(Column.editor().name("ID").create())
+                .addColumn(Column.editor().name("DATA").create())
+                .create();
+
+        schema.refresh(table);
+        return schema;
+    }
+
+    private OracleDatabaseSchema createOracleDatabaseSchema(Configuration configuration) {
         final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(configuration);
         final TopicNamingStrategy topicNamingStrategy = SchemaTopicNamingStrategy.create(connectorConfig);
         final SchemaNameAdjuster schemaNameAdjuster = connectorConfig.schemaNameAdjuster();
@@ -83,14 +213,20 @@ private OracleDatabaseSchema createOracleDatabaseSchema() {
                 topicNamingStrategy,
                 sensitivity,
                 false, new CustomConverterRegistry(List.of()), new OracleTaskContext(configuration, connectorConfig));
+        return schema;
+    }
 
-        Table table = Table.editor()
-                .tableId(TableId.parse("ORCLPDB1.DEBEZIUM.TEST_TABLE"))
-                .addColumn(Column.editor().name("ID").create())
-                .addColumn(Column.editor().name("DATA").create())
-                .create();
+    /**
+     * Counts how often all records of the schema history are read.
+     */
+    public static class CountingFileSchemaHistory extends FileSchemaHistory {
 
-        schema.refresh(table);
-        return schema;
+        static final AtomicInteger RECOVERIES = new AtomicInteger();
+
+        @Override
+        protected void recoverRecords(Consumer<HistoryRecord> records) {
+            RECOVERIES.incrementAndGet();
+            super.recoverRecords(records);
+        }
     }
 }
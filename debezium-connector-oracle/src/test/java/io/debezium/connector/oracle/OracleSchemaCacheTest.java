@@ -0,0 +1,114 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.debezium.relational.Attribute;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+
+/**
+ * Unit tests for the {@link OracleSchemaCache} class.
+ */
+public class OracleSchemaCacheTest {
+
+    private static final TableId TABLE_ID = new TableId("ORCLPDB1", "DEBEZIUM", "TEST");
+    private static final String POSITION = "{\"scn\":\"100\"}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void shouldLoadStoredTables() {
+        final Path file = directory.resolve("schema.cache");
+        final Tables tables = new Tables();
+        tables.overwriteTable(createTable());
+        new OracleSchemaCache(file, "config").store(Scn.valueOf(100L), POSITION, tables);
+
+        final Tables loaded = new Tables();
+        assertThat(new OracleSchemaCache(file, "config").load(Scn.valueOf(100L), POSITION, loaded)).isEqualTo(Scn.valueOf(100L));
+        assertThat(loaded.forTable(TABLE_ID)).isEqualTo(tables.forTable(TABLE_ID));
+        assertThat(loaded.forTable(TABLE_ID).comment()).isEqualTo("test table");
+        assertThat(loaded.forTable(TABLE_ID).attributeWithName(OracleDatabaseSchema.ATTRIBUTE_OBJECT_ID).asLong()).isEqualTo(74712L);
+
+        final Column data = loaded.forTable(TABLE_ID).columnWithName("DATA");
+        assertThat(data.scale()).isEmpty();
+        assertThat(data.hasDefaultValue()).isTrue();
+        assertThat(data.defaultValueExpression()).isEmpty();
+
+        // The file is consumed when loaded
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    public void shouldNotLoadTablesWithSchemaChangesPastOffset() {
+        final Path file = directory.resolve("schema.cache");
+        final Tables tables = new Tables();
+        tables.overwriteTable(createTable());
+        new OracleSchemaCache(file, "config").store(Scn.valueOf(100L), POSITION, tables);
+
+        final Tables loaded = new Tables();
+        assertThat(new OracleSchemaCache(file, "config").load(Scn.valueOf(99L), POSITION, loaded)).isNull();
+        assertThat(loaded.size()).isZero();
+    }
+
+    @Test
+    public void shouldNotLoadTablesWrittenWithDifferentConfiguration() {
+        final Path file = directory.resolve("schema.cache");
+        final Tables tables = new Tables();
+        tables.overwriteTable(createTable());
+        new OracleSchemaCache(file, "config").store(Scn.valueOf(100L), POSITION, tables);
+
+        final Tables loaded = new Tables();
+        assertThat(new OracleSchemaCache(file, "other").load(Scn.valueOf(100L), POSITION, loaded)).isNull();
+        assertThat(loaded.size()).isZero();
+    }
+
+    @Test
+    public void shouldNotLoadTablesWrittenAtDifferentHistoryPosition() {
+        final Path file = directory.resolve("schema.cache");
+        final Tables tables = new Tables();
+        tables.overwriteTable(createTable());
+        new OracleSchemaCache(file, "config").store(Scn.valueOf(100L), POSITION, tables);
+
+        final Tables loaded = new Tables();
+        assertThat(new OracleSchemaCache(file, "config").load(Scn.valueOf(200L), "{\"scn\":\"150\"}", loaded)).isNull();
+        assertThat(loaded.size()).isZero();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    public void shouldNotLoadTablesWithoutFile() {
+        final Tables loaded = new Tables();
+        assertThat(new OracleSchemaCache(directory.resolve("missing"), "config").load(Scn.valueOf(100L), POSITION, loaded)).isNull();
+        assertThat(loaded.size()).isZero();
+    }
+
+    private static Table createTable() {
+        return Table.editor()
+                .tableId(TABLE_ID)
+                .addColumn(Column.editor().name("ID").position(1).jdbcType(Types.NUMERIC).type("NUMBER")
+                        .length(10).scale(0).optional(false).create())
+                .addColumn(Column.editor().name("NAME").position(2).jdbcType(Types.VARCHAR).type("VARCHAR2")
+                        .length(50).optional(true).defaultValueExpression("'none'").comment("the name").create())
+                .addColumn(Column.editor().name("DATA").position(3).jdbcType(Types.CLOB).type("CLOB")
+                        .optional(true).defaultValueExpression(null).create())
+                .setPrimaryKeyNames(List.of("ID"))
+                .setComment("test table")
+                .addAttribute(Attribute.editor().name(OracleDatabaseSchema.ATTRIBUTE_OBJECT_ID).value(74712L).create())
+                .create();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+
+/**
+ * Unit tests for {@link AdaptiveMiningWindow}.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.ANY_LOGMINER)
+public class AdaptiveMiningWindowTest {
+
+    private LogMinerStreamingChangeEventSourceMetrics metrics;
+    private AdaptiveMiningWindow window;
+
+    @BeforeEach
+    void beforeEach() {
+        final OracleConnectorConfig connectorConfig = mock(OracleConnectorConfig.class);
+        when(connectorConfig.getLogMiningBatchSizeMin()).thenReturn(1_000);
+        when(connectorConfig.getLogMiningBatchSizeMax()).thenReturn(100_000);
+        when(connectorConfig.getLogMiningBatchSizeDefault()).thenReturn(20_000);
+        when(connectorConfig.getLogMiningBatchSizeIncrement()).thenReturn(20_000);
+        when(connectorConfig.getLogMiningSleepTimeMin()).thenReturn(Duration.ZERO);
+        when(connectorConfig.getLogMiningSleepTimeMax()).thenReturn(Duration.ofMillis(3_000));
+        when(connectorConfig.getLogMiningSleepTimeDefault()).thenReturn(Duration.ofMillis(1_000));
+        when(connectorConfig.getLogMiningSleepTimeIncrement()).thenReturn(Duration.ofMillis(200));
+        when(connectorConfig.getLogMiningBatchTargetFetch()).thenReturn(Duration.ofMillis(2_000));
+        when(connectorConfig.getLogMiningBatchTargetRows()).thenReturn(100_000L);
+
+        metrics = mock(LogMinerStreamingChangeEventSourceMetrics.class);
+        window = new AdaptiveMiningWindow(connectorConfig, metrics);
+    }
+
+    @Test
+    void shouldLimitUpperBoundsToBatchSize() {
+        assertThat(window.limitUpperBounds(Scn.valueOf(1_000), Scn.valueOf(50_000))).isEqualTo(Scn.valueOf(21_000));
+        assertThat(window.isLimited()).isTrue();
+
+        assertThat(window.limitUpperBounds(Scn.valueOf(1_000), Scn.valueOf(5_000))).isEqualTo(Scn.valueOf(5_000));
+        assertThat(window.isLimited()).isFalse();
+    }
+
+    @Test
+    void shouldIncreaseBatchSizeAndReduceSleepTimeWhileLaggingWithinTargets() {
+        window.limitUpperBounds(Scn.valueOf(1_000), Scn.valueOf(500_000));
+        window.queryCompleted(Duration.ofMillis(500), 1_000);
+
+        assertThat(window.getBatchSize()).isEqualTo(40_000);
+        assertThat(window.getSleepTime()).isEqualTo(Duration.ofMillis(800));
+        verify(metrics).setBatchSize(40_000);
+        verify(metrics).setSleepTime(Duration.ofMillis(800));
+    }
+
+    @Test
+    void shouldHalveBatchSizeWhenQueryExceedsTargets() {
+        window.limitUpperBounds(Scn.valueOf(1_000), Scn.valueOf(500_000));
+        window.queryCompleted(Duration.ofMillis(5_000), 1_000);
+        assertThat(window.getBatchSize()).isEqualTo(10_000);
+
+        window.queryCompleted(Duration.ofMillis(500), 200_000);
+        assertThat(window.getBatchSize()).isEqualTo(5_000);
+
+        for (int i = 0; i < 10; i++) {
+            window.queryCompleted(Duration.ofMillis(5_000), 1_000);
+        }
+        assertThat(window.getBatchSize()).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldIncreaseSleepTimeWhenCaughtUp() {
+        window.limitUpperBounds(Scn.valueOf(1_000), Scn.valueOf(2_000));
+        for (int i = 0; i < 20; i++) {
+            window.queryCompleted(Duration.ofMillis(100), 10);
+        }
+
+        assertThat(window.getBatchSize()).isEqualTo(20_000);
+        assertThat(window.getSleepTime()).isEqualTo(Duration.ofMillis(3_000));
+    }
+}
@@ -17,6 +17,7 @@
 import io.debezium.connector.oracle.OracleValueConverters;
 import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
 import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.parser.ColumnProjection;
 import io.debezium.connector.oracle.logminer.parser.LogMinerColumnResolverDmlParser;
 import io.debezium.connector.oracle.logminer.parser.LogMinerDmlEntry;
 import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
@@ -826,4 +827,37 @@ public void shouldParseJsonAsBinaryUpdate() throws Exception {
         assertThat(entry.getNewValues()[1])
                 .isEqualTo("/* JSON */ HEXTORAW('ff4a5a012106020009001700009ce600050000046e616d650361676584020201000800140b53616c6c79204669656c6421c14e')");
     }
+
+    @Test
+    public void shouldNotMaterializeValuesOfColumnsThatAreNotCaptured() throws Exception {
+        final Properties properties = new Properties();
+        properties.put(OracleConnectorConfig.COLUMN_EXCLUDE_LIST.name(), "DEBEZIUM\\.TEST\\.(ID|NOTES)");
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(Configuration.from(properties));
+        final ColumnProjection projection = new ColumnProjection(connectorConfig);
+        final LogMinerDmlParser parser = new LogMinerDmlParser(connectorConfig, projection);
+
+        final Table table = Table.editor()
+                .tableId(new TableId("ORCLPDB1", "DEBEZIUM", "TEST"))
+                .addColumn(Column.editor().name("ID").create())
+                .addColumn(Column.editor().name("NAME").create())
+                .addColumn(Column.editor().name("NOTES").create())
+                .setPrimaryKeyNames("ID")
+                .create();
+
+        // The primary key is captured although excluded, as it is part of the message key
+        String sql = "insert into \"DEBEZIUM\".\"TEST\"(\"ID\",\"NAME\",\"NOTES\") values ('1','Acme','a''b');";
+        LogMinerDmlEntry entry = parser.parse(sql, table);
+        assertThat(entry.getNewValues()).containsExactly("1", "Acme", null);
+
+        sql = "update \"DEBEZIUM\".\"TEST\" set \"NOTES\" = 'c', \"NAME\" = 'Bob' where \"ID\" = '1' and \"NAME\" = 'Acme' and \"NOTES\" = 'a';";
+        entry = parser.parse(sql, table);
+        assertThat(entry.getOldValues()).containsExactly("1", "Acme", null);
+        assertThat(entry.getNewValues()).containsExactly("1", "Bob", null);
+        assertThat(projection.isCapturedColumnChanged(table, entry.getOldValues(), entry.getNewValues())).isTrue();
+
+        sql = "update \"DEBEZIUM\".\"TEST\" set \"NOTES\" = UPPER('c') where \"ID\" = '1' and \"NAME\" = 'Acme' and \"NOTES\" = 'a';";
+        entry = parser.parse(sql, table);
+        assertThat(entry.getNewValues()).containsExactly("1", "Acme", null);
+        assertThat(projection.isCapturedColumnChanged(table, entry.getOldValues(), entry.getNewValues())).isFalse();
+    }
 }
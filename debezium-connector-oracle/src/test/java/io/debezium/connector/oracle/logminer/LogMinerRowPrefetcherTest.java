@@ -0,0 +1,100 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+
+/**
+ * Unit tests for {@link LogMinerRowPrefetcher}.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.ANY_LOGMINER)
+public class LogMinerRowPrefetcherTest {
+
+    private LogMinerRowPrefetcher prefetcher;
+
+    @BeforeEach
+    void beforeEach() {
+        final OracleConnectorConfig connectorConfig = mock(OracleConnectorConfig.class);
+        when(connectorConfig.getLogMiningPrefetchRows()).thenReturn(4);
+        when(connectorConfig.getLogicalName()).thenReturn("server1");
+        prefetcher = new LogMinerRowPrefetcher(connectorConfig);
+    }
+
+    @AfterEach
+    void afterEach() {
+        prefetcher.close();
+    }
+
+    @Test
+    void shouldProcessAllRowsInOrder() throws Exception {
+        final List<LogMinerEventRow> rows = createRows(100);
+        final Iterator<LogMinerEventRow> iterator = rows.iterator();
+        final List<LogMinerEventRow> processed = new ArrayList<>();
+
+        prefetcher.process(() -> iterator.hasNext() ? iterator.next() : null, processed::add, () -> true);
+
+        assertThat(processed).containsExactlyElementsOf(rows);
+    }
+
+    @Test
+    void shouldStopReadingWhenNoLongerRunning() throws Exception {
+        final AtomicInteger read = new AtomicInteger();
+        final List<LogMinerEventRow> processed = new ArrayList<>();
+
+        prefetcher.process(() -> {
+            read.incrementAndGet();
+            return new LogMinerEventRow();
+        }, processed::add, () -> processed.size() < 10);
+
+        assertThat(processed).hasSize(10);
+        // the reader stops once the rows are no longer processed
+        final int readWhenStopped = read.get();
+        Thread.sleep(100);
+        assertThat(read.get()).isEqualTo(readWhenStopped);
+    }
+
+    @Test
+    void shouldRethrowReadFailureAfterProcessingPriorRows() {
+        final Iterator<LogMinerEventRow> iterator = createRows(3).iterator();
+        final List<LogMinerEventRow> processed = new ArrayList<>();
+
+        assertThatThrownBy(() -> prefetcher.process(() -> {
+            if (iterator.hasNext()) {
+                return iterator.next();
+            }
+            throw new SQLException("ORA-03113: end-of-file on communication channel");
+        }, processed::add, () -> true))
+                .isInstanceOf(SQLException.class)
+                .hasMessageStartingWith("ORA-03113");
+
+        assertThat(processed).hasSize(3);
+    }
+
+    private static List<LogMinerEventRow> createRows(int count) {
+        final List<LogMinerEventRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new LogMinerEventRow());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningBufferType;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.util.TestHelper;
+import io.debezium.util.Testing;
+
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER_BUFFERED)
+public class MemoryMappedStreamingChangeEventSourceTest extends AbstractBufferedLogMinerStreamingChangeEventSourceTest {
+
+    @Override
+    protected Configuration.Builder getConfig() {
+        return TestHelper.defaultConfig()
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_TYPE, LogMiningBufferType.MEMORY_MAPPED)
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY, Testing.Files.createTestingPath("mmap-buffer").toAbsolutePath().toString())
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_MEMORY_MAPPED_SEGMENT_SIZE, 1024 * 1024)
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_DROP_ON_STOP, true);
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.logminer.buffered.memory.MemoryLogMinerTransactionCache;
+import io.debezium.connector.oracle.logminer.buffered.memory.MemoryTransaction;
+import io.debezium.connector.oracle.logminer.events.DmlEvent;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.relational.Selectors;
+import io.debezium.relational.TableId;
+
+/**
+ * Unit tests for {@link TransactionEventCompactor}.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.LOGMINER_BUFFERED)
+public class TransactionEventCompactorTest {
+
+    private static final TableId TABLE = new TableId("ORCLPDB1", "DEBEZIUM", "TEST");
+    private static final TableId EXCLUDED_TABLE = new TableId("ORCLPDB1", "DEBEZIUM", "AUDITED");
+    private static final String ROW_ID = "AAASdYAAHAAAAFdAAA";
+    private static final String EXCLUDED_ROW_ID = "AAASdZAAHAAAAFlAAA";
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final LogMinerTransactionCache<Transaction> cache = (LogMinerTransactionCache) new MemoryLogMinerTransactionCache();
+    private final Transaction transaction = new MemoryTransaction("trx1", Scn.valueOf(1), Instant.now(), "DEBEZIUM", 1, null);
+
+    private TransactionEventCompactor compactor;
+
+    @BeforeEach
+    void beforeEach() {
+        final OracleConnectorConfig connectorConfig = mock(OracleConnectorConfig.class);
+        when(connectorConfig.getLogMiningBufferCompactionTableFilter()).thenReturn(Selectors.tableSelector()
+                .excludeTables("DEBEZIUM.AUDITED", tableId -> tableId.schema() + "." + tableId.table())
+                .build());
+
+        cache.addTransaction(transaction);
+        compactor = new TransactionEventCompactor(connectorConfig, cache);
+    }
+
+    @Test
+    void shouldMergeUpdatesIntoInsert() throws Exception {
+        enqueue(event(EventType.INSERT, TABLE, null, values(1, "a")));
+        enqueue(event(EventType.UPDATE, TABLE, values(1, "a"), values(1, "b")));
+        enqueue(event(EventType.UPDATE, TABLE, values(1, "b"), values(1, "c")));
+
+        final List<DmlEvent> events = bufferedEvents();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventType()).isEqualTo(EventType.INSERT);
+        assertThat(events.get(0).getOldValues()).isNull();
+        assertThat(events.get(0).getNewValues()).containsExactly(1, "c");
+    }
+
+    @Test
+    void shouldMergeUpdatesRetainingFirstOldValues() throws Exception {
+        enqueue(event(EventType.UPDATE, TABLE, values(1, "a"), values(1, "b")));
+        enqueue(event(EventType.UPDATE, TABLE, values(1, "b"), values(1, "c")));
+
+        final List<DmlEvent> events = bufferedEvents();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventType()).isEqualTo(EventType.UPDATE);
+        assertThat(events.get(0).getOldValues()).containsExactly(1, "a");
+        assertThat(events.get(0).getNewValues()).containsExactly(1, "c");
+    }
+
+    @Test
+    void shouldNotMergeAfterDeleteOrForExcludedTables() throws Exception {
+        enqueue(event(EventType.INSERT, TABLE, null, values(1, "a")));
+        enqueue(event(EventType.DELETE, TABLE, values(1, "a"), null));
+        enqueue(event(EventType.INSERT, TABLE, null, values(1, "b")));
+        enqueue(event(EventType.UPDATE, TABLE, values(1, "b"), values(1, "c")));
+        assertThat(bufferedEvents()).extracting(LogMinerEvent::getEventType)
+                .containsExactly(EventType.INSERT, EventType.DELETE, EventType.INSERT, EventType.UPDATE);
+
+        enqueue(event(EventType.INSERT, EXCLUDED_TABLE, null, values(2, "a")));
+        enqueue(event(EventType.UPDATE, EXCLUDED_TABLE, values(2, "a"), values(2, "b")));
+        assertThat(bufferedEvents()).hasSize(6);
+    }
+
+    @Test
+    void shouldUndoMergedChangesInReverseOrder() throws Exception {
+        enqueue(event(EventType.INSERT, TABLE, null, values(1, "a")));
+        enqueue(event(EventType.UPDATE, TABLE, values(1, "a"), values(1, "b")));
+        enqueue(event(EventType.UPDATE, TABLE, values(1, "b"), values(1, "c")));
+
+        assertThat(compactor.isUndoOfMergedEvent("trx1", ROW_ID)).isTrue();
+        assertThat(compactor.undo(transaction, event(EventType.UPDATE, TABLE, values(1, "c"), values(1, "b")))).isTrue();
+        assertThat(bufferedEvents().get(0).getNewValues()).containsExactly(1, "b");
+
+        assertThat(compactor.undo(transaction, event(EventType.UPDATE, TABLE, values(1, "b"), values(1, "a")))).isTrue();
+        assertThat(bufferedEvents().get(0).getNewValues()).containsExactly(1, "a");
+
+        // The remaining event is the original insert, which is rolled back by row-id
+        assertThat(compactor.isUndoOfMergedEvent("trx1", ROW_ID)).isFalse();
+        assertThat(bufferedEvents()).hasSize(1);
+    }
+
+    private void enqueue(LogMinerEvent event) {
+        if (!compactor.merge(transaction, event)) {
+            final int eventId = transaction.getNextEventId();
+            cache.addTransactionEvent(transaction, eventId, event);
+            compactor.eventBuffered(transaction, eventId, event);
+        }
+    }
+
+    private List<DmlEvent> bufferedEvents() throws InterruptedException {
+        final List<DmlEvent> events = new ArrayList<>();
+        cache.forEachEvent(transaction, (event, rolledBack) -> events.add((DmlEvent) event));
+        return events;
+    }
+
+    private static DmlEvent event(EventType eventType, TableId tableId, Object[] oldValues, Object[] newValues) {
+        final String rowId = EXCLUDED_TABLE.equals(tableId) ? EXCLUDED_ROW_ID : ROW_ID;
+        return new DmlEvent(eventType, Scn.valueOf(10), tableId, rowId, "rsId", Instant.now(), oldValues, newValues);
+    }
+
+    private static Object[] values(Object... values) {
+        return values;
+    }
+}
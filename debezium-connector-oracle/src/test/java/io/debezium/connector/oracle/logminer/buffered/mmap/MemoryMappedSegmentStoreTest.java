@@ -0,0 +1,209 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.buffered.mmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEvent;
+import io.debezium.relational.TableId;
+
+/**
+ * Unit tests for the {@link MemoryMappedSegmentStore}, and the recovery of the transactions that the
+ * {@link MemoryMappedLogMinerTransactionCache} keeps in it.
+ */
+public class MemoryMappedSegmentStoreTest {
+
+    private static final byte TYPE = 7;
+
+    /**
+     * The size of a segment that holds three records with a body of 20 bytes.
+     */
+    private static final int SEGMENT_SIZE = 16 + 3 * (10 + 20);
+
+    private static final TableId TABLE_ID = new TableId("ORCLPDB1", "DEBEZIUM", "CUSTOMERS");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void shouldRecoverLiveRecordsAfterRestart() {
+        final long first;
+        final long third;
+        try (MemoryMappedSegmentStore store = new MemoryMappedSegmentStore(directory, SEGMENT_SIZE)) {
+            store.recover((location, type, flags, body) -> true);
+            first = store.append(TYPE, record("first"), null);
+            final long second = store.append(TYPE, record("second"), null);
+            third = store.append(TYPE, record("third"), null);
+            store.append(TYPE, record("fourth"), null);
+            store.setFlag(third, MemoryMappedSegmentStore.FLAG_ROLLED_BACK);
+            store.release(second);
+        }
+
+        try (MemoryMappedSegmentStore store = new MemoryMappedSegmentStore(directory, SEGMENT_SIZE)) {
+            final List<String> recovered = recover(store);
+
+            assertThat(recovered).containsExactly("first:0", "third:" + MemoryMappedSegmentStore.FLAG_ROLLED_BACK, "fourth:0");
+            assertThat(read(store, first)).isEqualTo("first");
+            assertThat(read(store, third)).isEqualTo("third");
+
+            // records appended after the recovery are not mixed up with the recovered ones
+            final long fifth = store.append(TYPE, record("fifth"), null);
+            assertThat(read(store, fifth)).isEqualTo("fifth");
+            assertThat(read(store, first)).isEqualTo("first");
+        }
+    }
+
+    @Test
+    public void shouldNotRecoverStaleRecordsOfReusedSegment() throws IOException {
+        try (MemoryMappedSegmentStore store = new MemoryMappedSegmentStore(directory, SEGMENT_SIZE)) {
+            store.recover((location, type, flags, body) -> true);
+            final List<Long> stale = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                stale.add(store.append(TYPE, record("stale-" + i), null));
+            }
+            final List<Long> released = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                released.add(store.append(TYPE, record("released-" + i), null));
+            }
+            stale.forEach(store::release);
+
+            // the first segment is reused, and its stale records of the same size follow the new record
+            store.append(TYPE, record("live"), null);
+            assertThat(segmentFiles()).hasSize(2);
+            released.forEach(store::release);
+        }
+
+        try (MemoryMappedSegmentStore store = new MemoryMappedSegmentStore(directory, SEGMENT_SIZE)) {
+            assertThat(recover(store)).containsExactly("live:0");
+            assertThat(store.getSegmentCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void shouldReuseSegmentsAfterTransactionIsRemoved() throws IOException {
+        try (MemoryMappedSegmentStore store = new MemoryMappedSegmentStore(directory, 4096)) {
+            final MemoryMappedLogMinerTransactionCache cache = new MemoryMappedLogMinerTransactionCache(store);
+
+            List<Path> firstFiles = List.of();
+            for (int i = 0; i < 10; i++) {
+                final MemoryMappedTransaction transaction = transaction("tx-" + i);
+                cache.addTransaction(transaction);
+                for (int eventKey = 0; eventKey < 100; eventKey++) {
+                    cache.addTransactionEvent(transaction, eventKey, event(eventKey));
+                }
+                cache.removeTransactionEvents(transaction);
+                cache.removeTransaction(transaction);
+
+                if (i == 0) {
+                    firstFiles = segmentFiles();
+                }
+                else {
+                    // the buffer does not grow, as two segments released by the first transaction are kept for reuse
+                    final List<Path> files = segmentFiles();
+                    assertThat(files).hasSameSizeAs(firstFiles);
+                    assertThat(files.stream().filter(firstFiles::contains).count()).isEqualTo(2);
+                }
+            }
+            assertThat(cache.isEmpty()).isTrue();
+            assertThat(store.getSegmentCount()).isLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    public void shouldRecoverTransactionsAfterRestart() throws InterruptedException {
+        try (MemoryMappedSegmentStore store = new MemoryMappedSegmentStore(directory, 4096)) {
+            final MemoryMappedLogMinerTransactionCache cache = new MemoryMappedLogMinerTransactionCache(store);
+            final MemoryMappedTransaction committed = transaction("committed");
+            cache.addTransaction(committed);
+            cache.addTransactionEvent(committed, 0, event(10));
+
+            final MemoryMappedTransaction ongoing = transaction("ongoing");
+            cache.addTransaction(ongoing);
+            cache.addTransactionEvent(ongoing, 0, event(11));
+            cache.addTransactionEvent(ongoing, 1, event(12));
+            cache.addTransactionEvent(ongoing, 2, event(13));
+            cache.rollbackTransactionEventWithRowId(ongoing, "AAAR0xAAEAAAAIEAAA");
+
+            cache.removeTransactionEvents(committed);
+            cache.removeTransaction(committed);
+        }
+
+        try (MemoryMappedSegmentStore store = new MemoryMappedSegmentStore(directory, 4096)) {
+            final MemoryMappedLogMinerTransactionCache cache = new MemoryMappedLogMinerTransactionCache(store);
+
+            assertThat(cache.getTransactionCount()).isEqualTo(1);
+            assertThat(cache.containsTransaction("committed")).isFalse();
+            final MemoryMappedTransaction ongoing = cache.getTransaction("ongoing");
+            assertThat(ongoing.getUserName()).isEqualTo("debezium");
+            assertThat(ongoing.getNumberOfEvents()).isEqualTo(3);
+            assertThat(cache.getTransactionEventCount(ongoing)).isEqualTo(3);
+            assertThat(cache.getTransactionEvent(ongoing, 0).getScn()).isEqualTo(Scn.valueOf(11));
+            assertThat(cache.getTransactionEvent(ongoing, 1).getScn()).isEqualTo(Scn.valueOf(12));
+            assertThat(cache.getTransactionEvent(ongoing, 2).getTableId()).isEqualTo(TABLE_ID);
+
+            final List<Boolean> rolledBack = new ArrayList<>();
+            cache.forEachEvent(ongoing, (event, eventRolledBack) -> rolledBack.add(eventRolledBack));
+            assertThat(rolledBack).containsExactly(false, false, true);
+        }
+    }
+
+    private static ByteBuffer record(String value) {
+        // all records have the same size
+        final byte[] body = new byte[20];
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(bytes, 0, body, 0, bytes.length);
+        return ByteBuffer.wrap(body);
+    }
+
+    private static String read(MemoryMappedSegmentStore store, long location) {
+        return toString(store.read(location));
+    }
+
+    private static String toString(ByteBuffer body) {
+        final byte[] bytes = new byte[body.remaining()];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8).trim();
+    }
+
+    private static List<String> recover(MemoryMappedSegmentStore store) {
+        final List<String> recovered = new ArrayList<>();
+        store.recover((location, type, flags, body) -> {
+            assertThat(type).isEqualTo(TYPE);
+            recovered.add(toString(body) + ":" + flags);
+            return true;
+        });
+        return recovered;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).toList();
+        }
+    }
+
+    private static MemoryMappedTransaction transaction(String transactionId) {
+        return new MemoryMappedTransaction(transactionId, Scn.valueOf(1), Instant.now(), "debezium", 1, "client");
+    }
+
+    private static LogMinerEvent event(long scn) {
+        return new LogMinerEvent(EventType.INSERT, Scn.valueOf(scn), TABLE_ID, "AAAR0xAAEAAAAIEAAA", "0x000001.00000001.0010", Instant.now());
+    }
+}
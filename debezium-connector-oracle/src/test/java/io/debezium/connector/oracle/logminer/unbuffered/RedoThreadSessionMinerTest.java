@@ -0,0 +1,294 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.unbuffered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningStrategy;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.logminer.LogFile;
+import io.debezium.connector.oracle.logminer.events.EventType;
+import io.debezium.connector.oracle.logminer.events.LogMinerEventRow;
+import io.debezium.jdbc.JdbcConfiguration;
+
+/**
+ * Unit tests for the {@link RedoThreadSessionMiner}, mining the logs of each redo thread with mocked connections.
+ */
+public class RedoThreadSessionMinerTest {
+
+    private static final String MINING_QUERY = "SELECT * FROM V$LOGMNR_CONTENTS";
+    private static final Pattern LOG_FILE_NAME = Pattern.compile("thread-(\\d+)\\.log");
+
+    private final Map<Integer, ThreadRows> threadRows = new ConcurrentHashMap<>();
+    private final List<OracleConnection> connections = new CopyOnWriteArrayList<>();
+    private final List<PreparedStatement> cancelledStatements = new CopyOnWriteArrayList<>();
+    private final CountDownLatch blockedSessions = new CountDownLatch(2);
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    private RedoThreadSessionMiner miner;
+
+    @BeforeEach
+    public void beforeEach() {
+        final OracleConnectorConfig connectorConfig = mock(OracleConnectorConfig.class);
+        when(connectorConfig.getLogicalName()).thenReturn("test");
+        when(connectorConfig.getLogMiningStrategy()).thenReturn(LogMiningStrategy.ONLINE_CATALOG);
+        when(connectorConfig.getQueryFetchSize()).thenReturn(10);
+        miner = new RedoThreadSessionMiner(connectorConfig, MINING_QUERY, this::newConnection,
+                resultSet -> (LogMinerEventRow) resultSet.getObject(1), running::get);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        miner.close();
+    }
+
+    @Test
+    public void shouldDetectMultipleRedoThreads() {
+        assertThat(RedoThreadSessionMiner.hasMultipleRedoThreads(logFiles(1, 1))).isFalse();
+        assertThat(RedoThreadSessionMiner.hasMultipleRedoThreads(logFiles(1, 2))).isTrue();
+    }
+
+    @Test
+    public void shouldMergeTransactionsByCommitScnAndRedoThread() throws Exception {
+        final List<LogMinerEventRow> thread1First = transaction(1, 10);
+        final List<LogMinerEventRow> thread1Second = transaction(1, 30);
+        final List<LogMinerEventRow> thread2First = transaction(2, 20);
+        final List<LogMinerEventRow> thread2Second = transaction(2, 30);
+        final List<LogMinerEventRow> thread3Ddl = ddl(3, 25);
+        threadRows.put(1, ThreadRows.of(thread1First, thread1Second));
+        threadRows.put(2, ThreadRows.of(thread2First, thread2Second));
+        threadRows.put(3, ThreadRows.of(thread3Ddl));
+
+        final List<LogMinerEventRow> merged = new ArrayList<>();
+        assertThat(mine(merged, 3, 2, 1)).isTrue();
+
+        // a schema change is ordered by its system change number, and the lower redo thread wins a tie
+        assertThat(merged).containsExactlyElementsOf(concat(thread1First, thread2First, thread3Ddl, thread1Second, thread2Second));
+        assertThat(connections).hasSize(3);
+    }
+
+    @Test
+    public void shouldRestartAfterLogOfRedoThreadBecameUnavailable() throws Exception {
+        final List<LogMinerEventRow> thread1First = transaction(1, 10);
+        final List<LogMinerEventRow> thread2First = transaction(2, 5);
+        threadRows.put(1, new ThreadRows(thread1First, new SQLException("ORA-00310: archived log contains sequence 5; sequence 6 required"), false));
+        threadRows.put(2, ThreadRows.of(thread2First, transaction(2, 20)));
+
+        final List<LogMinerEventRow> merged = new ArrayList<>();
+        assertThat(mine(merged, 1, 2)).isFalse();
+
+        // the transaction of redo thread 2 may commit after the unavailable rows of redo thread 1
+        assertThat(merged).containsExactlyElementsOf(concat(thread2First, thread1First));
+
+        final List<LogMinerEventRow> thread1Restarted = transaction(1, 15);
+        final List<LogMinerEventRow> thread2Restarted = transaction(2, 20);
+        threadRows.put(1, ThreadRows.of(thread1Restarted));
+        threadRows.put(2, ThreadRows.of(thread2Restarted));
+
+        final List<LogMinerEventRow> restarted = new ArrayList<>();
+        assertThat(mine(restarted, 1, 2)).isTrue();
+        assertThat(restarted).containsExactlyElementsOf(concat(thread1Restarted, thread2Restarted));
+
+        // the restarted sessions reuse the connections of the redo threads
+        assertThat(connections).hasSize(2);
+        for (OracleConnection connection : connections) {
+            verify(connection, times(2)).executeWithoutCommitting(startsWith("BEGIN sys.dbms_logmnr.start_logmnr"));
+        }
+    }
+
+    @Test
+    public void shouldPropagateFailureOfRedoThreadSession() throws Exception {
+        // more transactions than the session may read ahead of the merge
+        final List<LogMinerEventRow> thread1Rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            thread1Rows.addAll(transaction(1, 10 + i));
+        }
+        final SQLException failure = new SQLException("ORA-01555: snapshot too old");
+        threadRows.put(1, new ThreadRows(thread1Rows, null, false));
+        threadRows.put(2, new ThreadRows(transaction(2, 5), failure, false));
+
+        final List<LogMinerEventRow> merged = new ArrayList<>();
+        assertThatThrownBy(() -> mine(merged, 1, 2)).isSameAs(failure);
+        assertThat(merged).hasSize(3);
+    }
+
+    @Test
+    public void shouldCancelSessionsWhenStopped() throws Exception {
+        final List<LogMinerEventRow> thread1First = transaction(1, 10);
+        threadRows.put(1, new ThreadRows(thread1First, null, true));
+        threadRows.put(2, new ThreadRows(transaction(2, 20), null, true));
+
+        final List<LogMinerEventRow> merged = new ArrayList<>();
+        final boolean completed = miner.mine(logFiles(1, 2), Scn.valueOf(1), statement -> {
+        }, row -> {
+            // the connector is stopped while the mining queries of both sessions wait for further rows
+            blockedSessions.await();
+            running.set(false);
+            merged.add(row);
+        });
+
+        assertThat(completed).isFalse();
+        assertThat(merged).containsExactlyElementsOf(thread1First);
+        assertThat(cancelledStatements).hasSize(2);
+
+        miner.close();
+        assertThat(connections).hasSize(2);
+        for (OracleConnection connection : connections) {
+            verify(connection).executeWithoutCommitting("BEGIN SYS.DBMS_LOGMNR.END_LOGMNR(); END;");
+            verify(connection).close();
+        }
+    }
+
+    private boolean mine(List<LogMinerEventRow> merged, int... threads) throws SQLException, InterruptedException {
+        return miner.mine(logFiles(threads), Scn.valueOf(1), statement -> {
+        }, merged::add);
+    }
+
+    private static List<LogFile> logFiles(int... threads) {
+        return Arrays.stream(threads)
+                .mapToObj(thread -> LogFile.forArchive("thread-" + thread + ".log", Scn.valueOf(1), Scn.valueOf(1000), BigInteger.ONE, thread, 0,
+                        false, false))
+                .toList();
+    }
+
+    private static List<LogMinerEventRow> transaction(int thread, long commitScn) {
+        return List.of(
+                row(thread, EventType.START, commitScn - 2, commitScn),
+                row(thread, EventType.INSERT, commitScn - 1, commitScn),
+                row(thread, EventType.COMMIT, commitScn, commitScn));
+    }
+
+    private static List<LogMinerEventRow> ddl(int thread, long scn) {
+        // DDL events do not have a commit system change number
+        return List.of(row(thread, EventType.DDL, scn, null));
+    }
+
+    private static LogMinerEventRow row(int thread, EventType eventType, long scn, Long commitScn) {
+        final LogMinerEventRow row = mock(LogMinerEventRow.class);
+        when(row.getThread()).thenReturn(thread);
+        when(row.getEventType()).thenReturn(eventType);
+        when(row.getScn()).thenReturn(Scn.valueOf(scn));
+        when(row.getCommitScn()).thenReturn(commitScn == null ? Scn.NULL : Scn.valueOf(commitScn));
+        return row;
+    }
+
+    @SafeVarargs
+    private static List<LogMinerEventRow> concat(List<LogMinerEventRow>... transactions) {
+        final List<LogMinerEventRow> rows = new ArrayList<>();
+        for (List<LogMinerEventRow> transaction : transactions) {
+            rows.addAll(transaction);
+        }
+        return rows;
+    }
+
+    private OracleConnection newConnection() throws SQLException {
+        final OracleConnection connection = mock(OracleConnection.class);
+        final JdbcConfiguration jdbcConfig = mock(JdbcConfiguration.class);
+        when(jdbcConfig.getQueryTimeout()).thenReturn(Duration.ZERO);
+        when(connection.config()).thenReturn(jdbcConfig);
+
+        // the redo thread of the session is known from the logs added to it
+        final AtomicInteger thread = new AtomicInteger();
+        doAnswer(invocation -> {
+            final Matcher matcher = LOG_FILE_NAME.matcher(invocation.<String> getArgument(0));
+            if (matcher.find()) {
+                thread.set(Integer.parseInt(matcher.group(1)));
+            }
+            return connection;
+        }).when(connection).executeWithoutCommitting(anyString());
+
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.prepareStatement(eq(MINING_QUERY), anyInt(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> newStatement(threadRows.get(thread.get())));
+        when(connection.connection()).thenReturn(jdbcConnection);
+
+        connections.add(connection);
+        return connection;
+    }
+
+    private PreparedStatement newStatement(ThreadRows rows) throws SQLException {
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelledStatements.add(statement);
+            cancelled.countDown();
+            return null;
+        }).when(statement).cancel();
+
+        final Iterator<LogMinerEventRow> iterator = rows.rows().iterator();
+        final AtomicReference<LogMinerEventRow> current = new AtomicReference<>();
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            if (iterator.hasNext()) {
+                current.set(iterator.next());
+                return true;
+            }
+            if (rows.blocking()) {
+                blockedSessions.countDown();
+                cancelled.await();
+                throw new SQLException("ORA-01013: user requested cancel of current operation");
+            }
+            if (rows.failure() != null) {
+                throw rows.failure();
+            }
+            return false;
+        });
+        when(resultSet.getObject(1)).thenAnswer(invocation -> current.get());
+        when(statement.executeQuery()).thenReturn(resultSet);
+        return statement;
+    }
+
+    /**
+     * The rows returned by the mining query of a redo thread session.
+     *
+     * @param rows the rows of the redo thread
+     * @param failure the exception thrown after the rows, may be {@code null}
+     * @param blocking whether the query waits for further rows until it is cancelled
+     */
+    private record ThreadRows(List<LogMinerEventRow> rows, SQLException failure, boolean blocking) {
+
+        @SafeVarargs
+        static ThreadRows of(List<LogMinerEventRow>... transactions) {
+            return new ThreadRows(concat(transactions), null, false);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.olr.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.olr.client.payloads.CheckpointEvent;
+import io.debezium.connector.oracle.olr.client.payloads.UpdateEvent;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Column;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.ColumnType;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Op;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Payload;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.RedoResponse;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.ResponseCode;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Schema;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Value;
+
+/**
+ * Unit tests for the {@link StreamingEventDecoder} implementations.
+ */
+@SkipWhenAdapterNameIsNot(SkipWhenAdapterNameIsNot.AdapterName.OLR)
+public class StreamingEventDecoderTest {
+
+    private static final String UPDATE_EVENT = "{\"scn\":2301230,\"tm\":1700000000000000000,\"xid\":\"0x0005.01a.00000d5c\"," +
+            "\"db\":\"ORCLPDB1\",\"c_scn\":2301229,\"c_idx\":3,\"payload\":[{\"rid\":\"AAASdYAAHAAAAFdAAA\"," +
+            "\"schema\":{\"owner\":\"DEBEZIUM\",\"table\":\"TEST\",\"obj\":74712,\"columns\":[{\"name\":\"ID\",\"type\":\"number\"," +
+            "\"precision\":10,\"scale\":0,\"nullable\":0}]},\"op\":\"u\",\"num\":1,\"before\":{\"ID\":1,\"NAME\":\"a\"," +
+            "\"PRICE\":12.50,\"BIG\":12345678901234,\"DATA\":null},\"after\":{\"ID\":1,\"NAME\":\"b\",\"PRICE\":1.0E2," +
+            "\"BIG\":123456789012345678901234567890,\"DATA\":\"0a0b\"}},{\"op\":\"chkpt\",\"seq\":12,\"offset\":4096,\"redo\":true}]}";
+
+    @Test
+    void shouldDecodeJsonLikeDataBinding() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        final StreamingEvent expected = mapper.readValue(UPDATE_EVENT, StreamingEvent.class);
+
+        // Decode from an offset into a larger buffer, as the network client reuses its buffer, and
+        // with a field that data binding does not know about, which is skipped
+        final byte[] data = UPDATE_EVENT.replace("\"payload\"", "\"unknown\":{\"a\":[1,{}]},\"payload\"").getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(data.length + 10);
+        buffer.position(5);
+        buffer.put(data);
+        buffer.flip().position(5);
+
+        final StreamingEvent event = new JsonStreamingEventDecoder().decode(buffer);
+        assertThat(event.toString()).isEqualTo(expected.toString());
+
+        final UpdateEvent update = (UpdateEvent) event.getPayload().get(0);
+        assertThat(update.getBefore().getValues()).isEqualTo(((UpdateEvent) expected.getPayload().get(0)).getBefore().getValues());
+        assertThat(update.getAfter().getValues()).isEqualTo(((UpdateEvent) expected.getPayload().get(0)).getAfter().getValues());
+        assertThat(update.getAfter().getValues().get("PRICE")).isEqualTo(new BigDecimal("1.0E2"));
+        assertThat(update.getSchema().getColumns().get(0).isNullable()).isFalse();
+        assertThat(event.getPayload().get(1)).isInstanceOf(CheckpointEvent.class);
+    }
+
+    @Test
+    void shouldDecodeProtobuf() throws Exception {
+        final RedoResponse response = RedoResponse.newBuilder()
+                .setCode(ResponseCode.PAYLOAD)
+                .setScn(2301230L)
+                .setTm(1700000000L)
+                .setXidn((5L << 48) | (0x1aL << 32) | 0xd5cL)
+                .setCScn(2301229L)
+                .setCIdx(0L)
+                .addPayload(Payload.newBuilder()
+                        .setOp(Op.UPDATE)
+                        .setNum(1)
+                        .setSchema(Schema.newBuilder().setOwner("DEBEZIUM").setName("TEST").setObj(74712)
+                                .addColumn(Column.newBuilder().setName("ID").setType(ColumnType.NUMBER).setPrecision(10)))
+                        .addBefore(Value.newBuilder().setName("ID").setValueInt(1))
+                        .addBefore(Value.newBuilder().setName("DATA"))
+                        .addAfter(Value.newBuilder().setName("ID").setValueInt(1))
+                        .addAfter(Value.newBuilder().setName("PRICE").setValueDouble(12.5))
+                        .addAfter(Value.newBuilder().setName("DATA").setValueBytes(ByteString.copyFrom(new byte[]{ 10, 11 }))))
+                .build();
+
+        final StreamingEvent event = new ProtobufStreamingEventDecoder("ORCLPDB1").decode(ByteBuffer.wrap(response.toByteArray()));
+        assertThat(event.getScn()).isEqualTo(Scn.valueOf(2301230L));
+        assertThat(event.getTimestamp()).isEqualTo(Instant.ofEpochSecond(1700000000L));
+        assertThat(event.getXid()).isEqualTo("0x0005.01a.00000d5c");
+        assertThat(event.getDatabaseName()).isEqualTo("ORCLPDB1");
+        assertThat(event.getCheckpointScn()).isEqualTo(Scn.valueOf(2301229L));
+        assertThat(event.getCheckpointIndex()).isEqualTo(0L);
+
+        final UpdateEvent update = (UpdateEvent) event.getPayload().get(0);
+        assertThat(update.getNum()).isEqualTo(1);
+        assertThat(update.getSchema().getTableId("ORCLPDB1").toString()).isEqualTo("ORCLPDB1.DEBEZIUM.TEST");
+        assertThat(update.getSchema().getColumns().get(0).getType()).isEqualTo("number");
+        assertThat(update.getBefore().getValues()).containsEntry("ID", 1L).containsEntry("DATA", null);
+        assertThat(update.getAfter().getValues()).containsEntry("PRICE", 12.5d);
+        assertThat((byte[]) update.getAfter().getValues().get("DATA")).containsExactly(10, 11);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.xstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.pipeline.ErrorHandler;
+
+/**
+ * Unit tests for {@link LcrProcessingQueue}.
+ */
+@SkipWhenAdapterNameIsNot(SkipWhenAdapterNameIsNot.AdapterName.XSTREAM)
+public class LcrProcessingQueueTest {
+
+    @Test
+    void shouldProcessAllItemsInOrder() throws Exception {
+        final List<Object> processed = new CopyOnWriteArrayList<>();
+        final AtomicInteger idleRuns = new AtomicInteger();
+        final List<Object> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+        try (LcrProcessingQueue queue = createQueue(mock(ErrorHandler.class), new AtomicBoolean(true))) {
+            queue.start(processed::add, idleRuns::incrementAndGet);
+            for (Object item : items) {
+                queue.submit(item);
+            }
+            queue.awaitProcessed();
+        }
+
+        assertThat(processed).containsExactlyElementsOf(items);
+        assertThat(idleRuns.get()).isGreaterThanOrEqualTo(items.size());
+    }
+
+    @Test
+    void shouldDropItemsWhenNoLongerRunning() throws Exception {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        try (LcrProcessingQueue queue = createQueue(mock(ErrorHandler.class), running)) {
+            queue.start(item -> {
+                blocked.countDown();
+                release.await();
+            }, () -> {
+            });
+
+            // One item is being processed, the queue holds the next two
+            queue.submit(1);
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+            queue.submit(2);
+            queue.submit(3);
+
+            // With the queue full and streaming stopped, the item is dropped instead of waiting
+            running.set(false);
+            queue.submit(4);
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldReportFailureOfIdleTask() throws Exception {
+        final ErrorHandler errorHandler = mock(ErrorHandler.class);
+        final IllegalStateException failure = new IllegalStateException("heartbeat failed");
+
+        try (LcrProcessingQueue queue = createQueue(errorHandler, new AtomicBoolean(true))) {
+            queue.start(item -> {
+            }, () -> {
+                throw failure;
+            });
+            verify(errorHandler, timeout(5000)).setProducerThrowable(failure);
+
+            // Processing has stopped, so submitting does not wait for space in the queue
+            for (int i = 0; i < 5; i++) {
+                queue.submit(i);
+            }
+            queue.awaitProcessed();
+        }
+        verify(errorHandler).setProducerThrowable(any());
+    }
+
+    private static LcrProcessingQueue createQueue(ErrorHandler errorHandler, AtomicBoolean running) {
+        final OracleConnectorConfig connectorConfig = mock(OracleConnectorConfig.class);
+        when(connectorConfig.getXStreamLcrQueueSize()).thenReturn(2);
+        when(connectorConfig.getLogicalName()).thenReturn("server1");
+        return new LcrProcessingQueue(connectorConfig, errorHandler, running::get);
+    }
+}
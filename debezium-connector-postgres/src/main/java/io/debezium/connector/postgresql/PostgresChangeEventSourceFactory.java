@@ -120,6 +120,7 @@ public StreamingChangeEventSource<PostgresPartition, PostgresOffsetContext> getS
                 clock,
                 snapshotProgressListener,
                 dataChangeEventListener,
-                notificationService));
+                notificationService,
+                connectionFactory));
     }
 }
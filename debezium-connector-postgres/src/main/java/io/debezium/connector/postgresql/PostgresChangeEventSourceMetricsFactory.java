@@ -0,0 +1,63 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.util.Map;
+
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.pipeline.metrics.CapturedTablesSupplier;
+import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
+import io.debezium.pipeline.metrics.DefaultSnapshotChangeEventSourceMetrics;
+import io.debezium.pipeline.metrics.DefaultStreamingChangeEventSourceMetrics;
+import io.debezium.pipeline.metrics.SnapshotChangeEventSourceMetrics;
+import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetrics;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.util.Collect;
+
+/**
+ * Creates the metrics of a Postgres connector task. When the captured tables are split into several slot groups, each
+ * streamed by its own task, the metrics names include the task id so that the tasks running on the same worker do not
+ * register the same names.
+ */
+public class PostgresChangeEventSourceMetricsFactory extends DefaultChangeEventSourceMetricsFactory<PostgresPartition> {
+
+    private final PostgresConnectorConfig connectorConfig;
+
+    public PostgresChangeEventSourceMetricsFactory(PostgresConnectorConfig connectorConfig) {
+        this.connectorConfig = connectorConfig;
+    }
+
+    @Override
+    public <T extends CdcSourceTaskContext> SnapshotChangeEventSourceMetrics<PostgresPartition> getSnapshotMetrics(T taskContext,
+                                                                                                                   ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                                                                                   EventMetadataProvider eventMetadataProvider) {
+        if (!connectorConfig.isSlotGrouped()) {
+            return super.getSnapshotMetrics(taskContext, changeEventQueueMetrics, eventMetadataProvider);
+        }
+        return new DefaultSnapshotChangeEventSourceMetrics<>(taskContext, changeEventQueueMetrics, eventMetadataProvider,
+                taskMetricTags(taskContext, "snapshot"));
+    }
+
+    @Override
+    public <T extends CdcSourceTaskContext> StreamingChangeEventSourceMetrics<PostgresPartition> getStreamingMetrics(T taskContext,
+                                                                                                                     ChangeEventQueueMetrics changeEventQueueMetrics,
+                                                                                                                     EventMetadataProvider eventMetadataProvider,
+                                                                                                                     CapturedTablesSupplier capturedTablesSupplier) {
+        if (!connectorConfig.isSlotGrouped()) {
+            return super.getStreamingMetrics(taskContext, changeEventQueueMetrics, eventMetadataProvider, capturedTablesSupplier);
+        }
+        return new DefaultStreamingChangeEventSourceMetrics<>(taskContext, changeEventQueueMetrics, eventMetadataProvider,
+                taskMetricTags(taskContext, "streaming"), capturedTablesSupplier);
+    }
+
+    private static Map<String, String> taskMetricTags(CdcSourceTaskContext taskContext, String contextName) {
+        return Collect.linkMapOf(
+                "server", taskContext.getConnectorLogicalName(),
+                "task", taskContext.getTaskId(),
+                "context", contextName);
+    }
+}
@@ -83,6 +83,12 @@ public Operation getOperation() {
         }
     }
 
+    @Override
+    public boolean detach() {
+        // the table schema may have to be refreshed from the database before the change records can be emitted
+        return false;
+    }
+
     @Override
     public void emitChangeRecords(DataCollectionSchema schema, Receiver<PostgresPartition> receiver) throws InterruptedException {
         schema = synchronizeTableSchema(schema);
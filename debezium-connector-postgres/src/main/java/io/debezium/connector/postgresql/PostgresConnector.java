@@ -6,8 +6,11 @@
 
 package io.debezium.connector.postgresql;
 
+import static io.debezium.config.ConfigurationNames.TASK_ID_PROPERTY_NAME;
+
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -67,8 +70,28 @@ public void start(Map<String, String> props) {
 
     @Override
     public List<Map<String, String>> taskConfigs(int maxTasks) {
-        // this will always have just one task with the given list of properties
-        return props == null ? Collections.emptyList() : Collections.singletonList(new HashMap<>(props));
+        if (props == null) {
+            return Collections.emptyList();
+        }
+        final int slotGroups = Configuration.from(props).getInteger(PostgresConnectorConfig.SLOT_GROUPS);
+        if (slotGroups <= 1) {
+            // this will always have just one task with the given list of properties
+            return Collections.singletonList(new HashMap<>(props));
+        }
+        if (maxTasks < slotGroups) {
+            throw new IllegalArgumentException("Only " + maxTasks + " tasks allowed for " + slotGroups + " slot groups, set '"
+                    + PostgresConnectorConfig.SLOT_GROUPS.name() + "' to at most 'tasks.max'");
+        }
+
+        // one task for each slot group, streaming from its own publication and replication slot
+        final List<Map<String, String>> taskConfigs = new ArrayList<>(slotGroups);
+        for (int slotGroup = 0; slotGroup < slotGroups; slotGroup++) {
+            final Map<String, String> taskProperties = new HashMap<>(props);
+            taskProperties.put(PostgresConnectorConfig.SLOT_GROUP_INDEX.name(), String.valueOf(slotGroup));
+            taskProperties.put(TASK_ID_PROPERTY_NAME, String.valueOf(slotGroup));
+            taskConfigs.add(taskProperties);
+        }
+        return taskConfigs;
     }
 
     @Override
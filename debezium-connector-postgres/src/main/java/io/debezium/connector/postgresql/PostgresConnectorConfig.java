@@ -6,11 +6,14 @@
 
 package io.debezium.connector.postgresql;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.Importance;
@@ -38,6 +41,7 @@
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.relational.ColumnFilterMode;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.RelationalTableFilters;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables.TableFilter;
 import io.debezium.util.Strings;
@@ -331,6 +335,67 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined options for how tables are split into chunks by a parallel snapshot.
+     */
+    public enum SnapshotChunkMode implements EnumeratedValue {
+
+        /**
+         * Split tables into ranges of their primary or message key columns; tables without key are read in one chunk.
+         */
+        KEY("key"),
+
+        /**
+         * Split tables into ranges of the pages of their physical storage, using the {@code ctid} of their rows.
+         */
+        CTID("ctid");
+
+        private final String value;
+
+        SnapshotChunkMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static SnapshotChunkMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (SnapshotChunkMode option : SnapshotChunkMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value        the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static SnapshotChunkMode parse(String value, String defaultValue) {
+            SnapshotChunkMode mode = parse(value);
+            if (mode == null && defaultValue != null) {
+                mode = parse(defaultValue);
+            }
+            return mode;
+        }
+    }
+
     /**
      * The set of predefined SecureConnectionMode options or aliases.
      */
@@ -660,6 +725,27 @@ public static SnapshotLockingMode parse(String value, String defaultValue) {
                     "Whether or not to create a failover slot. This is only supported when connecting to a primary server of a Postgres cluster, version 17 or newer. " +
                             "When not specified, or when not connecting to a Postgres 17+ primary, no failover slot will be created.");
 
+    public static final Field SLOT_GROUPS = Field.create("slot.groups")
+            .withDisplayName("Slot groups")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION))
+            .withDefault(1)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withValidation(PostgresConnectorConfig::validateSlotGroups)
+            .withDescription("The number of groups that the captured tables are split into. Each group is streamed by its own connector task " +
+                    "from its own publication and replication slot, named after 'slot.name' and 'publication.name' with the group number as suffix, " +
+                    "and keeps its own offsets. A table is assigned to a group by the hash of its name. When greater than 1, 'tasks.max' must be at least " +
+                    "the number of groups, the 'pgoutput' plug-in must be used and 'publication.autocreate.mode' must not be 'all_tables'. Defaults to 1.");
+
+    public static final Field SLOT_GROUP_INDEX = Field.createInternal("slot.group.index")
+            .withDisplayName("Slot group index")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION))
+            .withDefault(0)
+            .withImportance(Importance.LOW)
+            .withDescription("The slot group streamed by a connector task, set by the connector for each of its tasks.");
+
     /**
      * @deprecated Replaced by {@link #OFFSET_SLOT_MISMATCH_STRATEGY}
      */
@@ -920,6 +1006,20 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                     + "'exported': This option is deprecated; use 'initial' instead.; "
                     + "'custom': The connector loads a custom class  to specify how the connector performs snapshots. For more information, see Custom snapshotter SPI in the PostgreSQL connector documentation.");
 
+    public static final Field SNAPSHOT_CHUNK_MODE = Field.create("snapshot.chunk.mode")
+            .withDisplayName("Snapshot chunk mode")
+            .withEnum(SnapshotChunkMode.class, SnapshotChunkMode.KEY)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Controls how tables are split into chunks that are read in parallel when 'snapshot.max.threads' is greater than 1. "
+                    + "The default is '" + SnapshotChunkMode.KEY.getValue()
+                    + "', which splits tables into ranges of their key columns and reads tables without key in a single chunk. "
+                    + "When '" + SnapshotChunkMode.CTID.getValue()
+                    + "' is specified, tables are split into ranges of the pages of their physical storage, which also applies to tables without key. "
+                    + "Requires PostgreSQL 14 or later and the default 'snapshot.query.mode', otherwise tables are split by their key columns; "
+                    + "tables with a snapshot select override are read in a single chunk.");
+
     public static final Field SNAPSHOT_ISOLATION_MODE = Field.create("snapshot.isolation.mode")
             .withDisplayName("Snapshot isolation mode")
             .withEnum(SnapshotIsolationMode.class, SnapshotIsolationMode.SERIALIZABLE)
@@ -1006,6 +1106,132 @@ public static AutoCreateMode parse(String value, String defaultValue) {
             .withDescription("Frequency for sending replication connection status updates to the server, given in milliseconds. Defaults to 10 seconds (10,000 ms).")
             .withValidation(Field::isPositiveInteger);
 
+    public static final Field REPLICATION_STREAM_READ_AHEAD_SIZE = Field.create("replication.stream.read.ahead.size")
+            .withDisplayName("Replication stream read-ahead size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION))
+            .withDefault(0)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of messages that are read ahead from the replication stream on a dedicated thread, "
+                    + "while previously received messages are decoded and processed. "
+                    + "Defaults to 0, which reads the messages on the streaming thread.")
+            .withValidation(Field::isNonNegativeInteger);
+
+    /**
+     * The set of predefined options for streaming in-progress transactions with pgoutput.
+     */
+    public enum PgOutputStreamingMode implements EnumeratedValue {
+        /**
+         * Transactions are sent once they are committed, using protocol version 1.
+         */
+        OFF("off", 1, 0),
+
+        /**
+         * Large in-progress transactions are streamed, using protocol version 2 (PostgreSQL 14 and later).
+         */
+        ON("on", 2, 140000),
+
+        /**
+         * Large in-progress transactions are streamed, using protocol version 4 (PostgreSQL 16 and later).
+         */
+        PARALLEL("parallel", 4, 160000);
+
+        private final String value;
+        private final int protocolVersion;
+        private final int minimumServerVersion;
+
+        PgOutputStreamingMode(String value, int protocolVersion, int minimumServerVersion) {
+            this.value = value;
+            this.protocolVersion = protocolVersion;
+            this.minimumServerVersion = minimumServerVersion;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * @return the pgoutput protocol version required by this mode
+         */
+        public int getProtocolVersion() {
+            return protocolVersion;
+        }
+
+        /**
+         * @return the minimum server version, as reported by {@code server_version_num}, that supports this mode
+         */
+        public int getMinimumServerVersion() {
+            return minimumServerVersion;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static PgOutputStreamingMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (PgOutputStreamingMode option : PgOutputStreamingMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static final Field PGOUTPUT_STREAMING = Field.create("pgoutput.streaming")
+            .withDisplayName("pgoutput streaming of in-progress transactions")
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION))
+            .withEnum(PgOutputStreamingMode.class, PgOutputStreamingMode.OFF)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the pgoutput plug-in streams large transactions while they are still in progress, "
+                    + "instead of sending them only once they are committed. Options include: "
+                    + "'off' (default) to receive transactions once they are committed; "
+                    + "'on' to stream in-progress transactions, requires PostgreSQL 14 or later; "
+                    + "'parallel' to stream in-progress transactions using protocol version 4, requires PostgreSQL 16 or later. "
+                    + "The connector buffers the changes of a streamed transaction and emits them when the transaction commits.");
+
+    public static final Field PGOUTPUT_STREAMING_BUFFER_MAX_BYTES = Field.create("pgoutput.streaming.buffer.max.bytes")
+            .withDisplayName("pgoutput streaming buffer size (bytes)")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION))
+            .withDefault(64L * 1024 * 1024)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum number of bytes of streamed in-progress transactions that the connector buffers in memory. "
+                    + "When exceeded, the changes of the largest transaction are spilled to a file in the directory set by "
+                    + "'pgoutput.streaming.spill.directory'. Defaults to 64 MiB.")
+            .withValidation(Field::isNonNegativeLong);
+
+    public static final Field PGOUTPUT_STREAMING_SPILL_DIRECTORY = Field.create("pgoutput.streaming.spill.directory")
+            .withDisplayName("pgoutput streaming spill directory")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION))
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory to which the changes of streamed in-progress transactions are spilled "
+                    + "when they exceed 'pgoutput.streaming.buffer.max.bytes'. Defaults to the temporary directory of the JVM.");
+
+    public static final Field PGOUTPUT_BINARY = Field.create("pgoutput.binary")
+            .withDisplayName("pgoutput binary column values")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION))
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Whether the pgoutput plug-in sends column values in the binary format of their data types instead of as text, "
+                    + "which the connector decodes without parsing strings. Requires PostgreSQL 14 or later. "
+                    + "Column values are received as text when a captured column has a data type that the connector cannot decode "
+                    + "from the binary format.");
+
     public static final Field LSN_FLUSH_TIMEOUT_MS = Field.create("lsn.flush.timeout.ms")
             .withDisplayName("LSN flush timeout (ms)")
             .withType(Type.LONG)
@@ -1382,10 +1608,12 @@ public static LsnFlushMode parse(String value, String defaultValue) {
 
     private final SnapshotMode snapshotMode;
     private final SnapshotIsolationMode snapshotIsolationMode;
+    private final SnapshotChunkMode snapshotChunkMode;
     private final SnapshotLockingMode snapshotLockingMode;
     private final boolean readOnlyConnection;
     private final boolean publishViaPartitionRoot;
     private final OffsetSlotMismatchStrategy offsetSlotMismatchStrategy;
+    private final RelationalTableFilters slotGroupTableFilters;
 
     public PostgresConnectorConfig(Configuration config) {
         super(
@@ -1407,15 +1635,26 @@ public PostgresConnectorConfig(Configuration config) {
         this.replicaIdentityMapper = (replicaIdentityMapping != null) ? new ReplicaIdentityMapper(replicaIdentityMapping) : null;
         this.snapshotMode = SnapshotMode.parse(config.getString(SNAPSHOT_MODE), SNAPSHOT_MODE.defaultValueAsString());
         this.snapshotIsolationMode = SnapshotIsolationMode.parse(config.getString(SNAPSHOT_ISOLATION_MODE), SNAPSHOT_ISOLATION_MODE.defaultValueAsString());
+        this.snapshotChunkMode = SnapshotChunkMode.parse(config.getString(SNAPSHOT_CHUNK_MODE), SNAPSHOT_CHUNK_MODE.defaultValueAsString());
         this.snapshotLockingMode = SnapshotLockingMode.parse(config.getString(SNAPSHOT_LOCKING_MODE), SNAPSHOT_LOCKING_MODE.defaultValueAsString());
         this.readOnlyConnection = config.getBoolean(READ_ONLY_CONNECTION);
         this.publishViaPartitionRoot = config.getBoolean(PUBLISH_VIA_PARTITION_ROOT);
         this.lsnFlushTimeoutAction = LsnFlushTimeoutAction.parse(config.getString(LSN_FLUSH_TIMEOUT_ACTION));
         this.offsetSlotMismatchStrategy = resolveOffsetSlotMismatchStrategy(config);
+        this.slotGroupTableFilters = isSlotGrouped() ? new SlotGroupTableFilters(config, slotGroups(), slotGroupIndex()) : null;
 
         applyLsnFlushModeHeartbeatFallback(config);
     }
 
+    /**
+     * Returns the table filters of the configuration, restricted to the tables of the slot group of this task
+     * when the captured tables are split into several slot groups.
+     */
+    @Override
+    public RelationalTableFilters getTableFilters() {
+        return slotGroupTableFilters != null ? slotGroupTableFilters : super.getTableFilters();
+    }
+
     protected String hostname() {
         return getConfig().getString(HOSTNAME);
     }
@@ -1433,7 +1672,7 @@ public LogicalDecoder plugin() {
     }
 
     public String slotName() {
-        return getConfig().getString(SLOT_NAME);
+        return slotGroupName(getConfig().getString(SLOT_NAME));
     }
 
     protected boolean dropSlotOnStop() {
@@ -1457,7 +1696,43 @@ public long createSlotCommandTimeout() {
     }
 
     public String publicationName() {
-        return getConfig().getString(PUBLICATION_NAME);
+        return slotGroupName(getConfig().getString(PUBLICATION_NAME));
+    }
+
+    /**
+     * Returns the number of slot groups that the captured tables are split into.
+     */
+    public int slotGroups() {
+        return getConfig().getInteger(SLOT_GROUPS);
+    }
+
+    /**
+     * Returns the slot group streamed by this task, between 0 and {@link #slotGroups()} (exclusive).
+     */
+    public int slotGroupIndex() {
+        return getConfig().getInteger(SLOT_GROUP_INDEX);
+    }
+
+    /**
+     * Returns whether the captured tables are split into several slot groups.
+     */
+    public boolean isSlotGrouped() {
+        return slotGroups() > 1;
+    }
+
+    /**
+     * Returns the slot group that a table belongs to.
+     *
+     * @param tableId the table
+     * @param slotGroups the number of slot groups
+     * @return the index of the slot group of the table
+     */
+    public static int slotGroupOf(TableId tableId, int slotGroups) {
+        return Math.floorMod((tableId.schema() + "." + tableId.table()).hashCode(), slotGroups);
+    }
+
+    private String slotGroupName(String name) {
+        return isSlotGrouped() ? name + "_" + slotGroupIndex() : name;
     }
 
     protected AutoCreateMode publicationAutocreateMode() {
@@ -1520,6 +1795,27 @@ public LsnFlushMode getLsnFlushMode() {
         return lsnFlushMode;
     }
 
+    public int getReplicationStreamReadAheadSize() {
+        return getConfig().getInteger(REPLICATION_STREAM_READ_AHEAD_SIZE);
+    }
+
+    public PgOutputStreamingMode getPgOutputStreamingMode() {
+        return PgOutputStreamingMode.parse(getConfig().getString(PGOUTPUT_STREAMING));
+    }
+
+    public long getPgOutputStreamingBufferMaxBytes() {
+        return getConfig().getLong(PGOUTPUT_STREAMING_BUFFER_MAX_BYTES);
+    }
+
+    public Path getPgOutputStreamingSpillDirectory() {
+        final String directory = getConfig().getString(PGOUTPUT_STREAMING_SPILL_DIRECTORY);
+        return Path.of(directory != null ? directory : System.getProperty("java.io.tmpdir"));
+    }
+
+    public boolean isPgOutputBinary() {
+        return getConfig().getBoolean(PGOUTPUT_BINARY);
+    }
+
     public boolean isFlushLsnOnSource() {
         return lsnFlushMode != LsnFlushMode.MANUAL;
     }
@@ -1550,6 +1846,10 @@ public SnapshotIsolationMode getSnapshotIsolationMode() {
         return this.snapshotIsolationMode;
     }
 
+    public SnapshotChunkMode getSnapshotChunkMode() {
+        return this.snapshotChunkMode;
+    }
+
     @Override
     public Optional<SnapshotLockingMode> getSnapshotLockingMode() {
         return Optional.of(this.snapshotLockingMode);
@@ -1578,14 +1878,15 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
             .group(Field.Group.CONNECTION_ADVANCED, ON_CONNECT_STATEMENTS, TCP_KEEPALIVE)
             .group(Field.Group.CONNECTION_ADVANCED_SSL, SSL_MODE, SSL_CLIENT_CERT, SSL_CLIENT_KEY, SSL_CLIENT_KEY_PASSWORD, SSL_ROOT_CERT, SSL_SOCKET_FACTORY)
             .group(Field.Group.CONNECTION_ADVANCED_REPLICATION, PLUGIN_NAME, SLOT_NAME, PUBLICATION_NAME, PUBLICATION_AUTOCREATE_MODE, REPLICA_IDENTITY_AUTOSET_VALUES,
-                    DROP_SLOT_ON_STOP, CREATE_FAIL_OVER_SLOT, STREAM_PARAMS, MAX_RETRIES, RETRY_DELAY_MS, STATUS_UPDATE_INTERVAL_MS, LSN_FLUSH_TIMEOUT_MS,
-                    LSN_FLUSH_TIMEOUT_ACTION, XMIN_FETCH_INTERVAL)
+                    DROP_SLOT_ON_STOP, CREATE_FAIL_OVER_SLOT, SLOT_GROUPS, STREAM_PARAMS, MAX_RETRIES, RETRY_DELAY_MS, STATUS_UPDATE_INTERVAL_MS, LSN_FLUSH_TIMEOUT_MS,
+                    LSN_FLUSH_TIMEOUT_ACTION, XMIN_FETCH_INTERVAL, REPLICATION_STREAM_READ_AHEAD_SIZE, PGOUTPUT_STREAMING,
+                    PGOUTPUT_STREAMING_BUFFER_MAX_BYTES, PGOUTPUT_STREAMING_SPILL_DIRECTORY, PGOUTPUT_BINARY)
             .group(Field.Group.CONNECTOR, HSTORE_HANDLING_MODE, BINARY_HANDLING_MODE, SCHEMA_NAME_ADJUSTMENT_MODE, INTERVAL_HANDLING_MODE,
                     LOGICAL_DECODING_MESSAGE_PREFIX_INCLUDE_LIST, LOGICAL_DECODING_MESSAGE_PREFIX_EXCLUDE_LIST, PUBLISH_VIA_PARTITION_ROOT, LSN_FLUSH_MODE,
                     SHOULD_FLUSH_LSN_IN_SOURCE_DB, UNAVAILABLE_VALUE_PLACEHOLDER, SKIPPED_OPERATIONS)
             .group(Field.Group.CONNECTOR_ADVANCED, SCHEMA_REFRESH_MODE, INCLUDE_UNKNOWN_DATATYPES, SOURCE_INFO_STRUCT_MAKER)
             .group(Field.Group.CONNECTOR_SNAPSHOT, SNAPSHOT_MODE, SNAPSHOT_ISOLATION_MODE, SNAPSHOT_QUERY_MODE, SNAPSHOT_QUERY_MODE_CUSTOM_NAME, SNAPSHOT_LOCKING_MODE,
-                    SNAPSHOT_LOCKING_MODE_CUSTOM_NAME, INCREMENTAL_SNAPSHOT_CHUNK_SIZE)
+                    SNAPSHOT_LOCKING_MODE_CUSTOM_NAME, INCREMENTAL_SNAPSHOT_CHUNK_SIZE, SNAPSHOT_CHUNK_MODE)
             .excluding(INCLUDE_SCHEMA_CHANGES)
             .create();
 
@@ -1598,6 +1899,34 @@ public static ConfigDef configDef() {
         return CONFIG_DEFINITION.configDef();
     }
 
+    protected static int validateSlotGroups(Configuration config, Field field, Field.ValidationOutput problems) {
+        final int slotGroups = config.getInteger(field);
+        if (slotGroups < 1) {
+            problems.accept(field, slotGroups, "The number of slot groups must be at least 1");
+            return 1;
+        }
+        if (slotGroups == 1) {
+            return 0;
+        }
+        int errors = 0;
+        if (LogicalDecoder.parse(config.getString(PLUGIN_NAME)) != LogicalDecoder.PGOUTPUT) {
+            problems.accept(field, slotGroups, "Slot groups require the '" + LogicalDecoder.PGOUTPUT.getValue() + "' plug-in");
+            ++errors;
+        }
+        if (AutoCreateMode.parse(config.getString(PUBLICATION_AUTOCREATE_MODE)) == AutoCreateMode.ALL_TABLES) {
+            problems.accept(field, slotGroups, "Slot groups require a '" + PUBLICATION_AUTOCREATE_MODE.name() + "' other than '"
+                    + AutoCreateMode.ALL_TABLES.getValue() + "'");
+            ++errors;
+        }
+        // The slot name of the last group is the longest
+        final String slotName = config.getString(SLOT_NAME) + "_" + (slotGroups - 1);
+        if (slotName.length() > 63) {
+            problems.accept(field, slotGroups, "The replication slot name '" + slotName + "' of the last slot group is longer than 63 characters");
+            ++errors;
+        }
+        return errors;
+    }
+
     // Source of the validation rules - https://doxygen.postgresql.org/slot_8c.html#afac399f07320b9adfd2c599cf822aaa3
     private static int validateReplicationSlotName(Configuration config, Field field, Field.ValidationOutput problems) {
         final String name = config.getString(field);
@@ -1729,6 +2058,31 @@ public String getConnectorName() {
         return Module.name();
     }
 
+    /**
+     * Table filters that only include the captured tables of one slot group. The signal data collections are included
+     * in every group, so that each task receives the signals sent to it.
+     */
+    private static class SlotGroupTableFilters extends RelationalTableFilters {
+        private final TableFilter tableFilter;
+
+        SlotGroupTableFilters(Configuration config, int slotGroups, int slotGroupIndex) {
+            super(config, new SystemTablesPredicate(), x -> x.schema() + "." + x.table(), false);
+            final TableFilter configuredFilter = super.dataCollectionFilter();
+            final Set<String> signalDataCollections = config.getList(SIGNAL_DATA_COLLECTION).stream()
+                    .filter(s -> !Strings.isNullOrBlank(s))
+                    .map(s -> TableId.parse(s.trim(), false))
+                    .map(x -> x.schema() + "." + x.table())
+                    .collect(Collectors.toSet());
+            this.tableFilter = TableFilter.cached(tableId -> configuredFilter.isIncluded(tableId)
+                    && (slotGroupOf(tableId, slotGroups) == slotGroupIndex || signalDataCollections.contains(tableId.schema() + "." + tableId.table())));
+        }
+
+        @Override
+        public TableFilter dataCollectionFilter() {
+            return tableFilter;
+        }
+    }
+
     private static class SystemTablesPredicate implements TableFilter {
         protected static final List<String> SYSTEM_SCHEMAS = Arrays.asList("pg_catalog", "information_schema");
         // these are tables that may be placed in the user's schema but are system tables. This typically includes modules
@@ -51,7 +51,6 @@
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.GuardrailValidator;
-import io.debezium.pipeline.metrics.DefaultChangeEventSourceMetricsFactory;
 import io.debezium.pipeline.notification.NotificationService;
 import io.debezium.pipeline.signal.SignalProcessor;
 import io.debezium.pipeline.spi.OffsetContext;
@@ -283,7 +282,7 @@ public ChangeEventSourceCoordinator<PostgresPartition, PostgresOffsetContext> st
                             replicationConnection,
                             slotCreatedInfo,
                             slotInfo),
-                    new DefaultChangeEventSourceMetricsFactory<>(),
+                    new PostgresChangeEventSourceMetricsFactory(connectorConfig),
                     dispatcher,
                     schema,
                     snapshotterService,
@@ -9,6 +9,8 @@
 import java.sql.SQLException;
 import java.util.Set;
 
+import org.apache.kafka.connect.errors.RetriableException;
+
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.util.Collect;
@@ -26,7 +28,7 @@ public PostgresErrorHandler(PostgresConnectorConfig connectorConfig, ChangeEvent
 
     @Override
     protected Set<Class<? extends Exception>> communicationExceptions() {
-        return Collect.unmodifiableSet(IOException.class, SQLException.class);
+        return Collect.unmodifiableSet(IOException.class, SQLException.class, RetriableException.class);
     }
 
     /**
@@ -19,17 +19,31 @@
 
 public class PostgresPartition extends AbstractPartition implements Partition {
     private static final String SERVER_PARTITION_KEY = "server";
+    private static final String SLOT_PARTITION_KEY = "slot";
 
     private final String serverName;
+    private final String slotName;
 
     public PostgresPartition(String serverName, String databaseName) {
+        this(serverName, databaseName, null);
+    }
+
+    /**
+     * @param slotName the replication slot of the slot group that the partition is streamed from, or {@code null}
+     *                 when the captured tables are not split into slot groups
+     */
+    public PostgresPartition(String serverName, String databaseName, String slotName) {
         super(databaseName);
         this.serverName = serverName;
+        this.slotName = slotName;
     }
 
     @Override
     public Map<String, String> getSourcePartition() {
-        return Collect.hashMapOf(SERVER_PARTITION_KEY, serverName);
+        if (slotName == null) {
+            return Collect.hashMapOf(SERVER_PARTITION_KEY, serverName);
+        }
+        return Collect.hashMapOf(SERVER_PARTITION_KEY, serverName, SLOT_PARTITION_KEY, slotName);
     }
 
     @Override
@@ -41,12 +55,12 @@ public boolean equals(Object obj) {
             return false;
         }
         final PostgresPartition other = (PostgresPartition) obj;
-        return Objects.equals(serverName, other.serverName);
+        return Objects.equals(serverName, other.serverName) && Objects.equals(slotName, other.slotName);
     }
 
     @Override
     public int hashCode() {
-        return serverName.hashCode();
+        return Objects.hash(serverName, slotName);
     }
 
     @Override
@@ -66,7 +80,8 @@ static class Provider implements Partition.Provider<PostgresPartition> {
         @Override
         public Set<PostgresPartition> getPartitions() {
             return Collections.singleton(new PostgresPartition(
-                    connectorConfig.getLogicalName(), taskConfig.getString(DATABASE_NAME.name())));
+                    connectorConfig.getLogicalName(), taskConfig.getString(DATABASE_NAME.name()),
+                    connectorConfig.isSlotGrouped() ? connectorConfig.slotName() : null));
         }
     }
 }
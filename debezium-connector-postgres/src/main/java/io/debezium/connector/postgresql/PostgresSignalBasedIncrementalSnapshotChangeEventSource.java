@@ -11,6 +11,7 @@
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.jdbc.ConnectionFactory;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
@@ -45,8 +46,10 @@ public PostgresSignalBasedIncrementalSnapshotChangeEventSource(RelationalDatabas
                                                                    Clock clock,
                                                                    SnapshotProgressListener<PostgresPartition> progressListener,
                                                                    DataChangeEventListener<PostgresPartition> dataChangeEventListener,
-                                                                   NotificationService<PostgresPartition, ? extends OffsetContext> notificationService) {
-        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService);
+                                                                   NotificationService<PostgresPartition, ? extends OffsetContext> notificationService,
+                                                                   ConnectionFactory<PostgresConnection> chunkReaderConnectionFactory) {
+        super(config, jdbcConnection, dispatcher, databaseSchema, clock, progressListener, dataChangeEventListener, notificationService,
+                chunkReaderConnectionFactory);
         this.jdbcConnection = (PostgresConnection) jdbcConnection;
         this.schema = (PostgresSchema) databaseSchema;
     }
@@ -7,18 +7,22 @@
 
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.postgresql.PostgresConnectorConfig.SnapshotChunkMode;
 import io.debezium.connector.postgresql.PostgresOffsetContext.Loader;
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.snapshot.query.SelectAllSnapshotQuery;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.connector.postgresql.spi.SlotState;
 import io.debezium.jdbc.JdbcConnection;
@@ -26,6 +30,7 @@
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
 import io.debezium.pipeline.source.SnapshottingTask;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunk;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
 import io.debezium.relational.Table;
@@ -33,12 +38,14 @@
 import io.debezium.relational.Tables;
 import io.debezium.schema.SchemaChangeEvent;
 import io.debezium.snapshot.SnapshotterService;
+import io.debezium.snapshot.spi.SnapshotQuery;
 import io.debezium.spi.schema.DataCollectionId;
 import io.debezium.util.Clock;
 
 public class PostgresSnapshotChangeEventSource extends RelationalSnapshotChangeEventSource<PostgresPartition, PostgresOffsetContext> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSnapshotChangeEventSource.class);
+    private static final int TID_RANGE_SCAN_MIN_VERSION = 14;
 
     private final PostgresConnectorConfig connectorConfig;
     private final PostgresConnection jdbcConnection;
@@ -318,6 +325,77 @@ private String snapshotTransactionIsolationLevelStatement(SlotCreationResult new
         return "SET TRANSACTION ISOLATION LEVEL SERIALIZABLE, READ ONLY, DEFERRABLE;";
     }
 
+    /**
+     * Splits a table into ranges of the pages of its heap when {@link PostgresConnectorConfig#SNAPSHOT_CHUNK_MODE} is
+     * {@code ctid}. Each range is read with a TID range scan, which requires PostgreSQL 14 or later.
+     */
+    @Override
+    protected List<SnapshotChunk> createPhysicalChunks(Table table, String selectStatement, OptionalLong rowCount, int numChunks,
+                                                       int tableOrder, int tableCount)
+            throws SQLException {
+        if (connectorConfig.getSnapshotChunkMode() != SnapshotChunkMode.CTID || numChunks < 2) {
+            return List.of();
+        }
+        if (jdbcConnection.connection().getMetaData().getDatabaseMajorVersion() < TID_RANGE_SCAN_MIN_VERSION) {
+            LOGGER.warn("Table '{}' cannot be split by ctid before PostgreSQL {}, splitting it by its key columns.", table.id(), TID_RANGE_SCAN_MIN_VERSION);
+            return List.of();
+        }
+        if (!isSelectAllSnapshotQuery(snapshotterService.getSnapshotQuery())) {
+            LOGGER.info("Table '{}' is read with a custom snapshot query, splitting it by its key columns.", table.id());
+            return List.of();
+        }
+
+        // The current number of pages rather than pg_class.relpages, which is only an estimate until the table is analyzed
+        final long pages = jdbcConnection.prepareQueryAndMap(
+                "SELECT pg_relation_size(?::regclass) / current_setting('block_size')::bigint",
+                statement -> statement.setString(1, table.id().toDoubleQuotedString()),
+                rs -> rs.next() ? rs.getLong(1) : 0L);
+
+        final List<String> statements = ctidRangeSelects(selectStatement, pages, numChunks);
+        final List<SnapshotChunk> chunks = new ArrayList<>(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            chunks.add(new SnapshotChunk(table.id(), table, null, null, i, statements.size(), tableOrder, tableCount, statements.get(i), rowCount));
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns whether the snapshot select statements are built by the connector's default query, which selects all
+     * rows of a table without a clause that the ctid range condition could conflict with.
+     */
+    static boolean isSelectAllSnapshotQuery(SnapshotQuery snapshotQuery) {
+        return snapshotQuery != null && snapshotQuery.getClass() == SelectAllSnapshotQuery.class;
+    }
+
+    /**
+     * Splits a select statement into statements of ranges of pages. The first range is open below and the last range is
+     * open above, so that rows are read even if the table has grown since its number of pages was read.
+     *
+     * @param selectStatement the statement selecting all rows of the table
+     * @param pages the number of pages of the table
+     * @param numChunks the desired number of ranges
+     * @return the statements of the ranges, or an empty list if the table has fewer than two pages
+     */
+    static List<String> ctidRangeSelects(String selectStatement, long pages, int numChunks) {
+        if (pages < 2) {
+            return List.of();
+        }
+        final long pagesPerChunk = (pages + numChunks - 1) / numChunks;
+        final List<String> statements = new ArrayList<>();
+        for (long firstPage = 0; firstPage < pages; firstPage += pagesPerChunk) {
+            final long nextPage = firstPage + pagesPerChunk;
+            final StringBuilder statement = new StringBuilder(selectStatement).append(" WHERE ");
+            if (firstPage > 0) {
+                statement.append("ctid >= '(").append(firstPage).append(",0)'::tid");
+            }
+            if (nextPage < pages) {
+                statement.append(firstPage > 0 ? " AND " : "").append("ctid < '(").append(nextPage).append(",0)'::tid");
+            }
+            statements.add(statement.toString());
+        }
+        return statements;
+    }
+
     /**
      * Mutable context which is populated in the course of snapshotting.
      */
@@ -20,6 +20,7 @@
 public class PostgresTaskContext extends CdcSourceTaskContext<PostgresConnectorConfig> {
 
     protected PostgresTaskContext(Configuration rawConfig, PostgresConnectorConfig config) {
-        super(rawConfig, config, config.getCustomMetricTags());
+        // each slot group is streamed by its own task, which is identified in the logging context and metrics names
+        super(rawConfig, config, config.isSlotGrouped() ? config.getTaskId() : "0", config.getCustomMetricTags());
     }
 }
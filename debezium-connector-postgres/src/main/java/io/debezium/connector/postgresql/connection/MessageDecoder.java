@@ -54,6 +54,18 @@ public interface MessageDecoder {
      */
     boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Lsn startLsn, WalPositionLocator walPosition);
 
+    /**
+     * Returns the LSN of the message that is currently passed to the processor, when it is not the LSN that
+     * the replication stream received the last message with. This is the case for messages that the decoder
+     * received earlier and passes on later, such as the changes of a transaction that was streamed while it
+     * was in progress and that are passed on once the transaction commits.
+     *
+     * @return the LSN of the message being processed, or {@code null} if it is the last received LSN
+     */
+    default Lsn getReplayedMessageLsn() {
+        return null;
+    }
+
     /**
      * Closes this decoder, freeing and/or closing all resources it may potentially hold.
      */
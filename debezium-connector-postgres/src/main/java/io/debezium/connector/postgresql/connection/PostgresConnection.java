@@ -7,10 +7,12 @@
 package io.debezium.connector.postgresql.connection;
 
 import java.nio.charset.Charset;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Types;
 import java.time.Duration;
@@ -50,6 +52,7 @@
 import io.debezium.data.SpecialValueDecimal;
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.source.snapshot.chunked.HistogramBucket;
 import io.debezium.pipeline.source.snapshot.incremental.ChunkQueryBuilder;
 import io.debezium.pipeline.source.snapshot.incremental.RowValueConstructorChunkQueryBuilder;
 import io.debezium.pipeline.spi.OffsetContext;
@@ -905,6 +908,62 @@ public <T extends DataCollectionId> ChunkQueryBuilder<T> chunkQueryBuilder(Relat
         return new RowValueConstructorChunkQueryBuilder<>(connectorConfig, this);
     }
 
+    @Override
+    public List<HistogramBucket> readColumnHistogram(TableId tableId, Column column) {
+        final PostgresType type = typeRegistry.get(column.nativeType());
+        if (type == null || !isHistogramSupported(column)) {
+            return List.of();
+        }
+        // histogram_bounds divides the column values, other than the most common ones, into equally populated buckets
+        final String query = "SELECT b FROM unnest((SELECT histogram_bounds FROM pg_stats "
+                + "WHERE schemaname = ? AND tablename = ? AND attname = ? ORDER BY inherited LIMIT 1)::text::"
+                + type.getName() + "[]) WITH ORDINALITY AS h(b, n) ORDER BY n";
+        try {
+            // a failed statement aborts the snapshot transaction, so the query runs within a savepoint
+            final Connection connection = connection();
+            final Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try {
+                final List<HistogramBucket> histogram = prepareQueryAndMap(query,
+                        statement -> {
+                            statement.setString(1, tableId.schema());
+                            statement.setString(2, tableId.table());
+                            statement.setString(3, column.name());
+                        },
+                        rs -> {
+                            final List<HistogramBucket> buckets = new ArrayList<>();
+                            while (rs.next()) {
+                                buckets.add(new HistogramBucket(rs.getObject(1), buckets.size()));
+                            }
+                            return buckets;
+                        });
+                if (savepoint != null) {
+                    connection.releaseSavepoint(savepoint);
+                }
+                return histogram;
+            }
+            catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                throw e;
+            }
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to read the histogram of column {} of table {}, the chunk boundaries are calculated from the table: {}",
+                    column.name(), tableId, e.getMessage());
+            LOGGER.debug("Error while reading histogram", e);
+        }
+        return List.of();
+    }
+
+    private static boolean isHistogramSupported(Column column) {
+        // the histogram is cast to the column type, limit it to types whose text representation is unambiguous
+        return switch (column.jdbcType()) {
+            case Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL, Types.CHAR, Types.VARCHAR -> true;
+            default -> false;
+        };
+    }
+
     @Override
     public Optional<Boolean> nullsSortLast() {
         // "By default, null values sort as if larger than any non-null value"
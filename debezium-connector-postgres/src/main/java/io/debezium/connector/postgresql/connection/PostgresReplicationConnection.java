@@ -972,6 +972,10 @@ private ReplicationStream createReplicationStream(final Lsn startLsn, WalPositio
         }
 
         final PGReplicationStream stream = s;
+        final int readAheadSize = connectorConfig.getReplicationStreamReadAheadSize();
+        final ReplicationStreamReader reader = readAheadSize > 0
+                ? new ReplicationStreamReader(stream, readAheadSize, connectorConfig.getLogicalName())
+                : null;
 
         return new ReplicationStream() {
 
@@ -987,6 +991,11 @@ private ReplicationStream createReplicationStream(final Lsn startLsn, WalPositio
             @Override
             public void read(ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
                 processWarnings(false);
+                if (reader != null) {
+                    final ReplicationStreamReader.RawMessage message = reader.take();
+                    processRawMessage(message.buffer(), message.lastReceiveLsn(), processor);
+                    return;
+                }
                 ByteBuffer read = stream.read();
                 final Lsn lastReceiveLsn = Lsn.valueOf(stream.getLastReceiveLSN());
                 LOGGER.trace("Streaming requested from LSN {}, received LSN {}", startLsn, lastReceiveLsn);
@@ -999,6 +1008,14 @@ public void read(ReplicationMessageProcessor processor) throws SQLException, Int
             @Override
             public boolean readPending(ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
                 processWarnings(false);
+                if (reader != null) {
+                    final ReplicationStreamReader.RawMessage message = reader.poll();
+                    if (message == null) {
+                        return false;
+                    }
+                    processRawMessage(message.buffer(), message.lastReceiveLsn(), processor);
+                    return true;
+                }
                 ByteBuffer read = stream.readPending();
                 final Lsn lastReceiveLsn = Lsn.valueOf(stream.getLastReceiveLSN());
                 LOGGER.trace("Streaming requested from LSN {}, received LSN {}", startLsn, lastReceiveLsn);
@@ -1017,14 +1034,36 @@ public boolean readPending(ReplicationMessageProcessor processor) throws SQLExce
             }
 
             private void deserializeMessages(ByteBuffer buffer, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
-                lastReceivedLsn = Lsn.valueOf(stream.getLastReceiveLSN());
+                deserializeMessages(buffer, Lsn.valueOf(stream.getLastReceiveLSN()), processor);
+            }
+
+            private void deserializeMessages(ByteBuffer buffer, Lsn receivedLsn, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
+                lastReceivedLsn = receivedLsn;
                 LOGGER.trace("Received message at LSN {}", lastReceivedLsn);
-                messageDecoder.processMessage(buffer, processor, typeRegistry);
+                messageDecoder.processMessage(buffer, message -> {
+                    // messages replayed by the decoder are processed at the LSN they were originally received with
+                    final Lsn replayedLsn = messageDecoder.getReplayedMessageLsn();
+                    lastReceivedLsn = replayedLsn != null ? replayedLsn : receivedLsn;
+                    processor.process(message);
+                }, typeRegistry);
+                lastReceivedLsn = receivedLsn;
+            }
+
+            private void processRawMessage(ByteBuffer buffer, Lsn lastReceiveLsn, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
+                // the stream has already moved on, so the LSN received along with the read-ahead message is used
+                LOGGER.trace("Streaming requested from LSN {}, received LSN {}", startLsn, lastReceiveLsn);
+                if (messageDecoder.shouldMessageBeSkipped(buffer, lastReceiveLsn, startLsn, walPosition)) {
+                    return;
+                }
+                deserializeMessages(buffer, lastReceiveLsn, processor);
             }
 
             @Override
             public void close() throws SQLException {
                 processWarnings(true);
+                if (reader != null) {
+                    reader.close();
+                }
                 stream.close();
             }
 
@@ -0,0 +1,148 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.postgresql.replication.PGReplicationStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.PostgresConnector;
+import io.debezium.util.Clock;
+import io.debezium.util.Metronome;
+import io.debezium.util.Threads;
+
+/**
+ * Reads raw logical decoding messages off a {@link PGReplicationStream} on a dedicated thread into a bounded buffer,
+ * so that receiving messages from the network overlaps with decoding and processing the messages received before.
+ * <p>
+ * Each message is buffered together with the last received LSN of the stream at the time the message was read, as the
+ * stream's own value is already ahead when the message is taken from the buffer. Only the non-blocking
+ * {@link PGReplicationStream#readPending()} is used, so that status updates sent by other threads when flushing the
+ * LSN are never held up by a pending read.
+ *
+ * @see io.debezium.connector.postgresql.PostgresConnectorConfig#REPLICATION_STREAM_READ_AHEAD_SIZE
+ */
+class ReplicationStreamReader implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationStreamReader.class);
+
+    private static final long TAKE_TIMEOUT_MS = 100;
+    private static final Duration PAUSE_NO_MESSAGE = Duration.ofMillis(10);
+
+    /**
+     * A raw message read from the replication stream.
+     *
+     * @param buffer the message content
+     * @param lastReceiveLsn the last received LSN of the stream after the message was read
+     */
+    record RawMessage(ByteBuffer buffer, Lsn lastReceiveLsn) {
+    }
+
+    private final PGReplicationStream stream;
+    private final BlockingQueue<RawMessage> messages;
+    private final ExecutorService executor;
+    private volatile boolean running;
+    private volatile Throwable failure;
+
+    ReplicationStreamReader(PGReplicationStream stream, int readAheadSize, String logicalName) {
+        this.stream = stream;
+        this.messages = new ArrayBlockingQueue<>(readAheadSize);
+        this.executor = Threads.newSingleThreadExecutor(PostgresConnector.class, logicalName, "replication-stream-reader");
+    }
+
+    void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        executor.submit(this::readMessages);
+    }
+
+    /**
+     * Returns the next message, blocking until one has been read from the replication stream.
+     */
+    RawMessage take() throws SQLException, InterruptedException {
+        start();
+        RawMessage message;
+        while ((message = messages.poll(TAKE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) == null) {
+            checkFailure();
+        }
+        return message;
+    }
+
+    /**
+     * Returns the next message, or {@code null} if no message has been read from the replication stream yet.
+     */
+    RawMessage poll() throws SQLException {
+        start();
+        final RawMessage message = messages.poll();
+        if (message == null) {
+            checkFailure();
+        }
+        return message;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Replication stream reader did not stop in time");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        messages.clear();
+    }
+
+    private void readMessages() {
+        final Metronome pauseNoMessage = Metronome.sleeper(PAUSE_NO_MESSAGE, Clock.SYSTEM);
+        try {
+            while (running) {
+                final ByteBuffer buffer = stream.readPending();
+                if (buffer == null) {
+                    pauseNoMessage.pause();
+                    continue;
+                }
+                messages.put(new RawMessage(buffer, Lsn.valueOf(stream.getLastReceiveLSN())));
+            }
+        }
+        catch (InterruptedException e) {
+            LOGGER.debug("Replication stream reader interrupted, shutting down");
+            Thread.currentThread().interrupt();
+        }
+        catch (Throwable t) {
+            if (running) {
+                failure = t;
+            }
+        }
+    }
+
+    private void checkFailure() throws SQLException {
+        final Throwable t = failure;
+        if (t == null) {
+            return;
+        }
+        if (t instanceof SQLException e) {
+            throw e;
+        }
+        if (t instanceof RuntimeException e) {
+            throw e;
+        }
+        throw new DebeziumException("Failed to read from the replication stream", t);
+    }
+}
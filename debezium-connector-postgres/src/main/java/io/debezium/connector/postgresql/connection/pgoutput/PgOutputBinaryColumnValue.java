@@ -0,0 +1,313 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.PGInterval;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.AbstractColumnValue;
+import io.debezium.connector.postgresql.connection.ReplicationMessageColumnValueResolver;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.time.Conversions;
+
+/**
+ * A column value that pgoutput sent in the binary format of its data type, i.e. the output of the type's send function.
+ * The values of the types in {@link #isSupported(PostgresType)} are decoded directly into the Java values that
+ * {@link PgOutputColumnValue} parses from their text form.
+ */
+class PgOutputBinaryColumnValue extends AbstractColumnValue<byte[]> {
+
+    /**
+     * The PostgreSQL epoch, 2000-01-01, in days and microseconds since the Unix epoch.
+     */
+    private static final int PG_EPOCH_DAYS = 10_957;
+    private static final long PG_EPOCH_MICROS = PG_EPOCH_DAYS * 86_400_000_000L;
+
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_POSITIVE_INFINITY = 0xD000;
+    private static final int NUMERIC_NEGATIVE_INFINITY = 0xF000;
+
+    /**
+     * The types whose binary format is the text encoding of their text form.
+     */
+    private static final Set<String> TEXT_TYPES = Set.of("text", "varchar", "bpchar", "char", "name", "json", "xml", "citext");
+
+    private static final Set<String> SUPPORTED_TYPES = Set.of("bool", "int2", "int4", "int8", "oid", "float4", "float8", "numeric",
+            "jsonb", "uuid", "bytea", "date", "time", "timetz", "timestamp", "timestamptz", "interval");
+
+    private final byte[] value;
+    private final PostgresType type;
+
+    PgOutputBinaryColumnValue(byte[] value, PostgresType type) {
+        this.value = value;
+        this.type = type.getRootType();
+    }
+
+    /**
+     * Returns whether the values of a type can be decoded from their binary format.
+     *
+     * @param type the type of the column
+     * @return true if the values are decoded, false otherwise
+     */
+    static boolean isSupported(PostgresType type) {
+        final PostgresType rootType = type.getRootType();
+        if (rootType.isArrayType()) {
+            return isSupported(rootType.getElementType());
+        }
+        return rootType.isEnumType() || TEXT_TYPES.contains(rootType.getName()) || SUPPORTED_TYPES.contains(rootType.getName());
+    }
+
+    @Override
+    public byte[] getRawValue() {
+        return value;
+    }
+
+    @Override
+    public boolean isNull() {
+        return value == null;
+    }
+
+    @Override
+    public String asString() {
+        if (type.isEnumType() || TEXT_TYPES.contains(type.getName())) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        switch (type.getName()) {
+            case "jsonb":
+                // The text is preceded by the version of the format
+                return new String(value, 1, value.length - 1, StandardCharsets.UTF_8);
+            case "uuid":
+                return new UUID(ByteConverter.int8(value, 0), ByteConverter.int8(value, 8)).toString();
+            case "timetz":
+                return timeWithTimeZoneAsString();
+            default:
+                throw new DebeziumException("Values of type '" + type.getName() + "' cannot be decoded from the binary format, set '"
+                        + PostgresConnectorConfig.PGOUTPUT_BINARY.name() + "' to false");
+        }
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return value[0] != 0;
+    }
+
+    @Override
+    public Integer asInteger() {
+        return value.length == 2 ? ByteConverter.int2(value, 0) : ByteConverter.int4(value, 0);
+    }
+
+    @Override
+    public Long asLong() {
+        // oid values are unsigned 32-bit integers
+        return value.length == 4 ? Integer.toUnsignedLong(ByteConverter.int4(value, 0)) : ByteConverter.int8(value, 0);
+    }
+
+    @Override
+    public Float asFloat() {
+        return ByteConverter.float4(value, 0);
+    }
+
+    @Override
+    public Double asDouble() {
+        return ByteConverter.float8(value, 0);
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        // The sign follows the number of digits and the weight
+        switch (ByteConverter.int2(value, 4) & 0xFFFF) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_POSITIVE_INFINITY:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NEGATIVE_INFINITY:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            default:
+                return new SpecialValueDecimal((BigDecimal) ByteConverter.numeric(value));
+        }
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return value;
+    }
+
+    @Override
+    public LocalDate asLocalDate() {
+        final int days = ByteConverter.int4(value, 0);
+        if (days == Integer.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE;
+        }
+        else if (days == Integer.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_LOCAL_DATE;
+        }
+        return LocalDate.ofEpochDay(PG_EPOCH_DAYS + (long) days);
+    }
+
+    @Override
+    public Object asTime() {
+        return Duration.of(ByteConverter.int8(value, 0), ChronoUnit.MICROS);
+    }
+
+    @Override
+    public Object asLocalTime() {
+        return asTime();
+    }
+
+    @Override
+    public OffsetDateTime asOffsetDateTimeAtUtc() {
+        final long micros = ByteConverter.int8(value, 0);
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        return Conversions.toInstantFromMicros(PG_EPOCH_MICROS + micros).atOffset(ZoneOffset.UTC);
+    }
+
+    @Override
+    public Instant asInstant() {
+        final long micros = ByteConverter.int8(value, 0);
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_INSTANT;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_INSTANT;
+        }
+        return Conversions.toInstantFromMicros(PG_EPOCH_MICROS + micros);
+    }
+
+    @Override
+    public Object asInterval() {
+        long micros = ByteConverter.int8(value, 0);
+        final int days = ByteConverter.int4(value, 8);
+        final int months = ByteConverter.int4(value, 12);
+
+        final int hours = (int) (micros / 3_600_000_000L);
+        micros -= hours * 3_600_000_000L;
+        final int minutes = (int) (micros / 60_000_000L);
+        micros -= minutes * 60_000_000L;
+        return new PGInterval(months / 12, months % 12, days, hours, minutes, micros / 1_000_000.0);
+    }
+
+    @Override
+    public boolean isArray(PostgresType type) {
+        return type.isArrayType();
+    }
+
+    @Override
+    public Object asArray(String columnName, PostgresType type, String fullType, PgConnectionSupplier connection) {
+        // Int32 number of dimensions, Int32 flags, Int32 element type, Int32 size and lower bound of each dimension,
+        // followed by the elements as Int32 length (-1 for NULL) and value
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final int dimensions = buffer.getInt();
+        buffer.getInt();
+        buffer.getInt();
+        if (dimensions == 0) {
+            return new ArrayList<>();
+        }
+        final int[] sizes = new int[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            sizes[i] = buffer.getInt();
+            buffer.getInt();
+        }
+        return readArrayDimension(buffer, sizes, 0, columnName, type.getElementType(), connection);
+    }
+
+    @Override
+    public Object asDefault(TypeRegistry typeRegistry, int columnType, String columnName, String fullType, boolean includeUnknownDatatypes,
+                            PgConnectionSupplier connection) {
+        if (includeUnknownDatatypes) {
+            return value;
+        }
+        return null;
+    }
+
+    private List<Object> readArrayDimension(ByteBuffer buffer, int[] sizes, int dimension, String columnName, PostgresType elementType,
+                                            PgConnectionSupplier connection) {
+        final List<Object> values = new ArrayList<>(sizes[dimension]);
+        for (int i = 0; i < sizes[dimension]; i++) {
+            if (dimension + 1 < sizes.length) {
+                values.add(readArrayDimension(buffer, sizes, dimension + 1, columnName, elementType, connection));
+                continue;
+            }
+            final int length = buffer.getInt();
+            if (length == -1) {
+                values.add(null);
+                continue;
+            }
+            final byte[] element = Arrays.copyOfRange(buffer.array(), buffer.position(), buffer.position() + length);
+            buffer.position(buffer.position() + length);
+            values.add(ReplicationMessageColumnValueResolver.resolveValue(columnName, elementType, elementType.getName(),
+                    new PgOutputBinaryColumnValue(element, elementType), connection, false, null));
+        }
+        return values;
+    }
+
+    /**
+     * Formats a {@code timetz} value as PostgreSQL does, as its text form keeps the offset and the end-of-day
+     * boundary {@code 24:00:00} that {@link java.time.OffsetTime} cannot represent.
+     */
+    private String timeWithTimeZoneAsString() {
+        final long micros = ByteConverter.int8(value, 0);
+        // The zone is sent in seconds west of UTC
+        final int offsetSeconds = -ByteConverter.int4(value, 8);
+
+        final StringBuilder sb = new StringBuilder(24);
+        appendTwoDigits(sb, (int) (micros / 3_600_000_000L)).append(':');
+        appendTwoDigits(sb, (int) (micros / 60_000_000L % 60)).append(':');
+        appendTwoDigits(sb, (int) (micros / 1_000_000L % 60));
+        final int fraction = (int) (micros % 1_000_000L);
+        if (fraction != 0) {
+            final String digits = String.valueOf(1_000_000 + fraction).substring(1);
+            int end = digits.length();
+            while (digits.charAt(end - 1) == '0') {
+                end--;
+            }
+            sb.append('.').append(digits, 0, end);
+        }
+
+        final int absoluteOffset = Math.abs(offsetSeconds);
+        sb.append(offsetSeconds < 0 ? '-' : '+');
+        appendTwoDigits(sb, absoluteOffset / 3600);
+        if (absoluteOffset % 3600 != 0) {
+            appendTwoDigits(sb.append(':'), absoluteOffset / 60 % 60);
+            if (absoluteOffset % 60 != 0) {
+                appendTwoDigits(sb.append(':'), absoluteOffset % 60);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+        if (value < 10) {
+            sb.append('0');
+        }
+        return sb.append(value);
+    }
+}
@@ -9,7 +9,6 @@
 
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -20,6 +19,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,17 +27,17 @@
 import java.util.Set;
 import java.util.function.Function;
 
+import org.apache.kafka.connect.errors.RetriableException;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
-import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.PgOutputStreamingMode;
 import io.debezium.connector.postgresql.PostgresType;
 import io.debezium.connector.postgresql.TypeRegistry;
-import io.debezium.connector.postgresql.UnchangedToastedReplicationMessageColumn;
 import io.debezium.connector.postgresql.connection.AbstractMessageDecoder;
-import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn;
 import io.debezium.connector.postgresql.connection.LogicalDecodingMessage;
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.connector.postgresql.connection.MessageDecoderContext;
@@ -71,6 +71,8 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
 
     private final MessageDecoderContext decoderContext;
     private final PostgresConnection connection;
+    private final StreamedTransactions streamedTransactions;
+    private final Map<Integer, PgOutputRelationDecoder> relationDecoders = new HashMap<>();
 
     private Instant commitTimestamp;
 
@@ -79,6 +81,29 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
      */
     private Long transactionId;
 
+    /**
+     * The transaction whose messages are being streamed, between a stream start and a stream stop message
+     */
+    private Long streamingXid;
+
+    /**
+     * The position of the last received message, used to decide whether the changes of a streamed
+     * transaction are skipped once the transaction commits
+     */
+    private Lsn lastReceivedLsn;
+    private Lsn startLsn;
+    private WalPositionLocator walPosition;
+
+    /**
+     * The LSN that the message of a streamed transaction that is being processed was received with
+     */
+    private Lsn replayedMessageLsn;
+
+    /**
+     * Whether the column values are received in binary format, as requested when the replication stream was started
+     */
+    private boolean binaryFormat;
+
     public enum MessageType {
         RELATION,
         BEGIN,
@@ -89,7 +114,11 @@ public enum MessageType {
         TYPE,
         ORIGIN,
         TRUNCATE,
-        LOGICAL_DECODING_MESSAGE;
+        LOGICAL_DECODING_MESSAGE,
+        STREAM_START,
+        STREAM_STOP,
+        STREAM_COMMIT,
+        STREAM_ABORT;
 
         public static MessageType forType(char type) {
             switch (type) {
@@ -113,6 +142,14 @@ public static MessageType forType(char type) {
                     return TRUNCATE;
                 case 'M':
                     return LOGICAL_DECODING_MESSAGE;
+                case 'S':
+                    return STREAM_START;
+                case 'E':
+                    return STREAM_STOP;
+                case 'c':
+                    return STREAM_COMMIT;
+                case 'A':
+                    return STREAM_ABORT;
                 default:
                     throw new IllegalArgumentException("Unsupported message type: " + type);
             }
@@ -122,6 +159,8 @@ public static MessageType forType(char type) {
     public PgOutputMessageDecoder(MessageDecoderContext decoderContext, PostgresConnection connection) {
         this.decoderContext = decoderContext;
         this.connection = connection;
+        this.streamedTransactions = new StreamedTransactions(decoderContext.getConfig().getPgOutputStreamingBufferMaxBytes(),
+                decoderContext.getConfig().getPgOutputStreamingSpillDirectory());
     }
 
     @Override
@@ -129,6 +168,7 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         // Cache position as we're going to peak at the first byte to determine message type
         // We need to reprocess all BEGIN/COMMIT messages regardless.
         int position = buffer.position();
+        this.lastReceivedLsn = lastReceivedLsn;
         try {
             MessageType type = MessageType.forType((char) buffer.get());
             LOGGER.trace("Message Type: {}", type);
@@ -144,7 +184,21 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
                     }
                     // else delegate to super.shouldMessageBeSkipped
                     break;
+                case STREAM_START:
+                case STREAM_STOP:
+                case STREAM_COMMIT:
+                case STREAM_ABORT:
+                    // The changes of a streamed transaction are checked once it commits, with the LSNs they were
+                    // received with, so the stream control messages are always processed
+                    this.startLsn = startLsn;
+                    this.walPosition = walPosition;
+                    LOGGER.trace("{} messages are always processed", type);
+                    return false;
                 default:
+                    if (streamingXid != null) {
+                        // The message is buffered until the streamed transaction commits
+                        return false;
+                    }
                     // call super.shouldMessageBeSkipped for rest of the types
             }
             final boolean candidateForSkipping = super.shouldMessageBeSkipped(buffer, lastReceivedLsn, startLsn, walPosition);
@@ -197,7 +251,11 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
             LOGGER.trace("Message arrived from database {}", HexConverter.convertToHexString(content));
         }
 
-        final MessageType messageType = MessageType.forType((char) buffer.get());
+        final byte type = buffer.get();
+        final MessageType messageType = MessageType.forType((char) type);
+        if (streamingXid != null && bufferStreamedMessage(type, messageType, buffer)) {
+            return;
+        }
         switch (messageType) {
             case BEGIN:
                 handleBeginMessage(buffer, processor);
@@ -231,16 +289,61 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
                     LOGGER.trace("Message Type {} skipped, not processed.", messageType);
                 }
                 break;
+            case STREAM_START:
+                handleStreamStartMessage(buffer);
+                break;
+            case STREAM_STOP:
+                handleStreamStopMessage();
+                break;
+            case STREAM_COMMIT:
+                handleStreamCommitMessage(buffer, processor, typeRegistry);
+                break;
+            case STREAM_ABORT:
+                handleStreamAbortMessage(buffer);
+                break;
             default:
                 LOGGER.trace("Message Type {} skipped, not processed.", messageType);
                 break;
         }
     }
 
+    @Override
+    public Lsn getReplayedMessageLsn() {
+        return replayedMessageLsn;
+    }
+
     @Override
     public ChainedLogicalStreamBuilder defaultOptions(ChainedLogicalStreamBuilder builder, Function<Integer, Boolean> hasMinimumServerVersion) {
-        builder = builder.withSlotOption("proto_version", 1)
-                .withSlotOption("publication_names", decoderContext.getConfig().publicationName());
+        // The options are set whenever the replication stream is (re)started, at which point the database sends
+        // the streamed transactions that were in progress again from their beginning
+        streamedTransactions.clear();
+        streamingXid = null;
+        binaryFormat = false;
+
+        final PostgresConnectorConfig config = decoderContext.getConfig();
+        PgOutputStreamingMode streamingMode = config.getPgOutputStreamingMode();
+        if (streamingMode != PgOutputStreamingMode.OFF && !hasMinimumServerVersion.apply(streamingMode.getMinimumServerVersion())) {
+            LOGGER.warn("Streaming of in-progress transactions with '{}' set to '{}' requires PostgreSQL {} or later, transactions are sent once committed",
+                    PostgresConnectorConfig.PGOUTPUT_STREAMING.name(), streamingMode.getValue(), streamingMode.getMinimumServerVersion() / 10000);
+            streamingMode = PgOutputStreamingMode.OFF;
+        }
+
+        builder = builder.withSlotOption("proto_version", streamingMode.getProtocolVersion())
+                .withSlotOption("publication_names", config.publicationName());
+
+        if (streamingMode != PgOutputStreamingMode.OFF) {
+            builder = builder.withSlotOption("streaming", streamingMode.getValue());
+        }
+
+        if (config.isPgOutputBinary()) {
+            if (!hasMinimumServerVersion.apply(140000)) {
+                LOGGER.warn("Receiving column values in binary format requires PostgreSQL 14 or later, column values are received as text");
+            }
+            else if (isBinaryFormatSupportedForCapturedColumns()) {
+                builder = builder.withSlotOption("binary", true);
+                binaryFormat = true;
+            }
+        }
 
         // DBZ-4374 Use enum once the driver got updated
         if (hasMinimumServerVersion.apply(140000)) {
@@ -250,6 +353,49 @@ public ChainedLogicalStreamBuilder defaultOptions(ChainedLogicalStreamBuilder bu
         return builder;
     }
 
+    /**
+     * Returns whether all captured columns have types whose values can be decoded from their binary format.
+     * Otherwise, all values are received as text, as pgoutput sends the values of all types that have a binary
+     * format in that format.
+     */
+    private boolean isBinaryFormatSupportedForCapturedColumns() {
+        final TypeRegistry typeRegistry = connection.getTypeRegistry();
+        for (TableId tableId : decoderContext.getSchema().tableIds()) {
+            final Table table = decoderContext.getSchema().tableFor(tableId);
+            if (table == null) {
+                continue;
+            }
+            for (io.debezium.relational.Column column : table.columns()) {
+                if (!PgOutputBinaryColumnValue.isSupported(typeRegistry.get(column.nativeType()))) {
+                    LOGGER.warn("Column '{}' of table '{}' has type '{}' whose values cannot be decoded from the binary format, column values are received as text",
+                            column.name(), tableId, column.typeName());
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifies that the values of the captured columns of a relation can still be decoded from their binary format, as a
+     * column of an unsupported type may have been added or a table with such a column may have been captured since the
+     * replication stream was started. If not, the connector is restarted so that the values are received as text.
+     */
+    private void verifyBinaryFormatSupported(TableId tableId, List<ColumnMetaData> columns) {
+        final PostgresConnectorConfig config = decoderContext.getConfig();
+        if (!binaryFormat || !config.getTableFilters().dataCollectionFilter().isIncluded(tableId)) {
+            return;
+        }
+        for (ColumnMetaData column : columns) {
+            if (config.getColumnFilter().matches(tableId.catalog(), tableId.schema(), tableId.table(), column.getColumnName())
+                    && !PgOutputBinaryColumnValue.isSupported(column.getPostgresType())) {
+                throw new RetriableException(String.format(
+                        "Column '%s' of table '%s' has type '%s' whose values cannot be decoded from the binary format, restarting to receive column values as text",
+                        column.getColumnName(), tableId, column.getPostgresType().getName()));
+            }
+        }
+    }
+
     private boolean isTruncateEventsIncluded() {
         return !decoderContext.getConfig().getSkippedOperations().contains(Envelope.Operation.TRUNCATE);
     }
@@ -292,6 +438,176 @@ private void handleCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor
         processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
     }
 
+    /**
+     * Callback handler for the 'S' stream start replication message, which is followed by the messages of an
+     * in-progress transaction up to the next 'E' stream stop message.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamStartMessage(ByteBuffer buffer) {
+        streamingXid = Integer.toUnsignedLong(buffer.getInt());
+        boolean firstSegment = buffer.get() == 1;
+
+        LOGGER.trace("Event: {}", MessageType.STREAM_START);
+        LOGGER.trace("XID of streamed transaction: {}", streamingXid);
+        LOGGER.trace("First segment: {}", firstSegment);
+    }
+
+    /**
+     * Callback handler for the 'E' stream stop replication message.
+     */
+    private void handleStreamStopMessage() {
+        LOGGER.trace("Event: {}", MessageType.STREAM_STOP);
+        LOGGER.trace("XID of streamed transaction: {}", streamingXid);
+        streamingXid = null;
+    }
+
+    /**
+     * Buffers a message received between a stream start and a stream stop message. Other than outside of a
+     * stream, the messages that belong to the transaction are sent with the transaction id following the type.
+     *
+     * @param type The message type byte
+     * @param messageType The message type
+     * @param buffer The replication stream buffer, positioned after the message type
+     * @return true if the message was buffered, false if it is processed right away
+     */
+    private boolean bufferStreamedMessage(byte type, MessageType messageType, ByteBuffer buffer) {
+        final long subXid;
+        switch (messageType) {
+            case RELATION:
+            case TYPE:
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+            case TRUNCATE:
+            case LOGICAL_DECODING_MESSAGE:
+                subXid = Integer.toUnsignedLong(buffer.getInt());
+                break;
+            case ORIGIN:
+                subXid = streamingXid;
+                break;
+            default:
+                return false;
+        }
+        if (messageType == MessageType.TYPE) {
+            LOGGER.trace("Message Type {} skipped, not processed.", messageType);
+            return true;
+        }
+        if (messageType == MessageType.LOGICAL_DECODING_MESSAGE && buffer.get(buffer.position()) != 1) {
+            // Non-transactional messages are sent right away, as they are outside of a stream
+            return false;
+        }
+        LOGGER.trace("Buffering {} of streamed transaction {} (subtransaction {})", messageType, streamingXid, subXid);
+        streamedTransactions.add(streamingXid, subXid, lastReceivedLsn, type, buffer);
+        return true;
+    }
+
+    /**
+     * Callback handler for the 'c' stream commit replication message, which passes the buffered messages of
+     * the committed transaction to the processor within a transaction.
+     *
+     * @param buffer The replication stream buffer
+     * @param processor The replication message processor
+     * @param typeRegistry The postgres type registry
+     */
+    private void handleStreamCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        int flags = buffer.get(); // flags, currently unused
+        final Lsn lsn = Lsn.valueOf(buffer.getLong()); // LSN of the commit
+        final Lsn endLsn = Lsn.valueOf(buffer.getLong()); // End LSN of the transaction
+        final Instant timestamp = PG_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+
+        LOGGER.trace("Event: {}", MessageType.STREAM_COMMIT);
+        LOGGER.trace("XID of streamed transaction: {}", xid);
+        LOGGER.trace("Flags: {} (currently unused and most likely 0)", flags);
+        LOGGER.trace("Commit LSN: {}", lsn);
+        LOGGER.trace("End LSN of transaction: {}", endLsn);
+        LOGGER.trace("Commit timestamp of transaction: {}", timestamp);
+
+        // The changes are processed with the LSNs they were received with, the transaction begins at the first of
+        // them and commits at the stream commit message
+        final Lsn commitLsn = lastReceivedLsn;
+        this.transactionId = xid;
+        this.commitTimestamp = timestamp;
+        final boolean[] begun = { false };
+        try {
+            streamedTransactions.commit(xid, (messageLsn, message) -> {
+                final Lsn changeLsn = messageLsn != null ? messageLsn : commitLsn;
+                if (!begun[0]) {
+                    begun[0] = true;
+                    processReplayedTransactionBoundary(Operation.BEGIN, changeLsn, processor);
+                }
+                if (!isReplayedMessageSkipped(message, changeLsn)) {
+                    replayedMessageLsn = changeLsn;
+                    processNotEmptyMessage(message, processor, typeRegistry);
+                }
+            });
+        }
+        finally {
+            replayedMessageLsn = null;
+            lastReceivedLsn = commitLsn;
+        }
+        if (!begun[0]) {
+            processReplayedTransactionBoundary(Operation.BEGIN, null, processor);
+        }
+        processReplayedTransactionBoundary(Operation.COMMIT, null, processor);
+    }
+
+    /**
+     * Callback handler for the 'A' stream abort replication message, which discards the buffered messages of
+     * an aborted transaction or subtransaction.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamAbortMessage(ByteBuffer buffer) {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        final long subXid = Integer.toUnsignedLong(buffer.getInt());
+        // With parallel streaming, the message is followed by the abort LSN and timestamp, which are not used
+
+        LOGGER.trace("Event: {}", MessageType.STREAM_ABORT);
+        LOGGER.trace("XID of streamed transaction: {}", xid);
+        LOGGER.trace("XID of aborted subtransaction: {}", subXid);
+        streamedTransactions.abort(xid, subXid);
+    }
+
+    /**
+     * Passes the begin or commit of a streamed transaction to the processor.
+     *
+     * @param operation Either {@link Operation#BEGIN} or {@link Operation#COMMIT}
+     * @param lsn The LSN to process the message with, or null for the LSN of the stream commit message
+     * @param processor The replication message processor
+     */
+    private void processReplayedTransactionBoundary(Operation operation, Lsn lsn, ReplicationMessageProcessor processor)
+            throws SQLException, InterruptedException {
+        if (walPosition != null) {
+            // Transaction boundaries are always processed, but the position locator has to see their LSNs
+            walPosition.skipMessage(lsn != null ? lsn : lastReceivedLsn);
+        }
+        try {
+            replayedMessageLsn = lsn;
+            processor.process(new TransactionMessage(operation, transactionId, commitTimestamp));
+        }
+        finally {
+            replayedMessageLsn = null;
+        }
+    }
+
+    /**
+     * Returns whether a buffered message of a streamed transaction has already been processed before, applying
+     * the same rules as to the messages that are sent outside of a stream.
+     *
+     * @param message The buffered message
+     * @param lsn The LSN the message was received with
+     * @return true if the message is skipped
+     */
+    private boolean isReplayedMessageSkipped(ByteBuffer message, Lsn lsn) {
+        if (walPosition == null) {
+            return false;
+        }
+        return shouldMessageBeSkipped(message, lsn, startLsn, walPosition);
+    }
+
     /**
      * Callback handler for the 'O' origin replication message.
      * The origin message indicates that the transaction originated from another server
@@ -410,8 +726,11 @@ private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry)
         // to reflect the actual primary key state at time `t0`.
         primaryKeyColumns.retainAll(columnNames);
 
+        verifyBinaryFormatSupported(tableId, columns);
+
         Table table = resolveRelationFromMetadata(new PgOutputRelationMetaData(relationId, schemaName, tableName, columns, primaryKeyColumns));
         decoderContext.getSchema().applySchemaChangesForTable(relationId, table);
+        relationDecoders.remove(relationId);
     }
 
     private boolean isColumnInPrimaryKey(String schemaName, String tableName, String columnName, List<String> primaryKeyColumns) {
@@ -452,18 +771,17 @@ private void decodeInsert(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
 
         LOGGER.trace("Event: {}, Relation Id: {}, Tuple Type: {}", MessageType.INSERT, relationId, tupleType);
 
-        Optional<Table> resolvedTable = resolveRelation(relationId);
+        final PgOutputRelationDecoder relationDecoder = resolveRelationDecoder(relationId, typeRegistry);
 
         // non-captured table
-        if (!resolvedTable.isPresent()) {
+        if (relationDecoder == null) {
             processor.process(new NoopMessage(transactionId, commitTimestamp, Operation.INSERT));
         }
         else {
-            Table table = resolvedTable.get();
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = relationDecoder.decodeTupleData(buffer);
             processor.process(new PgOutputReplicationMessage(
                     Operation.INSERT,
-                    table.id().toDoubleQuotedString(),
+                    relationDecoder.tableName(),
                     commitTimestamp,
                     transactionId,
                     null,
@@ -483,14 +801,13 @@ private void decodeUpdate(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
 
         LOGGER.trace("Event: {}, RelationId: {}", MessageType.UPDATE, relationId);
 
-        Optional<Table> resolvedTable = resolveRelation(relationId);
+        final PgOutputRelationDecoder relationDecoder = resolveRelationDecoder(relationId, typeRegistry);
 
         // non-captured table
-        if (!resolvedTable.isPresent()) {
+        if (relationDecoder == null) {
             processor.process(new NoopMessage(transactionId, commitTimestamp, Operation.UPDATE));
         }
         else {
-            Table table = resolvedTable.get();
 
             // When reading the tuple-type, we could get 3 different values, 'O', 'K', or 'N'.
             // 'O' (Optional) - States the following tuple-data is the key, only for replica identity index configs.
@@ -501,16 +818,16 @@ private void decodeUpdate(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
             List<Column> oldColumns = null;
             char tupleType = (char) buffer.get();
             if ('O' == tupleType || 'K' == tupleType) {
-                oldColumns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+                oldColumns = relationDecoder.decodeTupleData(buffer);
                 // Read the 'N' tuple type
                 // This is necessary so the stream position is accurate for resolving the column tuple data
                 tupleType = (char) buffer.get();
             }
 
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = relationDecoder.decodeTupleData(buffer);
             processor.process(new PgOutputReplicationMessage(
                     Operation.UPDATE,
-                    table.id().toDoubleQuotedString(),
+                    relationDecoder.tableName(),
                     commitTimestamp,
                     transactionId,
                     oldColumns,
@@ -532,18 +849,17 @@ private void decodeDelete(ByteBuffer buffer, TypeRegistry typeRegistry, Replicat
 
         LOGGER.trace("Event: {}, RelationId: {}, Tuple Type: {}", MessageType.DELETE, relationId, tupleType);
 
-        Optional<Table> resolvedTable = resolveRelation(relationId);
+        final PgOutputRelationDecoder relationDecoder = resolveRelationDecoder(relationId, typeRegistry);
 
         // non-captured table
-        if (!resolvedTable.isPresent()) {
+        if (relationDecoder == null) {
             processor.process(new NoopMessage(transactionId, commitTimestamp, Operation.DELETE));
         }
         else {
-            Table table = resolvedTable.get();
-            List<Column> columns = resolveColumnsFromStreamTupleData(buffer, typeRegistry, table);
+            List<Column> columns = relationDecoder.decodeTupleData(buffer);
             processor.process(new PgOutputReplicationMessage(
                     Operation.DELETE,
-                    table.id().toDoubleQuotedString(),
+                    relationDecoder.tableName(),
                     commitTimestamp,
                     transactionId,
                     columns,
@@ -679,6 +995,27 @@ private Optional<Table> resolveRelation(int relationId) {
         return Optional.ofNullable(decoderContext.getSchema().tableFor(relationId));
     }
 
+    /**
+     * Resolves a given replication message relation identifier to the decoder of its tuple data. The decoder is
+     * created once for the table of each relation message and reused for all rows until the table changes.
+     *
+     * @param relationId The replication message stream's relation identifier
+     * @param typeRegistry The postgres type registry
+     * @return the decoder of the table's rows or null when the table is filtered
+     */
+    private PgOutputRelationDecoder resolveRelationDecoder(int relationId, TypeRegistry typeRegistry) {
+        final Table table = decoderContext.getSchema().tableFor(relationId);
+        if (table == null) {
+            return null;
+        }
+        PgOutputRelationDecoder relationDecoder = relationDecoders.get(relationId);
+        if (relationDecoder == null || !relationDecoder.isDecoderFor(table, typeRegistry)) {
+            relationDecoder = new PgOutputRelationDecoder(table, typeRegistry);
+            relationDecoders.put(relationId, relationDecoder);
+        }
+        return relationDecoder;
+    }
+
     /**
      * Constructs a {@link Table} based on the supplied {@link PgOutputRelationMetaData}.
      *
@@ -735,95 +1072,9 @@ private static String readString(ByteBuffer buffer) {
         return baos.toString(StandardCharsets.UTF_8);
     }
 
-    /**
-     * Reads the replication stream where the column stream specifies a length followed by the value.
-     *
-     * @param buffer The replication stream buffer
-     * @return the column value as a string read from the replication stream
-     */
-    private static String readColumnValueAsString(ByteBuffer buffer) {
-        int length = buffer.getInt();
-        byte[] value = new byte[length];
-        buffer.get(value, 0, length);
-        return new String(value, Charset.forName("UTF-8"));
-    }
-
-    /**
-     * Resolve the replication stream's tuple data to a list of replication message columns.
-     *
-     * @param buffer The replication stream buffer
-     * @param typeRegistry The database type registry
-     * @param table The database table
-     * @return list of replication message columns
-     */
-    private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table) {
-        // Read number of the columns
-        short numberOfColumns = buffer.getShort();
-
-        List<Column> columns = new ArrayList<>(numberOfColumns);
-        for (short i = 0; i < numberOfColumns; ++i) {
-
-            final io.debezium.relational.Column column = table.columns().get(i);
-            final String columnName = column.name();
-            final String typeName = column.typeName();
-            final PostgresType columnType = typeRegistry.get(table.id().schema(), typeName);
-            final String typeExpression = column.typeExpression();
-            final boolean optional = column.isOptional();
-
-            final Column replicationMessageColumn;
-
-            // Read the sub-message type
-            // 't' : Value is represented as text
-            // 'u' : An unchanged TOAST-ed value, actual value is not sent.
-            // 'n' : Value is null.
-            char type = (char) buffer.get();
-            if (type == 't') {
-                final String valueStr = readColumnValueAsString(buffer);
-                replicationMessageColumn = new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
-                    @Override
-                    public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
-                        return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, valueStr, connection, includeUnknownDatatypes,
-                                typeRegistry);
-                    }
-
-                    @Override
-                    public String toString() {
-                        return columnName + "(" + typeExpression + ")=" + valueStr;
-                    }
-                };
-            }
-            else if (type == 'u') {
-                replicationMessageColumn = new UnchangedToastedReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
-                    @Override
-                    public String toString() {
-                        return columnName + "(" + typeExpression + ") - Unchanged toasted column";
-                    }
-                };
-            }
-            else if (type == 'n') {
-                replicationMessageColumn = new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, true) {
-                    @Override
-                    public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
-                        return null;
-                    }
-                };
-            }
-            else {
-                replicationMessageColumn = null;
-                LOGGER.trace("Unsupported type '{}' for column: '{}'", type, column);
-            }
-
-            if (replicationMessageColumn != null) {
-                columns.add(replicationMessageColumn);
-                LOGGER.trace("Column: {}", replicationMessageColumn);
-            }
-        }
-
-        return columns;
-    }
-
     @Override
     public void close() {
+        streamedTransactions.close();
         if (connection != null) {
             connection.close();
         }
@@ -0,0 +1,211 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource.PgConnectionSupplier;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.UnchangedToastedReplicationMessageColumn;
+import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn;
+import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn.TypeMetadataImpl;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.Column;
+import io.debezium.relational.Table;
+import io.debezium.util.HexConverter;
+
+/**
+ * Decodes the tuple data of the insert, update and delete messages of one relation.
+ * <p>
+ * The name, type and type metadata of each column are resolved once, when the decoder is created for the table
+ * of the latest 'R' relation message, instead of for each column of each row.
+ */
+class PgOutputRelationDecoder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PgOutputRelationDecoder.class);
+
+    private final Table table;
+    private final String tableName;
+    private final TypeRegistry typeRegistry;
+    private final ColumnDecoder[] columns;
+
+    PgOutputRelationDecoder(Table table, TypeRegistry typeRegistry) {
+        this.table = table;
+        this.tableName = table.id().toDoubleQuotedString();
+        this.typeRegistry = typeRegistry;
+
+        final List<io.debezium.relational.Column> tableColumns = table.columns();
+        this.columns = new ColumnDecoder[tableColumns.size()];
+        for (int i = 0; i < columns.length; i++) {
+            final io.debezium.relational.Column column = tableColumns.get(i);
+            columns[i] = new ColumnDecoder(column.name(), typeRegistry.get(table.id().schema(), column.typeName()), column.typeExpression(),
+                    column.isOptional(), typeRegistry);
+        }
+    }
+
+    /**
+     * Returns whether the decoder was created for the given table and type registry.
+     */
+    boolean isDecoderFor(Table table, TypeRegistry typeRegistry) {
+        return this.table == table && this.typeRegistry == typeRegistry;
+    }
+
+    /**
+     * @return the double quoted name of the table
+     */
+    String tableName() {
+        return tableName;
+    }
+
+    /**
+     * Resolve the replication stream's tuple data to a list of replication message columns.
+     *
+     * @param buffer The replication stream buffer
+     * @return list of replication message columns
+     */
+    List<Column> decodeTupleData(ByteBuffer buffer) {
+        // Read number of the columns
+        final short numberOfColumns = buffer.getShort();
+
+        final List<Column> tupleColumns = new ArrayList<>(numberOfColumns);
+        for (short i = 0; i < numberOfColumns; ++i) {
+            final ColumnDecoder column = columns[i];
+
+            // Read the sub-message type
+            // 't' : Value is represented as text
+            // 'b' : Value is represented in the binary format of its type
+            // 'u' : An unchanged TOAST-ed value, actual value is not sent.
+            // 'n' : Value is null.
+            final char type = (char) buffer.get();
+            final Column replicationMessageColumn;
+            if (type == 't') {
+                final byte[] value = new byte[buffer.getInt()];
+                buffer.get(value);
+                replicationMessageColumn = column.textColumn(new String(value, StandardCharsets.UTF_8));
+            }
+            else if (type == 'b') {
+                final byte[] value = new byte[buffer.getInt()];
+                buffer.get(value);
+                replicationMessageColumn = column.binaryColumn(value);
+            }
+            else if (type == 'u') {
+                replicationMessageColumn = column.unchangedToastedColumn();
+            }
+            else if (type == 'n') {
+                replicationMessageColumn = column.nullColumn();
+            }
+            else {
+                replicationMessageColumn = null;
+                LOGGER.trace("Unsupported type '{}' for column: '{}'", type, table.columns().get(i));
+            }
+
+            if (replicationMessageColumn != null) {
+                tupleColumns.add(replicationMessageColumn);
+                LOGGER.trace("Column: {}", replicationMessageColumn);
+            }
+        }
+
+        return tupleColumns;
+    }
+
+    /**
+     * Creates the replication message columns of one column of the relation, sharing its type metadata.
+     */
+    private static final class ColumnDecoder {
+        private final String columnName;
+        private final PostgresType columnType;
+        private final String typeExpression;
+        private final boolean optional;
+        private final TypeRegistry typeRegistry;
+        private TypeMetadataImpl typeMetadata;
+
+        ColumnDecoder(String columnName, PostgresType columnType, String typeExpression, boolean optional, TypeRegistry typeRegistry) {
+            this.columnName = columnName;
+            this.columnType = columnType;
+            this.typeExpression = typeExpression;
+            this.optional = optional;
+            this.typeRegistry = typeRegistry;
+        }
+
+        private TypeMetadataImpl typeMetadata() {
+            // Parsed lazily like the metadata of any column, and then shared by the columns of all rows
+            if (typeMetadata == null) {
+                typeMetadata = new TypeMetadataImpl(columnName, columnType, typeExpression, optional);
+            }
+            return typeMetadata;
+        }
+
+        Column textColumn(String valueStr) {
+            return new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
+                @Override
+                public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                    return PgOutputReplicationMessage.getValue(columnName, columnType, typeExpression, valueStr, connection, includeUnknownDatatypes,
+                            typeRegistry);
+                }
+
+                @Override
+                public TypeMetadataImpl getTypeMetadata() {
+                    return typeMetadata();
+                }
+
+                @Override
+                public String toString() {
+                    return columnName + "(" + typeExpression + ")=" + valueStr;
+                }
+            };
+        }
+
+        Column binaryColumn(byte[] value) {
+            return new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
+                @Override
+                public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                    return PgOutputReplicationMessage.getBinaryValue(columnName, columnType, typeExpression, value, connection, includeUnknownDatatypes,
+                            typeRegistry);
+                }
+
+                @Override
+                public TypeMetadataImpl getTypeMetadata() {
+                    return typeMetadata();
+                }
+
+                @Override
+                public String toString() {
+                    return columnName + "(" + typeExpression + ")=" + HexConverter.convertToHexString(value);
+                }
+            };
+        }
+
+        Column unchangedToastedColumn() {
+            return new UnchangedToastedReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
+                @Override
+                public TypeMetadataImpl getTypeMetadata() {
+                    return typeMetadata();
+                }
+
+                @Override
+                public String toString() {
+                    return columnName + "(" + typeExpression + ") - Unchanged toasted column";
+                }
+            };
+        }
+
+        Column nullColumn() {
+            // Null values are always optional, so their metadata is not shared
+            return new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, true) {
+                @Override
+                public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                    return null;
+                }
+            };
+        }
+    }
+}
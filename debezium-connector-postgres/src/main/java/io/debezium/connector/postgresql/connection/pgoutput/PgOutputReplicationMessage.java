@@ -91,4 +91,17 @@ public static Object getValue(String columnName, PostgresType type, String fullT
         final PgOutputColumnValue columnValue = new PgOutputColumnValue(rawValue);
         return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, fullType, columnValue, connection, includeUnknownDataTypes, typeRegistry);
     }
+
+    /**
+     * Converts the value coming from PgOutput plugin in the binary format of the column's type to a Java value, the same
+     * way as {@link #getValue(String, PostgresType, String, String, PgConnectionSupplier, boolean, TypeRegistry)} converts
+     * the text representation.
+     *
+     * @return the value; may be null
+     */
+    public static Object getBinaryValue(String columnName, PostgresType type, String fullType, byte[] rawValue, final PgConnectionSupplier connection,
+                                        boolean includeUnknownDataTypes, TypeRegistry typeRegistry) {
+        final PgOutputBinaryColumnValue columnValue = new PgOutputBinaryColumnValue(rawValue, type);
+        return ReplicationMessageColumnValueResolver.resolveValue(columnName, type, fullType, columnValue, connection, includeUnknownDataTypes, typeRegistry);
+    }
 }
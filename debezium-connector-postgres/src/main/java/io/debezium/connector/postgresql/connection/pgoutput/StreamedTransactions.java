@@ -0,0 +1,259 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.connection.Lsn;
+
+/**
+ * Buffers the messages of transactions that pgoutput streams while they are still in progress, until the
+ * transactions are committed or aborted.
+ * <p>
+ * The messages are kept in memory until the buffered messages of all transactions exceed the configured
+ * size. The messages of the transaction with the most buffered bytes are then appended to a file in the
+ * spill directory, which is read back when the transaction commits and deleted when it ends.
+ */
+class StreamedTransactions implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamedTransactions.class);
+
+    private final long maxBufferedBytes;
+    private final Path spillDirectory;
+    private final Map<Long, StreamedTransaction> transactions = new HashMap<>();
+    private long bufferedBytes;
+
+    StreamedTransactions(long maxBufferedBytes, Path spillDirectory) {
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Buffers a message of a streamed transaction.
+     *
+     * @param xid the transaction id of the streamed top-level transaction
+     * @param subXid the transaction id that the message was sent with, which is the id of a subtransaction
+     *               for the changes made in one
+     * @param lsn the LSN the message was received with, may be {@code null}
+     * @param type the message type
+     * @param payload the content of the message that follows the type and transaction id, read from its
+     *                current position up to its limit
+     */
+    void add(long xid, long subXid, Lsn lsn, byte type, ByteBuffer payload) {
+        final StreamedTransaction transaction = transactions.computeIfAbsent(xid, StreamedTransaction::new);
+        // The message is kept as it would be sent outside of a streamed transaction, i.e. without the transaction id
+        final byte[] content = new byte[1 + payload.remaining()];
+        content[0] = type;
+        payload.get(content, 1, content.length - 1);
+        transaction.messages.add(new BufferedMessage(lsn, subXid, content));
+        transaction.bufferedBytes += content.length;
+        bufferedBytes += content.length;
+
+        if (bufferedBytes > maxBufferedBytes) {
+            spillLargestTransaction();
+        }
+    }
+
+    /**
+     * Discards the messages of an aborted transaction, or of an aborted subtransaction of it.
+     *
+     * @param xid the transaction id of the streamed top-level transaction
+     * @param subXid the transaction id of the aborted subtransaction, or {@code xid} when the top-level
+     *               transaction is aborted
+     */
+    void abort(long xid, long subXid) {
+        if (xid == subXid) {
+            final StreamedTransaction transaction = transactions.remove(xid);
+            if (transaction != null) {
+                discard(transaction);
+            }
+            return;
+        }
+        final StreamedTransaction transaction = transactions.get(xid);
+        if (transaction != null) {
+            transaction.messages.removeIf(message -> {
+                if (message.subXid == subXid) {
+                    transaction.bufferedBytes -= message.content.length;
+                    bufferedBytes -= message.content.length;
+                    return true;
+                }
+                return false;
+            });
+            if (transaction.spillFile != null) {
+                // The spilled messages are filtered when they are read back
+                transaction.abortedSubXids.add(subXid);
+            }
+        }
+    }
+
+    /**
+     * Removes a committed transaction and passes its messages to the consumer, in the order in which they
+     * were received.
+     *
+     * @param xid the transaction id of the streamed top-level transaction
+     * @param consumer the consumer of the messages
+     */
+    void commit(long xid, MessageConsumer consumer) throws SQLException, InterruptedException {
+        final StreamedTransaction transaction = transactions.remove(xid);
+        if (transaction == null) {
+            return;
+        }
+        try {
+            if (transaction.spillFile != null) {
+                try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(transaction.spillFile)))) {
+                    BufferedMessage message;
+                    while ((message = readMessage(input)) != null) {
+                        if (!transaction.abortedSubXids.contains(message.subXid)) {
+                            consumer.accept(message.lsn, ByteBuffer.wrap(message.content));
+                        }
+                    }
+                }
+                catch (IOException e) {
+                    throw new DebeziumException("Failed to read the spilled streamed transaction " + xid + " from " + transaction.spillFile, e);
+                }
+            }
+            for (BufferedMessage message : transaction.messages) {
+                consumer.accept(message.lsn, ByteBuffer.wrap(message.content));
+            }
+        }
+        finally {
+            discard(transaction);
+        }
+    }
+
+    /**
+     * Discards the messages of all transactions, e.g. when the replication stream is restarted and the
+     * database sends the transactions again.
+     */
+    void clear() {
+        for (StreamedTransaction transaction : transactions.values()) {
+            discard(transaction);
+        }
+        transactions.clear();
+    }
+
+    int size() {
+        return transactions.size();
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    private void spillLargestTransaction() {
+        StreamedTransaction largest = null;
+        for (StreamedTransaction transaction : transactions.values()) {
+            if (largest == null || transaction.bufferedBytes > largest.bufferedBytes) {
+                largest = transaction;
+            }
+        }
+        if (largest == null || largest.messages.isEmpty()) {
+            return;
+        }
+        try {
+            if (largest.spillFile == null) {
+                Files.createDirectories(spillDirectory);
+                largest.spillFile = Files.createTempFile(spillDirectory, "pgoutput-" + largest.xid + "-", ".spill");
+                largest.spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(largest.spillFile)));
+                LOGGER.debug("Spilling the streamed transaction {} to '{}'", largest.xid, largest.spillFile);
+            }
+            for (BufferedMessage message : largest.messages) {
+                writeMessage(largest.spillOutput, message);
+            }
+            largest.spillOutput.flush();
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to spill the streamed transaction " + largest.xid + " to " + spillDirectory, e);
+        }
+        bufferedBytes -= largest.bufferedBytes;
+        largest.bufferedBytes = 0;
+        largest.messages.clear();
+    }
+
+    private void discard(StreamedTransaction transaction) {
+        bufferedBytes -= transaction.bufferedBytes;
+        transaction.bufferedBytes = 0;
+        transaction.messages.clear();
+        if (transaction.spillFile != null) {
+            try {
+                if (transaction.spillOutput != null) {
+                    transaction.spillOutput.close();
+                }
+                Files.deleteIfExists(transaction.spillFile);
+            }
+            catch (IOException e) {
+                LOGGER.warn("Failed to delete the spill file '{}' of the streamed transaction {}", transaction.spillFile, transaction.xid, e);
+            }
+            transaction.spillFile = null;
+            transaction.spillOutput = null;
+        }
+    }
+
+    private static void writeMessage(DataOutputStream output, BufferedMessage message) throws IOException {
+        output.writeLong(message.lsn != null ? message.lsn.asLong() : -1L);
+        output.writeLong(message.subXid);
+        output.writeInt(message.content.length);
+        output.write(message.content);
+    }
+
+    private static BufferedMessage readMessage(DataInputStream input) throws IOException {
+        final long lsn;
+        try {
+            lsn = input.readLong();
+        }
+        catch (EOFException e) {
+            return null;
+        }
+        final long subXid = input.readLong();
+        final byte[] content = new byte[input.readInt()];
+        input.readFully(content);
+        return new BufferedMessage(lsn != -1L ? Lsn.valueOf(lsn) : null, subXid, content);
+    }
+
+    /**
+     * Consumes the messages of a committed transaction.
+     */
+    @FunctionalInterface
+    interface MessageConsumer {
+        void accept(Lsn lsn, ByteBuffer message) throws SQLException, InterruptedException;
+    }
+
+    private static class StreamedTransaction {
+        private final long xid;
+        private final List<BufferedMessage> messages = new ArrayList<>();
+        private final Set<Long> abortedSubXids = new HashSet<>();
+        private long bufferedBytes;
+        private Path spillFile;
+        private DataOutputStream spillOutput;
+
+        StreamedTransaction(long xid) {
+            this.xid = xid;
+        }
+    }
+
+    private record BufferedMessage(Lsn lsn, long subXid, byte[] content) {
+    }
+}
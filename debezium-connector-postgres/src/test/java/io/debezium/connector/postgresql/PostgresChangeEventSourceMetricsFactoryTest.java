@@ -0,0 +1,104 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static io.debezium.config.ConfigurationNames.TASK_ID_PROPERTY_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.base.ChangeEventQueueMetrics;
+import io.debezium.metrics.Metrics;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+
+/**
+ * Unit tests for {@link PostgresChangeEventSourceMetricsFactory}.
+ */
+public class PostgresChangeEventSourceMetricsFactoryTest {
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    private final List<Metrics> registered = new ArrayList<>();
+
+    @AfterEach
+    public void unregisterMetrics() {
+        registered.forEach(Metrics::unregister);
+    }
+
+    @Test
+    public void shouldRegisterMetricsOfEachSlotGroupTaskUnderTaskName() throws Exception {
+        final Map<String, String> props = Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "grouped")
+                .with(PostgresConnectorConfig.SLOT_GROUPS, 2)
+                .build()
+                .asMap();
+        final PostgresConnector connector = new PostgresConnector();
+        connector.start(props);
+
+        // the tasks of both slot groups run on the same worker
+        for (Map<String, String> taskProps : connector.taskConfigs(2)) {
+            registerMetrics(Configuration.from(taskProps));
+        }
+
+        for (String task : List.of("0", "1")) {
+            for (String context : List.of("snapshot", "streaming")) {
+                assertThat(mBeanServer.isRegistered(new ObjectName(
+                        "debezium.postgres:type=connector-metrics,server=grouped,task=" + task + ",context=" + context))).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void shouldRegisterMetricsOfSingleTaskUnderServerName() throws Exception {
+        final PostgresTaskContext taskContext = registerMetrics(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "single")
+                .build());
+
+        assertThat(taskContext.getTaskId()).isEqualTo("0");
+        assertThat(mBeanServer.isRegistered(new ObjectName("debezium.postgres:type=connector-metrics,context=snapshot,server=single"))).isTrue();
+        assertThat(mBeanServer.isRegistered(new ObjectName("debezium.postgres:type=connector-metrics,context=streaming,server=single"))).isTrue();
+    }
+
+    @Test
+    public void shouldIdentifyTaskOfSlotGroup() {
+        final PostgresConnectorConfig connectorConfig = new PostgresConnectorConfig(Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "grouped")
+                .with(PostgresConnectorConfig.SLOT_GROUPS, 3)
+                .with(PostgresConnectorConfig.SLOT_GROUP_INDEX, 2)
+                .with(TASK_ID_PROPERTY_NAME, "2")
+                .build());
+
+        assertThat(new PostgresTaskContext(connectorConfig.getConfig(), connectorConfig).getTaskId()).isEqualTo("2");
+    }
+
+    private PostgresTaskContext registerMetrics(Configuration config) {
+        final PostgresConnectorConfig connectorConfig = new PostgresConnectorConfig(config);
+        final PostgresTaskContext taskContext = new PostgresTaskContext(config, connectorConfig);
+        final PostgresChangeEventSourceMetricsFactory factory = new PostgresChangeEventSourceMetricsFactory(connectorConfig);
+        final ChangeEventQueueMetrics queueMetrics = mock(ChangeEventQueueMetrics.class);
+        final EventMetadataProvider metadataProvider = mock(EventMetadataProvider.class);
+
+        final List<Metrics> metrics = List.of(
+                (Metrics) factory.getSnapshotMetrics(taskContext, queueMetrics, metadataProvider),
+                (Metrics) factory.getStreamingMetrics(taskContext, queueMetrics, metadataProvider, List::of));
+        for (Metrics metric : metrics) {
+            metric.register();
+            registered.add(metric);
+        }
+        return taskContext;
+    }
+}
@@ -11,6 +11,7 @@
 import java.sql.SQLException;
 import java.util.List;
 
+import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -96,6 +97,37 @@ public void shouldSnapshotChunkedTableWhoseNameRequiresQuoting() throws Exceptio
         assertCreatedChunkSnapshotWorker(2);
     }
 
+    @Test
+    public void shouldSnapshotKeylessTableInCtidRangeChunks() throws Exception {
+        final int ROW_COUNT = 15_000;
+
+        final String tableName = getSingleKeyTableName();
+        createKeylessTable(getFullyQualifiedTableName(tableName));
+        populateSingleKeylessTable(getFullyQualifiedTableName(tableName), ROW_COUNT);
+
+        final Configuration config = getConfig()
+                .with(CommonConnectorConfig.SNAPSHOT_MAX_THREADS, 2)
+                .with(CommonConnectorConfig.SNAPSHOT_MAX_THREADS_MULTIPLIER, 2)
+                .with(PostgresConnectorConfig.SNAPSHOT_CHUNK_MODE, PostgresConnectorConfig.SnapshotChunkMode.CTID.getValue())
+                .with(RelationalDatabaseConnectorConfig.TABLE_INCLUDE_LIST, getSingleKeyCollectionName())
+                .with(CommonConnectorConfig.MAX_BATCH_SIZE, ROW_COUNT)
+                .with(CommonConnectorConfig.MAX_QUEUE_SIZE, ROW_COUNT + 1)
+                .build();
+
+        start(getConnectorClass(), config);
+        assertConnectorIsRunning();
+
+        waitForSnapshotToBeCompleted();
+
+        final List<SourceRecord> records = consumeRecordsByTopic(ROW_COUNT).recordsForTopic(getTableTopicName(tableName));
+        assertThat(records).hasSize(ROW_COUNT);
+        assertThat(getRecordKeysForSingleKeyTable(records, getSingleKeyTableKeyColumnName())).hasSize(ROW_COUNT);
+
+        assertCreatedChunkSnapshotWorker(2);
+        assertThat(logInterceptor.containsMessage(
+                "Table '%s' will be processed in 4 chunks of its physical storage.".formatted(getFullyQualifiedTableName(tableName)))).isTrue();
+    }
+
     @Override
     protected void populateSingleKeyTable(String tableName, int rowCount) throws SQLException {
         super.populateSingleKeyTable(tableName, rowCount);
@@ -6,11 +6,17 @@
 package io.debezium.connector.postgresql;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import io.debezium.config.ConfigDefinitionMetadataTest;
 import io.debezium.config.Configuration;
+import io.debezium.config.ConfigurationNames;
+import io.debezium.relational.TableId;
 
 public class PostgresConnectorConfigDefTest extends ConfigDefinitionMetadataTest {
 
@@ -53,4 +59,59 @@ void shouldSetReplicaAutoSetRegExValue() {
 
         assertThat((problemCount == 0)).isTrue();
     }
+
+    @Test
+    void shouldValidateSlotGroups() {
+        final Configuration.Builder configBuilder = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.PLUGIN_NAME, PostgresConnectorConfig.LogicalDecoder.PGOUTPUT.getValue())
+                .with(PostgresConnectorConfig.SLOT_GROUPS, 3);
+
+        assertThat(PostgresConnectorConfig.validateSlotGroups(configBuilder.build(), PostgresConnectorConfig.SLOT_GROUPS, (field, value, problemMessage) -> {
+        })).isEqualTo(1);
+
+        configBuilder.with(PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE, PostgresConnectorConfig.AutoCreateMode.FILTERED.getValue());
+        assertThat(PostgresConnectorConfig.validateSlotGroups(configBuilder.build(), PostgresConnectorConfig.SLOT_GROUPS, (field, value, problemMessage) -> {
+        })).isZero();
+
+        configBuilder.with(PostgresConnectorConfig.SLOT_GROUPS, 0);
+        assertThat(PostgresConnectorConfig.validateSlotGroups(configBuilder.build(), PostgresConnectorConfig.SLOT_GROUPS, (field, value, problemMessage) -> {
+        })).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSplitCapturedTablesIntoSlotGroups() {
+        final Configuration config = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SLOT_NAME, "slot")
+                .with(PostgresConnectorConfig.PUBLICATION_NAME, "publication")
+                .with(PostgresConnectorConfig.SLOT_GROUPS, 2)
+                .with(PostgresConnectorConfig.SIGNAL_DATA_COLLECTION, "s1.signals")
+                .build();
+        final PostgresConnectorConfig group0 = new PostgresConnectorConfig(config.edit().with(PostgresConnectorConfig.SLOT_GROUP_INDEX, 0).build());
+        final PostgresConnectorConfig group1 = new PostgresConnectorConfig(config.edit().with(PostgresConnectorConfig.SLOT_GROUP_INDEX, 1).build());
+
+        assertThat(group0.slotName()).isEqualTo("slot_0");
+        assertThat(group1.publicationName()).isEqualTo("publication_1");
+
+        for (int i = 0; i < 20; i++) {
+            final TableId tableId = new TableId(null, "s1", "table" + i);
+            assertThat(group0.getTableFilters().dataCollectionFilter().isIncluded(tableId))
+                    .isNotEqualTo(group1.getTableFilters().dataCollectionFilter().isIncluded(tableId));
+        }
+        final TableId signals = new TableId(null, "s1", "signals");
+        assertThat(group0.getTableFilters().dataCollectionFilter().isIncluded(signals)).isTrue();
+        assertThat(group1.getTableFilters().dataCollectionFilter().isIncluded(signals)).isTrue();
+    }
+
+    @Test
+    void shouldCreateTaskForEachSlotGroup() {
+        final PostgresConnector connector = new PostgresConnector();
+        connector.start(TestHelper.defaultConfig().with(PostgresConnectorConfig.SLOT_GROUPS, 2).build().asMap());
+
+        final List<Map<String, String>> taskConfigs = connector.taskConfigs(3);
+        assertThat(taskConfigs).hasSize(2);
+        assertThat(taskConfigs.get(1))
+                .containsEntry(PostgresConnectorConfig.SLOT_GROUP_INDEX.name(), "1")
+                .containsEntry(ConfigurationNames.TASK_ID_PROPERTY_NAME, "1");
+        assertThatThrownBy(() -> connector.taskConfigs(1)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
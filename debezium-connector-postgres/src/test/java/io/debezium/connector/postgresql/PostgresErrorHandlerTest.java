@@ -7,6 +7,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.apache.kafka.connect.errors.RetriableException;
 import org.junit.jupiter.api.Test;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
@@ -67,6 +68,12 @@ void classifiedPSQLExceptionWrappedInDebeziumExceptionIsRetryable() {
         assertThat(errorHandler.isRetriable(testException)).isTrue();
     }
 
+    @Test
+    void retriableExceptionIsRetryable() {
+        RetriableException testException = new RetriableException("restart to receive column values as text");
+        assertThat(errorHandler.isRetriable(testException)).isTrue();
+    }
+
     @Test
     void randomUnhandledExceptionIsNotRetryable() {
         RuntimeException testException = new RuntimeException();
@@ -5,6 +5,10 @@
  */
 package io.debezium.connector.postgresql;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
 import io.debezium.connector.common.AbstractPartitionTest;
 
 public class PostgresPartitionTest extends AbstractPartitionTest<PostgresPartition> {
@@ -18,4 +22,13 @@ protected PostgresPartition createPartition1() {
     protected PostgresPartition createPartition2() {
         return new PostgresPartition("server2", "database1");
     }
+
+    @Test
+    public void shouldIncludeSlotOfSlotGroup() {
+        assertThat(createPartition1().getSourcePartition()).doesNotContainKey("slot");
+        assertThat(new PostgresPartition("server1", "database1", "slot_1").getSourcePartition())
+                .containsEntry("server", "server1")
+                .containsEntry("slot", "slot_1");
+        assertThat(new PostgresPartition("server1", "database1", "slot_1")).isNotEqualTo(new PostgresPartition("server1", "database1", "slot_2"));
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.postgresql.snapshot.query.SelectAllSnapshotQuery;
+import io.debezium.snapshot.spi.SnapshotQuery;
+
+/**
+ * Unit tests for the splitting of tables into ctid ranges by {@link PostgresSnapshotChangeEventSource}.
+ */
+public class PostgresSnapshotChangeEventSourceTest {
+
+    private static final String SELECT = "SELECT * FROM \"s1\".\"a\"";
+
+    @Test
+    public void shouldSplitPagesIntoOpenEndedRanges() {
+        assertThat(PostgresSnapshotChangeEventSource.ctidRangeSelects(SELECT, 10, 3)).containsExactly(
+                SELECT + " WHERE ctid < '(4,0)'::tid",
+                SELECT + " WHERE ctid >= '(4,0)'::tid AND ctid < '(8,0)'::tid",
+                SELECT + " WHERE ctid >= '(8,0)'::tid");
+    }
+
+    @Test
+    public void shouldNotCreateMoreRangesThanPages() {
+        assertThat(PostgresSnapshotChangeEventSource.ctidRangeSelects(SELECT, 2, 8)).containsExactly(
+                SELECT + " WHERE ctid < '(1,0)'::tid",
+                SELECT + " WHERE ctid >= '(1,0)'::tid");
+    }
+
+    @Test
+    public void shouldNotSplitTableWithSinglePage() {
+        assertThat(PostgresSnapshotChangeEventSource.ctidRangeSelects(SELECT, 1, 4)).isEmpty();
+        assertThat(PostgresSnapshotChangeEventSource.ctidRangeSelects(SELECT, 0, 4)).isEmpty();
+    }
+
+    @Test
+    public void shouldOnlySplitDefaultSnapshotQueryByCtid() {
+        assertThat(PostgresSnapshotChangeEventSource.isSelectAllSnapshotQuery(new SelectAllSnapshotQuery())).isTrue();
+
+        // A custom query may have clauses that the range condition cannot be appended to
+        assertThat(PostgresSnapshotChangeEventSource.isSelectAllSnapshotQuery(new FilteringSnapshotQuery())).isFalse();
+        assertThat(PostgresSnapshotChangeEventSource.isSelectAllSnapshotQuery(new SelectAllSnapshotQuery() {
+            @Override
+            public Optional<String> snapshotQuery(String tableId, List<String> snapshotSelectColumns) {
+                return super.snapshotQuery(tableId, snapshotSelectColumns).map(select -> select + "\nORDER BY 1");
+            }
+        })).isFalse();
+        assertThat(PostgresSnapshotChangeEventSource.isSelectAllSnapshotQuery(null)).isFalse();
+    }
+
+    private static class FilteringSnapshotQuery implements SnapshotQuery {
+
+        @Override
+        public String name() {
+            return "filtering";
+        }
+
+        @Override
+        public void configure(Map<String, ?> properties) {
+        }
+
+        @Override
+        public Optional<String> snapshotQuery(String tableId, List<String> snapshotSelectColumns) {
+            return Optional.of("SELECT * FROM " + tableId + "\tWHERE id > 10");
+        }
+    }
+}
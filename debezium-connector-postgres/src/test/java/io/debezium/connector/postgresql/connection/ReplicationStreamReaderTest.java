@@ -0,0 +1,54 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+
+/**
+ * Unit tests for the {@link ReplicationStreamReader}.
+ */
+public class ReplicationStreamReaderTest {
+
+    @Test
+    public void shouldKeepReceivedLsnOfEachMessage() throws Exception {
+        final PGReplicationStream stream = mock(PGReplicationStream.class);
+        final ByteBuffer first = ByteBuffer.wrap(new byte[]{ 1 });
+        final ByteBuffer second = ByteBuffer.wrap(new byte[]{ 2 });
+        when(stream.readPending()).thenReturn(first, second, null);
+        when(stream.getLastReceiveLSN()).thenReturn(LogSequenceNumber.valueOf(100L), LogSequenceNumber.valueOf(200L));
+
+        try (ReplicationStreamReader reader = new ReplicationStreamReader(stream, 1, "test")) {
+            final ReplicationStreamReader.RawMessage message1 = reader.take();
+            final ReplicationStreamReader.RawMessage message2 = reader.take();
+
+            assertThat(message1.buffer()).isSameAs(first);
+            assertThat(message1.lastReceiveLsn()).isEqualTo(Lsn.valueOf(100L));
+            assertThat(message2.buffer()).isSameAs(second);
+            assertThat(message2.lastReceiveLsn()).isEqualTo(Lsn.valueOf(200L));
+            assertThat(reader.poll()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldRethrowReadFailure() throws Exception {
+        final PGReplicationStream stream = mock(PGReplicationStream.class);
+        when(stream.readPending()).thenThrow(new SQLException("Connection lost"));
+
+        try (ReplicationStreamReader reader = new ReplicationStreamReader(stream, 16, "test")) {
+            assertThatThrownBy(reader::take).isInstanceOf(SQLException.class).hasMessage("Connection lost");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.PGInterval;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.data.SpecialValueDecimal;
+
+/**
+ * Unit tests for {@link PgOutputBinaryColumnValue}, decoding values sent in the binary format of their types.
+ */
+public class PgOutputBinaryColumnValueTest {
+
+    private static PostgresType type(String name, int oid, int jdbcType) {
+        return new PostgresType.Builder(null, name, oid, jdbcType, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+    }
+
+    private static PgOutputBinaryColumnValue value(String typeName, ByteBuffer buffer) {
+        return new PgOutputBinaryColumnValue(Arrays.copyOf(buffer.array(), buffer.position()), type(typeName, 0, Types.OTHER));
+    }
+
+    @Test
+    public void shouldDecodeIntegers() {
+        assertThat(value("int2", ByteBuffer.allocate(2).putShort((short) -12)).asInteger()).isEqualTo(-12);
+        assertThat(value("int4", ByteBuffer.allocate(4).putInt(123456)).asInteger()).isEqualTo(123456);
+        assertThat(value("int8", ByteBuffer.allocate(8).putLong(Long.MIN_VALUE)).asLong()).isEqualTo(Long.MIN_VALUE);
+        assertThat(value("oid", ByteBuffer.allocate(4).putInt(-1)).asLong()).isEqualTo(4294967295L);
+        assertThat(value("float8", ByteBuffer.allocate(8).putDouble(1.5d)).asDouble()).isEqualTo(1.5d);
+        assertThat(value("bool", ByteBuffer.allocate(1).put((byte) 1)).asBoolean()).isTrue();
+    }
+
+    @Test
+    public void shouldDecodeNumerics() {
+        final byte[] numeric = ByteConverter.numeric(new BigDecimal("-12345.6789"));
+        assertThat(new PgOutputBinaryColumnValue(numeric, type("numeric", 1700, Types.NUMERIC)).asDecimal())
+                .isEqualTo(new SpecialValueDecimal(new BigDecimal("-12345.6789")));
+
+        final ByteBuffer nan = ByteBuffer.allocate(8).putShort((short) 0).putShort((short) 0).putShort((short) 0xC000).putShort((short) 0);
+        assertThat(value("numeric", nan).asDecimal()).isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+        final ByteBuffer infinity = ByteBuffer.allocate(8).putShort((short) 0).putShort((short) 0).putShort((short) 0xD000).putShort((short) 0);
+        assertThat(value("numeric", infinity).asDecimal()).isEqualTo(SpecialValueDecimal.POSITIVE_INF);
+    }
+
+    @Test
+    public void shouldDecodeDatesAndTimestamps() {
+        // Days and microseconds since 2000-01-01
+        assertThat(value("date", ByteBuffer.allocate(4).putInt(31)).asLocalDate()).isEqualTo(LocalDate.of(2000, 2, 1));
+        assertThat(value("date", ByteBuffer.allocate(4).putInt(Integer.MAX_VALUE)).asLocalDate())
+                .isEqualTo(PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE);
+        assertThat(value("timestamp", ByteBuffer.allocate(8).putLong(86_400_000_001L)).asInstant())
+                .isEqualTo(Instant.parse("2000-01-02T00:00:00.000001Z"));
+        assertThat(value("timestamptz", ByteBuffer.allocate(8).putLong(-1_000_000L)).asOffsetDateTimeAtUtc().toInstant())
+                .isEqualTo(Instant.parse("1999-12-31T23:59:59Z"));
+        assertThat(value("timestamptz", ByteBuffer.allocate(8).putLong(Long.MIN_VALUE)).asOffsetDateTimeAtUtc())
+                .isEqualTo(PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME);
+        assertThat(value("time", ByteBuffer.allocate(8).putLong(3_723_000_005L)).asTime()).isEqualTo(Duration.ofMillis(3_723_000).plusNanos(5_000));
+    }
+
+    @Test
+    public void shouldDecodeTimeWithTimeZoneAsText() {
+        // Time of day in microseconds followed by the zone in seconds west of UTC
+        assertThat(value("timetz", ByteBuffer.allocate(12).putLong(45_296_500_000L).putInt(-19_800)).asString()).isEqualTo("12:34:56.5+05:30");
+        assertThat(value("timetz", ByteBuffer.allocate(12).putLong(86_400_000_000L).putInt(0)).asString()).isEqualTo("24:00:00+00");
+        assertThat(value("timetz", ByteBuffer.allocate(12).putLong(0L).putInt(3_600)).asString()).isEqualTo("00:00:00-01");
+    }
+
+    @Test
+    public void shouldDecodeTextRepresentations() {
+        final UUID uuid = UUID.randomUUID();
+        assertThat(value("uuid", ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits())).asString())
+                .isEqualTo(uuid.toString());
+        assertThat(value("jsonb", ByteBuffer.allocate(8).put((byte) 1).put("{\"a\":1}".getBytes(StandardCharsets.UTF_8))).asString())
+                .isEqualTo("{\"a\":1}");
+        assertThat(value("varchar", ByteBuffer.allocate(4).put("äb".getBytes(StandardCharsets.UTF_8))).asString()).isEqualTo("äb");
+    }
+
+    @Test
+    public void shouldDecodeInterval() {
+        final ByteBuffer interval = ByteBuffer.allocate(16).putLong(3_723_500_000L).putInt(4).putInt(14);
+        assertThat(value("interval", interval).asInterval()).isEqualTo(new PGInterval(1, 2, 4, 1, 2, 3.5));
+    }
+
+    @Test
+    public void shouldDecodeArrays() {
+        final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+        final PostgresType int4 = type("int4", 23, Types.INTEGER);
+        when(typeRegistry.get(23)).thenReturn(int4);
+        final PostgresType int4Array = new PostgresType.Builder(typeRegistry, "_int4", 1007, Types.ARRAY, TypeRegistry.NO_TYPE_MODIFIER, null)
+                .elementType(23)
+                .build();
+
+        final ByteBuffer array = ByteBuffer.allocate(40)
+                .putInt(1).putInt(1).putInt(23)
+                .putInt(3).putInt(1)
+                .putInt(4).putInt(7)
+                .putInt(-1)
+                .putInt(4).putInt(-9);
+        final PgOutputBinaryColumnValue value = new PgOutputBinaryColumnValue(Arrays.copyOf(array.array(), array.position()), int4Array);
+
+        assertThat(value.isArray(int4Array)).isTrue();
+        assertThat(value.asArray("c", int4Array, "_int4", null)).isEqualTo(Arrays.asList(7, null, -9));
+    }
+
+    @Test
+    public void shouldOnlySupportTypesWithDecoder() {
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("numeric", 1700, Types.NUMERIC))).isTrue();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("citext", 0, Types.OTHER))).isTrue();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("hstore", 0, Types.OTHER))).isFalse();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("inet", 869, Types.OTHER))).isFalse();
+    }
+}
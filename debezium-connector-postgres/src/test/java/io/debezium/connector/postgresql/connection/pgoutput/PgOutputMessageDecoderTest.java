@@ -0,0 +1,339 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.kafka.connect.errors.RetriableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.PgOutputStreamingMode;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.LogicalDecodingMessage;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.MessageDecoderContext;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
+import io.debezium.connector.postgresql.connection.WalPositionLocator;
+
+/**
+ * Unit tests for {@link PgOutputMessageDecoder}, decoding the messages of the replication stream as sent by the database.
+ */
+public class PgOutputMessageDecoderTest {
+
+    private static final int INT4_OID = 23;
+    private static final int INET_OID = 869;
+
+    private final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+    private final PostgresSchema schema = mock(PostgresSchema.class);
+    private final PostgresConnection connection = mock(PostgresConnection.class);
+    private final ReplicationMessageProcessor processor = mock(ReplicationMessageProcessor.class);
+    private final WalPositionLocator walPosition = mock(WalPositionLocator.class);
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+
+    private PgOutputMessageDecoder decoder;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(typeRegistry.get(INT4_OID)).thenReturn(new PostgresType.Builder(typeRegistry, "int4", INT4_OID, Types.INTEGER, TypeRegistry.NO_TYPE_MODIFIER, null).build());
+        when(typeRegistry.get(INET_OID)).thenReturn(new PostgresType.Builder(typeRegistry, "inet", INET_OID, Types.OTHER, TypeRegistry.NO_TYPE_MODIFIER, null).build());
+        when(connection.getTypeRegistry()).thenReturn(typeRegistry);
+
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.getMetaData()).thenReturn(mock(DatabaseMetaData.class));
+        when(connection.connection()).thenReturn(jdbcConnection);
+        when(connection.getTableColumnsForDecoder(any(), any())).thenReturn(List.of());
+        when(connection.readPrimaryKeyNames(any(), any())).thenAnswer(invocation -> new ArrayList<>(List.of("id")));
+
+        // no table is captured when the replication stream starts
+        when(schema.tableIds()).thenReturn(Set.of());
+
+        doAnswer(invocation -> {
+            processed.add(describe(invocation.getArgument(0)));
+            return null;
+        }).when(processor).process(any());
+    }
+
+    @Test
+    public void shouldRestartWhenRelationHasColumnNotDecodableFromBinaryFormat() throws Exception {
+        final PgOutputMessageDecoder decoder = startStreaming(binaryConfig().build(), true);
+
+        // a column of a type without binary decoding was added since the replication stream was started
+        assertThatThrownBy(() -> decoder.processMessage(relation(16385, "s1", "a", INT4_OID, INET_OID), processor, typeRegistry))
+                .isInstanceOf(RetriableException.class)
+                .hasMessageContaining("Column 'c1' of table 's1.a' has type 'inet'");
+        verify(schema, never()).applySchemaChangesForTable(anyInt(), any());
+    }
+
+    @Test
+    public void shouldApplyRelationWithColumnsDecodableFromBinaryFormat() throws Exception {
+        final PgOutputMessageDecoder decoder = startStreaming(binaryConfig().build(), true);
+
+        decoder.processMessage(relation(16385, "s1", "a", INT4_OID, INT4_OID), processor, typeRegistry);
+
+        verify(schema).applySchemaChangesForTable(eq(16385), any());
+    }
+
+    @Test
+    public void shouldApplyRelationOfNotCapturedTableWithColumnNotDecodableFromBinaryFormat() throws Exception {
+        final PgOutputMessageDecoder decoder = startStreaming(binaryConfig().with(PostgresConnectorConfig.TABLE_INCLUDE_LIST, "s1.a").build(), true);
+
+        decoder.processMessage(relation(16386, "s1", "b", INT4_OID, INET_OID), processor, typeRegistry);
+
+        verify(schema).applySchemaChangesForTable(eq(16386), any());
+    }
+
+    @Test
+    public void shouldApplyRelationWithColumnNotDecodableFromBinaryFormatWhenReceivingText() throws Exception {
+        // binary format requires PostgreSQL 14, so the values are received as text
+        final PgOutputMessageDecoder decoder = startStreaming(binaryConfig().build(), false);
+
+        decoder.processMessage(relation(16385, "s1", "a", INT4_OID, INET_OID), processor, typeRegistry);
+
+        verify(schema).applySchemaChangesForTable(eq(16385), any());
+    }
+
+    @Test
+    public void shouldProcessTransactionsWithoutTransactionIdWithProtocolVersion1() throws Exception {
+        startStreaming(PgOutputStreamingMode.OFF);
+
+        receive(110, begin(100));
+        receive(110, logicalMessage(null, "a"));
+        receive(120, commit());
+
+        assertThat(processed).containsExactly("BEGIN 100 @-", "MESSAGE a 100 @-", "COMMIT 100 @-");
+    }
+
+    @Test
+    public void shouldReplayStreamedTransactionOnStreamCommitWithProtocolVersion2() throws Exception {
+        startStreaming(PgOutputStreamingMode.ON);
+
+        receive(100, streamStart(100, true));
+        receive(110, logicalMessage(100L, "a"));
+        receive(120, logicalMessage(100L, "b"));
+        receive(120, streamStop());
+
+        // a transaction that is not streamed is sent without transaction ids, also in between the streamed segments
+        receive(130, begin(101));
+        receive(130, logicalMessage(null, "x"));
+        receive(140, commit());
+
+        receive(150, streamStart(100, false));
+        receive(160, logicalMessage(100L, "c"));
+        receive(160, streamStop());
+        assertThat(processed).containsExactly("BEGIN 101 @-", "MESSAGE x 101 @-", "COMMIT 101 @-");
+
+        receive(170, streamCommit(100));
+
+        // the changes are replayed with the LSNs they were received with
+        assertThat(processed).containsExactly("BEGIN 101 @-", "MESSAGE x 101 @-", "COMMIT 101 @-",
+                "BEGIN 100 @110", "MESSAGE a 100 @110", "MESSAGE b 100 @120", "MESSAGE c 100 @160", "COMMIT 100 @-");
+        assertThat(decoder.getReplayedMessageLsn()).isNull();
+    }
+
+    @Test
+    public void shouldDropMessagesOfAbortedSubtransaction() throws Exception {
+        startStreaming(PgOutputStreamingMode.ON);
+
+        receive(100, streamStart(100, true));
+        receive(110, logicalMessage(100L, "a"));
+        receive(120, logicalMessage(101L, "b"));
+        receive(130, logicalMessage(100L, "c"));
+        receive(130, streamStop());
+        receive(140, streamAbort(100, 101, false));
+        receive(150, streamStart(100, false));
+        receive(160, logicalMessage(100L, "d"));
+        receive(160, streamStop());
+        receive(170, streamCommit(100));
+
+        assertThat(processed).containsExactly("BEGIN 100 @110", "MESSAGE a 100 @110", "MESSAGE c 100 @130", "MESSAGE d 100 @160", "COMMIT 100 @-");
+    }
+
+    @Test
+    public void shouldDropMessagesOfAbortedTransactionWithParallelStreaming() throws Exception {
+        startStreaming(PgOutputStreamingMode.PARALLEL);
+
+        receive(100, streamStart(100, true));
+        receive(110, logicalMessage(100L, "a"));
+        receive(110, streamStop());
+        receive(120, streamStart(200, true));
+        receive(130, logicalMessage(200L, "b"));
+        receive(130, streamStop());
+        // with parallel streaming, the abort message is followed by the abort LSN and timestamp
+        receive(140, streamAbort(100, 100, true));
+        receive(150, streamCommit(200));
+
+        assertThat(processed).containsExactly("BEGIN 200 @130", "MESSAGE b 200 @130", "COMMIT 200 @-");
+    }
+
+    @Test
+    public void shouldSkipAlreadyProcessedChangesOfStreamedTransactionsAfterRestart() throws Exception {
+        startStreaming(PgOutputStreamingMode.ON);
+
+        receive(100, streamStart(100, true));
+        receive(110, logicalMessage(100L, "a"));
+        receive(120, streamStop());
+        receive(130, streamCommit(100));
+        receive(140, streamStart(101, true));
+        receive(150, logicalMessage(101L, "b"));
+        receive(150, streamStop());
+        assertThat(processed).containsExactly("BEGIN 100 @110", "MESSAGE a 100 @110", "COMMIT 100 @-");
+
+        // the connector is restarted after the first transaction was committed, while the second one was streamed
+        processed.clear();
+        when(walPosition.skipMessage(any())).thenAnswer(invocation -> invocation.<Lsn> getArgument(0).asLong() <= 130);
+        restartStreaming(PgOutputStreamingMode.ON);
+
+        // the database sends both transactions again from their beginning
+        receive(100, streamStart(100, true));
+        receive(110, logicalMessage(100L, "a"));
+        receive(120, streamStop());
+        receive(130, streamCommit(100));
+        receive(140, streamStart(101, true));
+        receive(150, logicalMessage(101L, "b"));
+        receive(150, streamStop());
+        receive(160, streamCommit(101));
+
+        // the transaction boundaries are always processed, the changes only when they were not processed before
+        assertThat(processed).containsExactly("BEGIN 100 @110", "COMMIT 100 @-", "BEGIN 101 @150", "MESSAGE b 101 @150", "COMMIT 101 @-");
+    }
+
+    private static Configuration.Builder binaryConfig() {
+        return Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "postgres")
+                .with(PostgresConnectorConfig.PGOUTPUT_BINARY, true);
+    }
+
+    private PgOutputMessageDecoder startStreaming(Configuration config, boolean postgres14) {
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(new PostgresConnectorConfig(config), schema), connection);
+        final ChainedLogicalStreamBuilder builder = mock(ChainedLogicalStreamBuilder.class, RETURNS_SELF);
+        decoder.defaultOptions(builder, version -> postgres14 || version < 140000);
+        verify(builder, postgres14 ? times(1) : never()).withSlotOption("binary", true);
+        return decoder;
+    }
+
+    private void startStreaming(PgOutputStreamingMode streamingMode) {
+        final Configuration config = Configuration.create()
+                .with(CommonConnectorConfig.TOPIC_PREFIX, "postgres")
+                .with(PostgresConnectorConfig.PGOUTPUT_STREAMING, streamingMode.getValue())
+                .build();
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(new PostgresConnectorConfig(config), schema), connection);
+        restartStreaming(streamingMode);
+    }
+
+    private void restartStreaming(PgOutputStreamingMode streamingMode) {
+        final ChainedLogicalStreamBuilder builder = mock(ChainedLogicalStreamBuilder.class, RETURNS_SELF);
+        decoder.defaultOptions(builder, version -> true);
+        verify(builder).withSlotOption("proto_version", streamingMode.getProtocolVersion());
+        verify(builder, streamingMode == PgOutputStreamingMode.OFF ? never() : times(1)).withSlotOption("streaming", streamingMode.getValue());
+    }
+
+    /**
+     * Passes a message received with the given LSN to the decoder, as the replication stream does.
+     */
+    private void receive(long lsn, ByteBuffer buffer) throws Exception {
+        if (!decoder.shouldMessageBeSkipped(buffer, Lsn.valueOf(lsn), Lsn.valueOf(100L), walPosition)) {
+            decoder.processMessage(buffer, processor, typeRegistry);
+        }
+    }
+
+    private String describe(ReplicationMessage message) {
+        final Lsn replayedLsn = decoder.getReplayedMessageLsn();
+        final String transactionId = message.getTransactionId().isPresent() ? String.valueOf(message.getTransactionId().getAsLong()) : "-";
+        return (message instanceof LogicalDecodingMessage logicalDecodingMessage ? "MESSAGE " + logicalDecodingMessage.getPrefix() : message.getOperation())
+                + " " + transactionId + " @" + (replayedLsn != null ? replayedLsn.asLong() : "-");
+    }
+
+    private static ByteBuffer begin(long xid) {
+        return ByteBuffer.allocate(21).put((byte) 'B').putLong(0).putLong(0).putInt((int) xid).flip();
+    }
+
+    private static ByteBuffer commit() {
+        return ByteBuffer.allocate(26).put((byte) 'C').put((byte) 0).putLong(0).putLong(0).putLong(0).flip();
+    }
+
+    private static ByteBuffer streamStart(long xid, boolean firstSegment) {
+        return ByteBuffer.allocate(6).put((byte) 'S').putInt((int) xid).put((byte) (firstSegment ? 1 : 0)).flip();
+    }
+
+    private static ByteBuffer streamStop() {
+        return ByteBuffer.allocate(1).put((byte) 'E').flip();
+    }
+
+    private static ByteBuffer streamCommit(long xid) {
+        return ByteBuffer.allocate(30).put((byte) 'c').putInt((int) xid).put((byte) 0).putLong(0).putLong(0).putLong(0).flip();
+    }
+
+    private static ByteBuffer streamAbort(long xid, long subXid, boolean parallel) {
+        final ByteBuffer buffer = ByteBuffer.allocate(25).put((byte) 'A').putInt((int) xid).putInt((int) subXid);
+        if (parallel) {
+            buffer.putLong(0).putLong(0);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Creates a transactional logical decoding message, with the transaction id only when it is part of a streamed transaction.
+     */
+    private static ByteBuffer logicalMessage(Long xid, String prefix) {
+        final ByteBuffer buffer = ByteBuffer.allocate(64).put((byte) 'M');
+        if (xid != null) {
+            buffer.putInt(xid.intValue());
+        }
+        buffer.put((byte) 1).putLong(0);
+        putString(buffer, prefix);
+        return buffer.putInt(1).put((byte) 'x').flip();
+    }
+
+    /**
+     * Creates a relation message for a table with an {@code id} column and further columns {@code c1}, {@code c2}...
+     */
+    private static ByteBuffer relation(int relationId, String schemaName, String tableName, int... columnTypes) {
+        final ByteBuffer buffer = ByteBuffer.allocate(256).put((byte) 'R').putInt(relationId);
+        putString(buffer, schemaName);
+        putString(buffer, tableName);
+        buffer.put((byte) 'd').putShort((short) columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            buffer.put((byte) (i == 0 ? 1 : 0));
+            putString(buffer, i == 0 ? "id" : "c" + i);
+            buffer.putInt(columnTypes[i]).putInt(TypeRegistry.NO_TYPE_MODIFIER);
+        }
+        return buffer.flip();
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        buffer.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.ReplicationMessage.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * Unit tests for {@link PgOutputRelationDecoder}.
+ */
+public class PgOutputRelationDecoderTest {
+
+    private final TypeRegistry typeRegistry = mock(TypeRegistry.class);
+    private final Table table = Table.editor()
+            .tableId(new TableId(null, "s1", "a"))
+            .addColumn(io.debezium.relational.Column.editor().name("id").type("int4").optional(false).create())
+            .addColumn(io.debezium.relational.Column.editor().name("name").type("varchar", "varchar(255)").create())
+            .addColumn(io.debezium.relational.Column.editor().name("doc").type("text").create())
+            .create();
+
+    @Test
+    public void shouldResolveColumnTypesOnce() {
+        final PostgresType int4 = new PostgresType.Builder(typeRegistry, "int4", 23, Types.INTEGER, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+        final PostgresType varchar = new PostgresType.Builder(typeRegistry, "varchar", 1043, Types.VARCHAR, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+        final PostgresType text = new PostgresType.Builder(typeRegistry, "text", 25, Types.VARCHAR, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+        when(typeRegistry.get("s1", "int4")).thenReturn(int4);
+        when(typeRegistry.get("s1", "varchar")).thenReturn(varchar);
+        when(typeRegistry.get("s1", "text")).thenReturn(text);
+
+        final PgOutputRelationDecoder decoder = new PgOutputRelationDecoder(table, typeRegistry);
+        assertThat(decoder.tableName()).isEqualTo("\"s1\".\"a\"");
+        assertThat(decoder.isDecoderFor(table, typeRegistry)).isTrue();
+
+        final List<Column> first = decoder.decodeTupleData(tuple("1", "first"));
+        final List<Column> second = decoder.decodeTupleData(tuple("2", null));
+        final List<Column> third = decoder.decodeTupleData(tuple("3", "third"));
+
+        verify(typeRegistry, times(1)).get("s1", "varchar");
+        assertThat(first).hasSize(3);
+        assertThat(first.get(0).getType()).isSameAs(int4);
+        assertThat(first.get(0).isOptional()).isFalse();
+        assertThat(first.get(1).getTypeMetadata()).isSameAs(third.get(1).getTypeMetadata());
+        assertThat(first.get(1).toString()).isEqualTo("name(varchar(255))=first");
+        assertThat(second.get(1).isOptional()).isTrue();
+        assertThat(second.get(1).getValue(null, false)).isNull();
+        assertThat(first.get(2).isToastedColumn()).isTrue();
+    }
+
+    /**
+     * Creates the tuple data of a row with the given id and name, and an unchanged TOAST-ed document.
+     */
+    private static ByteBuffer tuple(String id, String name) {
+        final ByteBuffer buffer = ByteBuffer.allocate(64).putShort((short) 3);
+        putText(buffer, id);
+        if (name == null) {
+            buffer.put((byte) 'n');
+        }
+        else {
+            putText(buffer, name);
+        }
+        buffer.put((byte) 'u');
+        return buffer.flip();
+    }
+
+    private static void putText(ByteBuffer buffer, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.debezium.connector.postgresql.connection.Lsn;
+
+/**
+ * Unit tests for {@link StreamedTransactions}.
+ */
+public class StreamedTransactionsTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    public void shouldReleaseMessagesInOrderOnCommit() throws Exception {
+        try (StreamedTransactions transactions = new StreamedTransactions(1024, spillDirectory)) {
+            add(transactions, 1, 1, 10, "first");
+            add(transactions, 2, 2, 11, "other");
+            add(transactions, 1, 1, 12, "second");
+
+            assertThat(commit(transactions, 1)).containsExactly("10:Ifirst", "12:Isecond");
+            assertThat(transactions.size()).isEqualTo(1);
+            assertThat(commit(transactions, 1)).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldSpillLargestTransactionAndReadItBackOnCommit() throws Exception {
+        try (StreamedTransactions transactions = new StreamedTransactions(16, spillDirectory)) {
+            add(transactions, 1, 1, 10, "aaaaaaaa");
+            add(transactions, 2, 2, 11, "b");
+            add(transactions, 1, 1, 12, "cccccccc");
+            assertThat(spillFiles()).hasSize(1);
+
+            add(transactions, 1, 1, 13, "d");
+
+            assertThat(commit(transactions, 1)).containsExactly("10:Iaaaaaaaa", "12:Icccccccc", "13:Id");
+            assertThat(spillFiles()).isEmpty();
+            assertThat(commit(transactions, 2)).containsExactly("11:Ib");
+        }
+    }
+
+    @Test
+    public void shouldDiscardAbortedSubtransaction() throws Exception {
+        try (StreamedTransactions transactions = new StreamedTransactions(16, spillDirectory)) {
+            add(transactions, 1, 1, 10, "kept");
+            add(transactions, 1, 5, 11, "spilled");
+            add(transactions, 1, 5, 12, "aborted");
+            assertThat(spillFiles()).hasSize(1);
+            add(transactions, 1, 6, 13, "other");
+
+            transactions.abort(1, 5);
+
+            assertThat(commit(transactions, 1)).containsExactly("10:Ikept", "13:Iother");
+        }
+    }
+
+    @Test
+    public void shouldDiscardAbortedTransaction() throws Exception {
+        try (StreamedTransactions transactions = new StreamedTransactions(4, spillDirectory)) {
+            add(transactions, 1, 1, 10, "aborted");
+            assertThat(spillFiles()).hasSize(1);
+
+            transactions.abort(1, 1);
+
+            assertThat(spillFiles()).isEmpty();
+            assertThat(transactions.size()).isZero();
+            assertThat(commit(transactions, 1)).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldDeleteSpillFilesWhenCleared() throws Exception {
+        final StreamedTransactions transactions = new StreamedTransactions(0, spillDirectory);
+        add(transactions, 1, 1, 10, "first");
+        add(transactions, 2, 2, 11, "second");
+        assertThat(spillFiles()).hasSize(2);
+
+        transactions.close();
+
+        assertThat(spillFiles()).isEmpty();
+        assertThat(transactions.size()).isZero();
+    }
+
+    private static void add(StreamedTransactions transactions, long xid, long subXid, long lsn, String payload) {
+        transactions.add(xid, subXid, Lsn.valueOf(lsn), (byte) 'I', ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> commit(StreamedTransactions transactions, long xid) throws Exception {
+        final List<String> messages = new ArrayList<>();
+        transactions.commit(xid, (lsn, message) -> {
+            final byte[] content = new byte[message.remaining()];
+            message.get(content);
+            messages.add(lsn.asLong() + ":" + new String(content, StandardCharsets.UTF_8));
+        });
+        return messages;
+    }
+
+    private List<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.toList();
+        }
+    }
+}
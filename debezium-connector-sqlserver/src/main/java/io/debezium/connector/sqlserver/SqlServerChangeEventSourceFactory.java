@@ -90,7 +90,8 @@ public StreamingChangeEventSource<SqlServerPartition, SqlServerOffsetContext> ge
                 clock,
                 snapshotProgressListener,
                 dataChangeEventListener,
-                notificationService);
+                notificationService,
+                connectionFactory);
         return Optional.of(incrementalSnapshotChangeEventSource);
     }
 }
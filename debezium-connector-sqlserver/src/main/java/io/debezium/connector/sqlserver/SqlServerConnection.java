@@ -48,6 +48,7 @@
 import io.debezium.data.Envelope;
 import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.jdbc.JdbcConnection;
+import io.debezium.pipeline.source.snapshot.chunked.HistogramBucket;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.Partition;
 import io.debezium.relational.Column;
@@ -137,6 +138,13 @@ public class SqlServerConnection extends JdbcConnection {
 
     private static final String GET_NEW_CHANGE_TABLES = "SELECT * FROM #db.cdc.change_tables WHERE start_lsn BETWEEN ? AND ?";
     private static final String GET_MIN_LSN_FROM_ALL_CHANGE_TABLES = "select min(start_lsn) from #db.cdc.change_tables";
+    private static final String GET_COLUMN_HISTOGRAM = "SELECT s.stats_id, h.range_high_key, h.range_rows + h.equal_rows" +
+            " FROM #db.sys.stats s" +
+            " INNER JOIN #db.sys.stats_columns sc ON sc.object_id = s.object_id AND sc.stats_id = s.stats_id AND sc.stats_column_id = 1" +
+            " INNER JOIN #db.sys.columns c ON c.object_id = sc.object_id AND c.column_id = sc.column_id" +
+            " CROSS APPLY #db.sys.dm_db_stats_histogram(s.object_id, s.stats_id) h" +
+            " WHERE s.object_id = OBJECT_ID(?) AND c.name = ?" +
+            " ORDER BY s.stats_id, h.step_number";
     private static final String OPENING_QUOTING_CHARACTER = "[";
     private static final String CLOSING_QUOTING_CHARACTER = "]";
 
@@ -808,6 +816,46 @@ else if (additionalCondition.isPresent()) {
         return sql.toString();
     }
 
+    /**
+     * Reads the histogram of the first statistics object whose leading column is the given column, which exists
+     * for the index of a key column. Requires SQL Server 2016 SP1 CU2 or later.
+     */
+    @Override
+    public List<HistogramBucket> readColumnHistogram(TableId tableId, Column column) {
+        switch (column.jdbcType()) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL,
+                    Types.CHAR, Types.VARCHAR, Types.NCHAR, Types.NVARCHAR:
+                break;
+            default:
+                return List.of();
+        }
+        try {
+            return prepareQueryAndMap(replaceDatabaseNamePlaceholder(GET_COLUMN_HISTOGRAM, tableId.catalog()),
+                    statement -> {
+                        statement.setString(1, quotedTableIdString(tableId));
+                        statement.setString(2, column.name());
+                    },
+                    rs -> {
+                        final List<HistogramBucket> buckets = new ArrayList<>();
+                        int statsId = -1;
+                        double cumulativeRows = 0;
+                        while (rs.next()) {
+                            if (statsId != -1 && statsId != rs.getInt(1)) {
+                                break;
+                            }
+                            statsId = rs.getInt(1);
+                            cumulativeRows += rs.getDouble(3);
+                            buckets.add(new HistogramBucket(rs.getObject(2), cumulativeRows));
+                        }
+                        return buckets;
+                    });
+        }
+        catch (SQLException e) {
+            LOGGER.debug("Error while reading histogram of column {} of table {}: {}", column.name(), tableId, e.getMessage(), e);
+        }
+        return List.of();
+    }
+
     @Override
     public Optional<Boolean> nullsSortLast() {
         // "Null values are treated as the lowest possible values"
@@ -0,0 +1,504 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.oracle.logminer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.config.Configuration;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.common.DebeziumHeaderProducer;
+import io.debezium.connector.oracle.CommitScn;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningBufferType;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleDefaultValueConverter;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OraclePartition;
+import io.debezium.connector.oracle.OracleTaskContext;
+import io.debezium.connector.oracle.OracleValueConverters;
+import io.debezium.connector.oracle.RedoThreadState;
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.StreamingAdapter.TableNameCaseSensitivity;
+import io.debezium.connector.oracle.antlr.OracleDdlParser;
+import io.debezium.connector.oracle.jdbc.OracleConnectionFactory;
+import io.debezium.connector.oracle.logminer.LogMinerColumnIndexes;
+import io.debezium.connector.oracle.logminer.LogMinerStreamingChangeEventSourceMetrics;
+import io.debezium.connector.oracle.logminer.buffered.BufferedLogMinerStreamingChangeEventSource;
+import io.debezium.connector.oracle.logminer.buffered.CacheProvider;
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.snapshot.incremental.SignalBasedIncrementalSnapshotContext;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.CustomConverterRegistry;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+import io.debezium.relational.history.MemorySchemaHistory;
+import io.debezium.schema.SchemaTopicNamingStrategy;
+import io.debezium.spi.schema.DataCollectionId;
+import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.util.Clock;
+import io.debezium.util.HexConverter;
+
+import oracle.sql.CharacterSet;
+
+/**
+ * Measures how fast the buffered LogMiner adapter processes mined changes, by replaying a capture of
+ * {@code V$LOGMNR_CONTENTS} rows through the {@link BufferedLogMinerStreamingChangeEventSource}, without
+ * a database.
+ *
+ * <p>Each replay reads the rows from a JDBC result set as the connector does after it queries LogMiner,
+ * parses the redo SQL, buffers the events in the transaction cache of the configured buffer type, and
+ * on commit merges them with the {@code TransactionCommitConsumer} and dispatches the change events to
+ * a change event queue that is drained by a separate thread. Every measured iteration replays the
+ * capture once through a new change event source, so transactions of the capture are never treated as
+ * already processed.
+ *
+ * <p>A capture is passed with {@code -p captureFile=<path>}, in the format described by
+ * {@link LogMinerCapture}, together with {@code -p schemaFile=<path>}, a file of the {@code CREATE TABLE}
+ * statements of the captured tables, and {@code -p schemaName=<owner>}, the schema that owns them. Changes
+ * to other tables are skipped, as they would be by the connector's table filters. Without a capture,
+ * synthetic transactions that insert and update rows of a single table are replayed instead.
+ */
+public class BufferedLogMinerReplayPerf {
+
+    private static final String DATABASE_NAME = "ORCLCDB";
+    private static final String PDB_NAME = "ORCLPDB1";
+
+    @State(Scope.Thread)
+    public static class ReplayState {
+        public LogMinerCapture capture;
+        public ReplaySource source;
+
+        private Path dataDirectory;
+        private Tables tables;
+        private Configuration config;
+        private OracleDatabaseSchema schema;
+        private Thread drainer;
+
+        @Param({ "memory", "memory_mapped", "ehcache", "infinispan_embedded" })
+        public String bufferType;
+
+        @Param({ "" })
+        public String captureFile;
+
+        @Param({ "" })
+        public String schemaFile;
+
+        @Param({ "DEBEZIUM" })
+        public String schemaName;
+
+        @Param({ "1000" })
+        public int transactions;
+
+        @Param({ "10" })
+        public int eventsPerTransaction;
+
+        @Param({ "20" })
+        public int columnCount;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException {
+            this.dataDirectory = Files.createTempDirectory("logminer-replay");
+            this.tables = parseTables(captureFile.isEmpty() ? createTableDdl() : Files.readString(Path.of(schemaFile)));
+            this.config = createConfig();
+
+            final LogMinerColumnIndexes columnIndexes = LogMinerColumnIndexes.fromConfig(new OracleConnectorConfig(config));
+            this.capture = captureFile.isEmpty() ? createCapture(columnIndexes) : LogMinerCapture.read(Path.of(captureFile), columnIndexes);
+        }
+
+        @Setup(Level.Iteration)
+        public void createSource() throws InterruptedException {
+            final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(config);
+            final OracleTaskContext taskContext = new OracleTaskContext(config, connectorConfig);
+            final OracleConnection connection = new StandInConnection(connectorConfig.getJdbcConfig());
+            final OracleValueConverters converters = connectorConfig.getAdapter().getValueConverter(connectorConfig, connection);
+            final TopicNamingStrategy topicNamingStrategy = SchemaTopicNamingStrategy.create(connectorConfig);
+
+            this.schema = new OracleDatabaseSchema(connectorConfig, converters, new OracleDefaultValueConverter(converters, connection),
+                    connectorConfig.schemaNameAdjuster(), topicNamingStrategy, TableNameCaseSensitivity.SENSITIVE, false,
+                    new CustomConverterRegistry(Collections.emptyList()), taskContext);
+            tables.tableIds().forEach(tableId -> schema.refresh(tables.forTable(tableId)));
+
+            final ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                    .pollInterval(Duration.ofMillis(10))
+                    .maxBatchSize(connectorConfig.getMaxBatchSize())
+                    .maxQueueSize(connectorConfig.getMaxQueueSize())
+                    .loggingContextSupplier(() -> taskContext.configureLoggingContext("replay"))
+                    .build();
+
+            final EventDispatcher<OraclePartition, TableId> dispatcher = new EventDispatcher<>(
+                    connectorConfig,
+                    topicNamingStrategy,
+                    schema,
+                    queue,
+                    connectorConfig.getTableFilters().dataCollectionFilter(),
+                    DataChangeEvent::new,
+                    new ReplayEventMetadataProvider(),
+                    connectorConfig.schemaNameAdjuster(),
+                    null,
+                    new DebeziumHeaderProducer(taskContext));
+
+            final LogMinerStreamingChangeEventSourceMetrics metrics = new LogMinerStreamingChangeEventSourceMetrics(
+                    taskContext, queue, null, connectorConfig, Collections::emptyList);
+
+            this.source = new ReplaySource(connectorConfig, new StandInConnectionFactory(connection), dispatcher, schema, metrics);
+            source.start(OracleOffsetContext.create()
+                    .logicalName(connectorConfig)
+                    .scn(Scn.ONE)
+                    .snapshotScn(Scn.ONE)
+                    .commitScn(CommitScn.valueOf((String) null))
+                    .snapshotPendingTransactions(Collections.emptyMap())
+                    .transactionContext(new TransactionContext())
+                    .incrementalSnapshotContext(new SignalBasedIncrementalSnapshotContext<>())
+                    .build());
+
+            this.drainer = new Thread(() -> {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        queue.poll();
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "logminer-replay-queue-drainer");
+            drainer.start();
+        }
+
+        @TearDown(Level.Iteration)
+        public void closeSource() throws InterruptedException {
+            drainer.interrupt();
+            drainer.join();
+            source.close();
+            schema.close();
+        }
+
+        @TearDown(Level.Trial)
+        public void doCleanup() throws IOException {
+            try (Stream<Path> paths = Files.walk(dataDirectory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+
+        private Configuration createConfig() {
+            final String tableIncludeList = tables.tableIds().stream()
+                    .map(tableId -> Pattern.quote(tableId.schema() + "." + tableId.table()))
+                    .collect(Collectors.joining(","));
+
+            final Configuration.Builder builder = Configuration.create()
+                    .with(CommonConnectorConfig.TOPIC_PREFIX, "server1")
+                    .with(OracleConnectorConfig.DATABASE_NAME, DATABASE_NAME)
+                    .with(OracleConnectorConfig.PDB_NAME, PDB_NAME)
+                    .with(OracleConnectorConfig.SCHEMA_HISTORY, MemorySchemaHistory.class)
+                    .with(OracleConnectorConfig.ARCHIVE_DESTINATION_NAME, "LOG_ARCHIVE_DEST_1")
+                    .with(OracleConnectorConfig.TABLE_INCLUDE_LIST, tableIncludeList)
+                    .with(OracleConnectorConfig.LOG_MINING_BUFFER_TYPE, bufferType)
+                    .with(OracleConnectorConfig.LOG_MINING_BUFFER_DROP_ON_STOP, true);
+
+            final String directory = dataDirectory.toAbsolutePath().toString();
+            switch (LogMiningBufferType.parse(bufferType)) {
+                case MEMORY_MAPPED -> builder.with(OracleConnectorConfig.LOG_MINING_BUFFER_MEMORY_MAPPED_DIRECTORY, directory);
+                case EHCACHE -> {
+                    final String cacheConfig = "<resources><heap unit=\"entries\">512</heap><disk unit=\"B\">1024000000</disk></resources>";
+                    builder.with(OracleConnectorConfig.LOG_MINING_BUFFER_EHCACHE_GLOBAL_CONFIG, "<persistence directory=\"" + directory + "\"/>")
+                            .with(OracleConnectorConfig.LOG_MINING_BUFFER_EHCACHE_TRANSACTIONS_CONFIG, cacheConfig)
+                            .with(OracleConnectorConfig.LOG_MINING_BUFFER_EHCACHE_PROCESSED_TRANSACTIONS_CONFIG, cacheConfig)
+                            .with(OracleConnectorConfig.LOG_MINING_BUFFER_EHCACHE_SCHEMA_CHANGES_CONFIG, cacheConfig)
+                            .with(OracleConnectorConfig.LOG_MINING_BUFFER_EHCACHE_EVENTS_CONFIG, cacheConfig)
+                            .with(OracleConnectorConfig.LOG_MINING_BUFFER_EHCACHE_ROLLBACKS_CONFIG, cacheConfig);
+                }
+                case INFINISPAN_EMBEDDED -> builder
+                        .with(OracleConnectorConfig.LOG_MINING_BUFFER_INFINISPAN_CACHE_TRANSACTIONS,
+                                getInfinispanCacheConfig(CacheProvider.TRANSACTIONS_CACHE_NAME, directory))
+                        .with(OracleConnectorConfig.LOG_MINING_BUFFER_INFINISPAN_CACHE_PROCESSED_TRANSACTIONS,
+                                getInfinispanCacheConfig(CacheProvider.PROCESSED_TRANSACTIONS_CACHE_NAME, directory))
+                        .with(OracleConnectorConfig.LOG_MINING_BUFFER_INFINISPAN_CACHE_SCHEMA_CHANGES,
+                                getInfinispanCacheConfig(CacheProvider.SCHEMA_CHANGES_CACHE_NAME, directory))
+                        .with(OracleConnectorConfig.LOG_MINING_BUFFER_INFINISPAN_CACHE_EVENTS,
+                                getInfinispanCacheConfig(CacheProvider.EVENTS_CACHE_NAME, directory))
+                        .with(OracleConnectorConfig.LOG_MINING_BUFFER_INFINISPAN_CACHE_ROLLBACKS,
+                                getInfinispanCacheConfig(CacheProvider.ROLLBACKS_CACHE_NAME, directory));
+                default -> {
+                }
+            }
+            return builder.build();
+        }
+
+        private static String getInfinispanCacheConfig(String cacheName, String directory) {
+            return "<local-cache name=\"" + cacheName + "\">" +
+                    "<persistence passivation=\"false\">" +
+                    "<file-store read-only=\"false\" preload=\"true\" shared=\"false\">" +
+                    "<data path=\"" + directory + "/" + cacheName + "/data\"/>" +
+                    "<index path=\"" + directory + "/" + cacheName + "/index\"/>" +
+                    "</file-store>" +
+                    "</persistence>" +
+                    "</local-cache>";
+        }
+
+        private Tables parseTables(String ddl) {
+            final OracleDdlParser parser = new OracleDdlParser();
+            parser.setCurrentDatabase(PDB_NAME);
+            parser.setCurrentSchema(schemaName);
+            final Tables tables = new Tables();
+            parser.parse(ddl, tables);
+            return tables;
+        }
+
+        private String createTableDdl() {
+            final StringBuilder sb = new StringBuilder("CREATE TABLE TEST (ID NUMBER(9,0) PRIMARY KEY");
+            for (int i = 0; i < columnCount; i++) {
+                sb.append(", COL").append(i).append(" VARCHAR2(50)");
+            }
+            return sb.append(");").toString();
+        }
+
+        private LogMinerCapture createCapture(LogMinerColumnIndexes columnIndexes) {
+            final List<String> columns = List.of("SCN", "SQL_REDO", "OPERATION_CODE", "TIMESTAMP", "XID", "TABLE_NAME", "SEG_OWNER",
+                    "OPERATION", "ROW_ID", "THREAD#", "DATA_OBJ#", "DATA_OBJD#", "START_SCN", "COMMIT_SCN");
+            final LogMinerCapture.Builder builder = new LogMinerCapture.Builder(columns, columnIndexes);
+            final LocalDateTime startTime = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+            long scn = 2_300_000L;
+            int id = 0;
+            for (int i = 0; i < transactions; i++) {
+                final String xid = HexConverter.convertToHexString(new byte[]{ 0, 5, 0, 26, 0, 0, (byte) (i >> 8), (byte) i });
+                final String time = Timestamp.valueOf(startTime.plusSeconds(i)).toString();
+                final String startScn = String.valueOf(scn);
+
+                builder.addRow(new String[]{ String.valueOf(scn++), "set transaction read write;", "6", time, xid, null, null,
+                        "START", "AAAAAAAAAAAAAAAAAA", "1", "0", "0", startScn, null });
+                for (int j = 0; j < eventsPerTransaction; j++) {
+                    final boolean insert = j % 2 == 0;
+                    if (insert) {
+                        id++;
+                    }
+                    final String rowId = String.format("AAASdYAAHAAA%06d", id);
+                    builder.addRow(new String[]{ String.valueOf(scn++), insert ? insertStatement(id) : updateStatement(id, rowId),
+                            insert ? "1" : "3", time, xid, "TEST", schemaName, insert ? "INSERT" : "UPDATE", rowId, "1",
+                            "74712", "74712", startScn, null });
+                }
+                builder.addRow(new String[]{ String.valueOf(scn), "commit;", "7", time, xid, null, null, "COMMIT",
+                        "AAAAAAAAAAAAAAAAAA", "1", "0", "0", startScn, String.valueOf(scn) });
+                scn++;
+            }
+            return builder.build();
+        }
+
+        private String insertStatement(int id) {
+            final StringBuilder sb = new StringBuilder("insert into \"").append(schemaName).append("\".\"TEST\"(\"ID\"");
+            for (int i = 0; i < columnCount; i++) {
+                sb.append(",\"COL").append(i).append('"');
+            }
+            sb.append(") values ('").append(id).append('\'');
+            for (int i = 0; i < columnCount; i++) {
+                sb.append(",'insert").append(i).append('\'');
+            }
+            return sb.append(");").toString();
+        }
+
+        private String updateStatement(int id, String rowId) {
+            final StringBuilder sb = new StringBuilder("update \"").append(schemaName).append("\".\"TEST\" set ");
+            for (int i = 0; i < columnCount; i++) {
+                sb.append(i == 0 ? "" : ", ").append("\"COL").append(i).append("\" = 'update").append(i).append('\'');
+            }
+            sb.append(" where \"ID\" = '").append(id).append('\'');
+            for (int i = 0; i < columnCount; i++) {
+                sb.append(" and \"COL").append(i).append("\" = 'insert").append(i).append('\'');
+            }
+            return sb.append(" and ROWID = '").append(rowId).append("';").toString();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public void replay(ReplayState state) throws SQLException, InterruptedException {
+        state.source.replay(state.capture.createStatement());
+    }
+
+    /**
+     * The buffered change event source, with the state that streaming would otherwise set up.
+     */
+    static class ReplaySource extends BufferedLogMinerStreamingChangeEventSource {
+
+        private final OraclePartition partition;
+        private final ChangeEventSourceContext context = new RunningContext();
+
+        ReplaySource(OracleConnectorConfig connectorConfig, OracleConnectionFactory connectionFactory,
+                     EventDispatcher<OraclePartition, TableId> dispatcher, OracleDatabaseSchema schema,
+                     LogMinerStreamingChangeEventSourceMetrics metrics) {
+            super(connectorConfig, connectionFactory, dispatcher, null, Clock.SYSTEM, schema, connectorConfig.getJdbcConfig(), metrics);
+            this.partition = new OraclePartition(connectorConfig.getLogicalName(), connectorConfig.getCatalogName());
+        }
+
+        void start(OracleOffsetContext offsetContext) throws InterruptedException {
+            init(offsetContext);
+            // No redo thread is known, so that the changes of no thread are skipped
+            detectRedoThreadTransitions(RedoThreadState.builder().build());
+        }
+
+        void replay(PreparedStatement statement) throws SQLException, InterruptedException {
+            executeAndProcessQuery(statement);
+        }
+
+        @Override
+        protected ChangeEventSourceContext getContext() {
+            return context;
+        }
+
+        @Override
+        protected OraclePartition getPartition() {
+            return partition;
+        }
+    }
+
+    /**
+     * A context of a streaming session that is never paused or stopped.
+     */
+    private static class RunningContext implements ChangeEventSourceContext {
+
+        @Override
+        public boolean isPaused() {
+            return false;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return true;
+        }
+
+        @Override
+        public void resumeStreaming() {
+        }
+
+        @Override
+        public void waitSnapshotCompletion() {
+        }
+
+        @Override
+        public void streamingPaused() {
+        }
+
+        @Override
+        public void waitStreamingPaused() {
+        }
+    }
+
+    /**
+     * Stands in for the database connection, answering the few questions that the change event source
+     * and the schema ask of the database when they are created. Any query fails, as there is no database.
+     */
+    private static class StandInConnection extends OracleConnection {
+
+        StandInConnection(JdbcConfiguration config) {
+            super(config, jdbcConfig -> {
+                throw new SQLException("The replay benchmark does not connect to a database");
+            }, true);
+        }
+
+        @Override
+        public boolean isAutonomous() {
+            return false;
+        }
+
+        @Override
+        public boolean isArchiveLogDestinationValid(String archiveDestinationName) {
+            return true;
+        }
+
+        @Override
+        public CharacterSet getDatabaseCharacterSet() {
+            return CharacterSet.make(CharacterSet.AL32UTF8_CHARSET);
+        }
+
+        @Override
+        public CharacterSet getNationalCharacterSet() {
+            return CharacterSet.make(CharacterSet.AL16UTF16_CHARSET);
+        }
+    }
+
+    private static class StandInConnectionFactory extends OracleConnectionFactory {
+
+        private final OracleConnection connection;
+
+        StandInConnectionFactory(OracleConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public OracleConnection mainConnection() {
+            return connection;
+        }
+
+        @Override
+        public OracleConnection newConnection() {
+            return connection;
+        }
+    }
+
+    /**
+     * Transaction metadata is not emitted by the benchmark, so the metadata of events is not needed.
+     */
+    private static class ReplayEventMetadataProvider implements EventMetadataProvider {
+
+        @Override
+        public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+
+        @Override
+        public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+    }
+}
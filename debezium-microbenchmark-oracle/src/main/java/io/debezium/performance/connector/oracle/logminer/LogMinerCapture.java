@@ -0,0 +1,276 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.oracle.logminer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.debezium.connector.oracle.logminer.LogMinerColumnIndexes;
+import io.debezium.util.HexConverter;
+
+/**
+ * A recorded capture of {@code V$LOGMNR_CONTENTS} rows that is replayed through a JDBC {@link ResultSet}.
+ *
+ * <p>A capture file is a UTF-8 text file of tab-separated values. The first line names the columns, using
+ * the column names of {@code V$LOGMNR_CONTENTS} such as {@code SCN}, {@code SQL_REDO} or {@code THREAD#},
+ * in any order. Columns that the connector's LogMiner query selects but the capture lacks are read as
+ * {@code NULL}. In each value, an empty field is {@code NULL}, and tabs, line breaks and backslashes are
+ * escaped as {@code \t}, {@code \n}, {@code \r} and {@code \\}. The {@code XID} column is written as
+ * hexadecimal, e.g. with {@code RAWTOHEX(XID)}, and timestamps as {@code YYYY-MM-DD HH24:MI:SS[.FF]}.
+ *
+ * <p>The values are converted to the types that the connector reads once, when the capture is loaded,
+ * and the rows are arranged by the column ordinals of the LogMiner query, so that replaying the capture
+ * costs little more than iterating a list.
+ */
+final class LogMinerCapture {
+
+    private static final List<String> QUERY_COLUMNS = List.of("SCN", "SQL_REDO", "OPERATION_CODE", "TIMESTAMP", "XID", "CSF",
+            "TABLE_NAME", "SEG_OWNER", "OPERATION", "ROW_ID", "ROLLBACK", "STATUS", "INFO", "SSN", "THREAD#", "DATA_OBJ#",
+            "DATA_OBJV#", "DATA_OBJD#", "START_SCN", "COMMIT_SCN", "SEQUENCE#");
+
+    private static final Set<String> NUMERIC_COLUMNS = Set.of("OPERATION_CODE", "CSF", "ROLLBACK", "STATUS", "SSN", "THREAD#",
+            "DATA_OBJ#", "DATA_OBJV#", "DATA_OBJD#", "SEQUENCE#");
+
+    private static final Set<String> TIMESTAMP_COLUMNS = Set.of("TIMESTAMP", "START_TIMESTAMP", "COMMIT_TIMESTAMP");
+
+    private final List<Object[]> rows;
+
+    private LogMinerCapture(List<Object[]> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Reads a capture file.
+     *
+     * @param path the capture file, should not be {@code null}
+     * @param columnIndexes the column ordinals of the LogMiner query, should not be {@code null}
+     * @return the capture, never {@code null}
+     * @throws IOException if the file cannot be read
+     */
+    static LogMinerCapture read(Path path, LogMinerColumnIndexes columnIndexes) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            final String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("Capture file '" + path + "' has no header");
+            }
+            final Builder builder = new Builder(List.of(header.split("\t", -1)), columnIndexes);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    final String[] fields = line.split("\t", -1);
+                    for (int i = 0; i < fields.length; i++) {
+                        fields[i] = unescape(fields[i]);
+                    }
+                    builder.addRow(fields);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Returns the number of rows in the capture.
+     */
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * Creates a statement that, when executed, returns a result set over all rows of the capture.
+     *
+     * @return the statement, never {@code null}
+     */
+    PreparedStatement createStatement() {
+        return (PreparedStatement) Proxy.newProxyInstance(LogMinerCapture.class.getClassLoader(), new Class<?>[]{ PreparedStatement.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "executeQuery" -> Proxy.newProxyInstance(LogMinerCapture.class.getClassLoader(), new Class<?>[]{ ResultSet.class },
+                            new ReplayResultSet(rows));
+                    case "close" -> null;
+                    case "isClosed" -> false;
+                    default -> throw new UnsupportedOperationException("Statement." + method.getName() + " is not supported by the capture");
+                });
+    }
+
+    private static String unescape(String field) {
+        if (field.isEmpty()) {
+            return null;
+        }
+        if (field.indexOf('\\') == -1) {
+            return field;
+        }
+        final StringBuilder sb = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            final char c = field.charAt(i);
+            if (c == '\\' && i + 1 < field.length()) {
+                final char escaped = field.charAt(++i);
+                switch (escaped) {
+                    case 't' -> sb.append('\t');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    default -> sb.append(escaped);
+                }
+            }
+            else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Collects the rows of a capture, given as text in the order of the named capture columns.
+     */
+    static class Builder {
+
+        private final String[] queryColumns;
+        private final int[] captureIndexes;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        Builder(List<String> captureColumns, LogMinerColumnIndexes columnIndexes) {
+            this.queryColumns = getQueryColumns(columnIndexes);
+
+            final Map<String, Integer> captureColumnIndexes = new HashMap<>();
+            for (int i = 0; i < captureColumns.size(); i++) {
+                captureColumnIndexes.put(captureColumns.get(i).trim().toUpperCase(), i);
+            }
+
+            this.captureIndexes = new int[queryColumns.length];
+            for (int i = 0; i < queryColumns.length; i++) {
+                captureIndexes[i] = captureColumnIndexes.getOrDefault(queryColumns[i], -1);
+            }
+        }
+
+        /**
+         * Adds a row of the capture.
+         *
+         * @param fields the values of the capture columns, {@code null} for {@code NULL} values
+         * @return this builder
+         */
+        Builder addRow(String[] fields) {
+            final Object[] row = new Object[queryColumns.length];
+            for (int i = 0; i < queryColumns.length; i++) {
+                final int captureIndex = captureIndexes[i];
+                if (captureIndex >= 0 && captureIndex < fields.length && fields[captureIndex] != null) {
+                    row[i] = toValue(queryColumns[i], fields[captureIndex]);
+                }
+            }
+            rows.add(row);
+            return this;
+        }
+
+        LogMinerCapture build() {
+            return new LogMinerCapture(rows);
+        }
+
+        private static Object toValue(String column, String text) {
+            if (NUMERIC_COLUMNS.contains(column)) {
+                return Long.parseLong(text);
+            }
+            else if (TIMESTAMP_COLUMNS.contains(column)) {
+                // The connector reads timestamps using a UTC calendar
+                final LocalDateTime dateTime = Timestamp.valueOf(text).toLocalDateTime();
+                return Timestamp.from(dateTime.toInstant(ZoneOffset.UTC));
+            }
+            else if ("XID".equals(column)) {
+                return HexConverter.convertFromHex(text);
+            }
+            return text;
+        }
+
+        private static String[] getQueryColumns(LogMinerColumnIndexes columnIndexes) {
+            final List<String> columns = new ArrayList<>(QUERY_COLUMNS);
+            addOptionalColumn(columns, columnIndexes.getStartTimestampIndex(), "START_TIMESTAMP");
+            addOptionalColumn(columns, columnIndexes.getCommitTimestampIndex(), "COMMIT_TIMESTAMP");
+            addOptionalColumn(columns, columnIndexes.getRsIdIndex(), "RS_ID");
+            addOptionalColumn(columns, columnIndexes.getUsernameIndex(), "USERNAME");
+            addOptionalColumn(columns, columnIndexes.getClientIdIndex(), "CLIENT_ID");
+            return columns.toArray(new String[0]);
+        }
+
+        private static void addOptionalColumn(List<String> columns, Integer ordinal, String column) {
+            if (ordinal != null) {
+                while (columns.size() < ordinal) {
+                    columns.add(null);
+                }
+                columns.set(ordinal - 1, column);
+            }
+        }
+    }
+
+    /**
+     * Reads the rows of a capture with the {@link ResultSet} methods that the connector uses.
+     */
+    private static class ReplayResultSet implements InvocationHandler {
+
+        private final List<Object[]> rows;
+        private Object[] row;
+        private int position = -1;
+        private boolean wasNull;
+
+        ReplayResultSet(List<Object[]> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "next" -> next();
+                case "getString" -> {
+                    final Object value = getValue(args);
+                    yield value != null ? value.toString() : null;
+                }
+                case "getInt" -> {
+                    final Object value = getValue(args);
+                    yield value != null ? ((Long) value).intValue() : 0;
+                }
+                case "getLong" -> {
+                    final Object value = getValue(args);
+                    yield value != null ? (Long) value : 0L;
+                }
+                case "getBytes", "getTimestamp" -> getValue(args);
+                case "wasNull" -> wasNull;
+                case "close" -> null;
+                case "isClosed" -> false;
+                default -> throw new UnsupportedOperationException("ResultSet." + method.getName() + " is not supported by the capture");
+            };
+        }
+
+        private boolean next() {
+            if (++position < rows.size()) {
+                row = rows.get(position);
+                return true;
+            }
+            row = null;
+            return false;
+        }
+
+        private Object getValue(Object[] args) {
+            if (!(args[0] instanceof Integer)) {
+                throw new UnsupportedOperationException("Columns of the capture are only read by ordinal");
+            }
+            final int ordinal = (Integer) args[0];
+            final Object value = ordinal <= row.length ? row[ordinal - 1] : null;
+            wasNull = value == null;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.oracle.olr;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.debezium.connector.oracle.olr.client.JsonStreamingEventDecoder;
+import io.debezium.connector.oracle.olr.client.ProtobufStreamingEventDecoder;
+import io.debezium.connector.oracle.olr.client.StreamingEvent;
+import io.debezium.connector.oracle.olr.client.StreamingEventDecoder;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Op;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Payload;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.RedoResponse;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.ResponseCode;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Schema;
+import io.debezium.connector.oracle.proto.OpenLogReplicatorProtocol.Value;
+
+/**
+ * Measures how fast OpenLogReplicator streaming events are decoded, by replaying a capture of
+ * OpenLogReplicator messages through the decoders.
+ *
+ * <p>A capture is a file of messages in the network framing OpenLogReplicator uses, where each
+ * message is prefixed by its length as a 4-byte little-endian integer, and is passed with
+ * {@code -p captureFile=<path>} together with the decoder matching its format. Without a capture,
+ * synthetic update events are replayed instead.
+ *
+ * <p>The {@code json-databind} decoder binds each message with an {@link ObjectMapper}, as the
+ * network client did before it decoded the parser token stream, and serves as a baseline.
+ */
+public class OpenLogReplicatorDecoderPerf {
+
+    @State(Scope.Thread)
+    public static class DecoderState {
+        public StreamingEventDecoder decoder;
+        public List<ByteBuffer> messages;
+
+        @Param({ "json-databind", "json", "protobuf" })
+        public String decoderName;
+
+        @Param({ "" })
+        public String captureFile;
+
+        @Param({ "20" })
+        public int columnCount;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException {
+            this.decoder = createDecoder();
+            this.messages = captureFile.isEmpty() ? createMessages() : readMessages(Path.of(captureFile));
+        }
+
+        private StreamingEventDecoder createDecoder() {
+            return switch (decoderName) {
+                case "json-databind" -> {
+                    final ObjectMapper mapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+                    yield message -> mapper.readValue(new String(message.array(), message.position(), message.remaining(),
+                            StandardCharsets.UTF_8), StreamingEvent.class);
+                }
+                case "json" -> new JsonStreamingEventDecoder();
+                case "protobuf" -> new ProtobufStreamingEventDecoder("ORCLPDB1");
+                default -> throw new IllegalArgumentException("Unknown decoder: " + decoderName);
+            };
+        }
+
+        private List<ByteBuffer> readMessages(Path path) throws IOException {
+            final ByteBuffer capture = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+            final List<ByteBuffer> messages = new ArrayList<>();
+            while (capture.remaining() >= Integer.BYTES) {
+                final byte[] message = new byte[capture.getInt()];
+                capture.get(message);
+                messages.add(ByteBuffer.wrap(message));
+            }
+            return messages;
+        }
+
+        private List<ByteBuffer> createMessages() {
+            final List<ByteBuffer> messages = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final long scn = 2_300_000L + i;
+                final byte[] message = decoderName.equals("protobuf") ? createProtobufMessage(scn) : createJsonMessage(scn);
+                messages.add(ByteBuffer.wrap(message));
+            }
+            return messages;
+        }
+
+        private byte[] createJsonMessage(long scn) {
+            final StringBuilder sb = new StringBuilder("{\"scn\":").append(scn)
+                    .append(",\"tm\":1700000000000000000,\"xid\":\"0x0005.01a.00000d5c\",\"db\":\"ORCLPDB1\",\"c_scn\":").append(scn)
+                    .append(",\"c_idx\":1,\"payload\":[{\"op\":\"u\",\"num\":1,\"rid\":\"AAASdYAAHAAAAFdAAA\",")
+                    .append("\"schema\":{\"owner\":\"DEBEZIUM\",\"table\":\"TEST\",\"obj\":74712},\"before\":{");
+            appendJsonValues(sb, "before");
+            sb.append("},\"after\":{");
+            appendJsonValues(sb, "after");
+            return sb.append("}}]}").toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        private void appendJsonValues(StringBuilder sb, String value) {
+            sb.append("\"ID\":1");
+            for (int i = 0; i < columnCount; i++) {
+                if (i % 2 == 0) {
+                    sb.append(",\"COL").append(i).append("\":\"").append(value).append(i).append('"');
+                }
+                else {
+                    sb.append(",\"COL").append(i).append("\":").append(i).append(".25");
+                }
+            }
+        }
+
+        private byte[] createProtobufMessage(long scn) {
+            final Payload.Builder payload = Payload.newBuilder()
+                    .setOp(Op.UPDATE)
+                    .setNum(1)
+                    .setRid("AAASdYAAHAAAAFdAAA")
+                    .setSchema(Schema.newBuilder().setOwner("DEBEZIUM").setName("TEST").setObj(74712));
+            payload.addBefore(Value.newBuilder().setName("ID").setValueInt(1));
+            payload.addAfter(Value.newBuilder().setName("ID").setValueInt(1));
+            for (int i = 0; i < columnCount; i++) {
+                if (i % 2 == 0) {
+                    payload.addBefore(Value.newBuilder().setName("COL" + i).setValueString("before" + i));
+                    payload.addAfter(Value.newBuilder().setName("COL" + i).setValueString("after" + i));
+                }
+                else {
+                    payload.addBefore(Value.newBuilder().setName("COL" + i).setValueDouble(i + 0.25));
+                    payload.addAfter(Value.newBuilder().setName("COL" + i).setValueDouble(i + 0.25));
+                }
+            }
+            return RedoResponse.newBuilder()
+                    .setCode(ResponseCode.PAYLOAD)
+                    .setScn(scn)
+                    .setTm(1700000000000000000L)
+                    .setXid("0x0005.01a.00000d5c")
+                    .setCScn(scn)
+                    .setCIdx(1)
+                    .addPayload(payload)
+                    .build()
+                    .toByteArray();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void decode(DecoderState state, Blackhole blackhole) throws IOException {
+        for (ByteBuffer message : state.messages) {
+            blackhole.consume(state.decoder.decode(message.duplicate()));
+        }
+    }
+}
@@ -48,6 +48,9 @@ public static class ParserState {
         @Param({ "1", "2", "5", "10", "20", "50" })
         public int columnCount;
 
+        @Param({ "false", "true" })
+        public boolean escapedQuotes;
+
         @Setup(Level.Trial)
         public void doSetup() {
             dmlParser = new LogMinerDmlParser(new OracleConnectorConfig(Configuration.empty()));
@@ -110,6 +113,10 @@ private String getColumnValue(int length) {
                 int index = (int) (chars.length() * Math.random());
                 sb.append(chars.charAt(index));
             }
+            if (escapedQuotes) {
+                // values with escaped quotes cannot be taken from the SQL as-is
+                sb.insert(length / 2, "''");
+            }
             return sb.toString();
         }
     }
@@ -32,13 +32,17 @@
 
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.base.DefaultQueueProvider;
+import io.debezium.connector.base.QueueProvider;
+import io.debezium.connector.base.RingBufferQueueProvider;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.util.LoggingContext;
 
 public class ChangeEventQueuePerf {
 
-    private static DefaultQueueProvider<DataChangeEvent> createDefaultQueueProvider(int maxQueueSize) {
-        DefaultQueueProvider<DataChangeEvent> provider = new DefaultQueueProvider<>();
+    private static QueueProvider<DataChangeEvent> createQueueProvider(String queueProviderType, int maxQueueSize) {
+        QueueProvider<DataChangeEvent> provider = "ring_buffer".equals(queueProviderType)
+                ? new RingBufferQueueProvider<>()
+                : new DefaultQueueProvider<>();
         provider.configure(java.util.Map.of("max.queue.size", String.valueOf(maxQueueSize)));
         return provider;
     }
@@ -57,6 +61,9 @@ public static class ProducerPerf {
         @Param({ "10", "50", "500" })
         private long pollIntervalMillis;
 
+        @Param({ "memory", "ring_buffer" })
+        private String queueProviderType;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread consumer;
 
@@ -67,7 +74,7 @@ public void setup() {
                     .pollDispatchInterval(Duration.ofMillis(DEFAULT_POLL_DISPATCH_INTERVAL_MILLIS))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE)
                     .maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
-                    .queueProvider(createDefaultQueueProvider(DEFAULT_MAX_QUEUE_SIZE))
+                    .queueProvider(createQueueProvider(queueProviderType, DEFAULT_MAX_QUEUE_SIZE))
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
                     .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
                     .build();
@@ -110,6 +117,9 @@ public static class ConsumerPerf {
         @Param({ "10", "50", "500" })
         private long pollIntervalMillis;
 
+        @Param({ "memory", "ring_buffer" })
+        private String queueProviderType;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread producer;
 
@@ -120,7 +130,7 @@ public void setup() {
                     .pollDispatchInterval(Duration.ofMillis(DEFAULT_POLL_DISPATCH_INTERVAL_MILLIS))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE)
                     .maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
-                    .queueProvider(createDefaultQueueProvider(DEFAULT_MAX_QUEUE_SIZE))
+                    .queueProvider(createQueueProvider(queueProviderType, DEFAULT_MAX_QUEUE_SIZE))
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
                     .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
                     .build();
@@ -165,6 +175,9 @@ public static class QueuePerf {
         @Param({ "10", "50", "500" })
         long pollIntervalMillis;
 
+        @Param({ "memory", "ring_buffer" })
+        String queueProviderType;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread producer;
         private Thread consumer;
@@ -176,7 +189,7 @@ public void setupInvocation() {
                     .pollDispatchInterval(Duration.ofMillis(DEFAULT_POLL_DISPATCH_INTERVAL_MILLIS))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE)
                     .maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
-                    .queueProvider(createDefaultQueueProvider(DEFAULT_MAX_QUEUE_SIZE))
+                    .queueProvider(createQueueProvider(queueProviderType, DEFAULT_MAX_QUEUE_SIZE))
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
                     .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
                     .build();
@@ -243,6 +256,9 @@ public static class MultiWriterQueuePerf {
         @Param({ "10", "50", "500" })
         long pollIntervalMillis;
 
+        @Param({ "memory", "ring_buffer" })
+        String queueProviderType;
+
         private ChangeEventQueue<DataChangeEvent> changeEventQueue;
         private Thread[] producers;
         private Thread consumer;
@@ -253,7 +269,7 @@ public void setupInvocation() {
                     .pollInterval(Duration.ofMillis(pollIntervalMillis))
                     .pollDispatchInterval(Duration.ofMillis(DEFAULT_POLL_DISPATCH_INTERVAL_MILLIS))
                     .maxQueueSize(DEFAULT_MAX_QUEUE_SIZE).maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
-                    .queueProvider(createDefaultQueueProvider(DEFAULT_MAX_QUEUE_SIZE))
+                    .queueProvider(createQueueProvider(queueProviderType, DEFAULT_MAX_QUEUE_SIZE))
                     .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
                     .maxQueueSizeInBytes(DEFAULT_MAX_QUEUE_SIZE_IN_BYTES)
                     .build();
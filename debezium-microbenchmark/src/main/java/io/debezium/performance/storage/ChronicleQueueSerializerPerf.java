@@ -0,0 +1,151 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.storage;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.storage.chroniclequeue.ChronicleQueueProvider;
+
+/**
+ * Compares the JSON and the binary serializers of the Chronicle Queue spill provider by writing
+ * a batch of change events to the queue and reading them back.
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "--add-opens=java.base/sun.nio.ch=ALL-UNNAMED",
+        "--add-opens=java.base/java.lang=ALL-UNNAMED",
+        "--add-opens=java.base/java.lang.reflect=ALL-UNNAMED",
+        "--add-opens=java.base/java.io=ALL-UNNAMED",
+        "--add-opens=java.base/java.util=ALL-UNNAMED" })
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ChronicleQueueSerializerPerf {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.orders.Key")
+            .field("id", Schema.INT64_SCHEMA)
+            .build();
+
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.orders.Value")
+            .optional()
+            .field("id", Schema.INT64_SCHEMA)
+            .field("customer", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("quantity", Schema.OPTIONAL_INT32_SCHEMA)
+            .field("price", Decimal.builder(2).optional().build())
+            .field("shipped", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+            .field("created", Schema.OPTIONAL_INT64_SCHEMA)
+            .build();
+
+    private static final Schema SOURCE_SCHEMA = SchemaBuilder.struct()
+            .name("io.debezium.connector.postgresql.Source")
+            .field("connector", Schema.STRING_SCHEMA)
+            .field("db", Schema.STRING_SCHEMA)
+            .field("table", Schema.STRING_SCHEMA)
+            .field("lsn", Schema.OPTIONAL_INT64_SCHEMA)
+            .field("ts_ms", Schema.INT64_SCHEMA)
+            .build();
+
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.orders.Envelope")
+            .field("before", ROW_SCHEMA)
+            .field("after", ROW_SCHEMA)
+            .field("source", SOURCE_SCHEMA)
+            .field("op", Schema.STRING_SCHEMA)
+            .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+            .build();
+
+    @Param({ "json", "binary" })
+    private String serializer;
+
+    private ChronicleQueueProvider provider;
+    private DataChangeEvent[] events;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        provider = new ChronicleQueueProvider();
+        provider.configure(Map.of(ChronicleQueueProvider.SERIALIZER_PROPERTY, serializer));
+
+        events = new DataChangeEvent[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            events[i] = new DataChangeEvent(createRecord(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        provider.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void writeAndRead(Blackhole blackhole) throws InterruptedException {
+        for (DataChangeEvent event : events) {
+            provider.enqueue(event);
+        }
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            blackhole.consume(provider.poll());
+        }
+    }
+
+    private static SourceRecord createRecord(long id) {
+        final Struct after = new Struct(ROW_SCHEMA)
+                .put("id", id)
+                .put("customer", "customer-" + id)
+                .put("quantity", (int) (id % 10))
+                .put("price", BigDecimal.valueOf(id * 137, 2))
+                .put("shipped", id % 2 == 0)
+                .put("created", 1_700_000_000_000L + id);
+        final Struct source = new Struct(SOURCE_SCHEMA)
+                .put("connector", "postgresql")
+                .put("db", "inventory")
+                .put("table", "orders")
+                .put("lsn", 24_023_128L + id)
+                .put("ts_ms", 1_700_000_000_000L);
+        final Struct value = new Struct(VALUE_SCHEMA)
+                .put("after", after)
+                .put("source", source)
+                .put("op", "c")
+                .put("ts_ms", 1_700_000_000_000L);
+
+        return new SourceRecord(
+                Map.of("server", "server"),
+                Map.of("lsn", 24_023_128L + id, "txId", 555L),
+                "server.inventory.orders",
+                KEY_SCHEMA,
+                new Struct(KEY_SCHEMA).put("id", id),
+                VALUE_SCHEMA,
+                value);
+    }
+}
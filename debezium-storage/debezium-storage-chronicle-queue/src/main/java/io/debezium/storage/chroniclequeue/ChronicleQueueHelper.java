@@ -41,11 +41,11 @@ class ChronicleQueueHelper implements AutoCloseable {
     private final ChronicleQueue chronicleQueue;
     private final ExcerptAppender appender;
     private final ExcerptTailer tailer;
-    private final SourceRecordJsonSerializer serializer;
+    private final SourceRecordSerializer serializer;
     private final Path queuePath;
     private final boolean ownsDirectory;
 
-    ChronicleQueueHelper(String path, String tempDirPrefix) {
+    ChronicleQueueHelper(String path, String tempDirPrefix, String serializerFormat) {
         if (Strings.isNullOrEmpty(path)) {
             try {
                 this.queuePath = Files.createTempDirectory(tempDirPrefix);
@@ -63,7 +63,7 @@ class ChronicleQueueHelper implements AutoCloseable {
         this.chronicleQueue = ChronicleQueue.singleBuilder(queuePath).build();
         this.appender = chronicleQueue.createAppender();
         this.tailer = chronicleQueue.createTailer();
-        this.serializer = new SourceRecordJsonSerializer();
+        this.serializer = SourceRecordSerializer.forFormat(serializerFormat);
     }
 
     Path getQueuePath() {
@@ -80,7 +80,13 @@ void write(DataChangeEvent event) {
             if (wire == null) {
                 throw new DebeziumException("Failed to acquire write context for Chronicle Queue");
             }
-            serializer.write(event.getRecord(), wire);
+            try {
+                serializer.write(event.getRecord(), wire);
+            }
+            catch (RuntimeException e) {
+                dc.rollbackOnClose();
+                throw e;
+            }
         }
     }
 
@@ -22,6 +22,9 @@
  * <p>Configure via the {@link #QUEUE_PATH_PROPERTY} property to specify a directory for
  * queue data files. If not set, a temporary directory is created and cleaned up on close.
  *
+ * <p>The {@link #SERIALIZER_PROPERTY} property selects how events are written to disk, either
+ * {@code json} (the default) or the compact, schema-aware {@code binary} encoding.
+ *
  * @author Chris Cranford
  */
 public class ChronicleQueueProvider implements QueueProvider<DataChangeEvent> {
@@ -29,6 +32,7 @@ public class ChronicleQueueProvider implements QueueProvider<DataChangeEvent> {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChronicleQueueProvider.class);
 
     public static final String QUEUE_PATH_PROPERTY = "chronicle.queue.path";
+    public static final String SERIALIZER_PROPERTY = "chronicle.queue.serializer";
 
     private final AtomicInteger size = new AtomicInteger();
     private ChronicleQueueHelper chronicleQueueHelper;
@@ -43,7 +47,7 @@ public void configure(Map<String, ?> properties) {
         final Configuration config = Configuration.from(properties);
         final String path = config.getString(QUEUE_PATH_PROPERTY);
 
-        this.chronicleQueueHelper = new ChronicleQueueHelper(path, "debezium-cq-");
+        this.chronicleQueueHelper = new ChronicleQueueHelper(path, "debezium-cq-", config.getString(SERIALIZER_PROPERTY));
         this.size.set(0);
 
         LOGGER.info("Chronicle Queue provider initialized at path: {}", chronicleQueueHelper.getQueuePath());
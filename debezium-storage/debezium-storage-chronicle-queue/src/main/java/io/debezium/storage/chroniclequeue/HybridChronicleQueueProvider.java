@@ -33,6 +33,9 @@
  * <p>Configure via the {@link #QUEUE_PATH_PROPERTY} property to specify a directory for
  * queue data files. If not set, a temporary directory is created and cleaned up on close.
  *
+ * <p>The {@link #SERIALIZER_PROPERTY} property selects how events are written to disk, either
+ * {@code json} (the default) or the compact, schema-aware {@code binary} encoding.
+ *
  * @author Chris Cranford
  */
 public class HybridChronicleQueueProvider implements QueueProvider<DataChangeEvent> {
@@ -40,6 +43,7 @@ public class HybridChronicleQueueProvider implements QueueProvider<DataChangeEve
     private static final Logger LOGGER = LoggerFactory.getLogger(HybridChronicleQueueProvider.class);
 
     public static final String QUEUE_PATH_PROPERTY = "chronicle.queue.path";
+    public static final String SERIALIZER_PROPERTY = "chronicle.queue.serializer";
 
     private final AtomicInteger size = new AtomicInteger();
     private ChronicleQueueHelper chronicleQueueHelper;
@@ -59,7 +63,7 @@ public void configure(Map<String, ?> properties) {
         this.queue = new ArrayDeque<>(maxQueueSize);
 
         final String path = config.getString(QUEUE_PATH_PROPERTY);
-        this.chronicleQueueHelper = new ChronicleQueueHelper(path, "debezium-hybrid-cq-");
+        this.chronicleQueueHelper = new ChronicleQueueHelper(path, "debezium-hybrid-cq-", config.getString(SERIALIZER_PROPERTY));
         this.size.set(0);
         this.chronicleQueueSize = 0;
 
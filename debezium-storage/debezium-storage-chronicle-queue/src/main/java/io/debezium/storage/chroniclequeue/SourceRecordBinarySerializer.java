@@ -0,0 +1,605 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.storage.chroniclequeue;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.DebeziumException;
+
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.wire.WireIn;
+import net.openhft.chronicle.wire.WireOut;
+
+/**
+ * Serializes and deserializes {@link SourceRecord} instances to and from Chronicle Queue using a compact,
+ * schema-aware binary encoding written directly into the document's {@link Bytes}.
+ * <p>
+ * Each distinct Connect {@link Schema} is written to the queue only once, inline with the first record
+ * that uses it, and is referenced by a numeric identifier afterwards. Field values are then encoded
+ * according to their schema without any field names or type tags. Source partitions, source offsets and
+ * schema-less values are encoded with a small set of type tags.
+ * <p>
+ * Because schema definitions are only written once, records must be read in the order they were written
+ * by a single serializer instance, which is guaranteed by the queue providers in this module.
+ */
+class SourceRecordBinarySerializer implements SourceRecordSerializer {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT32 = 2;
+    private static final byte TAG_INT64 = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_FLOAT64 = 5;
+    private static final byte TAG_FLOAT32 = 6;
+    private static final byte TAG_INT16 = 7;
+    private static final byte TAG_INT8 = 8;
+    private static final byte TAG_BYTES = 9;
+    private static final byte TAG_LIST = 10;
+    private static final byte TAG_MAP = 11;
+
+    private static final Schema.Type[] SCHEMA_TYPES = Schema.Type.values();
+
+    // Debezium reuses schema instances, so the identity lookup is the common path and
+    // the equality-based map is only consulted for schemas that are equal but not the same
+    private final Map<Schema, Integer> writtenSchemasByIdentity = new IdentityHashMap<>();
+    private final Map<Schema, Integer> writtenSchemas = new HashMap<>();
+    private final List<Schema> pendingSchemas = new ArrayList<>();
+    private final List<Schema> readSchemas = new ArrayList<>();
+
+    @Override
+    public void write(SourceRecord record, WireOut wire) {
+        final Bytes<?> bytes = wire.bytes();
+        pendingSchemas.clear();
+        try {
+            bytes.writeByte(FORMAT_VERSION);
+            bytes.writeUtf8(record.topic());
+            bytes.writeStopBit(record.kafkaPartition() == null ? -1L : record.kafkaPartition());
+
+            final Long timestamp = record.timestamp();
+            bytes.writeBoolean(timestamp != null);
+            if (timestamp != null) {
+                bytes.writeLong(timestamp);
+            }
+
+            writeUntyped(record.sourcePartition(), bytes);
+            writeUntyped(record.sourceOffset(), bytes);
+
+            writeSchemaAndValue(record.keySchema(), record.key(), bytes);
+            writeSchemaAndValue(record.valueSchema(), record.value(), bytes);
+
+            int headerCount = 0;
+            if (record.headers() != null) {
+                headerCount = record.headers().size();
+            }
+            bytes.writeStopBit(headerCount);
+            if (headerCount > 0) {
+                for (Header header : record.headers()) {
+                    bytes.writeUtf8(header.key());
+                    writeSchemaAndValue(header.schema(), header.value(), bytes);
+                }
+            }
+        }
+        catch (RuntimeException e) {
+            // the document is rolled back, so the reader will never see these schema definitions
+            for (Schema schema : pendingSchemas) {
+                writtenSchemasByIdentity.remove(schema);
+                writtenSchemas.remove(schema);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public SourceRecord read(WireIn wire) {
+        final Bytes<?> bytes = wire.bytes();
+
+        final byte version = bytes.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new DebeziumException("Unexpected Chronicle Queue binary format version " + version
+                    + ", the queue may have been written with a different serializer");
+        }
+
+        final String topic = bytes.readUtf8();
+        final long kafkaPartitionRaw = bytes.readStopBit();
+        final Integer kafkaPartition = kafkaPartitionRaw < 0 ? null : (int) kafkaPartitionRaw;
+        final Long timestamp = bytes.readBoolean() ? bytes.readLong() : null;
+
+        final Map<String, ?> sourcePartition = asMap(readUntyped(bytes));
+        final Map<String, ?> sourceOffset = asMap(readUntyped(bytes));
+
+        final Schema keySchema = readSchemaReference(bytes);
+        final Object key = readValueFor(keySchema, bytes);
+
+        final Schema valueSchema = readSchemaReference(bytes);
+        final Object value = readValueFor(valueSchema, bytes);
+
+        final int headerCount = (int) bytes.readStopBit();
+        final ConnectHeaders headers = new ConnectHeaders();
+        for (int i = 0; i < headerCount; i++) {
+            final String headerKey = bytes.readUtf8();
+            final Schema headerSchema = readSchemaReference(bytes);
+            headers.add(headerKey, readValueFor(headerSchema, bytes), headerSchema);
+        }
+
+        return new SourceRecord(
+                sourcePartition,
+                sourceOffset,
+                topic,
+                kafkaPartition,
+                keySchema,
+                key,
+                valueSchema,
+                value,
+                timestamp,
+                headers);
+    }
+
+    private void writeSchemaAndValue(Schema schema, Object value, Bytes<?> bytes) {
+        writeSchemaReference(schema, bytes);
+        if (schema == null) {
+            writeUntyped(value, bytes);
+        }
+        else {
+            writeValue(schema, value, bytes);
+        }
+    }
+
+    private Object readValueFor(Schema schema, Bytes<?> bytes) {
+        return schema == null ? readUntyped(bytes) : readValue(schema, bytes);
+    }
+
+    /**
+     * Writes a reference to a top-level schema: {@code 0} for no schema, {@code id + 1} for a schema that
+     * was already written, or {@code -(id + 1)} followed by the schema definition for a new schema.
+     */
+    private void writeSchemaReference(Schema schema, Bytes<?> bytes) {
+        if (schema == null) {
+            bytes.writeStopBit(0L);
+            return;
+        }
+
+        Integer id = writtenSchemasByIdentity.get(schema);
+        if (id == null) {
+            id = writtenSchemas.get(schema);
+            if (id != null) {
+                writtenSchemasByIdentity.put(schema, id);
+            }
+        }
+
+        if (id != null) {
+            bytes.writeStopBit(id + 1L);
+            return;
+        }
+
+        id = writtenSchemas.size();
+        writtenSchemas.put(schema, id);
+        writtenSchemasByIdentity.put(schema, id);
+        pendingSchemas.add(schema);
+
+        bytes.writeStopBit(-(id + 1L));
+        writeSchemaDefinition(schema, bytes);
+    }
+
+    private Schema readSchemaReference(Bytes<?> bytes) {
+        final long reference = bytes.readStopBit();
+        if (reference == 0) {
+            return null;
+        }
+        else if (reference > 0) {
+            final int id = (int) (reference - 1);
+            if (id >= readSchemas.size() || readSchemas.get(id) == null) {
+                throw new DebeziumException("Chronicle Queue record references unknown schema id " + id);
+            }
+            return readSchemas.get(id);
+        }
+
+        final int id = (int) (-reference - 1);
+        final Schema schema = readSchemaDefinition(bytes);
+        while (readSchemas.size() <= id) {
+            readSchemas.add(null);
+        }
+        readSchemas.set(id, schema);
+        return schema;
+    }
+
+    private void writeSchemaDefinition(Schema schema, Bytes<?> bytes) {
+        bytes.writeByte((byte) schema.type().ordinal());
+        bytes.writeBoolean(schema.isOptional());
+        bytes.writeUtf8(schema.name());
+        bytes.writeStopBit(schema.version() == null ? -1L : schema.version());
+        bytes.writeUtf8(schema.doc());
+
+        final Map<String, String> parameters = schema.parameters();
+        bytes.writeStopBit(parameters == null ? -1L : parameters.size());
+        if (parameters != null) {
+            for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+                bytes.writeUtf8(parameter.getKey());
+                bytes.writeUtf8(parameter.getValue());
+            }
+        }
+
+        switch (schema.type()) {
+            case STRUCT:
+                bytes.writeStopBit(schema.fields().size());
+                for (Field field : schema.fields()) {
+                    bytes.writeUtf8(field.name());
+                    writeSchemaDefinition(field.schema(), bytes);
+                }
+                break;
+            case ARRAY:
+                writeSchemaDefinition(schema.valueSchema(), bytes);
+                break;
+            case MAP:
+                writeSchemaDefinition(schema.keySchema(), bytes);
+                writeSchemaDefinition(schema.valueSchema(), bytes);
+                break;
+            default:
+                break;
+        }
+
+        final Object defaultValue = schema.defaultValue();
+        bytes.writeBoolean(defaultValue != null);
+        if (defaultValue != null) {
+            writeValue(schema, defaultValue, bytes);
+        }
+    }
+
+    private Schema readSchemaDefinition(Bytes<?> bytes) {
+        final Schema.Type type = SCHEMA_TYPES[bytes.readByte()];
+        final boolean optional = bytes.readBoolean();
+        final String name = bytes.readUtf8();
+        final long version = bytes.readStopBit();
+        final String doc = bytes.readUtf8();
+
+        final long parameterCount = bytes.readStopBit();
+        Map<String, String> parameters = null;
+        if (parameterCount >= 0) {
+            parameters = new LinkedHashMap<>();
+            for (long i = 0; i < parameterCount; i++) {
+                parameters.put(bytes.readUtf8(), bytes.readUtf8());
+            }
+        }
+
+        final SchemaBuilder builder;
+        switch (type) {
+            case STRUCT:
+                builder = SchemaBuilder.struct();
+                final long fieldCount = bytes.readStopBit();
+                for (long i = 0; i < fieldCount; i++) {
+                    final String fieldName = bytes.readUtf8();
+                    builder.field(fieldName, readSchemaDefinition(bytes));
+                }
+                break;
+            case ARRAY:
+                builder = SchemaBuilder.array(readSchemaDefinition(bytes));
+                break;
+            case MAP:
+                final Schema keySchema = readSchemaDefinition(bytes);
+                builder = SchemaBuilder.map(keySchema, readSchemaDefinition(bytes));
+                break;
+            default:
+                builder = SchemaBuilder.type(type);
+                break;
+        }
+
+        if (optional) {
+            builder.optional();
+        }
+        if (name != null) {
+            builder.name(name);
+        }
+        if (version >= 0) {
+            builder.version((int) version);
+        }
+        if (doc != null) {
+            builder.doc(doc);
+        }
+        if (parameters != null && !parameters.isEmpty()) {
+            builder.parameters(parameters);
+        }
+        if (bytes.readBoolean()) {
+            builder.defaultValue(readValue(builder, bytes));
+        }
+        return builder.build();
+    }
+
+    private void writeValue(Schema schema, Object value, Bytes<?> bytes) {
+        if (value == null) {
+            bytes.writeBoolean(false);
+            return;
+        }
+        bytes.writeBoolean(true);
+
+        final String logicalName = schema.name();
+        if (logicalName != null) {
+            switch (logicalName) {
+                case Decimal.LOGICAL_NAME:
+                    writeBytes(Decimal.fromLogical(schema, (BigDecimal) value), bytes);
+                    return;
+                case Date.LOGICAL_NAME:
+                    bytes.writeStopBit(Date.fromLogical(schema, (java.util.Date) value));
+                    return;
+                case Time.LOGICAL_NAME:
+                    bytes.writeStopBit(Time.fromLogical(schema, (java.util.Date) value));
+                    return;
+                case Timestamp.LOGICAL_NAME:
+                    bytes.writeStopBit(Timestamp.fromLogical(schema, (java.util.Date) value));
+                    return;
+                default:
+                    break;
+            }
+        }
+
+        switch (schema.type()) {
+            case INT8:
+                bytes.writeByte((Byte) value);
+                break;
+            case INT16:
+                bytes.writeShort((Short) value);
+                break;
+            case INT32:
+                bytes.writeStopBit((Integer) value);
+                break;
+            case INT64:
+                bytes.writeStopBit((Long) value);
+                break;
+            case FLOAT32:
+                bytes.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                bytes.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                bytes.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                bytes.writeUtf8((String) value);
+                break;
+            case BYTES:
+                writeBytes(value, bytes);
+                break;
+            case ARRAY:
+                final List<?> list = (List<?>) value;
+                bytes.writeStopBit(list.size());
+                for (Object element : list) {
+                    writeValue(schema.valueSchema(), element, bytes);
+                }
+                break;
+            case MAP:
+                final Map<?, ?> map = (Map<?, ?>) value;
+                bytes.writeStopBit(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(schema.keySchema(), entry.getKey(), bytes);
+                    writeValue(schema.valueSchema(), entry.getValue(), bytes);
+                }
+                break;
+            case STRUCT:
+                final Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(field.schema(), struct.getWithoutDefault(field.name()), bytes);
+                }
+                break;
+            default:
+                throw new DebeziumException("Unsupported schema type " + schema.type() + " for Chronicle Queue binary serialization");
+        }
+    }
+
+    private Object readValue(Schema schema, Bytes<?> bytes) {
+        if (!bytes.readBoolean()) {
+            return null;
+        }
+
+        final String logicalName = schema.name();
+        if (logicalName != null) {
+            switch (logicalName) {
+                case Decimal.LOGICAL_NAME:
+                    return Decimal.toLogical(schema, readBytes(bytes));
+                case Date.LOGICAL_NAME:
+                    return Date.toLogical(schema, (int) bytes.readStopBit());
+                case Time.LOGICAL_NAME:
+                    return Time.toLogical(schema, (int) bytes.readStopBit());
+                case Timestamp.LOGICAL_NAME:
+                    return Timestamp.toLogical(schema, bytes.readStopBit());
+                default:
+                    break;
+            }
+        }
+
+        switch (schema.type()) {
+            case INT8:
+                return bytes.readByte();
+            case INT16:
+                return bytes.readShort();
+            case INT32:
+                return (int) bytes.readStopBit();
+            case INT64:
+                return bytes.readStopBit();
+            case FLOAT32:
+                return bytes.readFloat();
+            case FLOAT64:
+                return bytes.readDouble();
+            case BOOLEAN:
+                return bytes.readBoolean();
+            case STRING:
+                return bytes.readUtf8();
+            case BYTES:
+                return readBytes(bytes);
+            case ARRAY:
+                final int size = (int) bytes.readStopBit();
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(schema.valueSchema(), bytes));
+                }
+                return list;
+            case MAP:
+                final int entries = (int) bytes.readStopBit();
+                final Map<Object, Object> map = new HashMap<>(Math.max(16, entries * 2));
+                for (int i = 0; i < entries; i++) {
+                    final Object key = readValue(schema.keySchema(), bytes);
+                    map.put(key, readValue(schema.valueSchema(), bytes));
+                }
+                return map;
+            case STRUCT:
+                final Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    final Object fieldValue = readValue(field.schema(), bytes);
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                return struct;
+            default:
+                throw new DebeziumException("Unsupported schema type " + schema.type() + " for Chronicle Queue binary serialization");
+        }
+    }
+
+    private void writeUntyped(Object value, Bytes<?> bytes) {
+        if (value == null) {
+            bytes.writeByte(TAG_NULL);
+        }
+        else if (value instanceof String stringValue) {
+            bytes.writeByte(TAG_STRING);
+            bytes.writeUtf8(stringValue);
+        }
+        else if (value instanceof Integer intValue) {
+            bytes.writeByte(TAG_INT32);
+            bytes.writeStopBit(intValue);
+        }
+        else if (value instanceof Long longValue) {
+            bytes.writeByte(TAG_INT64);
+            bytes.writeStopBit(longValue);
+        }
+        else if (value instanceof Boolean booleanValue) {
+            bytes.writeByte(TAG_BOOLEAN);
+            bytes.writeBoolean(booleanValue);
+        }
+        else if (value instanceof Double doubleValue) {
+            bytes.writeByte(TAG_FLOAT64);
+            bytes.writeDouble(doubleValue);
+        }
+        else if (value instanceof Float floatValue) {
+            bytes.writeByte(TAG_FLOAT32);
+            bytes.writeFloat(floatValue);
+        }
+        else if (value instanceof Short shortValue) {
+            bytes.writeByte(TAG_INT16);
+            bytes.writeShort(shortValue);
+        }
+        else if (value instanceof Byte byteValue) {
+            bytes.writeByte(TAG_INT8);
+            bytes.writeByte(byteValue);
+        }
+        else if (value instanceof byte[] || value instanceof ByteBuffer) {
+            bytes.writeByte(TAG_BYTES);
+            writeBytes(value, bytes);
+        }
+        else if (value instanceof List<?> list) {
+            bytes.writeByte(TAG_LIST);
+            bytes.writeStopBit(list.size());
+            for (Object element : list) {
+                writeUntyped(element, bytes);
+            }
+        }
+        else if (value instanceof Map<?, ?> map) {
+            bytes.writeByte(TAG_MAP);
+            bytes.writeStopBit(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeUntyped(entry.getKey(), bytes);
+                writeUntyped(entry.getValue(), bytes);
+            }
+        }
+        else {
+            throw new DebeziumException("Unsupported value type " + value.getClass().getName() + " for Chronicle Queue binary serialization");
+        }
+    }
+
+    private Object readUntyped(Bytes<?> bytes) {
+        final byte tag = bytes.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return bytes.readUtf8();
+            case TAG_INT32:
+                return (int) bytes.readStopBit();
+            case TAG_INT64:
+                return bytes.readStopBit();
+            case TAG_BOOLEAN:
+                return bytes.readBoolean();
+            case TAG_FLOAT64:
+                return bytes.readDouble();
+            case TAG_FLOAT32:
+                return bytes.readFloat();
+            case TAG_INT16:
+                return bytes.readShort();
+            case TAG_INT8:
+                return bytes.readByte();
+            case TAG_BYTES:
+                return readBytes(bytes);
+            case TAG_LIST:
+                final int size = (int) bytes.readStopBit();
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readUntyped(bytes));
+                }
+                return list;
+            case TAG_MAP:
+                final int entries = (int) bytes.readStopBit();
+                final Map<Object, Object> map = new HashMap<>(Math.max(16, entries * 2));
+                for (int i = 0; i < entries; i++) {
+                    final Object key = readUntyped(bytes);
+                    map.put(key, readUntyped(bytes));
+                }
+                return map;
+            default:
+                throw new DebeziumException("Unknown value tag " + tag + " in Chronicle Queue binary record");
+        }
+    }
+
+    private static void writeBytes(Object value, Bytes<?> bytes) {
+        if (value instanceof ByteBuffer buffer) {
+            final ByteBuffer duplicate = buffer.duplicate();
+            final byte[] data = new byte[duplicate.remaining()];
+            duplicate.get(data);
+            value = data;
+        }
+        final byte[] data = (byte[]) value;
+        bytes.writeStopBit(data.length);
+        bytes.write(data);
+    }
+
+    private static byte[] readBytes(Bytes<?> bytes) {
+        final byte[] data = new byte[(int) bytes.readStopBit()];
+        bytes.read(data);
+        return data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> asMap(Object value) {
+        return (Map<String, ?>) value;
+    }
+}
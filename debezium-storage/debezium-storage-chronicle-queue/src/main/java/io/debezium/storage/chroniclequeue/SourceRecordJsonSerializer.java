@@ -31,7 +31,7 @@
  *
  * @author Chris Cranford
  */
-class SourceRecordJsonSerializer {
+class SourceRecordJsonSerializer implements SourceRecordSerializer {
 
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REF = new TypeReference<>() {
     };
@@ -54,7 +54,8 @@ class SourceRecordJsonSerializer {
         this.objectMapper = new ObjectMapper();
     }
 
-    void write(SourceRecord record, WireOut wire) {
+    @Override
+    public void write(SourceRecord record, WireOut wire) {
         String topic = record.topic();
         wire.write("topic").text(topic);
 
@@ -116,7 +117,8 @@ void write(SourceRecord record, WireOut wire) {
         }
     }
 
-    SourceRecord read(WireIn wire) {
+    @Override
+    public SourceRecord read(WireIn wire) {
         String topic = wire.read("topic").text();
 
         boolean kafkaPartitionPresent = wire.read("kafkaPartitionPresent").bool();
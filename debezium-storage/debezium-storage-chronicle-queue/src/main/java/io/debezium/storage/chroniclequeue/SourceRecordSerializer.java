@@ -0,0 +1,57 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.storage.chroniclequeue;
+
+import org.apache.kafka.connect.source.SourceRecord;
+
+import io.debezium.DebeziumException;
+
+import net.openhft.chronicle.wire.WireIn;
+import net.openhft.chronicle.wire.WireOut;
+
+/**
+ * Contract for writing {@link SourceRecord} instances to and reading them from a Chronicle Queue document.
+ * <p>
+ * A serializer instance is bound to a single queue and may keep state across documents, which is why
+ * records must be read back in the same order they were written.
+ */
+interface SourceRecordSerializer {
+
+    String JSON = "json";
+    String BINARY = "binary";
+
+    /**
+     * Writes the record into the current document.
+     *
+     * @param record the record to write, never {@code null}
+     * @param wire the wire of the document being written, never {@code null}
+     */
+    void write(SourceRecord record, WireOut wire);
+
+    /**
+     * Reads the next record from the current document.
+     *
+     * @param wire the wire of the document being read, never {@code null}
+     * @return the record, never {@code null}
+     */
+    SourceRecord read(WireIn wire);
+
+    /**
+     * Creates the serializer for the given format name.
+     *
+     * @param format the serializer format, {@code null} or empty selects the JSON serializer
+     * @return the serializer, never {@code null}
+     */
+    static SourceRecordSerializer forFormat(String format) {
+        if (format == null || format.isEmpty() || JSON.equalsIgnoreCase(format)) {
+            return new SourceRecordJsonSerializer();
+        }
+        else if (BINARY.equalsIgnoreCase(format)) {
+            return new SourceRecordBinarySerializer();
+        }
+        throw new DebeziumException("Unknown Chronicle Queue serializer '" + format + "', expected '" + JSON + "' or '" + BINARY + "'");
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.storage.chroniclequeue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.wire.DocumentContext;
+
+/**
+ * Unit tests for the ChronicleQueue {@link SourceRecordBinarySerializer}.
+ */
+class SourceRecordBinarySerializerTest {
+
+    private static final Schema KEY_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.customers.Key")
+            .field("id", Schema.INT32_SCHEMA)
+            .build();
+
+    private static final Schema ROW_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.customers.Value")
+            .optional()
+            .field("id", Schema.INT32_SCHEMA)
+            .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+            .field("balance", Decimal.builder(2).optional().build())
+            .field("created", Timestamp.builder().optional().build())
+            .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+            .field("attributes", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.INT64_SCHEMA).optional().build())
+            .field("status", SchemaBuilder.string().defaultValue("active").build())
+            .build();
+
+    private static final Schema VALUE_SCHEMA = SchemaBuilder.struct()
+            .name("server.inventory.customers.Envelope")
+            .version(2)
+            .field("before", ROW_SCHEMA)
+            .field("after", ROW_SCHEMA)
+            .field("op", Schema.STRING_SCHEMA)
+            .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+            .build();
+
+    @TempDir
+    Path tempDir;
+
+    private ChronicleQueue queue;
+    private ExcerptAppender appender;
+    private ExcerptTailer tailer;
+    private SourceRecordBinarySerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        queue = ChronicleQueue.singleBuilder(tempDir).build();
+        appender = queue.createAppender();
+        tailer = queue.createTailer();
+        serializer = new SourceRecordBinarySerializer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    void shouldRoundTripEnvelopeWithLogicalTypes() {
+        SourceRecord original = createRecord(1, "Alice", Map.of("pos", 12345L, "file", "binlog.001", "snapshot", true));
+
+        SourceRecord result = writeAndRead(original);
+
+        assertThat(result.topic()).isEqualTo("server.inventory.customers");
+        assertThat(result.kafkaPartition()).isEqualTo(0);
+        assertThat(result.timestamp()).isEqualTo(1000L);
+        assertThat((Map<String, Object>) result.sourcePartition()).containsEntry("server", "db1");
+        assertThat((Map<String, Object>) result.sourceOffset())
+                .containsEntry("pos", 12345L)
+                .containsEntry("file", "binlog.001")
+                .containsEntry("snapshot", true);
+
+        assertThat(result.keySchema()).isEqualTo(KEY_SCHEMA);
+        assertThat(result.valueSchema()).isEqualTo(VALUE_SCHEMA);
+        assertThat(result.key()).isEqualTo(original.key());
+        assertThat(result.value()).isEqualTo(original.value());
+
+        Struct after = ((Struct) result.value()).getStruct("after");
+        assertThat(after.get("balance")).isEqualTo(new BigDecimal("10.25"));
+        assertThat(after.get("status")).isEqualTo("active");
+        assertThat(((Struct) result.value()).getStruct("before")).isNull();
+    }
+
+    @Test
+    void shouldReuseSchemaDefinitionsAcrossRecords() {
+        SourceRecord first = createRecord(1, "Alice", Map.of("pos", 1L));
+        SourceRecord second = createRecord(2, "Bob", Map.of("pos", 2L));
+
+        long firstLength = write(first);
+        long secondLength = write(second);
+
+        // the second record only references the already written schemas
+        assertThat(secondLength).isLessThan(firstLength / 2);
+
+        assertThat(read().value()).isEqualTo(first.value());
+        SourceRecord result = read();
+        assertThat(result.value()).isEqualTo(second.value());
+        assertThat(result.valueSchema()).isEqualTo(VALUE_SCHEMA);
+    }
+
+    @Test
+    void shouldRoundTripRecordWithoutKeyAndWithHeaders() {
+        ConnectHeaders headers = new ConnectHeaders();
+        headers.addString("header1", "value1");
+        headers.addInt("header2", 42);
+
+        SourceRecord original = new SourceRecord(
+                Map.of("s", "p"), Map.of("o", 1),
+                "topic", null,
+                null, null,
+                Schema.STRING_SCHEMA, "test-value",
+                null,
+                headers);
+
+        SourceRecord result = writeAndRead(original);
+
+        assertThat(result.kafkaPartition()).isNull();
+        assertThat(result.timestamp()).isNull();
+        assertThat(result.keySchema()).isNull();
+        assertThat(result.key()).isNull();
+        assertThat(result.value()).isEqualTo("test-value");
+        assertThat(result.headers()).hasSize(2);
+        assertThat(result.headers().lastWithName("header1").value()).isEqualTo("value1");
+        assertThat(result.headers().lastWithName("header2").value()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldRoundTripSchemalessValue() {
+        SourceRecord original = new SourceRecord(
+                Map.of("s", "p"), Map.of("o", 1),
+                "topic", null,
+                null, null,
+                null, Map.of("name", "Alice", "ids", List.of(1, 2, 3), "data", new byte[]{ 1, 2 }),
+                null,
+                new ConnectHeaders());
+
+        SourceRecord result = writeAndRead(original);
+
+        assertThat(result.valueSchema()).isNull();
+        Map<String, Object> value = (Map<String, Object>) result.value();
+        assertThat(value).containsEntry("name", "Alice").containsEntry("ids", List.of(1, 2, 3));
+        assertThat((byte[]) value.get("data")).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldRoundTripTombstone() {
+        SourceRecord original = new SourceRecord(
+                Map.of("s", "p"), Map.of("o", 1),
+                "topic", null,
+                KEY_SCHEMA, new Struct(KEY_SCHEMA).put("id", 7),
+                null, null,
+                null,
+                new ConnectHeaders());
+
+        SourceRecord result = writeAndRead(original);
+
+        assertThat(((Struct) result.key()).getInt32("id")).isEqualTo(7);
+        assertThat(result.valueSchema()).isNull();
+        assertThat(result.value()).isNull();
+    }
+
+    private SourceRecord createRecord(int id, String name, Map<String, ?> sourceOffset) {
+        Struct after = new Struct(ROW_SCHEMA)
+                .put("id", id)
+                .put("name", name)
+                .put("balance", new BigDecimal("10.25"))
+                .put("created", new java.util.Date(1_700_000_000_000L))
+                .put("tags", List.of("a", "b"))
+                .put("attributes", Map.of("visits", 3L));
+        Struct value = new Struct(VALUE_SCHEMA)
+                .put("after", after)
+                .put("op", "c")
+                .put("ts_ms", 1000L);
+
+        return new SourceRecord(
+                Map.of("server", "db1"), sourceOffset,
+                "server.inventory.customers", 0,
+                KEY_SCHEMA, new Struct(KEY_SCHEMA).put("id", id),
+                VALUE_SCHEMA, value,
+                1000L,
+                new ConnectHeaders());
+    }
+
+    private SourceRecord writeAndRead(SourceRecord record) {
+        write(record);
+        return read();
+    }
+
+    private long write(SourceRecord record) {
+        try (DocumentContext dc = appender.writingDocument()) {
+            long start = dc.wire().bytes().writePosition();
+            serializer.write(record, dc.wire());
+            return dc.wire().bytes().writePosition() - start;
+        }
+    }
+
+    private SourceRecord read() {
+        try (DocumentContext dc = tailer.readingDocument()) {
+            assertThat(dc.isPresent()).isTrue();
+            return serializer.read(dc.wire());
+        }
+    }
+}
@@ -460,6 +460,49 @@ protected void recoverRecords(Consumer<HistoryRecord> records) throws Interrupte
         }
     }
 
+    @Override
+    protected HistoryRecord readLastRecord() throws InterruptedException {
+        try (KafkaConsumer<String, String> historyConsumer = new KafkaConsumer<>(consumerConfig.asProperties())) {
+            TopicPartition topicPartition = new TopicPartition(topicName, PARTITION);
+            historyConsumer.assign(Collect.arrayListOf(topicPartition));
+
+            final long endOffset = getEndOffsetOfDbHistoryTopic(null, historyConsumer);
+            if (endOffset == 0) {
+                return null;
+            }
+            // Only the last message is read, so the topic is not read in full just to find the most recent record
+            historyConsumer.seek(topicPartition, endOffset - 1);
+
+            int recoveryAttempts = 0;
+            while (recoveryAttempts <= maxRecoveryAttempts) {
+                checkForInterruption();
+                for (ConsumerRecord<String, String> record : historyConsumer.poll(this.pollInterval)) {
+                    if (record.offset() != endOffset - 1) {
+                        continue;
+                    }
+                    try {
+                        HistoryRecord recordObj = record.value() != null ? new HistoryRecord(reader.read(record.value())) : null;
+                        if (recordObj != null && recordObj.isValid()) {
+                            return recordObj;
+                        }
+                    }
+                    catch (final IOException e) {
+                        Loggings.logErrorAndTraceRecord(LOGGER, record, "Error while deserializing history record", e);
+                    }
+                    // The last message is skipped by the recovery, so the most recent record is found by reading all of them
+                    return super.readLastRecord();
+                }
+                recoveryAttempts++;
+            }
+            LOGGER.debug("The last message of database schema history topic '{}' was not received, reading all records", topicName);
+            return super.readLastRecord();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
     private Long getEndOffsetOfDbHistoryTopic(Long previousEndOffset, KafkaConsumer<String, String> historyConsumer) {
         Map<TopicPartition, Long> offsets = historyConsumer.endOffsets(Collections.singleton(new TopicPartition(topicName, PARTITION)));
         Long endOffset = offsets.entrySet().iterator().next().getValue();